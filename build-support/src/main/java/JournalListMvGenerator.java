@@ -1,6 +1,7 @@
 //JAVA 24
 //RUNTIME_OPTIONS --enable-native-access=ALL-UNNAMED
 
+//DEPS com.google.guava:guava:33.5.0-jre
 //DEPS com.h2database:h2:2.2.224
 //DEPS org.antlr:antlr4-runtime:4.13.2
 //DEPS org.apache.commons:commons-csv:1.14.0
@@ -17,6 +18,8 @@
 //SOURCES ../../../../jablib/src/main/java/org/jabref/logic/journals/JournalAbbreviationLoader.java
 //SOURCES ../../../../jablib/src/main/java/org/jabref/logic/journals/JournalAbbreviationPreferences.java
 //SOURCES ../../../../jablib/src/main/java/org/jabref/logic/journals/JournalAbbreviationRepository.java
+//SOURCES ../../../../jablib/src/main/java/org/jabref/logic/journals/JournalNameIndex.java
+//SOURCES ../../../../jablib/src/main/java/org/jabref/logic/journals/StoredAbbreviationMap.java
 //SOURCES ../../../../jablib/src/main/java/org/jabref/logic/journals/ltwa/LtwaEntry.java
 //SOURCES ../../../../jablib/src/main/java/org/jabref/logic/journals/ltwa/LtwaRepository.java
 //SOURCES ../../../../jablib/src/main/java/org/jabref/logic/journals/ltwa/NormalizeUtils.java
@@ -36,6 +39,7 @@ import java.util.stream.Collectors;
 
 import org.jabref.logic.journals.Abbreviation;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
 
 import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
@@ -101,6 +105,9 @@ public class JournalListMvGenerator {
                     fullToAbbreviation.putAll(abbreviationMap);
                 }
             }));
+
+            // Precompute the maps for lookups on disk and the index for fuzzy lookups, so that they are not built on each start of JabRef
+            JournalAbbreviationRepository.writeLookupMaps(store);
         }
 
         LOGGER.info("Generated journal list at {}", journalListMvFile.toAbsolutePath());
@@ -2,6 +2,8 @@ plugins {
     id("org.jabref.gradle.module")
     id("application")
 
+    id("me.champeau.jmh") version "0.7.3"
+
     // Do not activate; causes issues with the modularity plugin (no tests found etc)
     // id("com.redock.classpathtofile") version "0.1.0"
 }
@@ -245,3 +247,10 @@ tasks.test {
         // "--add-reads", "org.jabref=wiremock"
     )
 }
+
+jmh {
+    warmupIterations = 5
+    iterations = 10
+    fork = 2
+    zip64  = true
+}
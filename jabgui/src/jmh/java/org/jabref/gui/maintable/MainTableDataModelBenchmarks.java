@@ -0,0 +1,109 @@
+package org.jabref.gui.maintable;
+
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.property.ListProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleListProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.transformation.FilteredList;
+
+import org.jabref.gui.groups.GroupViewMode;
+import org.jabref.gui.groups.GroupsPreferences;
+import org.jabref.gui.preferences.GuiPreferences;
+import org.jabref.gui.util.FilteredListProxy;
+import org.jabref.logic.search.SearchPreferences;
+import org.jabref.logic.util.CurrentThreadTaskExecutor;
+import org.jabref.logic.util.OptionalObjectProperty;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.groups.GroupHierarchyType;
+import org.jabref.model.groups.GroupTreeNode;
+import org.jabref.model.groups.WordKeywordGroup;
+import org.jabref.model.search.SearchDisplayMode;
+import org.jabref.model.search.SearchFlags;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/// Measures switching between two groups in a large library without the JavaFX toolkit.
+///
+/// The groups differ in a few hundred of the 50k entries. `switchGroup` applies only the rows which change,
+/// `switchGroupAndRefilterAll` additionally refilters all rows as the model did before.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class MainTableDataModelBenchmarks {
+
+    private static final int NUMBER_OF_ENTRIES = 50_000;
+
+    private final ListProperty<GroupTreeNode> selectedGroups = new SimpleListProperty<>(FXCollections.observableArrayList());
+    private GroupTreeNode groupA;
+    private GroupTreeNode groupB;
+    private MainTableDataModel model;
+
+    @Setup(Level.Trial)
+    public void init() {
+        BibDatabase database = new BibDatabase();
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            String keywords = switch (i % 500) {
+                case 0 -> "b";
+                case 1 -> "a";
+                default -> "a, b";
+            };
+            database.insertEntry(new BibEntry().withCitationKey("key" + i)
+                                               .withField(StandardField.TITLE, "Title " + i)
+                                               .withField(StandardField.KEYWORDS, keywords));
+        }
+
+        groupA = new GroupTreeNode(new WordKeywordGroup("A", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "a", false, ',', false));
+        groupB = new GroupTreeNode(new WordKeywordGroup("B", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "b", false, ',', false));
+
+        GuiPreferences preferences = mock(GuiPreferences.class);
+        when(preferences.getGroupsPreferences()).thenReturn(new GroupsPreferences(EnumSet.of(GroupViewMode.FILTER), false, false, GroupHierarchyType.INDEPENDENT));
+        when(preferences.getSearchPreferences()).thenReturn(new SearchPreferences(SearchDisplayMode.FILTER, EnumSet.noneOf(SearchFlags.class), false, false, 0, 0, 0));
+        when(preferences.getNameDisplayPreferences()).thenReturn(new NameDisplayPreferences(NameDisplayPreferences.DisplayStyle.AS_IS, NameDisplayPreferences.AbbreviationStyle.FULL));
+
+        model = new MainTableDataModel(
+                new BibDatabaseContext(database),
+                preferences,
+                new CurrentThreadTaskExecutor(),
+                null,
+                selectedGroups,
+                OptionalObjectProperty.empty(),
+                new SimpleIntegerProperty());
+        selectedGroups.setAll(groupA);
+    }
+
+    @Benchmark
+    public int switchGroup() {
+        selectedGroups.setAll(selectedGroups.getFirst() == groupA ? groupB : groupA);
+        return model.getEntriesFilteredAndSorted().size();
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public int switchGroupAndRefilterAll() {
+        selectedGroups.setAll(selectedGroups.getFirst() == groupA ? groupB : groupA);
+        FilteredListProxy.refilterListReflection((FilteredList<BibEntryTableViewModel>) model.getEntriesFilteredAndSorted().getSource());
+        return model.getEntriesFilteredAndSorted().size();
+    }
+}
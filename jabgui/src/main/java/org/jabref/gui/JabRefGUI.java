@@ -43,6 +43,7 @@ import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.net.ProxyRegisterer;
 import org.jabref.logic.os.OS;
+import org.jabref.logic.pdf.PdfTextCache;
 import org.jabref.logic.protectedterms.ProtectedTermsLoader;
 import org.jabref.logic.remote.RemotePreferences;
 import org.jabref.logic.remote.server.RemoteListenerServerManager;
@@ -462,6 +463,12 @@ public class JabRefGUI extends Application {
                 LOGGER.trace("AI service closed");
             });
 
+            executor.submit(() -> {
+                LOGGER.trace("Closing PDF text cache");
+                PdfTextCache.closeInstance();
+                LOGGER.trace("PDF text cache closed");
+            });
+
             executor.submit(() -> {
                 LOGGER.trace("Closing OpenOffice connection");
                 OOBibBaseConnect.closeOfficeConnection();
@@ -322,7 +322,12 @@ public class LibraryTab extends Tab implements CommandSelectionTab {
     }
 
     public void createIndexManager() {
-        indexManager = new IndexManager(bibDatabaseContext, taskExecutor, preferences, Injector.instantiateModelOrService(PostgreServer.class));
+        indexManager = switch (preferences.getSearchPreferences().getSearchBackend()) {
+            case POSTGRES ->
+                    new IndexManager(bibDatabaseContext, taskExecutor, preferences, Injector.instantiateModelOrService(PostgreServer.class));
+            case IN_MEMORY ->
+                    new IndexManager(bibDatabaseContext, taskExecutor, preferences);
+        };
         stateManager.setIndexManager(bibDatabaseContext, indexManager);
     }
 
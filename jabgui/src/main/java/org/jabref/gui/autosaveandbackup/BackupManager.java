@@ -43,11 +43,16 @@ import org.jabref.model.metadata.SaveOrder;
 import org.jabref.model.metadata.SelfContainedSaveOrder;
 
 import com.google.common.eventbus.Subscribe;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Backups the given bib database file from {@link BibDatabaseContext} on every {@link BibDatabaseContextChangedEvent}.
+ * <p>
+ * Changes of entries are appended to a {@link ChangeJournal}, which is written to disk every second and replayed on top
+ * of the library file after a crash. The whole library is only copied as a fallback, i.e., for changes the journal does
+ * not support, if the journal cannot be written, or if the library file was changed on disk.
  * An intelligent {@link ExecutorService} with a {@link BlockingQueue} prevents a high load while making backups and
  * rejects all redundant backup tasks. This class does not manage the .bak file which is created when opening a
  * database.
@@ -60,6 +65,8 @@ public class BackupManager {
 
     private static final int DELAY_BETWEEN_BACKUP_ATTEMPTS_IN_SECONDS = 19;
 
+    private static final int DELAY_BETWEEN_JOURNAL_SYNCS_IN_MILLISECONDS = 1000;
+
     private static final Set<BackupManager> RUNNING_INSTANCES = new HashSet<>();
 
     private final BibDatabaseContext bibDatabaseContext;
@@ -72,7 +79,8 @@ public class BackupManager {
     // Contains a list of all backup paths
     // During writing, the less recent backup file is deleted
     private final Queue<Path> backupFilesQueue = new LinkedBlockingQueue<>();
-    private boolean needsBackup = false;
+    private volatile boolean needsBackup = false;
+    private @Nullable ChangeJournal journal;
 
     BackupManager(LibraryTab libraryTab, BibDatabaseContext bibDatabaseContext, CoarseChangeFilter coarseChangeFilter, BibEntryTypesManager entryTypesManager, CliPreferences preferences) {
         this.bibDatabaseContext = bibDatabaseContext;
@@ -134,10 +142,23 @@ public class BackupManager {
         RUNNING_INSTANCES.removeIf(instance -> instance.bibDatabaseContext == bibDatabaseContext);
     }
 
+    /**
+     * Starts the journal of the library which is associated with the given {@link BibDatabaseContext} anew. This has to
+     * be called after the library file was saved.
+     *
+     * @param bibDatabaseContext Associated {@link BibDatabaseContext}
+     */
+    public static void checkpoint(BibDatabaseContext bibDatabaseContext) {
+        RUNNING_INSTANCES.stream().filter(instance -> instance.bibDatabaseContext == bibDatabaseContext).forEach(BackupManager::checkpointJournal);
+    }
+
     /**
      * Checks whether a backup file exists for the given database file. If it exists, it is checked whether it is
      * newer and different from the original.
      * <p>
+     * If the journal belongs to the current state of the file, it is checked whether changes were recorded. The
+     * backup files are only compared if the journal cannot be replayed.
+     * <p>
      * In case a discarded file is present, the method also returns <code>false</code>, See also {@link #discardBackup(Path)}.
      *
      * @param originalPath Path to the file a backup should be checked for. Example: jabref.bib.
@@ -150,12 +171,20 @@ public class BackupManager {
         if (Files.exists(discardedFile)) {
             try {
                 Files.delete(discardedFile);
+                Files.deleteIfExists(determineJournalFile(originalPath, backupDir));
             } catch (IOException e) {
                 LOGGER.error("Could not remove discarded file {}", discardedFile, e);
                 return true;
             }
             return false;
         }
+        Optional<Boolean> journalHasChanges = ChangeJournal.hasChanges(determineJournalFile(originalPath, backupDir), originalPath);
+        if (journalHasChanges.isPresent()) {
+            if (journalHasChanges.get()) {
+                LOGGER.info("Journal of {} contains unsaved changes", originalPath);
+            }
+            return journalHasChanges.get();
+        }
         return getLatestBackupPath(originalPath, backupDir).map(latestBackupPath -> {
             FileTime latestBackupFileLastModifiedTime;
             try {
@@ -210,6 +239,28 @@ public class BackupManager {
         }
     }
 
+    /**
+     * Returns the journal of the given database file if it contains changes which can be replayed.
+     */
+    public static Optional<Path> getJournalWithChanges(Path originalPath, Path backupDir) {
+        Path journalPath = determineJournalFile(originalPath, backupDir);
+        return ChangeJournal.hasChanges(journalPath, originalPath)
+                            .filter(hasChanges -> hasChanges)
+                            .map(_ -> journalPath);
+    }
+
+    /**
+     * Applies the changes recorded in the journal to the given database.
+     *
+     * @param originalPath Path to the file the database was loaded from
+     * @param database     The database loaded from originalPath. It is only modified if the journal can be replayed.
+     * @return <code>true</code> if the journal was replayed. <code>false</code> if there is no journal for the current
+     * state of the file or if it cannot be replayed. In this case, the backup file has to be used.
+     */
+    public static boolean replayJournal(Path originalPath, Path backupDir, BibDatabase database) {
+        return ChangeJournal.replay(determineJournalFile(originalPath, backupDir), originalPath, database);
+    }
+
     Optional<Path> determineBackupPathForNewBackup(Path backupDir) {
         return bibDatabaseContext.getDatabasePath().map(path -> BackupManager.getBackupPathForNewBackup(path, backupDir));
     }
@@ -300,6 +351,10 @@ public class BackupManager {
         return backupDir.resolve(BackupFileUtil.getUniqueFilePrefix(file) + "--" + file.getFileName() + "--discarded");
     }
 
+    private static Path determineJournalFile(Path file, Path backupDir) {
+        return backupDir.resolve(BackupFileUtil.getUniqueFilePrefix(file) + "--" + file.getFileName() + "--journal");
+    }
+
     /**
      * Marks the backups as discarded.
      * <p>
@@ -329,14 +384,20 @@ public class BackupManager {
     }
 
     @Subscribe
-    public synchronized void listen(@SuppressWarnings("unused") BibDatabaseContextChangedEvent event) {
-        if (!event.isFilteredOut()) {
+    public synchronized void listen(BibDatabaseContextChangedEvent event) {
+        if (journal == null) {
+            if (!event.isFilteredOut()) {
+                this.needsBackup = true;
+            }
+        } else if (!journal.record(event)) {
+            // The journal records each change, even the ones filtered out. If it misses one, the library is copied.
             this.needsBackup = true;
         }
     }
 
     private void startBackupTask(Path backupDir) {
         fillQueue(backupDir);
+        openJournal(backupDir);
 
         executor.scheduleAtFixedRate(
                 // We need to determine the backup path on each action, because we use the timestamp in the filename
@@ -344,6 +405,133 @@ public class BackupManager {
                 DELAY_BETWEEN_BACKUP_ATTEMPTS_IN_SECONDS,
                 DELAY_BETWEEN_BACKUP_ATTEMPTS_IN_SECONDS,
                 TimeUnit.SECONDS);
+        // Forcing each change to disk separately would slow down typing, thus the changes are written in batches
+        executor.scheduleWithFixedDelay(
+                this::syncJournal,
+                DELAY_BETWEEN_JOURNAL_SYNCS_IN_MILLISECONDS,
+                DELAY_BETWEEN_JOURNAL_SYNCS_IN_MILLISECONDS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void openJournal(Path backupDir) {
+        Optional<Path> databasePath = bibDatabaseContext.getDatabasePath().filter(Files::exists);
+        if (databasePath.isEmpty()) {
+            return;
+        }
+        if (!Files.exists(backupDir)) {
+            try {
+                Files.createDirectories(backupDir);
+            } catch (IOException e) {
+                LOGGER.warn("Could not create backup directory {}", backupDir, e);
+            }
+        }
+        if (!Files.exists(backupDir)) {
+            return;
+        }
+
+        Path journalPath = determineJournalFile(databasePath.get(), backupDir);
+        if (libraryTab.isModified()) {
+            // E.g., a backup was restored. The journal can only record changes of the saved library.
+            // Thus, the whole library is backed up until it is saved. The old journal is kept until the library is backed up.
+            needsBackup = true;
+            determineBackupPathForNewBackup(backupDir).ifPresent(this::performBackup);
+            if (!needsBackup) {
+                deleteJournal(journalPath);
+            }
+            return;
+        }
+        try {
+            journal = ChangeJournal.open(journalPath, databasePath.get(), bibDatabaseContext.getEntries());
+        } catch (IOException e) {
+            LOGGER.warn("Could not create journal {}, backing up the whole library instead", journalPath, e);
+            deleteJournal(journalPath);
+        }
+    }
+
+    private synchronized void checkpointJournal() {
+        if (journal == null) {
+            openJournal(preferences.getFilePreferences().getBackupDirectory());
+            return;
+        }
+        Optional<Path> databasePath = bibDatabaseContext.getDatabasePath();
+        if (databasePath.isEmpty()) {
+            return;
+        }
+        try {
+            journal.checkpoint(databasePath.get(), bibDatabaseContext.getEntries());
+        } catch (IOException e) {
+            LOGGER.warn("Could not start the journal of {} anew, backing up the whole library instead", databasePath.get(), e);
+            closeJournalAfterFailure();
+        }
+    }
+
+    /**
+     * Writes the recorded changes to disk. The monitor of the manager is not held while writing, because recording
+     * changes while typing must not wait for the disk.
+     */
+    void syncJournal() {
+        ChangeJournal currentJournal;
+        synchronized (this) {
+            currentJournal = journal;
+        }
+        if (currentJournal == null) {
+            return;
+        }
+        Optional<Path> databasePath = bibDatabaseContext.getDatabasePath();
+        if (databasePath.isPresent() && !currentJournal.matches(databasePath.get())) {
+            synchronized (this) {
+                if (journal != currentJournal) {
+                    return;
+                }
+                journal = null;
+            }
+            // The journal cannot be replayed on the changed file. Thus, the library is backed up right away instead of
+            // relying on an older copy. The journal is started anew when the library is saved.
+            LOGGER.info("{} was changed on disk, backing up the whole library until it is saved", databasePath.get());
+            try {
+                currentJournal.close();
+            } catch (IOException e) {
+                LOGGER.debug("Could not close journal", e);
+            }
+            deleteJournal(currentJournal.getPath());
+            if (libraryTab.isModified()) {
+                needsBackup = true;
+                determineBackupPathForNewBackup(preferences.getFilePreferences().getBackupDirectory()).ifPresent(this::performBackup);
+            }
+            return;
+        }
+        try {
+            currentJournal.sync();
+        } catch (IOException e) {
+            LOGGER.warn("Could not write the journal, backing up the whole library instead", e);
+            synchronized (this) {
+                if (journal == currentJournal) {
+                    closeJournalAfterFailure();
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the journal, because it misses changes. From now on, the whole library is backed up.
+     */
+    private void closeJournalAfterFailure() {
+        try {
+            journal.close();
+        } catch (IOException e) {
+            LOGGER.debug("Could not close journal", e);
+        }
+        deleteJournal(journal.getPath());
+        journal = null;
+        needsBackup = true;
+    }
+
+    private static void deleteJournal(Path journalPath) {
+        try {
+            Files.deleteIfExists(journalPath);
+        } catch (IOException e) {
+            LOGGER.error("Could not delete journal {}", journalPath, e);
+        }
     }
 
     private void fillQueue(Path backupDir) {
@@ -357,6 +545,8 @@ public class BackupManager {
                 List<Path> allSavFiles = Files.list(backupDir)
                                               // just list the .sav belonging to the given targetFile
                                               .filter(p -> p.getFileName().toString().startsWith(prefix))
+                                              // the journal and the discarded marker must not be deleted as old backups
+                                              .filter(p -> p.getFileName().toString().endsWith("." + BackupFileType.BACKUP.getExtensions().getFirst()))
                                               .sorted().toList();
                 backupFilesQueue.addAll(allSavFiles);
             } catch (IOException e) {
@@ -375,10 +565,24 @@ public class BackupManager {
     private void shutdown(Path backupDir, boolean createBackup) {
         coarseChangeFilter.unregisterListener(this);
         executor.shutdown();
+        closeJournal();
 
         if (createBackup) {
             // Ensure that backup is a recent one
             determineBackupPathForNewBackup(backupDir).ifPresent(this::performBackup);
         }
     }
+
+    private synchronized void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            LOGGER.warn("Could not write the journal, backing up the whole library instead", e);
+            needsBackup = true;
+        }
+        journal = null;
+    }
 }
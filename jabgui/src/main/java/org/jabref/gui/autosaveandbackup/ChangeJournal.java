@@ -0,0 +1,511 @@
+package org.jabref.gui.autosaveandbackup;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntriesEventSource;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.types.EntryTypeFactory;
+import org.jabref.model.strings.StringUtil;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// Append-only journal of the changes to the entries of a library since the library file was last saved.
+///
+/// In contrast to the full copies written by [BackupManager], a change only appends a small record. Layout:
+///
+/// ```
+/// magic (int), size of the library file (long), last modified time of the library file in milliseconds (long)
+/// number of entries (int), fingerprint of each entry (long)
+/// records: length (int), type (1 byte) and data, CRC32 of type and data (int)
+/// ```
+///
+/// The library file does not contain the runtime ids of the entries. Thus, the checkpoint identifies each saved entry
+/// by its [#fingerprint]. Records refer to the entries by their position in the checkpoint. Entries added later are
+/// numbered consecutively.
+///
+/// Records are kept in memory until [#sync()] writes and forces them to disk in one batch. On replay, an incompletely
+/// written record and all following records are ignored. Changes can be recorded while a batch is written.
+class ChangeJournal implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChangeJournal.class);
+
+    private static final int MAGIC = 0x4A524A31;
+    // A longer record can only be the result of a broken file
+    private static final int MAXIMUM_RECORD_LENGTH = 64 * 1024 * 1024;
+
+    private static final byte ENTRY_ADDED = 1;
+    private static final byte ENTRY_REMOVED = 2;
+    private static final byte FIELD_CHANGED = 3;
+    private static final byte UNSUPPORTED_CHANGE = 4;
+
+    private final Path path;
+    private final Map<BibEntry, Integer> entryNumbers = new IdentityHashMap<>();
+    private final List<byte[]> pendingRecords = new ArrayList<>();
+    // Held while writing to the file. Recording only needs the monitor of the journal, thus it does not wait for the disk.
+    private final Object writeLock = new Object();
+
+    private FileChannel channel;
+    private volatile long databaseSize;
+    private volatile long databaseLastModifiedMillis;
+    private int nextEntryNumber;
+    private boolean isComplete;
+    // Consecutive changes of the same field (e.g., typing) are merged while not yet written
+    private @Nullable FieldKey lastPendingFieldChange;
+
+    private ChangeJournal(Path path) {
+        this.path = path;
+    }
+
+    /// Creates a new journal for the given library file, replacing an existing one
+    ///
+    /// @param entries the entries of the library, which has to be saved to the library file
+    static ChangeJournal open(Path path, Path databasePath, List<BibEntry> entries) throws IOException {
+        ChangeJournal journal = new ChangeJournal(path);
+        journal.checkpoint(databasePath, entries);
+        return journal;
+    }
+
+    /// Starts the journal anew after the library file has been saved. All changes recorded so far are dropped.
+    void checkpoint(Path databasePath, List<BibEntry> entries) throws IOException {
+        synchronized (writeLock) {
+            writeCheckpoint(databasePath, entries);
+        }
+    }
+
+    private synchronized void writeCheckpoint(Path databasePath, List<BibEntry> entries) throws IOException {
+        pendingRecords.clear();
+        lastPendingFieldChange = null;
+        entryNumbers.clear();
+        isComplete = true;
+
+        // Empty entries are not written to the library file
+        List<BibEntry> savedEntries = entries.stream().filter(entry -> !entry.isEmpty()).toList();
+        for (BibEntry entry : savedEntries) {
+            entryNumbers.put(entry, entryNumbers.size());
+        }
+        nextEntryNumber = savedEntries.size();
+        List<BibEntry> emptyEntries = entries.stream().filter(BibEntry::isEmpty).toList();
+        if (!emptyEntries.isEmpty()) {
+            record(new EntriesAddedEvent(emptyEntries, EntriesEventSource.LOCAL));
+        }
+
+        databaseSize = Files.size(databasePath);
+        databaseLastModifiedMillis = Files.getLastModifiedTime(databasePath).toMillis();
+        ByteBuffer checkpoint = ByteBuffer.allocate(Integer.BYTES + (2 * Long.BYTES) + Integer.BYTES + (savedEntries.size() * Long.BYTES));
+        checkpoint.putInt(MAGIC)
+                  .putLong(databaseSize)
+                  .putLong(databaseLastModifiedMillis)
+                  .putInt(savedEntries.size());
+        savedEntries.forEach(entry -> checkpoint.putLong(fingerprint(entry)));
+        checkpoint.flip();
+
+        if (channel != null) {
+            channel.close();
+        }
+        // The checkpoint replaces the journal atomically, thus a crash while writing leaves the previous journal
+        Path temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel temporaryChannel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (checkpoint.hasRemaining()) {
+                temporaryChannel.write(checkpoint);
+            }
+            temporaryChannel.force(true);
+        }
+        Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    /// Returns whether the library file is still in the state of the last checkpoint. Otherwise, the journal cannot be
+    /// replayed anymore, e.g., because the file was touched by a synchronization tool.
+    boolean matches(Path databasePath) {
+        try {
+            return (Files.size(databasePath) == databaseSize) && (Files.getLastModifiedTime(databasePath).toMillis() == databaseLastModifiedMillis);
+        } catch (IOException e) {
+            LOGGER.debug("Could not read the state of {}", databasePath, e);
+            return false;
+        }
+    }
+
+    /// Records the given change
+    ///
+    /// @return false if the change cannot be recorded. Then, the journal cannot be replayed until the next checkpoint.
+    synchronized boolean record(BibDatabaseContextChangedEvent event) {
+        if (!isComplete) {
+            return false;
+        }
+        switch (event) {
+            case FieldChangedEvent fieldChange -> {
+                if (fieldChange.getField() == InternalField.INTERNAL_ID_FIELD) {
+                    // The id is not persisted
+                    return true;
+                }
+                Integer entryNumber = entryNumbers.get(fieldChange.getBibEntry());
+                if (entryNumber == null) {
+                    return recordUnsupportedChange();
+                }
+                FieldKey key = new FieldKey(entryNumber, fieldChange.getField());
+                if (key.equals(lastPendingFieldChange)) {
+                    pendingRecords.removeLast();
+                }
+                append(encode(FIELD_CHANGED, data -> {
+                    data.writeInt(entryNumber);
+                    writeString(data, fieldChange.getField().getName());
+                    writeNullableString(data, fieldChange.getNewValue());
+                }));
+                lastPendingFieldChange = key;
+            }
+            case EntriesAddedEvent entriesAdded -> {
+                for (BibEntry entry : entriesAdded.getBibEntries()) {
+                    int entryNumber = nextEntryNumber++;
+                    entryNumbers.put(entry, entryNumber);
+                    append(encode(ENTRY_ADDED, data -> {
+                        data.writeInt(entryNumber);
+                        writeEntry(data, entry);
+                    }));
+                }
+            }
+            case EntriesRemovedEvent entriesRemoved -> {
+                for (BibEntry entry : entriesRemoved.getBibEntries()) {
+                    Integer entryNumber = entryNumbers.remove(entry);
+                    if (entryNumber == null) {
+                        return recordUnsupportedChange();
+                    }
+                    append(encode(ENTRY_REMOVED, data -> data.writeInt(entryNumber)));
+                }
+            }
+            default -> {
+                // E.g., changes of the metadata or the groups
+                return recordUnsupportedChange();
+            }
+        }
+        return true;
+    }
+
+    private boolean recordUnsupportedChange() {
+        append(encode(UNSUPPORTED_CHANGE, _ -> {
+        }));
+        isComplete = false;
+        return false;
+    }
+
+    private void append(byte[] encodedRecord) {
+        pendingRecords.add(encodedRecord);
+        lastPendingFieldChange = null;
+    }
+
+    /// Writes the recorded changes to disk
+    void sync() throws IOException {
+        synchronized (writeLock) {
+            ByteBuffer buffer;
+            synchronized (this) {
+                if (pendingRecords.isEmpty()) {
+                    return;
+                }
+                buffer = ByteBuffer.allocate(pendingRecords.stream().mapToInt(encodedRecord -> encodedRecord.length).sum());
+                pendingRecords.forEach(buffer::put);
+                buffer.flip();
+                pendingRecords.clear();
+                lastPendingFieldChange = null;
+            }
+
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /// Writes the recorded changes to disk and closes the journal. The journal file is kept.
+    @Override
+    public void close() throws IOException {
+        synchronized (writeLock) {
+            try {
+                sync();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    /// Returns whether the journal contains changes which can be replayed on top of the given library file
+    ///
+    /// @return an empty optional if the journal is missing, does not belong to the current state of the library file,
+    /// or contains changes which cannot be replayed
+    static Optional<Boolean> hasChanges(Path path, Path databasePath) {
+        return read(path, databasePath).map(journal -> !journal.changes().isEmpty());
+    }
+
+    /// Applies the recorded changes to the given database, which has to be loaded from the library file
+    ///
+    /// @return false if the journal cannot be replayed. In this case, the database is not modified.
+    static boolean replay(Path path, Path databasePath, BibDatabase database) {
+        Optional<Journal> journal = read(path, databasePath);
+        if (journal.isEmpty()) {
+            return false;
+        }
+
+        Map<Long, Queue<BibEntry>> entriesByFingerprint = new HashMap<>();
+        for (BibEntry entry : database.getEntries()) {
+            entriesByFingerprint.computeIfAbsent(fingerprint(entry), _ -> new ArrayDeque<>()).add(entry);
+        }
+        Map<Integer, BibEntry> entries = new HashMap<>();
+        long[] fingerprints = journal.get().fingerprints();
+        for (int i = 0; i < fingerprints.length; i++) {
+            BibEntry entry = Optional.ofNullable(entriesByFingerprint.get(fingerprints[i])).map(Queue::poll).orElse(null);
+            if (entry != null) {
+                entries.put(i, entry);
+            }
+        }
+
+        List<Change> changes = journal.get().changes();
+        if (!canBeReplayed(changes, entries.keySet())) {
+            LOGGER.info("Changes recorded in {} refer to entries which are not found in {}", path, databasePath);
+            return false;
+        }
+        for (Change change : changes) {
+            switch (change) {
+                case EntryAdded(int entryNumber, BibEntry entry) -> {
+                    entries.put(entryNumber, entry);
+                    database.insertEntry(entry);
+                }
+                case EntryRemoved(int entryNumber) ->
+                        database.removeEntry(entries.remove(entryNumber));
+                case FieldChanged(int entryNumber, Field field, Optional<String> value) -> {
+                    BibEntry entry = entries.get(entryNumber);
+                    if (field == InternalField.TYPE_HEADER) {
+                        value.map(EntryTypeFactory::parse).ifPresent(entry::setType);
+                    } else if (value.isPresent()) {
+                        entry.setField(field, value.get());
+                    } else {
+                        entry.clearField(field);
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean canBeReplayed(List<Change> changes, Set<Integer> existingEntryNumbers) {
+        Set<Integer> entryNumbers = new HashSet<>(existingEntryNumbers);
+        for (Change change : changes) {
+            boolean isKnownEntry = switch (change) {
+                case EntryAdded(int entryNumber, _) ->
+                        entryNumbers.add(entryNumber);
+                case EntryRemoved(int entryNumber) ->
+                        entryNumbers.remove(entryNumber);
+                case FieldChanged(int entryNumber, _, _) ->
+                        entryNumbers.contains(entryNumber);
+            };
+            if (!isKnownEntry) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Optional<Journal> read(Path path, Path databasePath) {
+        if (!Files.exists(path)) {
+            return Optional.empty();
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (input.readInt() != MAGIC) {
+                LOGGER.warn("{} is not a journal", path);
+                return Optional.empty();
+            }
+            if ((input.readLong() != Files.size(databasePath)) || (input.readLong() != Files.getLastModifiedTime(databasePath).toMillis())) {
+                LOGGER.debug("Journal {} does not belong to the current state of {}", path, databasePath);
+                return Optional.empty();
+            }
+            long[] fingerprints = new long[input.readInt()];
+            for (int i = 0; i < fingerprints.length; i++) {
+                fingerprints[i] = input.readLong();
+            }
+
+            List<Change> changes = new ArrayList<>();
+            Optional<byte[]> encodedRecord;
+            while ((encodedRecord = readRecord(input)).isPresent()) {
+                DataInputStream data = new DataInputStream(new ByteArrayInputStream(encodedRecord.get()));
+                switch (data.readByte()) {
+                    case ENTRY_ADDED ->
+                            changes.add(new EntryAdded(data.readInt(), readEntry(data)));
+                    case ENTRY_REMOVED ->
+                            changes.add(new EntryRemoved(data.readInt()));
+                    case FIELD_CHANGED ->
+                            changes.add(new FieldChanged(data.readInt(), FieldFactory.parseField(readString(data)), Optional.ofNullable(readNullableString(data))));
+                    default -> {
+                        LOGGER.debug("Journal {} contains changes which cannot be replayed", path);
+                        return Optional.empty();
+                    }
+                }
+            }
+            return Optional.of(new Journal(fingerprints, changes));
+        } catch (IOException e) {
+            LOGGER.warn("Could not read journal {}", path, e);
+            return Optional.empty();
+        }
+    }
+
+    /// @return an empty optional at the end of the journal or if the record was not completely written
+    private static Optional<byte[]> readRecord(DataInputStream input) throws IOException {
+        try {
+            int length = input.readInt();
+            if (length < 1 || length > MAXIMUM_RECORD_LENGTH) {
+                LOGGER.debug("Ignoring record of invalid length {} and all following records", length);
+                return Optional.empty();
+            }
+            byte[] encodedRecord = new byte[length];
+            input.readFully(encodedRecord);
+            CRC32 crc = new CRC32();
+            crc.update(encodedRecord);
+            if (input.readInt() != (int) crc.getValue()) {
+                LOGGER.debug("Ignoring incompletely written record and all following records");
+                return Optional.empty();
+            }
+            return Optional.of(encodedRecord);
+        } catch (EOFException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static byte[] encode(byte type, RecordWriter recordWriter) {
+        try {
+            ByteArrayOutputStream encodedData = new ByteArrayOutputStream();
+            DataOutputStream data = new DataOutputStream(encodedData);
+            data.writeByte(type);
+            recordWriter.write(data);
+            byte[] bytes = encodedData.toByteArray();
+
+            CRC32 crc = new CRC32();
+            crc.update(bytes);
+            return ByteBuffer.allocate(Integer.BYTES + bytes.length + Integer.BYTES)
+                             .putInt(bytes.length)
+                             .put(bytes)
+                             .putInt((int) crc.getValue())
+                             .array();
+        } catch (IOException e) {
+            // Writing to a byte array does not fail
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /// Identifies an entry by its type and its fields. Line breaks are unified, because the library file is written with
+    /// the line breaks of the library.
+    static long fingerprint(BibEntry entry) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        hasher.putString(entry.getType().getName(), StandardCharsets.UTF_8);
+        Map<String, String> fields = new TreeMap<>();
+        entry.getFieldMap().forEach((field, value) -> fields.put(field.getName(), value));
+        fields.forEach((name, value) -> hasher.putInt(0)
+                                              .putString(name, StandardCharsets.UTF_8)
+                                              .putInt(0)
+                                              .putString(StringUtil.unifyLineBreaks(value, "\n"), StandardCharsets.UTF_8));
+        return hasher.hash().asLong();
+    }
+
+    private static void writeEntry(DataOutputStream data, BibEntry entry) throws IOException {
+        writeString(data, entry.getType().getName());
+        Map<Field, String> fields = entry.getFieldMap();
+        data.writeInt(fields.size());
+        for (Map.Entry<Field, String> field : fields.entrySet()) {
+            writeString(data, field.getKey().getName());
+            writeString(data, field.getValue());
+        }
+    }
+
+    private static BibEntry readEntry(DataInputStream data) throws IOException {
+        BibEntry entry = new BibEntry(EntryTypeFactory.parse(readString(data)));
+        int fieldCount = data.readInt();
+        for (int i = 0; i < fieldCount; i++) {
+            entry.setField(FieldFactory.parseField(readString(data)), readString(data));
+        }
+        return entry;
+    }
+
+    private static void writeNullableString(DataOutputStream data, @Nullable String string) throws IOException {
+        data.writeBoolean(string != null);
+        if (string != null) {
+            writeString(data, string);
+        }
+    }
+
+    private static @Nullable String readNullableString(DataInputStream data) throws IOException {
+        return data.readBoolean() ? readString(data) : null;
+    }
+
+    private static void writeString(DataOutputStream data, String string) throws IOException {
+        // DataOutputStream.writeUTF is limited to 64 KiB
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    private static String readString(DataInputStream data) throws IOException {
+        byte[] bytes = new byte[data.readInt()];
+        data.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @FunctionalInterface
+    private interface RecordWriter {
+        void write(DataOutputStream data) throws IOException;
+    }
+
+    private record FieldKey(int entryNumber, Field field) {
+    }
+
+    private record Journal(long[] fingerprints, List<Change> changes) {
+    }
+
+    private sealed interface Change {
+    }
+
+    private record EntryAdded(int entryNumber, BibEntry entry) implements Change {
+    }
+
+    private record EntryRemoved(int entryNumber) implements Change {
+    }
+
+    private record FieldChanged(int entryNumber, Field field, Optional<String> value) implements Change {
+    }
+}
@@ -57,6 +57,10 @@ public class BackupUIManager {
                 preferences.getFilePreferences().getBackupDirectory());
         return actionOpt.flatMap(action -> {
             if (action == BackupResolverDialog.RESTORE_FROM_BACKUP) {
+                Optional<ParserResult> restoredFromJournal = restoreFromJournal(originalPath, preferences, fileUpdateMonitor);
+                if (restoredFromJournal.isPresent()) {
+                    return restoredFromJournal;
+                }
                 BackupManager.restoreBackup(originalPath, preferences.getFilePreferences().getBackupDirectory());
                 return Optional.empty();
             } else if (action == BackupResolverDialog.REVIEW_BACKUP) {
@@ -66,6 +70,26 @@ public class BackupUIManager {
         });
     }
 
+    /**
+     * Loads the original file and applies the changes recorded in the journal.
+     *
+     * @return an empty optional if the journal cannot be replayed. Then, the backup file has to be used.
+     */
+    private static Optional<ParserResult> restoreFromJournal(Path originalPath, GuiPreferences preferences, FileUpdateMonitor fileUpdateMonitor) {
+        try {
+            ParserResult parserResult = OpenDatabase.loadDatabase(originalPath, preferences.getImportFormatPreferences(), fileUpdateMonitor);
+            if (!BackupManager.replayJournal(originalPath, preferences.getFilePreferences().getBackupDirectory(), parserResult.getDatabase())) {
+                return Optional.empty();
+            }
+            // The library differs from the file on disk until it is saved
+            parserResult.setChangedOnMigration(true);
+            return Optional.of(parserResult);
+        } catch (IOException e) {
+            LOGGER.error("Error while loading the library to restore the journal", e);
+            return Optional.empty();
+        }
+    }
+
     private static Optional<ButtonType> showBackupResolverDialog(DialogService dialogService,
                                                                  ExternalApplicationsPreferences externalApplicationsPreferences,
                                                                  Path originalPath,
@@ -89,8 +113,14 @@ public class BackupUIManager {
             // This will be modified by using the `DatabaseChangesResolverDialog`.
             BibDatabaseContext originalDatabase = originalParserResult.getDatabaseContext();
 
-            Path backupPath = BackupFileUtil.getPathOfLatestExistingBackupFile(originalPath, BackupFileType.BACKUP, preferences.getFilePreferences().getBackupDirectory()).orElseThrow();
-            BibDatabaseContext backupDatabase = OpenDatabase.loadDatabase(backupPath, importFormatPreferences, new DummyFileUpdateMonitor()).getDatabaseContext();
+            BibDatabaseContext backupDatabase;
+            ParserResult journalParserResult = OpenDatabase.loadDatabase(originalPath, importFormatPreferences, new DummyFileUpdateMonitor());
+            if (BackupManager.replayJournal(originalPath, preferences.getFilePreferences().getBackupDirectory(), journalParserResult.getDatabase())) {
+                backupDatabase = journalParserResult.getDatabaseContext();
+            } else {
+                Path backupPath = BackupFileUtil.getPathOfLatestExistingBackupFile(originalPath, BackupFileType.BACKUP, preferences.getFilePreferences().getBackupDirectory()).orElseThrow();
+                backupDatabase = OpenDatabase.loadDatabase(backupPath, importFormatPreferences, new DummyFileUpdateMonitor()).getDatabaseContext();
+            }
 
             DatabaseChangeResolverFactory changeResolverFactory = new DatabaseChangeResolverFactory(dialogService, originalDatabase, preferences);
 
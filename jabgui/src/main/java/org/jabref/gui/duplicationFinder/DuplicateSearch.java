@@ -27,6 +27,7 @@ import org.jabref.gui.undo.NamedCompoundEdit;
 import org.jabref.gui.undo.UndoableInsertEntries;
 import org.jabref.gui.undo.UndoableRemoveEntries;
 import org.jabref.gui.util.UiTaskExecutor;
+import org.jabref.logic.database.DuplicateCandidateIndex;
 import org.jabref.logic.database.DuplicateCheck;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.BackgroundTask;
@@ -90,23 +91,26 @@ public class DuplicateSearch extends SimpleCommand {
 
         duplicateCountObservable.addListener((obj, oldValue, newValue) -> UiTaskExecutor.runAndWaitInJavaFXThread(() -> duplicateTotal.set(newValue)));
 
-        HeadlessExecutorService.INSTANCE.executeInterruptableTask(() -> searchPossibleDuplicates(entries, database.getMode()), "DuplicateSearcher");
+        HeadlessExecutorService.INSTANCE.executeInterruptableTask(() -> searchPossibleDuplicates(database, database.getMode()), "DuplicateSearcher");
         BackgroundTask.wrap(this::verifyDuplicates)
                       .onSuccess(this::handleDuplicates)
                       .executeWith(taskExecutor);
     }
 
-    private void searchPossibleDuplicates(List<BibEntry> entries, BibDatabaseMode databaseMode) {
-        for (int i = 0; i < (entries.size() - 1); i++) {
-            for (int j = i + 1; j < entries.size(); j++) {
+    private void searchPossibleDuplicates(BibDatabaseContext databaseContext, BibDatabaseMode databaseMode) {
+        DuplicateCheck duplicateCheck = new DuplicateCheck(entryTypesManager);
+        DuplicateCandidateIndex candidateIndex = databaseContext.getDuplicateCandidateIndex();
+        for (BibEntry first : databaseContext.getEntries()) {
+            // Only candidates sharing a block are compared; each pair is compared once
+            for (BibEntry second : candidateIndex.getCandidates(first)) {
                 if (Thread.interrupted()) {
                     return;
                 }
+                if (second.getId().compareTo(first.getId()) <= 0) {
+                    continue;
+                }
 
-                BibEntry first = entries.get(i);
-                BibEntry second = entries.get(j);
-
-                if (new DuplicateCheck(entryTypesManager).isDuplicate(first, second, databaseMode)) {
+                if (duplicateCheck.isDuplicate(first, second, databaseMode)) {
                     duplicates.add(Arrays.asList(first, second));
                     duplicateCountObservable.set(String.valueOf(duplicateCount.incrementAndGet()));
                 }
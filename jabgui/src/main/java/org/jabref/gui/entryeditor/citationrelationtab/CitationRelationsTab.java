@@ -751,11 +751,12 @@ public class CitationRelationsTab extends EntryEditorTab {
 
         // TODO: This could be a wrong database, because the user might have switched to another library
         //       If we were on fixing this, we would need to a) associate a BibEntry with a database or b) pass the database at "bindToEntry"
-        BibDatabase database = stateManager.getActiveDatabase().map(BibDatabaseContext::getDatabase).orElse(new BibDatabase());
+        BibDatabaseContext databaseContext = stateManager.getActiveDatabase().orElse(new BibDatabaseContext());
+        BibDatabase database = databaseContext.getDatabase();
         observableList.setAll(
                 fetchedList.stream().map(entr ->
                                    duplicateCheck.containsDuplicate(
-                                                         database,
+                                                         databaseContext,
                                                          entr,
                                                          BibDatabaseModeDetection.inferMode(database))
                                                  .map(localEntry -> new CitationRelationItem(entr, localEntry, true))
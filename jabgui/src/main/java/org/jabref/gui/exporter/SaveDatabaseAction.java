@@ -242,6 +242,8 @@ public class SaveDatabaseAction {
             if (success) {
                 libraryTab.getUndoManager().markUnchanged();
                 libraryTab.resetChangedProperties();
+                // The changes recorded for crash recovery are contained in the saved file
+                BackupManager.checkpoint(libraryTab.getBibDatabaseContext());
             }
             dialogService.notify(Localization.lang("Library saved"));
             return success;
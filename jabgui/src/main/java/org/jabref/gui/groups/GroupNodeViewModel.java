@@ -40,6 +40,7 @@ import org.jabref.model.groups.AutomaticKeywordGroup;
 import org.jabref.model.groups.AutomaticPersonsGroup;
 import org.jabref.model.groups.ExplicitGroup;
 import org.jabref.model.groups.GroupEntryChanger;
+import org.jabref.model.groups.GroupMembershipIndex;
 import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.groups.KeywordGroup;
 import org.jabref.model.groups.LastNameGroup;
@@ -47,6 +48,7 @@ import org.jabref.model.groups.RegexKeywordGroup;
 import org.jabref.model.groups.SearchGroup;
 import org.jabref.model.groups.SmartGroup;
 import org.jabref.model.groups.TexGroup;
+import org.jabref.model.groups.event.GroupMembershipChangedEvent;
 import org.jabref.model.search.event.IndexAddedOrUpdatedEvent;
 import org.jabref.model.search.event.IndexClosedEvent;
 import org.jabref.model.search.event.IndexRemovedEvent;
@@ -56,6 +58,7 @@ import org.jabref.model.strings.StringUtil;
 import com.google.common.eventbus.Subscribe;
 import com.tobiasdiez.easybind.EasyBind;
 import com.tobiasdiez.easybind.EasyObservableList;
+import com.tobiasdiez.easybind.Subscription;
 import io.github.adr.linked.ADR;
 import org.jspecify.annotations.NonNull;
 
@@ -76,8 +79,11 @@ public class GroupNodeViewModel {
     private final TaskExecutor taskExecutor;
     private final CustomLocalDragboard localDragBoard;
     private final GuiPreferences preferences;
-    @SuppressWarnings("FieldCanBeLocal")
-    private final ObservableList<BibEntry> entriesList;
+    private final GroupMembershipIndex groupMembershipIndex;
+    private final GroupMembershipListener groupMembershipListener = new GroupMembershipListener();
+    private final SearchIndexListener searchIndexListener = new SearchIndexListener();
+    private final Subscription displayGroupCountSubscription;
+    private boolean disposed;
     @SuppressWarnings("FieldCanBeLocal")
     private final InvalidationListener onInvalidatedGroup = _ -> refreshGroup();
 
@@ -93,6 +99,7 @@ public class GroupNodeViewModel {
         this.groupNode = groupNode;
         this.localDragBoard = localDragBoard;
         this.preferences = preferences;
+        this.groupMembershipIndex = databaseContext.getGroupMembershipIndex();
 
         displayName = new SimpleObjectProperty<>(new LatexToUnicodeFormatter().format(groupNode.getName()));
         isRoot = groupNode.isRoot();
@@ -115,23 +122,33 @@ public class GroupNodeViewModel {
             });
         }
 
+        children.addListener((ListChangeListener<GroupNodeViewModel>) change -> {
+            while (change.next()) {
+                // View models of removed or replaced subgroups are no longer shown
+                change.getRemoved().stream()
+                      .filter(removed -> children.stream().noneMatch(child -> child == removed))
+                      .forEach(GroupNodeViewModel::dispose);
+                if (disposed) {
+                    change.getAddedSubList().forEach(GroupNodeViewModel::dispose);
+                }
+            }
+        });
+
         hasChildren = new SimpleBooleanProperty();
         hasChildren.bind(Bindings.isNotEmpty(children));
-        EasyBind.subscribe(preferences.getGroupsPreferences().displayGroupCountProperty(), _ -> updateMatchedEntries());
+        displayGroupCountSubscription = EasyBind.subscribe(preferences.getGroupsPreferences().displayGroupCountProperty(), _ -> updateMatchedEntries());
         expandedProperty.set(groupNode.getGroup().isExpanded());
         expandedProperty.addListener((_, _, newValue) -> groupNode.getGroup().setExpanded(newValue));
 
         // Register listener
-        // The wrapper created by the FXCollections will set a weak listener on the wrapped list. This weak listener gets garbage collected. Hence, we need to maintain a reference to this list.
-        entriesList = databaseContext.getDatabase().getEntries();
-        entriesList.addListener(this::onDatabaseChanged);
+        groupMembershipIndex.registerListener(groupMembershipListener);
 
-        EasyObservableList<Boolean> selectedEntriesMatchStatus = EasyBind.map(stateManager.getSelectedEntries(), groupNode::matches);
+        EasyObservableList<Boolean> selectedEntriesMatchStatus = EasyBind.map(stateManager.getSelectedEntries(), entry -> groupMembershipIndex.matches(groupNode, entry));
         anySelectedEntriesMatched = selectedEntriesMatchStatus.anyMatch(matched -> matched);
         // 'all' returns 'true' for empty streams, so this has to be checked explicitly
         allSelectedEntriesMatched = selectedEntriesMatchStatus.isEmptyBinding().not().and(selectedEntriesMatchStatus.allMatch(matched -> matched));
 
-        this.databaseContext.getDatabase().registerListener(new SearchIndexListener());
+        this.databaseContext.getDatabase().registerListener(searchIndexListener);
     }
 
     public GroupNodeViewModel(BibDatabaseContext databaseContext, StateManager stateManager, TaskExecutor taskExecutor, AbstractGroup group, CustomLocalDragboard localDragboard, GuiPreferences preferences) {
@@ -252,48 +269,38 @@ public class GroupNodeViewModel {
         return children;
     }
 
-    public GroupTreeNode getGroupNode() {
-        return groupNode;
-    }
-
     /**
-     * Gets invoked if an entry in the current database changes.
-     *
-     * @implNote Search groups are updated in {@link SearchIndexListener}.
+     * Stops updating this group and its subgroups. Needs to be called if the view model is no longer used, because
+     * otherwise the listeners keep it alive. Calling it more than once has no effect.
      */
-    private void onDatabaseChanged(ListChangeListener.Change<? extends BibEntry> change) {
-        if (groupNode.getGroup() instanceof SearchGroup) {
+    public void dispose() {
+        if (disposed) {
             return;
         }
-        while (change.next()) {
-            if (change.wasPermutated()) {
-                // Nothing to do, as permutation doesn't change matched entries
-            } else if (change.wasUpdated()) {
-                for (BibEntry changedEntry : change.getList().subList(change.getFrom(), change.getTo())) {
-                    if (groupNode.matches(changedEntry)) {
-                        // ADR-0038
-                        matchedEntries.add(changedEntry.getId());
-                    } else {
-                        // ADR-0038
-                        matchedEntries.remove(changedEntry.getId());
-                    }
-                }
-            } else {
-                for (BibEntry removedEntry : change.getRemoved()) {
-                    // ADR-0038
-                    matchedEntries.remove(removedEntry.getId());
-                }
-                for (BibEntry addedEntry : change.getAddedSubList()) {
-                    if (groupNode.matches(addedEntry)) {
-                        // ADR-0038
-                        matchedEntries.add(addedEntry.getId());
-                    }
-                }
-            }
+        disposed = true;
+        displayGroupCountSubscription.unsubscribe();
+        groupMembershipIndex.unregisterListener(groupMembershipListener);
+        databaseContext.getDatabase().unregisterListener(searchIndexListener);
+        children.forEach(GroupNodeViewModel::dispose);
+    }
+
+    public GroupTreeNode getGroupNode() {
+        return groupNode;
+    }
+
+    private void updateMatchedEntry(BibEntry entry) {
+        // Removed entries are also reported by the index
+        if (groupMembershipIndex.contains(entry) && groupMembershipIndex.matches(groupNode, entry)) {
+            // ADR-0038
+            matchedEntries.add(entry.getId());
+        } else {
+            // ADR-0038
+            matchedEntries.remove(entry.getId());
         }
     }
 
     private void refreshGroup() {
+        groupMembershipIndex.invalidate(groupNode.getGroup());
         UiTaskExecutor.runInJavaFXThread(() -> {
             updateMatchedEntries(); // Update the entries matched by the group
             // "Re-add" to the selected groups if it were selected, this refreshes the entries the user views
@@ -306,11 +313,10 @@ public class GroupNodeViewModel {
 
     private void updateMatchedEntries() {
         // We calculate the new hit value
-        // We could be more intelligent and try to figure out the new number of hits based on the entry change
-        // for example, a previously matched entry gets removed -> hits = hits - 1
+        // Later changes of entries are applied incrementally by the GroupMembershipListener
         if (preferences.getGroupsPreferences().shouldDisplayGroupCount()) {
             BackgroundTask
-                    .wrap(() -> groupNode.findMatches(databaseContext.getDatabase()))
+                    .wrap(() -> groupMembershipIndex.getMatchedEntries(groupNode))
                     .onSuccess(entries -> {
                         matchedEntries.clear();
                         // ADR-0038
@@ -569,6 +575,23 @@ public class GroupNodeViewModel {
         };
     }
 
+    /**
+     * Gets invoked if entries were added to or removed from the current database, or changed their membership in a group.
+     *
+     * @implNote Search groups are updated in {@link SearchIndexListener}.
+     */
+    class GroupMembershipListener {
+        @Subscribe
+        public void listen(GroupMembershipChangedEvent event) {
+            if (groupNode.getGroup() instanceof SearchGroup) {
+                return;
+            }
+            for (BibEntry entry : event.getEntries()) {
+                updateMatchedEntry(entry);
+            }
+        }
+    }
+
     class SearchIndexListener {
         @Subscribe
         public void listen(IndexStartedEvent event) {
@@ -590,11 +613,7 @@ public class GroupNodeViewModel {
                     }
                 }).onFinished(() -> {
                     for (BibEntry entry : event.entries()) {
-                        if (groupNode.matches(entry)) {
-                            matchedEntries.add(entry.getId());
-                        } else {
-                            matchedEntries.remove(entry.getId());
-                        }
+                        updateMatchedEntry(entry);
                     }
                 }).executeWith(taskExecutor));
             }
@@ -15,6 +15,7 @@ import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonBar;
@@ -100,11 +101,28 @@ public class GroupTreeViewModel extends AbstractViewModel {
         // Register listener
         EasyBind.subscribe(stateManager.activeDatabaseProperty(), this::onActiveDatabaseChanged);
         EasyBind.subscribe(selectedGroups, this::onSelectedGroupChanged);
+        selectedGroups.addListener((ListChangeListener<GroupNodeViewModel>) change -> {
+            while (change.next()) {
+                // Selected groups not shown in the tree are created for the selection only
+                change.getRemoved().stream()
+                      .filter(removed -> !isInUse(removed))
+                      .forEach(GroupNodeViewModel::dispose);
+            }
+        });
 
         // Set-up bindings
         filterPredicate.bind(EasyBind.map(filterText, text -> group -> group.isMatchedBy(text)));
     }
 
+    private boolean isInUse(GroupNodeViewModel group) {
+        return selectedGroups.stream().anyMatch(selectedGroup -> selectedGroup == group)
+                || ((rootGroup.get() != null) && isInTree(rootGroup.get(), group));
+    }
+
+    private static boolean isInTree(GroupNodeViewModel node, GroupNodeViewModel group) {
+        return (node == group) || node.getChildren().stream().anyMatch(child -> isInTree(child, group));
+    }
+
     private void refresh() {
         onActiveDatabaseChanged(stateManager.activeDatabaseProperty().getValue());
     }
@@ -160,6 +178,9 @@ public class GroupTreeViewModel extends AbstractViewModel {
      * We need to get the new group tree and update the view
      */
     private void onActiveDatabaseChanged(Optional<BibDatabaseContext> newDatabase) {
+        if (rootGroup.get() != null) {
+            rootGroup.get().dispose();
+        }
         if (newDatabase.isPresent()) {
             GroupNodeViewModel newRoot = newDatabase
                     .map(BibDatabaseContext::getMetaData)
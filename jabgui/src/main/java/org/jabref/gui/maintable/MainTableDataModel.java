@@ -1,13 +1,16 @@
 package org.jabref.gui.maintable;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ListProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
@@ -29,10 +32,9 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.search.SearchDisplayMode;
 import org.jabref.model.search.SearchFlags;
+import org.jabref.model.search.SearchMatcher;
 import org.jabref.model.search.event.IndexAddedOrUpdatedEvent;
 import org.jabref.model.search.event.IndexStartedEvent;
-import org.jabref.model.search.matchers.MatcherSet;
-import org.jabref.model.search.matchers.MatcherSets;
 import org.jabref.model.search.query.SearchQuery;
 import org.jabref.model.search.query.SearchResults;
 
@@ -65,7 +67,37 @@ public class MainTableDataModel {
     private final OptionalObjectProperty<SearchQuery> searchQueryProperty;
     @Nullable private final IndexManager indexManager;
 
-    private Optional<MatcherSet> groupsMatcher;
+    // Only the latest update of a kind is applied, the results of earlier ones which finish later are dropped
+    private final AtomicInteger searchUpdates = new AtomicInteger();
+    private final AtomicInteger searchDisplayModeUpdates = new AtomicInteger();
+    private final AtomicInteger groupUpdates = new AtomicInteger();
+
+    // Counts the changes of entriesViewModel, so that the indices of computed match changes can be checked
+    private volatile int entriesModificationCount;
+
+    private Optional<SearchMatcher> groupsMatcher;
+
+    /// The match state of a row which differs from the displayed one, computed off the FX thread.
+    ///
+    /// The visibility is derived from the display modes when the change is applied, so that a change of the modes in
+    /// between is respected.
+    private sealed interface MatchChange permits SearchMatchChange, SearchVisibilityChange, GroupMatchChange {
+        int index();
+
+        BibEntryTableViewModel entry();
+    }
+
+    private record SearchMatchChange(int index, BibEntryTableViewModel entry, boolean isMatched, boolean hasFulltextResults) implements MatchChange {
+    }
+
+    private record SearchVisibilityChange(int index, BibEntryTableViewModel entry) implements MatchChange {
+    }
+
+    private record GroupMatchChange(int index, BibEntryTableViewModel entry, boolean isMatched) implements MatchChange {
+    }
+
+    private record GroupMatches(Optional<SearchMatcher> matcher, List<MatchChange> changes) {
+    }
 
     public MainTableDataModel(BibDatabaseContext context,
                               GuiPreferences preferences,
@@ -90,6 +122,7 @@ public class MainTableDataModel {
         ObservableList<BibEntry> allEntries = BindingsHelper.forUI(context.getDatabase().getEntries());
         entriesViewModel = EasyBind.mapBacked(allEntries, entry -> new BibEntryTableViewModel(entry, bibDatabaseContext, fieldValueFormatter), false);
         entriesFiltered = new FilteredList<>(entriesViewModel, BibEntryTableViewModel::isVisible);
+        entriesViewModel.addListener((ListChangeListener<BibEntryTableViewModel>) _ -> entriesModificationCount++);
 
         searchQuerySubscription = EasyBind.listen(searchQueryProperty, (observable, oldValue, newValue) -> updateSearchMatches(newValue));
         searchDisplayModeSubscription = EasyBind.listen(searchPreferences.searchDisplayModeProperty(), (observable, oldValue, newValue) -> updateSearchDisplayMode(newValue));
@@ -102,13 +135,22 @@ public class MainTableDataModel {
     }
 
     private void updateSearchMatches(Optional<SearchQuery> query) {
+        int update = searchUpdates.incrementAndGet();
+        List<BibEntryTableViewModel> entries = List.copyOf(entriesViewModel);
+        int modificationCount = entriesModificationCount;
         BackgroundTask.wrap(() -> {
-            if (query.isPresent()) {
-                setSearchMatches(indexManager.search(query.get()));
-            } else {
-                clearSearchMatches();
-            }
-        }).onSuccess(result -> FilteredListProxy.refilterListReflection(entriesFiltered)).executeWith(taskExecutor);
+                          // Without an index (e.g., while the library is loading), there is nothing to search in
+                          Optional<SearchResults> results = query.isPresent() && indexManager != null
+                                                            ? Optional.of(indexManager.search(query.get()))
+                                                            : Optional.empty();
+                          return computeSearchMatchChanges(entries, results);
+                      })
+                      .onSuccess(changes -> {
+                          if (update == searchUpdates.get()) {
+                              applyMatchChanges(changes, modificationCount);
+                          }
+                      })
+                      .executeWith(taskExecutor);
     }
 
     /// Refresh the current search
@@ -124,21 +166,21 @@ public class MainTableDataModel {
         });
     }
 
-    private void setSearchMatches(SearchResults results) {
+    /// Determines the rows whose search match differs from the displayed one. Without results, all entries match.
+    private List<MatchChange> computeSearchMatchChanges(List<BibEntryTableViewModel> entries, Optional<SearchResults> results) {
         boolean isFloatingMode = searchPreferences.getSearchDisplayMode() == SearchDisplayMode.FLOAT;
-        entriesViewModel.forEach(entry -> {
-            entry.hasFullTextResultsProperty().set(results.hasFulltextResults(entry.getEntry()));
-            updateEntrySearchMatch(entry, results.isMatched(entry.getEntry()), isFloatingMode);
-        });
-    }
-
-    private void clearSearchMatches() {
-        boolean isFloatingMode = searchPreferences.getSearchDisplayMode() == SearchDisplayMode.FLOAT;
-        entriesViewModel.forEach(entry -> {
-            entry.isMatchedBySearch().set(true);
-            entry.hasFullTextResultsProperty().set(false);
-            updateEntrySearchMatch(entry, true, isFloatingMode);
-        });
+        List<MatchChange> changes = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            BibEntryTableViewModel entry = entries.get(i);
+            boolean isMatched = results.map(searchResults -> searchResults.isMatched(entry.getEntry())).orElse(true);
+            boolean hasFulltextResults = results.map(searchResults -> searchResults.hasFulltextResults(entry.getEntry())).orElse(false);
+            if ((isMatched != entry.isMatchedBySearch().get())
+                    || (hasFulltextResults != entry.hasFullTextResultsProperty().get())
+                    || ((isMatched || isFloatingMode) != entry.isVisibleBySearch().get())) {
+                changes.add(new SearchMatchChange(i, entry, isMatched, hasFulltextResults));
+            }
+        }
+        return changes;
     }
 
     private static void updateEntrySearchMatch(BibEntryTableViewModel entry, boolean isMatched, boolean isFloatingMode) {
@@ -156,22 +198,87 @@ public class MainTableDataModel {
     }
 
     private void updateSearchDisplayMode(SearchDisplayMode mode) {
+        int update = searchDisplayModeUpdates.incrementAndGet();
+        List<BibEntryTableViewModel> entries = List.copyOf(entriesViewModel);
+        int modificationCount = entriesModificationCount;
         BackgroundTask.wrap(() -> {
             boolean isFloatingMode = mode == SearchDisplayMode.FLOAT;
-            entriesViewModel.forEach(entry -> setEntrySearchVisibility(entry, entry.isMatchedBySearch().get(), isFloatingMode));
-        }).onSuccess(result -> FilteredListProxy.refilterListReflection(entriesFiltered)).executeWith(taskExecutor);
+            List<MatchChange> changes = new ArrayList<>();
+            for (int i = 0; i < entries.size(); i++) {
+                BibEntryTableViewModel entry = entries.get(i);
+                if ((entry.isMatchedBySearch().get() || isFloatingMode) != entry.isVisibleBySearch().get()) {
+                    changes.add(new SearchVisibilityChange(i, entry));
+                }
+            }
+            return changes;
+        }).onSuccess(changes -> {
+            if (update == searchDisplayModeUpdates.get()) {
+                applyMatchChanges(changes, modificationCount);
+            }
+        }).executeWith(taskExecutor);
     }
 
     private void updateGroupMatches(ObservableList<GroupTreeNode> groups) {
+        int update = groupUpdates.incrementAndGet();
+        List<BibEntryTableViewModel> entries = List.copyOf(entriesViewModel);
+        int modificationCount = entriesModificationCount;
         BackgroundTask.wrap(() -> {
-            groupsMatcher = createGroupMatcher(groups, groupsPreferences);
+            Optional<SearchMatcher> matcher = createGroupMatcher(groups, groupsPreferences);
             boolean isInvertMode = groupsPreferences.getGroupViewMode().contains(GroupViewMode.INVERT);
             boolean isFloatingMode = !groupsPreferences.getGroupViewMode().contains(GroupViewMode.FILTER);
-            entriesViewModel.forEach(entry -> updateEntryGroupMatch(entry, groupsMatcher, isInvertMode, isFloatingMode));
-        }).onSuccess(result -> FilteredListProxy.refilterListReflection(entriesFiltered)).executeWith(taskExecutor);
+            List<MatchChange> changes = new ArrayList<>();
+            for (int i = 0; i < entries.size(); i++) {
+                BibEntryTableViewModel entry = entries.get(i);
+                boolean isMatched = matcher.map(groupMatcher -> groupMatcher.isMatch(entry.getEntry()) ^ isInvertMode)
+                                           .orElse(true);
+                if ((isMatched != entry.isMatchedByGroup().get()) || ((isMatched || isFloatingMode) != entry.isVisibleByGroup().get())) {
+                    changes.add(new GroupMatchChange(i, entry, isMatched));
+                }
+            }
+            return new GroupMatches(matcher, changes);
+        }).onSuccess(groupMatches -> {
+            if (update == groupUpdates.get()) {
+                groupsMatcher = groupMatches.matcher();
+                applyMatchChanges(groupMatches.changes(), modificationCount);
+            }
+        }).executeWith(taskExecutor);
     }
 
-    private void updateEntryGroupMatch(BibEntryTableViewModel entry, Optional<MatcherSet> groupsMatcher, boolean isInvertMode, boolean isFloatingMode) {
+    /// Applies the changes on the FX thread and refilters only the changed rows, so that the filtered and sorted lists
+    /// publish one change covering these rows.
+    private void applyMatchChanges(List<MatchChange> changes, int modificationCount) {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        boolean isSearchFloatingMode = searchPreferences.getSearchDisplayMode() == SearchDisplayMode.FLOAT;
+        boolean isGroupFloatingMode = !groupsPreferences.getGroupViewMode().contains(GroupViewMode.FILTER);
+        for (MatchChange change : changes) {
+            BibEntryTableViewModel entry = change.entry();
+            switch (change) {
+                case SearchMatchChange searchMatchChange -> {
+                    entry.isMatchedBySearch().set(searchMatchChange.isMatched());
+                    entry.hasFullTextResultsProperty().set(searchMatchChange.hasFulltextResults());
+                }
+                case GroupMatchChange groupMatchChange ->
+                        entry.isMatchedByGroup().set(groupMatchChange.isMatched());
+                case SearchVisibilityChange _ -> {
+                }
+            }
+            setEntrySearchVisibility(entry, entry.isMatchedBySearch().get(), isSearchFloatingMode);
+            entry.isVisibleByGroup().set(entry.isMatchedByGroup().get() || isGroupFloatingMode);
+            entry.updateMatchCategory();
+        }
+
+        // Shifting the filtered and sorted lists for each changed row is slower than refiltering all rows if many rows change
+        if ((modificationCount != entriesModificationCount) || (changes.size() > (entriesViewModel.size() / 8))) {
+            FilteredListProxy.refilterListReflection(entriesFiltered);
+        } else {
+            FilteredListProxy.refilterListReflection(entriesFiltered, changes.stream().mapToInt(MatchChange::index).toArray());
+        }
+    }
+
+    private void updateEntryGroupMatch(BibEntryTableViewModel entry, Optional<SearchMatcher> groupsMatcher, boolean isInvertMode, boolean isFloatingMode) {
         boolean isMatched = groupsMatcher.map(matcher -> matcher.isMatch(entry.getEntry()) ^ isInvertMode)
                                          .orElse(true);
         entry.isMatchedByGroup().set(isMatched);
@@ -183,21 +290,15 @@ public class MainTableDataModel {
         }
     }
 
-    private static Optional<MatcherSet> createGroupMatcher(List<GroupTreeNode> selectedGroups, GroupsPreferences groupsPreferences) {
+    private Optional<SearchMatcher> createGroupMatcher(List<GroupTreeNode> selectedGroups, GroupsPreferences groupsPreferences) {
         if ((selectedGroups == null) || selectedGroups.isEmpty()) {
             // No selected group, show all entries
             return Optional.empty();
         }
 
-        final MatcherSet searchRules = MatcherSets.build(
-                groupsPreferences.getGroupViewMode().contains(GroupViewMode.INTERSECTION)
-                ? MatcherSets.MatcherType.AND
-                : MatcherSets.MatcherType.OR);
-
-        for (GroupTreeNode node : selectedGroups) {
-            searchRules.addRule(node.getSearchMatcher());
-        }
-        return Optional.of(searchRules);
+        // The index combines the matches of the selected groups once, so that each entry is checked by a lookup
+        boolean intersection = groupsPreferences.getGroupViewMode().contains(GroupViewMode.INTERSECTION);
+        return Optional.of(bibDatabaseContext.getGroupMembershipIndex().createMatcher(selectedGroups, intersection));
     }
 
     public void unbind() {
@@ -273,14 +374,7 @@ public class MainTableDataModel {
         public void listen(EntriesRemovedEvent removedEntriesEvent) {
             // When entries are removed, we need to refresh the search matches
             // to ensure the filtered list is properly updated and doesn't show stale entries
-            BackgroundTask.wrap(() -> {
-                // Re-run the current search to update the filtered results
-                if (searchQueryProperty.get().isPresent()) {
-                    setSearchMatches(indexManager.search(searchQueryProperty.get().get()));
-                } else {
-                    clearSearchMatches();
-                }
-            }).onSuccess(result -> FilteredListProxy.refilterListReflection(entriesFiltered)).executeWith(taskExecutor);
+            updateSearchMatches(searchQueryProperty.get());
         }
     }
 }
@@ -4,8 +4,9 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
-import java.util.ListIterator;
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 import javafx.collections.ObservableListBase;
 import javafx.collections.transformation.FilteredList;
@@ -44,11 +45,27 @@ public class FilteredListProxy {
     }
 
     public static void refilterListReflection(FilteredList<BibEntryTableViewModel> filteredList, int sourceFrom, int sourceTo) {
+        if (sourceFrom < 0 || sourceTo > filteredList.getSource().size() || sourceFrom > sourceTo) {
+            throw new IndexOutOfBoundsException();
+        }
+        refilterListReflection(filteredList, IntStream.range(sourceFrom, sourceTo).toArray());
+    }
+
+    /**
+     * Re-evaluates the predicate for the given rows of the source list only and publishes the differences as a single
+     * change, so that listeners of the filtered list handle the changed rows instead of the whole list.
+     *
+     * @param sourceIndices the indices in the source list in ascending order
+     */
+    public static void refilterListReflection(FilteredList<BibEntryTableViewModel> filteredList, int[] sourceIndices) {
         try {
             if (!initialized) {
                 initReflection();
             }
-            if (sourceFrom < 0 || sourceTo > filteredList.getSource().size() || sourceFrom > sourceTo) {
+            if (sourceIndices.length == 0) {
+                return;
+            }
+            if (sourceIndices[0] < 0 || sourceIndices[sourceIndices.length - 1] >= filteredList.getSource().size()) {
                 throw new IndexOutOfBoundsException();
             }
 
@@ -57,13 +74,13 @@ public class FilteredListProxy {
 
             @SuppressWarnings("unchecked")
             Predicate<BibEntryTableViewModel> predicateImpl = (Predicate<BibEntryTableViewModel>) GET_PREDICATE_IMPL_METHOD.invoke(filteredList);
-            ListIterator<? extends BibEntryTableViewModel> it = filteredList.getSource().listIterator(sourceFrom);
+            List<? extends BibEntryTableViewModel> source = filteredList.getSource();
 
             int[] filtered = (int[]) FILTERED_FIELD.get(filteredList);
             int size = (int) SIZE_FIELD.get(filteredList);
 
-            for (int i = sourceFrom; i < sourceTo; ++i) {
-                BibEntryTableViewModel el = it.next();
+            for (int i : sourceIndices) {
+                BibEntryTableViewModel el = source.get(i);
                 int pos = Arrays.binarySearch(filtered, 0, size, i);
                 boolean passedBefore = pos >= 0;
                 boolean passedNow = predicateImpl.test(el);
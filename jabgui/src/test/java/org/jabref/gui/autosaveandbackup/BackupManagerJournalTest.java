@@ -0,0 +1,167 @@
+package org.jabref.gui.autosaveandbackup;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.jabref.gui.LibraryTab;
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.util.CoarseChangeFilter;
+import org.jabref.logic.util.io.BackupFileUtil;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.metadata.MetaData;
+import org.jabref.model.metadata.event.MetaDataChangedEvent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for the journal of entry changes
+ */
+class BackupManagerJournalTest {
+
+    private BibDatabaseContext bibDatabaseContext;
+    private LibraryTab libraryTab;
+    private BackupManager backupManager;
+    private Path testBib;
+    private Path backupDir;
+    private BibEntry first;
+    private BibEntry second;
+    private List<BibEntry> savedEntries;
+
+    @BeforeEach
+    void setup(@TempDir Path tempDir) throws IOException {
+        backupDir = tempDir.resolve("backups");
+        testBib = tempDir.resolve("test.bib");
+        // The content of the file does not matter, the journal only checks whether the file was changed
+        Files.writeString(testBib, "saved library");
+
+        first = new BibEntry(StandardEntryType.Article)
+                .withCitationKey("first")
+                .withField(StandardField.TITLE, "First title");
+        second = new BibEntry(StandardEntryType.Article)
+                .withCitationKey("second")
+                .withField(StandardField.TITLE, "Second title");
+        savedEntries = List.of(new BibEntry(first), new BibEntry(second));
+        bibDatabaseContext = new BibDatabaseContext(new BibDatabase(List.of(first, second)));
+        bibDatabaseContext.setDatabasePath(testBib);
+
+        CliPreferences preferences = mock(CliPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(preferences.getFilePreferences().getBackupDirectory()).thenReturn(backupDir);
+
+        // We need a real CoarseChangeFilter to ensure that the BackupManager receives the changes
+        CoarseChangeFilter coarseChangeFilter = new CoarseChangeFilter(bibDatabaseContext);
+
+        libraryTab = mock(LibraryTab.class);
+        backupManager = BackupManager.start(libraryTab, bibDatabaseContext, coarseChangeFilter, new BibEntryTypesManager(), preferences);
+    }
+
+    @AfterEach
+    void shutdown() {
+        BackupManager.shutdown(bibDatabaseContext, backupDir, false);
+    }
+
+    /**
+     * Returns the entries of the library as parsed from the saved file
+     */
+    private BibDatabase loadSavedDatabase() {
+        return new BibDatabase(savedEntries.stream().map(BibEntry::new).toList());
+    }
+
+    @Test
+    void changesOfEntriesAreReplayed() {
+        first.setField(StandardField.TITLE, "Changed title");
+        first.setField(StandardField.YEAR, "2025");
+        second.setType(StandardEntryType.Book);
+        BibEntry third = new BibEntry(StandardEntryType.Misc).withField(StandardField.TITLE, "Third title");
+        bibDatabaseContext.getDatabase().insertEntry(third);
+        bibDatabaseContext.getDatabase().removeEntry(second);
+        shutdown();
+
+        assertTrue(BackupManager.backupFileDiffers(testBib, backupDir));
+        BibDatabase database = loadSavedDatabase();
+        assertTrue(BackupManager.replayJournal(testBib, backupDir, database));
+        assertEquals(List.of(first, third), database.getEntries());
+    }
+
+    @Test
+    void savedChangesAreNotReplayed() throws IOException {
+        first.setField(StandardField.TITLE, "Changed title");
+        Files.writeString(testBib, "saved library with changed title");
+        BackupManager.checkpoint(bibDatabaseContext);
+        shutdown();
+
+        assertFalse(BackupManager.backupFileDiffers(testBib, backupDir));
+    }
+
+    @Test
+    void externallyChangedFileInvalidatesJournal() throws IOException {
+        first.setField(StandardField.TITLE, "Changed title");
+        shutdown();
+        Files.writeString(testBib, "library changed by another program");
+
+        assertFalse(BackupManager.replayJournal(testBib, backupDir, loadSavedDatabase()));
+    }
+
+    @Test
+    void changesAreBackedUpWhenFileIsTouched() throws IOException {
+        first.setField(StandardField.TITLE, "Changed title");
+        when(libraryTab.isModified()).thenReturn(true);
+        // E.g., a synchronization tool sets the last modified time of the remote copy
+        Files.setLastModifiedTime(testBib, FileTime.fromMillis(Files.getLastModifiedTime(testBib).toMillis() - 10_000));
+        backupManager.syncJournal();
+        shutdown();
+
+        assertFalse(BackupManager.replayJournal(testBib, backupDir, loadSavedDatabase()));
+        assertTrue(BackupManager.backupFileDiffers(testBib, backupDir));
+        BackupManager.restoreBackup(testBib, backupDir);
+        assertTrue(Files.readString(testBib).contains("Changed title"));
+    }
+
+    @Test
+    void changeOfMetaDataRequiresFullBackup() {
+        first.setField(StandardField.TITLE, "Changed title");
+        backupManager.listen(new MetaDataChangedEvent(new MetaData()));
+        shutdown();
+
+        assertFalse(BackupManager.replayJournal(testBib, backupDir, loadSavedDatabase()));
+    }
+
+    @Test
+    void incompletelyWrittenChangeIsIgnored() throws IOException {
+        first.setField(StandardField.TITLE, "Changed title");
+        first.setField(StandardField.YEAR, "2025");
+        shutdown();
+
+        // Simulate a crash while writing the last change
+        Path journal = backupDir.resolve(BackupFileUtil.getUniqueFilePrefix(testBib) + "--test.bib--journal");
+        try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        BibDatabase database = loadSavedDatabase();
+        assertTrue(BackupManager.replayJournal(testBib, backupDir, database));
+        assertEquals(List.of(new BibEntry(StandardEntryType.Article)
+                        .withCitationKey("first")
+                        .withField(StandardField.TITLE, "Changed title"), second),
+                database.getEntries());
+    }
+}
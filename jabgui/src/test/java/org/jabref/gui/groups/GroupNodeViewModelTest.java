@@ -176,6 +176,31 @@ class GroupNodeViewModelTest {
         assertEquals(groupName, entry.getField(StandardField.GROUPS).get());
     }
 
+    @Test
+    void disposedGroupIsNoLongerUpdated() {
+        databaseContext.getDatabase().insertEntry(new BibEntry().withField(StandardField.TITLE, "search"));
+        assertEquals(1, viewModel.getHits().get());
+
+        viewModel.dispose();
+        databaseContext.getDatabase().insertEntry(new BibEntry().withField(StandardField.TITLE, "search"));
+
+        assertEquals(1, viewModel.getHits().get());
+    }
+
+    @Test
+    void removedSubgroupIsNoLongerUpdated() {
+        GroupNodeViewModel rootViewModel = getViewModelForGroup(new ExplicitGroup("root", GroupHierarchyType.INDEPENDENT, ','));
+        rootViewModel.addSubgroup(new WordKeywordGroup("Test group", GroupHierarchyType.INDEPENDENT, StandardField.TITLE, "search", true, ',', false));
+        GroupNodeViewModel subgroupViewModel = rootViewModel.getChildren().getFirst();
+        databaseContext.getDatabase().insertEntry(new BibEntry().withField(StandardField.TITLE, "search"));
+        assertEquals(1, subgroupViewModel.getHits().get());
+
+        subgroupViewModel.getGroupNode().removeFromParent();
+        databaseContext.getDatabase().insertEntry(new BibEntry().withField(StandardField.TITLE, "search"));
+
+        assertEquals(1, subgroupViewModel.getHits().get());
+    }
+
     private GroupNodeViewModel getViewModelForGroup(AbstractGroup group) {
         return new GroupNodeViewModel(databaseContext, stateManager, taskExecutor, group, new CustomLocalDragboard(), preferences);
     }
@@ -1,27 +1,47 @@
 package org.jabref.gui.maintable;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
 
 import javafx.beans.InvalidationListener;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ListProperty;
 import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleListProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 
+import org.jabref.gui.groups.GroupViewMode;
+import org.jabref.gui.groups.GroupsPreferences;
+import org.jabref.gui.preferences.GuiPreferences;
 import org.jabref.logic.bibtex.comparator.EntryComparator;
+import org.jabref.logic.search.SearchPreferences;
+import org.jabref.logic.util.CurrentThreadTaskExecutor;
+import org.jabref.logic.util.OptionalObjectProperty;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.groups.GroupHierarchyType;
+import org.jabref.model.groups.GroupTreeNode;
+import org.jabref.model.groups.WordKeywordGroup;
+import org.jabref.model.search.SearchDisplayMode;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.model.search.query.SearchQuery;
 
 import com.tobiasdiez.easybind.EasyBind;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class MainTableDataModelTest {
 
@@ -62,4 +82,54 @@ class MainTableDataModelTest {
         result = entriesFilteredAndSorted.stream().map(BibEntryTableViewModel::getEntry).toList();
         assertEquals(List.of(bibEntryAuthorT, bibEntryNothingToZ), result);
     }
+
+    @Test
+    void switchingGroupsShowsOnlyMatchingEntries() {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            entries.add(new BibEntry().withCitationKey("key" + i)
+                                      .withField(StandardField.KEYWORDS, i % 10 == 0 ? "b" : "a, b"));
+        }
+        BibDatabase database = new BibDatabase(entries);
+        GroupTreeNode groupA = new GroupTreeNode(new WordKeywordGroup("A", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "a", false, ',', false));
+        GroupTreeNode groupB = new GroupTreeNode(new WordKeywordGroup("B", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "b", false, ',', false));
+
+        GuiPreferences preferences = mock(GuiPreferences.class);
+        when(preferences.getGroupsPreferences()).thenReturn(new GroupsPreferences(EnumSet.of(GroupViewMode.FILTER), false, false, GroupHierarchyType.INDEPENDENT));
+        when(preferences.getSearchPreferences()).thenReturn(new SearchPreferences(SearchDisplayMode.FILTER, EnumSet.noneOf(SearchFlags.class), false, false, 0, 0, 0));
+        when(preferences.getNameDisplayPreferences()).thenReturn(new NameDisplayPreferences(NameDisplayPreferences.DisplayStyle.AS_IS, NameDisplayPreferences.AbbreviationStyle.FULL));
+        ListProperty<GroupTreeNode> selectedGroups = new SimpleListProperty<>(FXCollections.observableArrayList());
+        MainTableDataModel model = new MainTableDataModel(new BibDatabaseContext(database), preferences, new CurrentThreadTaskExecutor(), null, selectedGroups, OptionalObjectProperty.empty(), new SimpleIntegerProperty());
+
+        selectedGroups.setAll(groupA);
+        assertEquals(90, model.getEntriesFilteredAndSorted().size());
+        assertTrue(model.getEntriesFilteredAndSorted().stream().allMatch(viewModel -> viewModel.getEntry().getField(StandardField.KEYWORDS).orElseThrow().contains("a")));
+
+        selectedGroups.setAll(groupB);
+        assertEquals(100, model.getEntriesFilteredAndSorted().size());
+
+        selectedGroups.clear();
+        assertEquals(100, model.getEntriesFilteredAndSorted().size());
+    }
+
+    @Test
+    void searchWithoutIndexShowsAllEntries() {
+        BibEntry first = new BibEntry().withCitationKey("first");
+        BibEntry second = new BibEntry().withCitationKey("second");
+        BibDatabase database = new BibDatabase(List.of(first, second));
+
+        GuiPreferences preferences = mock(GuiPreferences.class);
+        when(preferences.getGroupsPreferences()).thenReturn(new GroupsPreferences(EnumSet.of(GroupViewMode.FILTER), false, false, GroupHierarchyType.INDEPENDENT));
+        when(preferences.getSearchPreferences()).thenReturn(new SearchPreferences(SearchDisplayMode.FILTER, EnumSet.noneOf(SearchFlags.class), false, false, 0, 0, 0));
+        when(preferences.getNameDisplayPreferences()).thenReturn(new NameDisplayPreferences(NameDisplayPreferences.DisplayStyle.AS_IS, NameDisplayPreferences.AbbreviationStyle.FULL));
+        OptionalObjectProperty<SearchQuery> searchQuery = OptionalObjectProperty.empty();
+        MainTableDataModel model = new MainTableDataModel(new BibDatabaseContext(database), preferences, new CurrentThreadTaskExecutor(), null, new SimpleListProperty<>(FXCollections.observableArrayList()), searchQuery, new SimpleIntegerProperty());
+
+        searchQuery.set(Optional.of(new SearchQuery("first")));
+        assertEquals(2, model.getEntriesFilteredAndSorted().size());
+
+        searchQuery.set(Optional.empty());
+        database.removeEntry(second);
+        assertEquals(List.of(first), model.getEntriesFilteredAndSorted().stream().map(BibEntryTableViewModel::getEntry).toList());
+    }
 }
@@ -30,6 +30,7 @@ import org.jabref.logic.preferences.JabRefCliPreferences;
 import org.jabref.logic.protectedterms.ProtectedTermsLoader;
 import org.jabref.logic.util.BuildInfo;
 import org.jabref.logic.util.Directories;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.strings.StringUtil;
 import org.jabref.model.util.DummyFileUpdateMonitor;
@@ -61,6 +62,9 @@ public class JabKit {
     public static void main(String[] args) {
         initLogging(args);
 
+        // Nobody observes the entries on the command line, thus they can be stored compactly
+        BibEntry.setCompactStorage(true);
+
         try {
             final JabRefCliPreferences preferences = JabRefCliPreferences.getInstance();
             Injector.setModelOrService(CliPreferences.class, preferences);
@@ -88,7 +92,9 @@ public class JabKit {
             }
 
             // Heavy initialization only needed when actually executing a command
-            Injector.setModelOrService(JournalAbbreviationRepository.class, JournalAbbreviationLoader.loadRepository(preferences.getJournalAbbreviationPreferences()));
+            // The command line does few lookups, thus the abbreviations are not loaded into memory
+            JournalAbbreviationRepository journalAbbreviationRepository = JournalAbbreviationLoader.loadRepository(preferences.getJournalAbbreviationPreferences(), true);
+            Injector.setModelOrService(JournalAbbreviationRepository.class, journalAbbreviationRepository);
             Injector.setModelOrService(ProtectedTermsLoader.class, new ProtectedTermsLoader(preferences.getProtectedTermsPreferences()));
 
             configureProxy(preferences.getProxyPreferences());
@@ -96,7 +102,11 @@ public class JabKit {
 
             Injector.setModelOrService(FileUpdateMonitor.class, new DummyFileUpdateMonitor());
 
-            int result = commandLine.execute(args);
+            int result;
+            // Closing the journal list allows deleting its temporary copy on exit
+            try (journalAbbreviationRepository) {
+                result = commandLine.execute(args);
+            }
             System.exit(result);
         } catch (Exception ex) {
             LOGGER.error("Unexpected exception", ex);
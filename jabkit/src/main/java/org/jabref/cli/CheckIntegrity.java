@@ -4,21 +4,24 @@ import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Callable;
-import java.util.stream.Collectors;
 
 import org.jabref.cli.converter.CygWinPathConverter;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.integrity.IntegrityCheck;
+import org.jabref.logic.integrity.IntegrityCheckResult;
 import org.jabref.logic.integrity.IntegrityCheckResultCsvWriter;
 import org.jabref.logic.integrity.IntegrityCheckResultErrorFormatWriter;
 import org.jabref.logic.integrity.IntegrityCheckResultTxtWriter;
 import org.jabref.logic.integrity.IntegrityCheckResultWriter;
 import org.jabref.logic.integrity.IntegrityMessage;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
 
@@ -52,6 +55,12 @@ class CheckIntegrity implements Callable<Integer> {
     @Option(names = {"--allow-integer-edition"}, description = "Allows Integer edition", negatable = true, defaultValue = "true", fallbackValue = "true")
     private boolean allowIntegerEdition;
 
+    @Option(names = {"--parallel"}, description = "Check entries on all processors", negatable = true, defaultValue = "true", fallbackValue = "true")
+    private boolean parallel;
+
+    @Option(names = {"--checker-durations"}, description = "Report the time spent in each checker (txt and csv output formats)")
+    private boolean reportCheckerDurations;
+
     @Override
     public Integer call() {
         Optional<ParserResult> parserResult = ArgumentProcessor.importFile(
@@ -76,19 +85,19 @@ class CheckIntegrity implements Callable<Integer> {
 
         BibDatabaseContext databaseContext = parserResult.get().getDatabaseContext();
 
-        IntegrityCheck integrityCheck = new IntegrityCheck(
-                databaseContext,
-                argumentProcessor.cliPreferences.getFilePreferences(),
-                argumentProcessor.cliPreferences.getCitationKeyPatternPreferences(),
-                JournalAbbreviationLoader.loadRepository(argumentProcessor.cliPreferences.getJournalAbbreviationPreferences()),
-                allowIntegerEdition
-        );
-
-        List<IntegrityMessage> messages = databaseContext.getEntries().stream()
-                                                         .flatMap(entry -> integrityCheck.checkEntry(entry).stream())
-                                                         .collect(Collectors.toList());
-
-        messages.addAll(integrityCheck.checkDatabase(databaseContext.getDatabase()));
+        IntegrityCheckResult result;
+        try (JournalAbbreviationRepository journalAbbreviationRepository = JournalAbbreviationLoader.loadRepository(argumentProcessor.cliPreferences.getJournalAbbreviationPreferences(), true)) {
+            IntegrityCheck integrityCheck = new IntegrityCheck(
+                    databaseContext,
+                    argumentProcessor.cliPreferences.getFilePreferences(),
+                    argumentProcessor.cliPreferences.getCitationKeyPatternPreferences(),
+                    journalAbbreviationRepository,
+                    allowIntegerEdition
+            );
+            result = integrityCheck.check(parallel);
+        }
+        List<IntegrityMessage> messages = result.messages();
+        Map<String, Duration> checkerDurations = reportCheckerDurations ? result.checkerDurations() : Map.of();
 
         Writer writer = new OutputStreamWriter(System.out);
         IntegrityCheckResultWriter checkResultWriter;
@@ -96,9 +105,9 @@ class CheckIntegrity implements Callable<Integer> {
             case "errorformat" ->
                     checkResultWriter = new IntegrityCheckResultErrorFormatWriter(writer, messages, parserResult.get(), inputFile);
             case "txt" ->
-                    checkResultWriter = new IntegrityCheckResultTxtWriter(writer, messages);
+                    checkResultWriter = new IntegrityCheckResultTxtWriter(writer, messages, checkerDurations);
             case "csv" ->
-                    checkResultWriter = new IntegrityCheckResultCsvWriter(writer, messages);
+                    checkResultWriter = new IntegrityCheckResultCsvWriter(writer, messages, checkerDurations);
             default -> {
                 System.out.println(Localization.lang("Unknown output format '%0'.", outputFormat));
                 return 3;
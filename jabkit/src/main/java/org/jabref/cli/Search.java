@@ -74,7 +74,6 @@ class Search implements Runnable {
             return;
         }
 
-        PostgreServer postgreServer = new PostgreServer();
         IndexManager.clearOldSearchIndices();
 
         SearchPreferences searchPreferences = argumentProcessor.cliPreferences.getSearchPreferences();
@@ -84,12 +83,20 @@ class Search implements Runnable {
         List<BibEntry> matches;
         try {
             // extract current thread task executor from indexManager
-            matches = new DatabaseSearcher(
-                    databaseContext,
-                    new CurrentThreadTaskExecutor(),
-                    argumentProcessor.cliPreferences,
-                    postgreServer
-            ).getMatches(searchQuery);
+            DatabaseSearcher databaseSearcher = switch (searchPreferences.getSearchBackend()) {
+                case POSTGRES ->
+                        new DatabaseSearcher(
+                                databaseContext,
+                                new CurrentThreadTaskExecutor(),
+                                argumentProcessor.cliPreferences,
+                                new PostgreServer());
+                case IN_MEMORY ->
+                        new DatabaseSearcher(
+                                databaseContext,
+                                new CurrentThreadTaskExecutor(),
+                                argumentProcessor.cliPreferences);
+            };
+            matches = databaseSearcher.getMatches(searchQuery);
         } catch (IOException ex) {
             LOGGER.error("Error occurred when searching", ex);
             return;
@@ -47,7 +47,9 @@ import static org.mockito.Mockito.mock;
 public class Benchmarks {
 
     private String bibtexString;
+    private String largeBibtexString;
     private final BibDatabase database = new BibDatabase();
+    private BibDatabase parsedDatabase;
     private String latexConversionString;
     private String htmlConversionString;
 
@@ -55,8 +57,27 @@ public class Benchmarks {
     public void init() throws IOException {
         Injector.setModelOrService(CliPreferences.class, JabRefCliPreferences.getInstance());
 
+        fillDatabase(database, 1000);
+        bibtexString = getOutputWriter(database).toString();
+
+        // Large enough to be split into several chunks when parsing in parallel
+        BibDatabase largeDatabase = new BibDatabase();
+        fillDatabase(largeDatabase, 50_000);
+        largeBibtexString = getOutputWriter(largeDatabase).toString();
+
+        // All entries are written using their parsed serialization, except for the changed one
+        CliPreferences preferences = Injector.instantiateModelOrService(CliPreferences.class);
+        parsedDatabase = new BibtexParser(preferences.getImportFormatPreferences()).parse(new StringReader(bibtexString)).getDatabase();
+        parsedDatabase.getEntries().getFirst().setField(StandardField.TITLE, "This is my changed title");
+
+        latexConversionString = "{A} \\textbf{bold} approach {\\it to} ${{\\Sigma}}{\\Delta}$ modulator \\textsuperscript{2} \\$";
+
+        htmlConversionString = "<b>&Ouml;sterreich</b> &#8211; &amp; characters &#x2aa2; <i>italic</i>";
+    }
+
+    private static void fillDatabase(BibDatabase databaseToFill, int numberOfEntries) {
         Random randomizer = new Random();
-        for (int i = 0; i < 1000; i++) {
+        for (int i = 0; i < numberOfEntries; i++) {
             BibEntry entry = new BibEntry();
             entry.setCitationKey("id" + i);
             entry.setField(StandardField.TITLE, "This is my title " + i);
@@ -65,17 +86,11 @@ public class Benchmarks {
             entry.setField(StandardField.KEYWORDS, "testkeyword");
             entry.setField(StandardField.YEAR, "1" + i);
             entry.setField(new UnknownField("rnd"), "2" + randomizer.nextInt());
-            database.insertEntry(entry);
+            databaseToFill.insertEntry(entry);
         }
-
-        bibtexString = getOutputWriter().toString();
-
-        latexConversionString = "{A} \\textbf{bold} approach {\\it to} ${{\\Sigma}}{\\Delta}$ modulator \\textsuperscript{2} \\$";
-
-        htmlConversionString = "<b>&Ouml;sterreich</b> &#8211; &amp; characters &#x2aa2; <i>italic</i>";
     }
 
-    private StringWriter getOutputWriter() throws IOException {
+    private StringWriter getOutputWriter(BibDatabase databaseToWrite) throws IOException {
         StringWriter outputWriter = new StringWriter();
         BibWriter bibWriter = new BibWriter(outputWriter, OS.NEWLINE);
         SelfContainedSaveConfiguration saveConfiguration = new SelfContainedSaveConfiguration(SaveOrder.getDefaultSaveOrder(), false, BibDatabaseWriter.SaveType.WITH_JABREF_META_DATA, false);
@@ -88,7 +103,7 @@ public class Benchmarks {
                 fieldPreferences,
                 citationKeyPatternPreferences,
                 new BibEntryTypesManager());
-        databaseWriter.savePartOfDatabase(new BibDatabaseContext(database, new MetaData()), database.getEntries());
+        databaseWriter.savePartOfDatabase(new BibDatabaseContext(databaseToWrite, new MetaData()), databaseToWrite.getEntries());
         return outputWriter;
     }
 
@@ -99,9 +114,28 @@ public class Benchmarks {
         return parser.parse(new StringReader(bibtexString));
     }
 
+    @Benchmark
+    public ParserResult parseLarge() throws IOException {
+        CliPreferences preferences = Injector.instantiateModelOrService(CliPreferences.class);
+        BibtexParser parser = new BibtexParser(preferences.getImportFormatPreferences());
+        return parser.parse(new StringReader(largeBibtexString));
+    }
+
+    @Benchmark
+    public ParserResult parseLargeInParallel() throws IOException {
+        CliPreferences preferences = Injector.instantiateModelOrService(CliPreferences.class);
+        BibtexParser parser = new BibtexParser(preferences.getImportFormatPreferences());
+        return parser.parseInParallel(new StringReader(largeBibtexString));
+    }
+
     @Benchmark
     public String write() throws IOException {
-        return getOutputWriter().toString();
+        return getOutputWriter(database).toString();
+    }
+
+    @Benchmark
+    public String writeWithOneEntryChanged() throws IOException {
+        return getOutputWriter(parsedDatabase).toString();
     }
 
     @Benchmark
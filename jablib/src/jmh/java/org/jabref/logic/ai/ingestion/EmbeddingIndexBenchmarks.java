@@ -0,0 +1,104 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/// Compares the latency of the partitioned search of [EmbeddingIndex] with comparing the query to all embeddings.
+///
+/// The embeddings are clustered around random topics, similar to the chunks of papers. The recall of the partitioned
+/// search (share of the exact top 10 it finds) is printed once per trial.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class EmbeddingIndexBenchmarks {
+
+    private static final int DIMENSION = 384;
+    private static final int TOPICS = 2_000;
+    private static final int MAX_RESULTS = 10;
+    private static final int RECALL_QUERIES = 100;
+
+    @Param({"100000", "500000"})
+    public int numberOfEmbeddings;
+
+    private EmbeddingIndex index;
+    private float[][] topics;
+    private final Random random = new Random(42);
+    private float[] query;
+
+    @Setup(Level.Trial)
+    public void init() throws IOException {
+        index = new EmbeddingIndex(new EmbeddingVectorSegment(null));
+        topics = new float[TOPICS][];
+        for (int i = 0; i < TOPICS; i++) {
+            topics[i] = randomVector(null);
+        }
+        for (int i = 0; i < numberOfEmbeddings; i++) {
+            index.add("id" + i, "file" + (i / 50), randomVector(topics[random.nextInt(TOPICS)]));
+        }
+        index.train();
+
+        int found = 0;
+        for (int i = 0; i < RECALL_QUERIES; i++) {
+            float[] recallQuery = randomVector(topics[random.nextInt(TOPICS)]);
+            Set<String> exact = ids(index.searchExactly(EmbeddingVectorSegment.normalize(recallQuery), null, MAX_RESULTS, -1));
+            exact.retainAll(ids(index.search(recallQuery, null, MAX_RESULTS, -1)));
+            found += exact.size();
+        }
+        System.out.printf("%nRecall@%d of the partitioned search: %.3f%n", MAX_RESULTS, (double) found / (RECALL_QUERIES * MAX_RESULTS));
+    }
+
+    @Setup(Level.Invocation)
+    public void nextQuery() {
+        query = randomVector(topics[random.nextInt(TOPICS)]);
+    }
+
+    private float[] randomVector(float @Nullable [] center) {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian() * (center == null ? 1 : 0.5f) + (center == null ? 0 : center[i]);
+        }
+        return vector;
+    }
+
+    private static Set<String> ids(List<EmbeddingIndex.Match> matches) {
+        Set<String> result = new HashSet<>();
+        matches.forEach(match -> result.add(match.id()));
+        return result;
+    }
+
+    @Benchmark
+    public List<EmbeddingIndex.Match> exactSearch() {
+        return index.searchExactly(EmbeddingVectorSegment.normalize(query), null, MAX_RESULTS, -1);
+    }
+
+    @Benchmark
+    public List<EmbeddingIndex.Match> partitionedSearch() {
+        return index.search(query, null, MAX_RESULTS, -1);
+    }
+
+    @Benchmark
+    public List<EmbeddingIndex.Match> searchInTenFiles() {
+        return index.search(query, List.of("file1", "file2", "file3", "file4", "file5", "file6", "file7", "file8", "file9", "file10"), MAX_RESULTS, -1);
+    }
+}
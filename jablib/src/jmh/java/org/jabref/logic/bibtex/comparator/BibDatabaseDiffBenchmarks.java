@@ -0,0 +1,79 @@
+package org.jabref.logic.bibtex.comparator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/// Measures comparing a library of 30 000 entries with a copy of it, in which 1 % of the entries are modified.
+///
+/// This is the diff computed when the library file is changed on disk by another program.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class BibDatabaseDiffBenchmarks {
+
+    private static final int NUMBER_OF_ENTRIES = 30_000;
+    private static final int NUMBER_OF_MODIFIED_ENTRIES = NUMBER_OF_ENTRIES / 100;
+
+    private BibDatabaseContext originalDatabase;
+    private BibDatabaseContext modifiedDatabase;
+
+    @Setup(Level.Trial)
+    public void init() {
+        Random random = new Random(42);
+        List<BibEntry> originalEntries = new ArrayList<>(NUMBER_OF_ENTRIES);
+        List<BibEntry> modifiedEntries = new ArrayList<>(NUMBER_OF_ENTRIES);
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            BibEntry entry = new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.AUTHOR, "Author " + random.nextInt(NUMBER_OF_ENTRIES / 10))
+                    .withField(StandardField.TITLE, "Title " + i)
+                    .withField(StandardField.JOURNAL, "Journal " + random.nextInt(100))
+                    .withField(StandardField.YEAR, String.valueOf(1990 + random.nextInt(35)))
+                    .withField(StandardField.PAGES, "%d--%d".formatted(i, i + 10));
+            originalEntries.add(entry);
+            modifiedEntries.add(new BibEntry(entry));
+        }
+
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i += NUMBER_OF_ENTRIES / NUMBER_OF_MODIFIED_ENTRIES) {
+            BibEntry entry = modifiedEntries.get(i);
+            entry.setField(StandardField.TITLE, entry.getField(StandardField.TITLE).orElse("") + ", revised");
+            entry.setField(StandardField.NOTE, "modified");
+        }
+
+        originalDatabase = new BibDatabaseContext(new BibDatabase(originalEntries));
+        modifiedDatabase = new BibDatabaseContext(new BibDatabase(modifiedEntries));
+    }
+
+    @Benchmark
+    public BibDatabaseDiff compareUnchanged() {
+        return BibDatabaseDiff.compare(originalDatabase, originalDatabase);
+    }
+
+    @Benchmark
+    public BibDatabaseDiff compareModified() {
+        return BibDatabaseDiff.compare(originalDatabase, modifiedDatabase);
+    }
+}
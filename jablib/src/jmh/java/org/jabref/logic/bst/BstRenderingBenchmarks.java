@@ -0,0 +1,93 @@
+package org.jabref.logic.bst;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/// Measures rendering a library with the styles used by the tests.
+///
+/// `IEEEtran.bst` formats the entries in a single `ITERATE {call.type$}`, which writes to the output and thus runs
+/// sequentially. `abbrv.bst` additionally computes the sort keys in `ITERATE {presort}`, which runs in parallel.
+///
+/// The styles are read from the test resources, thus the benchmark has to run in the directory of `jablib`.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class BstRenderingBenchmarks {
+
+    private static final Path STYLES = Path.of("src/test/resources/org/jabref/logic/bst");
+    private static final int NUMBER_OF_ENTRIES = 5_000;
+    private static final List<String> AUTHORS = List.of("Smith, John", "Müller, Jörg", "van der Berg, Anna", "Li, Wei", "O'Neil, Mary-Kate");
+
+    @Param({"IEEEtran.bst", "abbrv.bst"})
+    private String style;
+
+    private String source;
+    private BstVM vm;
+    private final List<BibEntry> entries = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void init() throws IOException {
+        source = Files.readString(STYLES.resolve(style));
+        vm = new BstVM(STYLES.resolve(style));
+
+        Random random = new Random(42);
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            String authors = String.join(" and ", AUTHORS.subList(random.nextInt(AUTHORS.size() - 1), AUTHORS.size()));
+            BibEntry entry = switch (i % 3) {
+                case 0 ->
+                        new BibEntry(StandardEntryType.Article)
+                                .withField(StandardField.JOURNAL, "IEEE Transactions on Software Engineering")
+                                .withField(StandardField.VOLUME, String.valueOf(random.nextInt(50)))
+                                .withField(StandardField.NUMBER, String.valueOf(random.nextInt(12)))
+                                .withField(StandardField.PAGES, "%d--%d".formatted(i, i + 10));
+                case 1 ->
+                        new BibEntry(StandardEntryType.InProceedings)
+                                .withField(StandardField.BOOKTITLE, "Proceedings of the International Conference on Software Engineering")
+                                .withField(StandardField.PUBLISHER, "ACM");
+                default ->
+                        new BibEntry(StandardEntryType.Book)
+                                .withField(StandardField.PUBLISHER, "Springer")
+                                .withField(StandardField.ADDRESS, "Berlin");
+            };
+            entries.add(entry.withCitationKey("key" + i)
+                             .withField(StandardField.AUTHOR, authors)
+                             .withField(StandardField.TITLE, "On the {Analysis} of Style Number " + random.nextInt(NUMBER_OF_ENTRIES))
+                             .withField(StandardField.YEAR, String.valueOf(1990 + random.nextInt(35))));
+        }
+    }
+
+    @Benchmark
+    public String render() {
+        return vm.render(entries);
+    }
+
+    @Benchmark
+    public String compileAndRender() {
+        return new BstVM(source).render(entries);
+    }
+}
@@ -0,0 +1,74 @@
+package org.jabref.logic.citation.repository;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.preferences.JabRefCliPreferences;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.h2.mvstore.WriteBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/// Compares the BibTeX text serialization with the binary serialization of the citation relations store.
+/// Both round trips serialize and deserialize a list of 500 relations, which is a typical size for a highly cited paper.
+@State(Scope.Thread)
+public class BibEntrySerializerBenchmarks {
+
+    private BibEntryHashSetSerializer textSerializer;
+    private BibEntryHashSetSerializer binarySerializer;
+    private final LinkedHashSet<BibEntry> relations = new LinkedHashSet<>();
+
+    @Setup
+    public void init() {
+        CliPreferences preferences = JabRefCliPreferences.getInstance();
+        textSerializer = new BibEntryHashSetSerializer(new BibEntryTypesManager(), preferences.getImportFormatPreferences(), new FieldPreferences(true, List.of(), List.of()));
+        binarySerializer = new BibEntryHashSetSerializer(new BibEntryBinarySerializer());
+
+        for (int i = 0; i < 500; i++) {
+            relations.add(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.TITLE, "A title about citation relations " + i)
+                    .withField(StandardField.AUTHOR, "Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB" + i)
+                    .withField(StandardField.YEAR, String.valueOf(1900 + (i % 125)))
+                    .withField(StandardField.DOI, "10.1234/5678." + i)
+                    .withField(StandardField.ABSTRACT, "The Universe is expanding: " + i));
+        }
+    }
+
+    private static LinkedHashSet<BibEntry> roundTrip(BibEntryHashSetSerializer serializer, LinkedHashSet<BibEntry> entries) {
+        WriteBuffer writeBuffer = new WriteBuffer();
+        serializer.write(writeBuffer, entries);
+        ByteBuffer buffer = writeBuffer.getBuffer();
+        buffer.flip();
+        return serializer.read(buffer);
+    }
+
+    @Benchmark
+    public LinkedHashSet<BibEntry> textRoundTrip() {
+        return roundTrip(textSerializer, relations);
+    }
+
+    @Benchmark
+    public LinkedHashSet<BibEntry> binaryRoundTrip() {
+        return roundTrip(binarySerializer, relations);
+    }
+
+    @Benchmark
+    public int textMemoryEstimation() {
+        return textSerializer.getMemory(relations);
+    }
+
+    @Benchmark
+    public int binaryMemoryEstimation() {
+        return binarySerializer.getMemory(relations);
+    }
+}
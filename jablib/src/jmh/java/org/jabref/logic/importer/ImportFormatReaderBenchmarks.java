@@ -0,0 +1,79 @@
+package org.jabref.logic.importer;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.preferences.JabRefCliPreferences;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/// Measures importing a file of unknown format, using one file of the test resources for each format.
+///
+/// PDF files are left out, because importing their metadata may query online services.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ImportFormatReaderBenchmarks {
+
+    private static final Path TEST_FILES = Path.of("src/test/resources/org/jabref/logic/importer/fileformat");
+
+    @Param({
+            "BiblioscapeImporterTestJournalArticle.txt",
+            "CffImporterTestValid.cff",
+            "CitaviXmlImporterTest1.ctv6bak",
+            "CopacImporterTest1.txt",
+            "Endnote.entries.enw",
+            "EndnoteXmlImporterTestArticle.xml",
+            "InspecImportTest.txt",
+            "IsiImporterTest1.isi",
+            "MODSImporterTestAllFields.xml",
+            "MedlineImporterTestArticleID.xml",
+            "MsBibImporterTest4.bib",
+            "MsBibImporterTest4.xml",
+            "NbibImporterTest.nbib",
+            "OvidImporterTest3.txt",
+            "RepecNepImporterTest2.txt",
+            "RisImporterTest1.ris"
+    })
+    private String fileName;
+
+    private Path file;
+    private ImportFormatReader importFormatReader;
+
+    @Setup(Level.Trial)
+    public void init() {
+        file = TEST_FILES.resolve(fileName);
+        if (!Files.exists(file)) {
+            throw new IllegalStateException("The benchmark has to be run from the jablib directory, " + file.toAbsolutePath() + " does not exist");
+        }
+
+        CliPreferences preferences = JabRefCliPreferences.getInstance();
+        importFormatReader = new ImportFormatReader(
+                preferences.getImporterPreferences(),
+                preferences.getImportFormatPreferences(),
+                preferences.getCitationKeyPatternPreferences(),
+                new DummyFileUpdateMonitor());
+    }
+
+    @Benchmark
+    public ImportFormatReader.UnknownFormatImport importUnknownFormat() throws ImportException {
+        return importFormatReader.importUnknownFormat(file, new DummyFileUpdateMonitor());
+    }
+}
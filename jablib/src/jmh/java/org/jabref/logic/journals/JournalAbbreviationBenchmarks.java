@@ -0,0 +1,87 @@
+package org.jabref.logic.journals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/// Measures abbreviating the journal names of a whole library with the built-in journal list.
+///
+/// A third of the names is spelled as in the list, a third contains typos, and a third is unknown. The last two parts
+/// take the fuzzy lookup through [JournalNameIndex].
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class JournalAbbreviationBenchmarks {
+
+    private static final int NUMBER_OF_ENTRIES = 5_000;
+
+    private JournalAbbreviationRepository repository;
+    private final List<String> journalNames = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void init() {
+        repository = JournalAbbreviationLoader.loadBuiltInRepository();
+
+        Random random = new Random(42);
+        List<String> knownNames = new ArrayList<>(repository.getFullNames());
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            String name = knownNames.get(random.nextInt(knownNames.size()));
+            switch (i % 3) {
+                case 0 ->
+                        journalNames.add(name);
+                case 1 -> {
+                    // Swap two neighbouring characters
+                    int position = random.nextInt(Math.max(1, name.length() - 1));
+                    char[] characters = name.toCharArray();
+                    if (characters.length > 1) {
+                        char swapped = characters[position];
+                        characters[position] = characters[position + 1];
+                        characters[position + 1] = swapped;
+                    }
+                    journalNames.add(new String(characters));
+                }
+                default ->
+                        journalNames.add("Proceedings of the Unknown Workshop " + i);
+            }
+        }
+    }
+
+    @Benchmark
+    public int abbreviateLibrary() {
+        int abbreviated = 0;
+        for (String journalName : journalNames) {
+            if (repository.getDefaultAbbreviation(journalName).isPresent()) {
+                abbreviated++;
+            }
+        }
+        return abbreviated;
+    }
+
+    @Benchmark
+    public int checkLibrary() {
+        // Similar to JournalInAbbreviationListChecker
+        int known = 0;
+        for (String journalName : journalNames) {
+            if (repository.isKnownName(journalName)) {
+                known++;
+            }
+        }
+        return known;
+    }
+}
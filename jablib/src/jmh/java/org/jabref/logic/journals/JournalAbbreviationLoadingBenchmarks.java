@@ -0,0 +1,57 @@
+package org.jabref.logic.journals;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/// Compares loading the built-in journal list into memory with keeping it on disk, as the command line does.
+///
+/// Each invocation loads the repository and looks up a few journals. The heap retained by the repository is reported
+/// as `retainedMegabytes`, measured after garbage collection.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class JournalAbbreviationLoadingBenchmarks {
+
+    private static final List<String> JOURNALS = List.of("Physical Review Letters", "Phys. Rev. Lett.", "Nature", "Journal of Chemical Physics");
+
+    @Param({"false", "true"})
+    public boolean keepOnDisk;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapFootprint {
+        public long retainedMegabytes;
+    }
+
+    @Benchmark
+    public JournalAbbreviationRepository loadAndLookUp(HeapFootprint heapFootprint) {
+        long before = getUsedHeap();
+        try (JournalAbbreviationRepository repository = JournalAbbreviationLoader.loadRepository(new JournalAbbreviationPreferences(List.of(), true), keepOnDisk)) {
+            JOURNALS.forEach(repository::getDefaultAbbreviation);
+            heapFootprint.retainedMegabytes = (getUsedHeap() - before) / (1024 * 1024);
+            return repository;
+        }
+    }
+
+    private static long getUsedHeap() {
+        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            memoryBean.gc();
+        }
+        return memoryBean.getHeapMemoryUsage().getUsed();
+    }
+}
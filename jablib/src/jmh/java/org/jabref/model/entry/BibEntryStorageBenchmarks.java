@@ -0,0 +1,94 @@
+package org.jabref.model.entry;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Random;
+
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.preferences.JabRefCliPreferences;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/// Compares the heap footprint of a parsed library of 100,000 entries with observable and with compact entry storage.
+///
+/// Each invocation parses the library and reports the heap retained by the result as `retainedMegabytes`, measured after
+/// garbage collection. Run with `-prof gc` to see the allocation rate as well.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class BibEntryStorageBenchmarks {
+
+    private static final int NUMBER_OF_ENTRIES = 100_000;
+
+    @Param({"false", "true"})
+    public boolean compactStorage;
+
+    private String bibtexString;
+    private CliPreferences preferences;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapFootprint {
+        public long retainedMegabytes;
+    }
+
+    @Setup(Level.Trial)
+    public void init() {
+        preferences = JabRefCliPreferences.getInstance();
+        BibEntry.setCompactStorage(compactStorage);
+
+        Random randomizer = new Random(42);
+        StringBuilder library = new StringBuilder();
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            library.append("@Article{id").append(i).append(",\n")
+                   .append("  author = {Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB").append(i).append("},\n")
+                   .append("  title = {This is my title ").append(i).append("},\n")
+                   .append("  journal = {Journal Title ").append(i % 500).append("},\n")
+                   .append("  keywords = {testkeyword},\n")
+                   .append("  year = {").append(1900 + (i % 125)).append("},\n")
+                   .append("  doi = {10.1234/5678.").append(i).append("},\n")
+                   .append("  rnd = {2").append(randomizer.nextInt()).append("},\n")
+                   .append("}\n\n");
+        }
+        bibtexString = library.toString();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BibEntry.setCompactStorage(false);
+    }
+
+    @Benchmark
+    public ParserResult parseLibrary(HeapFootprint heapFootprint) throws IOException {
+        long before = getUsedHeap();
+        ParserResult result = new BibtexParser(preferences.getImportFormatPreferences()).parse(new StringReader(bibtexString));
+        heapFootprint.retainedMegabytes = (getUsedHeap() - before) / (1024 * 1024);
+        return result;
+    }
+
+    private static long getUsedHeap() {
+        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            memoryBean.gc();
+        }
+        return memoryBean.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,461 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// Index of the embeddings stored in an [EmbeddingVectorSegment].
+///
+/// The index keeps the slots of each linked file, so that a search restricted to some files only looks at their slots.
+/// For large stores, the vectors are additionally divided into partitions around centroids found by k-means clustering
+/// (an inverted file index). A search then only compares the query to the vectors of the partitions with the closest
+/// centroids. A search falls back to comparing all candidates if the probed partitions do not yield enough of them.
+///
+/// The partitions are trained once the store holds [#trainingThreshold] vectors and trained again whenever the store has
+/// doubled in size since. In between, new vectors are assigned to the partition with the closest centroid.
+///
+/// The class is not thread-safe.
+final class EmbeddingIndex {
+
+    static final int NO_PARTITION = -1;
+
+    record Match(int slot, String id, double cosineSimilarity) {
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmbeddingIndex.class);
+
+    private static final int DEFAULT_TRAINING_THRESHOLD = 20_000;
+    // The share of compared vectors depends on the share of probed partitions only. Thus, a few partitions suffice and
+    // keep the training fast.
+    private static final int VECTORS_PER_PARTITION_FACTOR = 4;
+    private static final int MIN_PARTITIONS = 16;
+    private static final int MAX_PARTITIONS = 256;
+    private static final int TRAINING_SAMPLES_PER_PARTITION = 32;
+    private static final int TRAINING_ITERATIONS = 6;
+
+    // Share of the partitions compared to the query
+    private static final int PROBE_DIVISOR = 16;
+    private static final int MIN_PROBES = 8;
+
+    private final EmbeddingVectorSegment segment;
+    private final int trainingThreshold;
+
+    // Indexed by slot, null for free slots
+    private String[] ids = new String[0];
+    private String[] files = new String[0];
+    private int[] partitions = new int[0];
+
+    private int size;
+    private int slotCount;
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+
+    private final Map<String, SlotList> slotsByFile = new HashMap<>();
+
+    private List<float[]> centroids = List.of();
+    private List<SlotList> slotsByPartition = List.of();
+    private int trainedSize;
+
+    EmbeddingIndex(EmbeddingVectorSegment segment) {
+        this(segment, DEFAULT_TRAINING_THRESHOLD);
+    }
+
+    EmbeddingIndex(EmbeddingVectorSegment segment, int trainingThreshold) {
+        this.segment = segment;
+        this.trainingThreshold = trainingThreshold;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int getPartition(int slot) {
+        return partitions[slot];
+    }
+
+    boolean isTrained() {
+        return !centroids.isEmpty();
+    }
+
+    int getTrainedSize() {
+        return trainedSize;
+    }
+
+    List<float[]> getCentroids() {
+        return centroids;
+    }
+
+    /// Registers an embedding whose vector is already stored in the segment
+    void load(int slot, String id, @Nullable String file, int partition) {
+        ensureCapacity(slot + 1);
+        slotCount = Math.max(slotCount, slot + 1);
+        register(slot, id, file, partition < slotsByPartition.size() ? partition : NO_PARTITION);
+    }
+
+    /// Restores centroids of an earlier training. Must be called before the embeddings are loaded.
+    void loadCentroids(List<float[]> centroids, int trainedSize) {
+        this.centroids = List.copyOf(centroids);
+        this.trainedSize = trainedSize;
+        this.slotsByPartition = createPartitions(centroids.size());
+    }
+
+    /// Completes loading. Slots not registered by [#load] are reused for new embeddings.
+    void finishLoading() {
+        float[] buffer = new float[segment.getDimension()];
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (ids[slot] == null) {
+                freeSlots.add(slot);
+            } else if (isTrained() && (partitions[slot] == NO_PARTITION)) {
+                segment.readNormalized(slot, buffer);
+                partitions[slot] = findClosestCentroid(buffer);
+                slotsByPartition.get(partitions[slot]).add(slot);
+            }
+        }
+    }
+
+    /// Stores the vector in the segment and registers the embedding
+    ///
+    /// @return the slot of the embedding
+    int add(String id, @Nullable String file, float[] vector) {
+        if ((size == 0) && (segment.getDimension() != vector.length)) {
+            // An empty store adopts the dimension of the embedding model in use
+            try {
+                segment.reset(vector.length);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            clear();
+        } else if (segment.getDimension() != vector.length) {
+            throw new IllegalArgumentException("Expected an embedding of dimension " + segment.getDimension() + " but got " + vector.length);
+        }
+
+        int slot = freeSlots.isEmpty() ? slotCount++ : freeSlots.poll();
+        ensureCapacity(slot + 1);
+        segment.write(slot, vector);
+
+        int partition = NO_PARTITION;
+        if (isTrained()) {
+            float[] buffer = new float[segment.getDimension()];
+            segment.readNormalized(slot, buffer);
+            partition = findClosestCentroid(buffer);
+        }
+        register(slot, id, file, partition);
+        return slot;
+    }
+
+    void remove(int slot) {
+        if ((slot >= slotCount) || (ids[slot] == null)) {
+            return;
+        }
+
+        String file = files[slot];
+        if (file != null) {
+            SlotList fileSlots = slotsByFile.get(file);
+            fileSlots.remove(slot);
+            if (fileSlots.isEmpty()) {
+                slotsByFile.remove(file);
+            }
+        }
+        if (partitions[slot] != NO_PARTITION) {
+            slotsByPartition.get(partitions[slot]).remove(slot);
+        }
+
+        ids[slot] = null;
+        files[slot] = null;
+        partitions[slot] = NO_PARTITION;
+        freeSlots.add(slot);
+        size--;
+    }
+
+    void clear() {
+        ids = new String[0];
+        files = new String[0];
+        partitions = new int[0];
+        size = 0;
+        slotCount = 0;
+        freeSlots.clear();
+        slotsByFile.clear();
+        centroids = List.of();
+        slotsByPartition = List.of();
+        trainedSize = 0;
+    }
+
+    /// @return the slots of the embeddings of the given files, or of all embeddings if `files` is null
+    int[] getSlots(@Nullable Collection<String> files) {
+        if (files == null) {
+            return IntStream.range(0, slotCount).filter(slot -> ids[slot] != null).toArray();
+        }
+        return new HashSet<>(files).stream()
+                                   .map(slotsByFile::get)
+                                   .filter(Objects::nonNull)
+                                   .flatMapToInt(SlotList::stream)
+                                   .toArray();
+    }
+
+    String getId(int slot) {
+        return ids[slot];
+    }
+
+    private void register(int slot, String id, @Nullable String file, int partition) {
+        ids[slot] = id;
+        files[slot] = file;
+        partitions[slot] = partition;
+        if (file != null) {
+            slotsByFile.computeIfAbsent(file, _ -> new SlotList()).add(slot);
+        }
+        if (partition != NO_PARTITION) {
+            slotsByPartition.get(partition).add(slot);
+        }
+        size++;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (ids.length >= capacity) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, ids.length * 2);
+        ids = Arrays.copyOf(ids, newCapacity);
+        files = Arrays.copyOf(files, newCapacity);
+        int oldCapacity = partitions.length;
+        partitions = Arrays.copyOf(partitions, newCapacity);
+        Arrays.fill(partitions, oldCapacity, newCapacity, NO_PARTITION);
+    }
+
+    /// @return true if the partitions should be trained (again) before the next search
+    boolean needsTraining() {
+        return (size >= trainingThreshold) && (size >= 2 * trainedSize);
+    }
+
+    /// Finds the embeddings most similar to the query
+    ///
+    /// @param files the linked files to restrict the search to, or null to search all embeddings
+    /// @return at most `maxResults` matches with a cosine similarity of at least `minCosineSimilarity`, the best match first
+    List<Match> search(float[] query, @Nullable Collection<String> files, int maxResults, double minCosineSimilarity) {
+        if ((size == 0) || (query.length != segment.getDimension())) {
+            return List.of();
+        }
+        float[] normalizedQuery = EmbeddingVectorSegment.normalize(query);
+
+        int candidates = files == null ? size : countSlots(files);
+        if (isTrained() && (candidates > trainingThreshold)) {
+            Set<String> fileSet = files == null ? null : new HashSet<>(files);
+            IntPredicate accepted = fileSet == null ? _ -> true : slot -> fileSet.contains(this.files[slot]);
+            List<Match> matches = searchPartitions(normalizedQuery, accepted, maxResults, minCosineSimilarity);
+            if (matches != null) {
+                return matches;
+            }
+        }
+        return searchExactly(normalizedQuery, files, maxResults, minCosineSimilarity);
+    }
+
+    /// Compares the query to all candidates. Used for small stores and as reference for the partitioned search.
+    List<Match> searchExactly(float[] normalizedQuery, @Nullable Collection<String> files, int maxResults, double minCosineSimilarity) {
+        TopMatches topMatches = new TopMatches(maxResults, minCosineSimilarity);
+        float[] buffer = new float[segment.getDimension()];
+        for (int slot : getSlots(files)) {
+            topMatches.offer(slot, segment.cosineSimilarity(slot, normalizedQuery, buffer));
+        }
+        return topMatches.toList();
+    }
+
+    /// @return the matches, or null if the probed partitions contain less than `maxResults` candidates
+    private @Nullable List<Match> searchPartitions(float[] normalizedQuery, IntPredicate accepted, int maxResults, double minCosineSimilarity) {
+        int probes = Math.min(centroids.size(), Math.max(MIN_PROBES, centroids.size() / PROBE_DIVISOR));
+        double[] centroidSimilarities = new double[centroids.size()];
+        for (int partition = 0; partition < centroids.size(); partition++) {
+            centroidSimilarities[partition] = EmbeddingVectorSegment.dotProduct(centroids.get(partition), normalizedQuery);
+        }
+        PriorityQueue<Integer> closestPartitions = new PriorityQueue<>(Comparator.<Integer>comparingDouble(partition -> centroidSimilarities[partition]));
+        for (int partition = 0; partition < centroids.size(); partition++) {
+            closestPartitions.add(partition);
+            if (closestPartitions.size() > probes) {
+                closestPartitions.poll();
+            }
+        }
+
+        TopMatches topMatches = new TopMatches(maxResults, minCosineSimilarity);
+        float[] buffer = new float[segment.getDimension()];
+        int compared = 0;
+        for (int partition : closestPartitions) {
+            SlotList partitionSlots = slotsByPartition.get(partition);
+            for (int i = 0; i < partitionSlots.size; i++) {
+                int slot = partitionSlots.slots[i];
+                if (accepted.test(slot)) {
+                    topMatches.offer(slot, segment.cosineSimilarity(slot, normalizedQuery, buffer));
+                    compared++;
+                }
+            }
+        }
+        return compared < maxResults ? null : topMatches.toList();
+    }
+
+    private int countSlots(Collection<String> files) {
+        return new HashSet<>(files).stream()
+                                   .map(slotsByFile::get)
+                                   .filter(Objects::nonNull)
+                                   .mapToInt(slotList -> slotList.size)
+                                   .sum();
+    }
+
+    /// Divides the vectors into partitions using spherical k-means on a sample of the vectors.
+    /// All vectors are then assigned to the partition with the closest centroid.
+    void train() {
+        int[] slots = getSlots(null);
+        int partitionCount = Math.clamp((long) Math.sqrt(slots.length) / VECTORS_PER_PARTITION_FACTOR, MIN_PARTITIONS, MAX_PARTITIONS);
+        int dimension = segment.getDimension();
+        LOGGER.debug("Training {} partitions for {} embeddings", partitionCount, slots.length);
+
+        // A fixed seed makes the partitions reproducible
+        Random random = new Random(42);
+        int sampleSize = Math.min(slots.length, partitionCount * TRAINING_SAMPLES_PER_PARTITION);
+        int[] sample = slots.clone();
+        for (int i = 0; i < sampleSize; i++) {
+            int j = i + random.nextInt(sample.length - i);
+            int swap = sample[i];
+            sample[i] = sample[j];
+            sample[j] = swap;
+        }
+        float[][] sampleVectors = new float[sampleSize][dimension];
+        for (int i = 0; i < sampleSize; i++) {
+            segment.readNormalized(sample[i], sampleVectors[i]);
+        }
+
+        List<float[]> newCentroids = new ArrayList<>();
+        for (int i = 0; i < Math.min(partitionCount, sampleSize); i++) {
+            newCentroids.add(sampleVectors[i].clone());
+        }
+        centroids = newCentroids;
+
+        for (int iteration = 0; iteration < TRAINING_ITERATIONS; iteration++) {
+            int[] assignment = IntStream.range(0, sampleSize).parallel().map(i -> findClosestCentroid(sampleVectors[i])).toArray();
+            float[][] sums = new float[centroids.size()][dimension];
+            int[] counts = new int[centroids.size()];
+            for (int i = 0; i < sampleSize; i++) {
+                counts[assignment[i]]++;
+                float[] sum = sums[assignment[i]];
+                for (int d = 0; d < dimension; d++) {
+                    sum[d] += sampleVectors[i][d];
+                }
+            }
+            for (int partition = 0; partition < centroids.size(); partition++) {
+                // A partition without vectors keeps its centroid
+                if (counts[partition] > 0) {
+                    newCentroids.set(partition, EmbeddingVectorSegment.normalize(sums[partition]));
+                }
+            }
+        }
+
+        slotsByPartition = createPartitions(centroids.size());
+        ThreadLocal<float[]> buffers = ThreadLocal.withInitial(() -> new float[dimension]);
+        int[] assignment = IntStream.of(slots).parallel().map(slot -> {
+            float[] buffer = buffers.get();
+            segment.readNormalized(slot, buffer);
+            return findClosestCentroid(buffer);
+        }).toArray();
+        for (int i = 0; i < slots.length; i++) {
+            partitions[slots[i]] = assignment[i];
+            slotsByPartition.get(assignment[i]).add(slots[i]);
+        }
+        trainedSize = slots.length;
+    }
+
+    private int findClosestCentroid(float[] normalizedVector) {
+        int closest = 0;
+        double bestSimilarity = Double.NEGATIVE_INFINITY;
+        for (int partition = 0; partition < centroids.size(); partition++) {
+            double similarity = EmbeddingVectorSegment.dotProduct(centroids.get(partition), normalizedVector);
+            if (similarity > bestSimilarity) {
+                bestSimilarity = similarity;
+                closest = partition;
+            }
+        }
+        return closest;
+    }
+
+    private static List<SlotList> createPartitions(int count) {
+        List<SlotList> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(new SlotList());
+        }
+        return result;
+    }
+
+    /// Keeps the best matches seen so far
+    private class TopMatches {
+        private final int maxResults;
+        private final double minCosineSimilarity;
+        private final PriorityQueue<Match> matches = new PriorityQueue<>(Comparator.comparingDouble(Match::cosineSimilarity));
+
+        TopMatches(int maxResults, double minCosineSimilarity) {
+            this.maxResults = maxResults;
+            this.minCosineSimilarity = minCosineSimilarity;
+        }
+
+        void offer(int slot, double cosineSimilarity) {
+            if ((cosineSimilarity < minCosineSimilarity) || (maxResults <= 0)) {
+                return;
+            }
+            if ((matches.size() == maxResults) && (matches.peek().cosineSimilarity() >= cosineSimilarity)) {
+                return;
+            }
+            matches.add(new Match(slot, ids[slot], cosineSimilarity));
+            if (matches.size() > maxResults) {
+                matches.poll();
+            }
+        }
+
+        List<Match> toList() {
+            List<Match> result = new ArrayList<>(matches);
+            result.sort(Comparator.comparingDouble(Match::cosineSimilarity).reversed());
+            return result;
+        }
+    }
+
+    /// Growable list of slots without boxing
+    private static class SlotList {
+        private int[] slots = new int[4];
+        private int size;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        void remove(int slot) {
+            for (int i = 0; i < size; i++) {
+                if (slots[i] == slot) {
+                    slots[i] = slots[--size];
+                    return;
+                }
+            }
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        IntStream stream() {
+            return Arrays.stream(slots, 0, size);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// Packed storage of embedding vectors of the same dimension, addressed by slot numbers.
+///
+/// A slot holds the norm of a vector followed by the normalized vector. Thus, the cosine similarity of a stored vector
+/// to a normalized query is a plain dot product.
+///
+/// The slots are kept in a memory-mapped file next to the MVStore file, or in direct memory if the store is not
+/// persisted. Either way, the vectors do not occupy the Java heap. The file is divided into regions of
+/// [#SLOTS_PER_REGION] slots, which are mapped on first access.
+///
+/// Writing is not thread-safe. Reading from several threads is possible if no slot is written at the same time.
+final class EmbeddingVectorSegment implements AutoCloseable {
+
+    static final int SLOTS_PER_REGION = 4096;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmbeddingVectorSegment.class);
+
+    private static final int MAGIC = 0x4A52_5645;
+    private static final int VERSION = 1;
+
+    // magic, version, dimension, and one reserved int
+    private static final int HEADER_BYTES = 16;
+
+    private final @Nullable Path path;
+    private @Nullable FileChannel channel;
+    private final List<ByteBuffer> regions = new ArrayList<>();
+    private final List<FloatBuffer> floatRegions = new ArrayList<>();
+
+    // 0 as long as the dimension is not known
+    private int dimension;
+
+    /// @param path the file to store the vectors in, or null to keep them in memory
+    EmbeddingVectorSegment(@Nullable Path path) throws IOException {
+        this.path = path;
+        if ((path == null) || !Files.exists(path)) {
+            return;
+        }
+
+        channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        channel.read(header, 0);
+        header.flip();
+        if ((header.remaining() == HEADER_BYTES) && (header.getInt() == MAGIC) && (header.getInt() == VERSION)) {
+            dimension = header.getInt();
+        } else {
+            LOGGER.warn("Ignoring invalid embedding vectors file {}", path);
+        }
+    }
+
+    /// @return the dimension of the stored vectors, 0 if no vectors were stored yet
+    int getDimension() {
+        return dimension;
+    }
+
+    /// Prepares the segment for vectors of the given dimension. All previously stored vectors are lost.
+    void reset(int dimension) throws IOException {
+        regions.clear();
+        floatRegions.clear();
+        this.dimension = dimension;
+
+        if (path != null) {
+            if (channel == null) {
+                channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(dimension).putInt(0).flip();
+            channel.write(header, 0);
+        }
+    }
+
+    private int getSlotFloats() {
+        return dimension + 1;
+    }
+
+    private FloatBuffer getRegion(int slot) {
+        int regionIndex = slot / SLOTS_PER_REGION;
+        while (floatRegions.size() <= regionIndex) {
+            long regionBytes = (long) SLOTS_PER_REGION * getSlotFloats() * Float.BYTES;
+            ByteBuffer region;
+            if (channel == null) {
+                region = ByteBuffer.allocateDirect((int) regionBytes);
+            } else {
+                try {
+                    // Mapping beyond the end of the file enlarges the file
+                    region = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES + (floatRegions.size() * regionBytes), regionBytes);
+                } catch (IOException e) {
+                    throw new IllegalStateException("Could not map the embedding vectors file " + path, e);
+                }
+            }
+            region.order(ByteOrder.LITTLE_ENDIAN);
+            regions.add(region);
+            floatRegions.add(region.asFloatBuffer());
+        }
+        return floatRegions.get(regionIndex);
+    }
+
+    private int getOffset(int slot) {
+        return (slot % SLOTS_PER_REGION) * getSlotFloats();
+    }
+
+    void write(int slot, float[] vector) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException("Expected an embedding of dimension " + dimension + " but got " + vector.length);
+        }
+
+        double squaredNorm = 0;
+        for (float value : vector) {
+            squaredNorm += value * value;
+        }
+        float norm = (float) Math.sqrt(squaredNorm);
+
+        FloatBuffer region = getRegion(slot);
+        int offset = getOffset(slot);
+        region.put(offset, norm);
+        for (int i = 0; i < dimension; i++) {
+            region.put(offset + 1 + i, norm == 0 ? 0 : vector[i] / norm);
+        }
+    }
+
+    /// Copies the normalized vector of the given slot into the given array
+    void readNormalized(int slot, float[] target) {
+        getRegion(slot).get(getOffset(slot) + 1, target, 0, dimension);
+    }
+
+    /// @return the vector of the given slot as it was written, up to rounding
+    float[] read(int slot) {
+        float[] vector = new float[dimension];
+        readNormalized(slot, vector);
+        float norm = getRegion(slot).get(getOffset(slot));
+        for (int i = 0; i < dimension; i++) {
+            vector[i] *= norm;
+        }
+        return vector;
+    }
+
+    /// @param normalizedQuery a vector of length 1
+    /// @param buffer          an array of the length of the dimension to avoid allocations
+    /// @return the cosine similarity of the vector of the given slot to the query
+    double cosineSimilarity(int slot, float[] normalizedQuery, float[] buffer) {
+        readNormalized(slot, buffer);
+        return dotProduct(buffer, normalizedQuery);
+    }
+
+    static double dotProduct(float[] first, float[] second) {
+        // Independent sums let the CPU overlap the additions
+        float sum0 = 0;
+        float sum1 = 0;
+        float sum2 = 0;
+        float sum3 = 0;
+        int i = 0;
+        for (; i + 3 < first.length; i += 4) {
+            sum0 += first[i] * second[i];
+            sum1 += first[i + 1] * second[i + 1];
+            sum2 += first[i + 2] * second[i + 2];
+            sum3 += first[i + 3] * second[i + 3];
+        }
+        for (; i < first.length; i++) {
+            sum0 += first[i] * second[i];
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    static float[] normalize(float[] vector) {
+        double squaredNorm = dotProduct(vector, vector);
+        float[] result = new float[vector.length];
+        if (squaredNorm == 0) {
+            return result;
+        }
+        float norm = (float) Math.sqrt(squaredNorm);
+        for (int i = 0; i < vector.length; i++) {
+            result[i] = vector[i] / norm;
+        }
+        return result;
+    }
+
+    /// Writes the mapped regions to the file
+    void force() {
+        for (ByteBuffer region : regions) {
+            if (region instanceof MappedByteBuffer mappedRegion) {
+                mappedRegion.force();
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        regions.clear();
+        floatRegions.clear();
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+}
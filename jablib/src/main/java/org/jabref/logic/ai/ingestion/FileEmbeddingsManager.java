@@ -7,6 +7,7 @@ import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ReadOnlyBooleanProperty;
 
 import org.jabref.logic.ai.AiPreferences;
+import org.jabref.logic.ai.util.MVStoreBase;
 import org.jabref.model.entry.LinkedFile;
 
 import dev.langchain4j.data.document.Document;
@@ -60,6 +61,11 @@ public class FileEmbeddingsManager {
         document.metadata().put(LINK_METADATA_KEY, link);
         lowLevelIngestor.ingestDocument(document, shutdownSignal, workDone, workMax);
 
+        // One commit for all segments of the document
+        if (embeddingStore instanceof MVStoreBase mvStore) {
+            mvStore.commit();
+        }
+
         if (!shutdownSignal.get()) {
             fullyIngestedDocumentsTracker.markDocumentAsFullyIngested(link, modificationTimeInSeconds);
         }
@@ -70,6 +76,13 @@ public class FileEmbeddingsManager {
         fullyIngestedDocumentsTracker.unmarkDocumentAsFullyIngested(link);
     }
 
+    /**
+     * Returns the number of segments embedded in this session. Used to show the throughput of the ingestion.
+     */
+    public long getEmbeddedSegments() {
+        return lowLevelIngestor.getEmbeddedSegments();
+    }
+
     public EmbeddingStore<TextSegment> getEmbeddingsStore() {
         return embeddingStore;
     }
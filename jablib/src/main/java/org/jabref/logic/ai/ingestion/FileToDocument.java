@@ -1,19 +1,16 @@
 package org.jabref.logic.ai.ingestion;
 
-import java.io.IOException;
-import java.io.StringWriter;
 import java.nio.file.Path;
 import java.util.Optional;
 
 import javafx.beans.property.ReadOnlyBooleanProperty;
 
-import org.jabref.logic.pdf.InterruptablePDFTextStripper;
+import org.jabref.logic.pdf.ExtractedPdf;
+import org.jabref.logic.pdf.PdfTextCache;
 import org.jabref.logic.util.io.FileUtil;
-import org.jabref.logic.xmp.XmpUtilReader;
 
 import dev.langchain4j.data.document.DefaultDocument;
 import dev.langchain4j.data.document.Document;
-import org.apache.pdfbox.pdmodel.PDDocument;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -21,9 +18,11 @@ public class FileToDocument {
     private static final Logger LOGGER = LoggerFactory.getLogger(FileToDocument.class);
 
     private final ReadOnlyBooleanProperty shutdownSignal;
+    private final PdfTextCache pdfTextCache;
 
-    public FileToDocument(ReadOnlyBooleanProperty shutdownSignal) {
+    public FileToDocument(ReadOnlyBooleanProperty shutdownSignal, PdfTextCache pdfTextCache) {
         this.shutdownSignal = shutdownSignal;
+        this.pdfTextCache = pdfTextCache;
     }
 
     public Optional<Document> fromFile(Path path) {
@@ -38,24 +37,13 @@ public class FileToDocument {
     private Optional<Document> fromPdfFile(Path path) {
         // This method is private to ensure that the path is really pointing to PDF file (determined by extension).
 
-        try (PDDocument document = new XmpUtilReader().loadWithAutomaticDecryption(path)) {
-            int lastPage = document.getNumberOfPages();
-            StringWriter writer = new StringWriter();
-
-            InterruptablePDFTextStripper stripper = new InterruptablePDFTextStripper(shutdownSignal);
-            stripper.setStartPage(1);
-            stripper.setEndPage(lastPage);
-            stripper.writeText(document, writer);
-
-            if (shutdownSignal.get()) {
-                return Optional.empty();
-            }
-
-            return fromString(writer.toString());
-        } catch (IOException e) {
-            LOGGER.error("An error occurred while reading the PDF file: {}", path, e);
+        // The file is only read if its text is not cached, e.g., because it is already in the fulltext index
+        Optional<ExtractedPdf> extractedPdf = pdfTextCache.get(path, shutdownSignal);
+        if (extractedPdf.isEmpty() || shutdownSignal.get()) {
             return Optional.empty();
         }
+
+        return fromString(extractedPdf.get().getText());
     }
 
     public Optional<Document> fromString(String content) {
@@ -1,7 +1,11 @@
 package org.jabref.logic.ai.ingestion;
 
-import java.util.ArrayList;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 
@@ -26,10 +30,16 @@ import org.slf4j.LoggerFactory;
  * This task generates embeddings for several {@link LinkedFile} (typically used for groups).
  * It will check if embeddings were already generated.
  * And it also will store the embeddings.
+ * <p>
+ * The files are processed in parallel, but at most {@link #MAX_FILES_IN_FLIGHT} at once. The next file is only started
+ * when an earlier one is finished, so that the texts of a large group are not held in memory all at once.
  */
 public class GenerateEmbeddingsForSeveralTask extends BackgroundTask<Void> {
     private static final Logger LOGGER = LoggerFactory.getLogger(GenerateEmbeddingsForSeveralTask.class);
 
+    // Leaves threads of the task executor for other tasks
+    private static final int MAX_FILES_IN_FLIGHT = 3;
+
     private final StringProperty groupName;
     private final List<ProcessingInfo<LinkedFile, Void>> linkedFiles;
     private final FileEmbeddingsManager fileEmbeddingsManager;
@@ -42,6 +52,9 @@ public class GenerateEmbeddingsForSeveralTask extends BackgroundTask<Void> {
 
     private String currentFile = "";
 
+    private final Instant startTime = Instant.now();
+    private final long embeddedSegmentsAtStart;
+
     public GenerateEmbeddingsForSeveralTask(
             StringProperty groupName,
             List<ProcessingInfo<LinkedFile, Void>> linkedFiles,
@@ -58,6 +71,7 @@ public class GenerateEmbeddingsForSeveralTask extends BackgroundTask<Void> {
         this.filePreferences = filePreferences;
         this.taskExecutor = taskExecutor;
         this.shutdownSignal = shutdownSignal;
+        this.embeddedSegmentsAtStart = fileEmbeddingsManager.getEmbeddedSegments();
 
         configure(groupName);
     }
@@ -73,35 +87,38 @@ public class GenerateEmbeddingsForSeveralTask extends BackgroundTask<Void> {
     }
 
     @Override
-    public Void call() throws ExecutionException, InterruptedException {
+    public Void call() throws InterruptedException {
         LOGGER.debug("Starting embeddings generation of several files for {}", groupName.get());
 
-        List<Pair<? extends Future<?>, String>> futures = new ArrayList<>();
-
-        linkedFiles
-                .stream()
-                .map(processingInfo -> {
-                    processingInfo.setState(ProcessingState.PROCESSING);
-                    return new Pair<>(
-                            new GenerateEmbeddingsTask(
-                                    processingInfo.getObject(),
-                                    fileEmbeddingsManager,
-                                    bibDatabaseContext,
-                                    filePreferences,
-                                    shutdownSignal
-                            )
-                                    .showToUser(false)
-                                    .onSuccess(v -> processingInfo.setState(ProcessingState.SUCCESS))
-                                    .onFailure(processingInfo::setException)
-                                    .onFinished(() -> progressCounter.increaseWorkDone(1))
-                                    .executeWith(taskExecutor),
-                            processingInfo.getObject().getLink());
-                })
-                .forEach(futures::add);
-
-        for (Pair<? extends Future<?>, String> pair : futures) {
-            currentFile = pair.getValue();
-            pair.getKey().get();
+        Deque<Pair<? extends Future<?>, String>> filesInFlight = new ArrayDeque<>();
+
+        for (ProcessingInfo<LinkedFile, Void> processingInfo : linkedFiles) {
+            if (shutdownSignal.get()) {
+                break;
+            }
+            if (filesInFlight.size() >= MAX_FILES_IN_FLIGHT) {
+                awaitFile(filesInFlight.poll());
+            }
+
+            processingInfo.setState(ProcessingState.PROCESSING);
+            filesInFlight.add(new Pair<>(
+                    new GenerateEmbeddingsTask(
+                            processingInfo.getObject(),
+                            fileEmbeddingsManager,
+                            bibDatabaseContext,
+                            filePreferences,
+                            shutdownSignal
+                    )
+                            .showToUser(false)
+                            .onSuccess(v -> processingInfo.setState(ProcessingState.SUCCESS))
+                            .onFailure(processingInfo::setException)
+                            .onFinished(() -> progressCounter.increaseWorkDone(1))
+                            .executeWith(taskExecutor),
+                    processingInfo.getObject().getLink()));
+        }
+
+        while (!filesInFlight.isEmpty()) {
+            awaitFile(filesInFlight.poll());
         }
 
         LOGGER.debug("Finished embeddings generation task of several files for {}", groupName.get());
@@ -109,8 +126,24 @@ public class GenerateEmbeddingsForSeveralTask extends BackgroundTask<Void> {
         return null;
     }
 
+    private void awaitFile(Pair<? extends Future<?>, String> file) throws InterruptedException {
+        currentFile = file.getValue();
+        try {
+            file.getKey().get();
+        } catch (ExecutionException | CancellationException e) {
+            // The failure is recorded in the processing info of the file. The other files are still processed.
+            LOGGER.debug("Embeddings generation failed for file \"{}\"", file.getValue(), e);
+        }
+    }
+
+    private String getThroughputMessage() {
+        double seconds = Math.max(1, Duration.between(startTime, Instant.now()).toSeconds());
+        long segments = fileEmbeddingsManager.getEmbeddedSegments() - embeddedSegmentsAtStart;
+        return Localization.lang("%0 segments per second", Math.round(segments / seconds));
+    }
+
     private void updateProgress() {
         updateProgress(progressCounter.getWorkDone(), progressCounter.getWorkMax());
-        updateMessage(progressCounter.getMessage() + " - " + currentFile + ", ...");
+        updateMessage(progressCounter.getMessage() + " - " + getThroughputMessage() + " - " + currentFile + ", ...");
     }
 }
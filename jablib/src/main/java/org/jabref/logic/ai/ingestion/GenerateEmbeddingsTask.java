@@ -4,6 +4,8 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
@@ -11,6 +13,7 @@ import javafx.beans.property.ReadOnlyBooleanProperty;
 
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.pdf.PdfTextCache;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.ProgressCounter;
 import org.jabref.model.database.BibDatabaseContext;
@@ -35,6 +38,7 @@ public class GenerateEmbeddingsTask extends BackgroundTask<Void> {
     private final ReadOnlyBooleanProperty shutdownSignal;
 
     private final ProgressCounter progressCounter = new ProgressCounter();
+    private final Instant startTime = Instant.now();
 
     public GenerateEmbeddingsTask(LinkedFile linkedFile,
                                   FileEmbeddingsManager fileEmbeddingsManager,
@@ -116,7 +120,7 @@ public class GenerateEmbeddingsTask extends BackgroundTask<Void> {
             return;
         }
 
-        Optional<Document> document = new FileToDocument(shutdownSignal).fromFile(path.get());
+        Optional<Document> document = new FileToDocument(shutdownSignal, PdfTextCache.getInstance()).fromFile(path.get());
         if (document.isPresent()) {
             fileEmbeddingsManager.addDocument(linkedFile.getLink(), document.get(), modTime.orElse(0L), progressCounter.workDoneProperty(), progressCounter.workMaxProperty());
             LOGGER.debug("Embeddings for file \"{}\" were generated successfully", linkedFile.getLink());
@@ -128,6 +132,9 @@ public class GenerateEmbeddingsTask extends BackgroundTask<Void> {
 
     private void updateProgress() {
         updateProgress(progressCounter.getWorkDone(), progressCounter.getWorkMax());
-        updateMessage(progressCounter.getMessage());
+
+        // The work done is the number of embedded segments
+        double seconds = Math.max(1, Duration.between(startTime, Instant.now()).toSeconds());
+        updateMessage(progressCounter.getMessage() + " - " + Localization.lang("%0 segments per second", Math.round(progressCounter.getWorkDone() / seconds)));
     }
 }
@@ -1,34 +1,55 @@
 package org.jabref.logic.ai.ingestion;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ReadOnlyBooleanProperty;
 
 import org.jabref.logic.ai.AiPreferences;
 
-import dev.langchain4j.data.document.DefaultDocument;
+import com.google.common.collect.Lists;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentSplitter;
 import dev.langchain4j.data.document.splitter.DocumentSplitters;
+import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.store.embedding.EmbeddingStore;
-import dev.langchain4j.store.embedding.EmbeddingStoreIngestor;
 
+/**
+ * Splits documents into segments, embeds the segments in batches, and adds each batch to the embedding store at once.
+ * <p>
+ * Embedding models process a batch much faster than the same segments one by one. Writing a whole batch also keeps the
+ * number of store operations low.
+ */
 public class LowLevelIngestor {
+    public static final int DEFAULT_EMBEDDING_BATCH_SIZE = 32;
+
     private final AiPreferences aiPreferences;
 
     private final EmbeddingStore<TextSegment> embeddingStore;
     private final EmbeddingModel embeddingModel;
+    private final int embeddingBatchSize;
+
+    // Number of segments embedded since the start, used to compute the throughput
+    private final AtomicLong embeddedSegments = new AtomicLong();
 
-    private EmbeddingStoreIngestor ingestor;
     private DocumentSplitter documentSplitter;
 
     public LowLevelIngestor(AiPreferences aiPreferences, EmbeddingStore<TextSegment> embeddingStore, EmbeddingModel embeddingModel) {
+        this(aiPreferences, embeddingStore, embeddingModel, DEFAULT_EMBEDDING_BATCH_SIZE);
+    }
+
+    public LowLevelIngestor(AiPreferences aiPreferences, EmbeddingStore<TextSegment> embeddingStore, EmbeddingModel embeddingModel, int embeddingBatchSize) {
+        if (embeddingBatchSize < 1) {
+            throw new IllegalArgumentException("Embedding batch size must be positive, but was " + embeddingBatchSize);
+        }
+
         this.aiPreferences = aiPreferences;
         this.embeddingStore = embeddingStore;
         this.embeddingModel = embeddingModel;
+        this.embeddingBatchSize = embeddingBatchSize;
 
         rebuild();
 
@@ -39,13 +60,6 @@ public class LowLevelIngestor {
         this.documentSplitter = DocumentSplitters
                 .recursive(aiPreferences.getDocumentSplitterChunkSize(),
                         aiPreferences.getDocumentSplitterOverlapSize());
-
-        this.ingestor = EmbeddingStoreIngestor
-                .builder()
-                .embeddingStore(embeddingStore)
-                .embeddingModel(embeddingModel)
-                .documentSplitter(documentSplitter)
-                .build();
     }
 
     private void setupListeningToPreferencesChanges() {
@@ -64,14 +78,23 @@ public class LowLevelIngestor {
         List<TextSegment> textSegments = documentSplitter.split(document);
         workMax.set(textSegments.size());
 
-        for (TextSegment documentPart : textSegments) {
+        for (List<TextSegment> batch : Lists.partition(textSegments, embeddingBatchSize)) {
             if (stopProperty.get()) {
                 throw new InterruptedException();
             }
 
-            ingestor.ingest(new DefaultDocument(documentPart.text(), document.metadata()));
+            List<Embedding> embeddings = embeddingModel.embedAll(batch).content();
+            embeddingStore.addAll(embeddings, batch);
 
-            workDone.set(workDone.get() + 1);
+            embeddedSegments.addAndGet(batch.size());
+            workDone.set(workDone.get() + batch.size());
         }
     }
+
+    /**
+     * Returns the number of segments embedded by this ingestor so far. Sample it twice to get the throughput.
+     */
+    public long getEmbeddedSegments() {
+        return embeddedSegments.get();
+    }
 }
@@ -1,18 +1,16 @@
 package org.jabref.logic.ai.ingestion;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.PriorityQueue;
 import java.util.UUID;
-import java.util.function.Predicate;
 import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 import org.jabref.logic.ai.util.MVStoreBase;
 import org.jabref.logic.l10n.Localization;
@@ -21,7 +19,6 @@ import org.jabref.logic.util.NotificationService;
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
-import dev.langchain4j.store.embedding.CosineSimilarity;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingSearchResult;
@@ -32,8 +29,9 @@ import dev.langchain4j.store.embedding.filter.comparison.IsEqualTo;
 import dev.langchain4j.store.embedding.filter.comparison.IsIn;
 import org.h2.mvstore.MVStore;
 import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import static java.util.Comparator.comparingDouble;
 import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_KEY;
 
 /**
@@ -42,20 +40,104 @@ import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_
  * Every embedding has 3 fields: float array (the embedding itself), file where it was generated from, and the embedded
  * string (the content).
  * <p>
+ * The MVStore holds the file and the content of each embedding. The vectors are packed into an {@link EmbeddingVectorSegment},
+ * a memory-mapped file next to the MVStore file. Searches go through an {@link EmbeddingIndex}, which is built on first
+ * use. Thus, a search neither deserializes the content of all embeddings nor compares the query to the embeddings of
+ * files outside the filter. The content is only read for the best matches.
  */
 public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore<TextSegment> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MVStoreEmbeddingStore.class);
+
+    // Format of the embeddings before the vectors were moved to the segment. Only read to migrate existing stores.
     // `file` field is nullable, because {@link Optional} can't be serialized.
     private record EmbeddingRecord(@Nullable String file, String content, float[] embeddingVector) implements Serializable {
     }
 
-    private static final String EMBEDDINGS_MAP_NAME = "embeddings";
+    private record EmbeddingText(@Nullable String file, String content) implements Serializable {
+    }
 
-    private final Map<String, EmbeddingRecord> embeddingsMap;
+    private record EmbeddingSlot(int slot, @Nullable String file, int partition) implements Serializable {
+    }
+
+    private static final String EMBEDDINGS_MAP_NAME = "embeddings";
+    private static final String TEXTS_MAP_NAME = "embeddingTexts";
+    private static final String SLOTS_MAP_NAME = "embeddingSlots";
+    private static final String CENTROIDS_MAP_NAME = "embeddingCentroids";
+    private static final String INDEX_SETTINGS_MAP_NAME = "embeddingIndexSettings";
+    private static final String TRAINED_SIZE_KEY = "trainedSize";
+    private static final String VECTORS_FILE_SUFFIX = ".vectors";
+
+    private final Map<String, EmbeddingText> textsMap;
+    private final Map<String, EmbeddingSlot> slotsMap;
+    private final Map<Integer, float[]> centroidsMap;
+    private final Map<String, Integer> indexSettingsMap;
+
+    private final EmbeddingVectorSegment vectorSegment;
+    private final EmbeddingIndex index;
+    private boolean indexLoaded;
 
     public MVStoreEmbeddingStore(Path path, NotificationService dialogService) {
         super(path, dialogService);
 
-        this.embeddingsMap = this.mvStore.openMap(EMBEDDINGS_MAP_NAME);
+        this.textsMap = this.mvStore.openMap(TEXTS_MAP_NAME);
+        this.slotsMap = this.mvStore.openMap(SLOTS_MAP_NAME);
+        this.centroidsMap = this.mvStore.openMap(CENTROIDS_MAP_NAME);
+        this.indexSettingsMap = this.mvStore.openMap(INDEX_SETTINGS_MAP_NAME);
+
+        this.vectorSegment = openVectorSegment(path);
+        this.index = new EmbeddingIndex(vectorSegment);
+    }
+
+    private EmbeddingVectorSegment openVectorSegment(Path path) {
+        // An in-memory MVStore gets in-memory vectors
+        if (mvStore.getFileStore() != null) {
+            try {
+                return new EmbeddingVectorSegment(path.resolveSibling(path.getFileName() + VECTORS_FILE_SUFFIX));
+            } catch (IOException e) {
+                LOGGER.error(errorMessageForOpening(), e);
+            }
+        }
+        try {
+            return new EmbeddingVectorSegment(null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /// Builds the index from the MVStore on first use, so that opening the store stays fast
+    private void ensureIndexLoaded() {
+        if (indexLoaded) {
+            return;
+        }
+        indexLoaded = true;
+
+        if (!slotsMap.isEmpty() && (vectorSegment.getDimension() == 0)) {
+            LOGGER.warn("The embedding vectors file is missing. Discarding {} embeddings.", slotsMap.size());
+            textsMap.clear();
+            slotsMap.clear();
+            centroidsMap.clear();
+        }
+
+        if (!centroidsMap.isEmpty()) {
+            List<float[]> centroids = IntStream.range(0, centroidsMap.size()).mapToObj(centroidsMap::get).toList();
+            index.loadCentroids(centroids, indexSettingsMap.getOrDefault(TRAINED_SIZE_KEY, 0));
+        }
+        slotsMap.forEach((id, slot) -> index.load(slot.slot(), id, slot.file(), slot.partition()));
+        index.finishLoading();
+
+        if (mvStore.hasMap(EMBEDDINGS_MAP_NAME)) {
+            Map<String, EmbeddingRecord> embeddingsMap = mvStore.openMap(EMBEDDINGS_MAP_NAME);
+            LOGGER.info("Moving {} embeddings to the embedding vectors file", embeddingsMap.size());
+            embeddingsMap.forEach((id, eRecord) -> {
+                try {
+                    addRecord(id, eRecord.file(), eRecord.content(), eRecord.embeddingVector());
+                } catch (IllegalArgumentException e) {
+                    // Left over from an embedding model with another dimension, thus not found by any search
+                    LOGGER.debug("Dropping embedding {}", id, e);
+                }
+            });
+            mvStore.removeMap(EMBEDDINGS_MAP_NAME);
+        }
     }
 
     @Override
@@ -74,39 +156,70 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
     }
 
     @Override
-    public void add(String id, Embedding embedding) {
+    public synchronized void add(String id, Embedding embedding) {
         // It does not make much sense to store single embedding vector, but this is a requirement from langchain4j's
         // {@link EmbeddingStore}.
-        embeddingsMap.put(id, new EmbeddingRecord(null, "", embedding.vector()));
+        ensureIndexLoaded();
+        addRecord(id, null, "", embedding.vector());
     }
 
     @Override
-    public String add(Embedding embedding, TextSegment textSegment) {
+    public synchronized String add(Embedding embedding, TextSegment textSegment) {
+        ensureIndexLoaded();
         String id = String.valueOf(UUID.randomUUID());
         String linkedFile = textSegment.metadata().getString(LINK_METADATA_KEY);
-        embeddingsMap.put(id, new EmbeddingRecord(linkedFile, textSegment.text(), embedding.vector()));
+        addRecord(id, linkedFile, textSegment.text(), embedding.vector());
         return id;
     }
 
+    private void addRecord(String id, @Nullable String file, String content, float[] vector) {
+        EmbeddingSlot oldSlot = slotsMap.get(id);
+        if (oldSlot != null) {
+            index.remove(oldSlot.slot());
+        }
+
+        boolean wasTrained = index.isTrained();
+        int slot = index.add(id, file, vector);
+        if (wasTrained && !index.isTrained()) {
+            // The dimension changed, which invalidates the partitions
+            centroidsMap.clear();
+        }
+
+        textsMap.put(id, new EmbeddingText(file, content));
+        slotsMap.put(id, new EmbeddingSlot(slot, file, index.getPartition(slot)));
+    }
+
     @Override
     public List<String> addAll(List<Embedding> embeddings, List<TextSegment> embedded) {
         return IntStream.range(0, embeddings.size()).mapToObj(i -> add(embeddings.get(i), embedded.get(i))).toList();
     }
 
     @Override
-    public void remove(String id) {
-        embeddingsMap.remove(id);
+    public synchronized void remove(String id) {
+        ensureIndexLoaded();
+        textsMap.remove(id);
+        EmbeddingSlot slot = slotsMap.remove(id);
+        if (slot != null) {
+            index.remove(slot.slot());
+        }
     }
 
     @Override
-    public void removeAll(Filter filter) {
-        List<String> idsToRemove = applyFilter(filter).toList();
+    public synchronized void removeAll(Filter filter) {
+        ensureIndexLoaded();
+        int[] slots = index.getSlots(getFiles(filter));
+        List<String> idsToRemove = IntStream.of(slots).mapToObj(index::getId).toList();
         idsToRemove.forEach(this::remove);
     }
 
     @Override
-    public void removeAll() {
-        embeddingsMap.clear();
+    public synchronized void removeAll() {
+        ensureIndexLoaded();
+        textsMap.clear();
+        slotsMap.clear();
+        centroidsMap.clear();
+        indexSettingsMap.clear();
+        index.clear();
     }
 
     /// The main function of finding most relevant text segments.
@@ -115,67 +228,95 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
     /// - [IsIn] with key [FileEmbeddingsManager#LINK_METADATA_KEY]
     /// - [IsEqualTo] with key [FileEmbeddingsManager#LINK_METADATA_KEY]
     ///
+    /// The filter is applied inside the index: only the embeddings of the given files are compared to the query.
+    ///
     /// @param request embedding search request
     /// @return an [EmbeddingSearchResult], which contains most relevant text segments
     @Override
-    public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
-        // Source: {@link InMemoryEmbeddingStore}.
-
-        Comparator<EmbeddingMatch<TextSegment>> comparator = comparingDouble(EmbeddingMatch::score);
-        PriorityQueue<EmbeddingMatch<TextSegment>> matches = new PriorityQueue<>(comparator);
-
-        applyFilter(request.filter()).forEach(id -> {
-            EmbeddingRecord eRecord = embeddingsMap.get(id);
-
-            double cosineSimilarity = CosineSimilarity.between(Embedding.from(eRecord.embeddingVector), request.queryEmbedding());
-            double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
-
-            if (score >= request.minScore()) {
-                matches.add(
-                        new EmbeddingMatch<>(
-                                score,
-                                id,
-                                Embedding.from(eRecord.embeddingVector),
-                                new TextSegment(
-                                        eRecord.content,
-                                        new Metadata(
-                                                eRecord.file == null ? Map.of() : Map.of(LINK_METADATA_KEY, eRecord.file)))));
-
-                if (matches.size() > request.maxResults()) {
-                    matches.poll();
-                }
+    public synchronized EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
+        ensureIndexLoaded();
+        Collection<String> files = getFiles(request.filter());
+
+        if (index.needsTraining()) {
+            trainIndex();
+        }
+
+        // Inverse of RelevanceScore.fromCosineSimilarity
+        double minCosineSimilarity = (2 * request.minScore()) - 1;
+        List<EmbeddingIndex.Match> indexMatches = index.search(request.queryEmbedding().vector(), files, request.maxResults(), minCosineSimilarity);
+
+        List<EmbeddingMatch<TextSegment>> result = new ArrayList<>(indexMatches.size());
+        for (EmbeddingIndex.Match match : indexMatches) {
+            double score = RelevanceScore.fromCosineSimilarity(match.cosineSimilarity());
+            if (score < request.minScore()) {
+                continue;
             }
-        });
-
-        List<EmbeddingMatch<TextSegment>> result = new ArrayList<>(matches);
-        result.sort(comparator.reversed());
+            EmbeddingText text = textsMap.get(match.id());
+            result.add(new EmbeddingMatch<>(
+                    score,
+                    match.id(),
+                    Embedding.from(vectorSegment.read(match.slot())),
+                    new TextSegment(
+                            text.content(),
+                            new Metadata(
+                                    text.file() == null ? Map.of() : Map.of(LINK_METADATA_KEY, text.file())))));
+        }
 
         return new EmbeddingSearchResult<>(result);
     }
 
+    private void trainIndex() {
+        long start = System.currentTimeMillis();
+        index.train();
+        LOGGER.debug("Trained the embedding index for {} embeddings in {} ms", index.size(), System.currentTimeMillis() - start);
+
+        centroidsMap.clear();
+        List<float[]> centroids = index.getCentroids();
+        for (int i = 0; i < centroids.size(); i++) {
+            centroidsMap.put(i, centroids.get(i));
+        }
+        indexSettingsMap.put(TRAINED_SIZE_KEY, index.getTrainedSize());
+        slotsMap.replaceAll((_, slot) -> new EmbeddingSlot(slot.slot(), slot.file(), index.getPartition(slot.slot())));
+    }
+
     @Override
-    public void removeAll(Collection ids) {
-        embeddingsMap.entrySet().removeIf(entry -> ids.contains(entry.getKey()));
+    public synchronized void removeAll(Collection ids) {
+        for (Object id : ids) {
+            remove((String) id);
+        }
     }
 
-    private Stream<String> applyFilter(@Nullable Filter filter) {
+    /// @return the files the filter restricts the embeddings to, or null if all embeddings are accepted
+    private static @Nullable Collection<String> getFiles(@Nullable Filter filter) {
         return switch (filter) {
             case null ->
-                    embeddingsMap.keySet().stream();
+                    null;
 
             case IsIn isInFilter when Objects.equals(isInFilter.key(), LINK_METADATA_KEY) ->
-                    filterEntries(entry -> isInFilter.comparisonValues().contains(entry.getValue().file));
+                    isInFilter.comparisonValues().stream().map(String::valueOf).toList();
 
             case IsEqualTo isEqualToFilter when Objects.equals(isEqualToFilter.key(), LINK_METADATA_KEY) ->
-                    filterEntries(entry -> isEqualToFilter.comparisonValue().equals(entry.getValue().file));
+                    List.of(String.valueOf(isEqualToFilter.comparisonValue()));
 
             default ->
                     throw new IllegalArgumentException("Wrong filter passed to MVStoreEmbeddingStore");
         };
     }
 
-    private Stream<String> filterEntries(Predicate<Map.Entry<String, EmbeddingRecord>> predicate) {
-        return embeddingsMap.entrySet().stream().filter(predicate).map(Map.Entry::getKey);
+    @Override
+    public synchronized void commit() {
+        vectorSegment.force();
+        super.commit();
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            vectorSegment.close();
+        } catch (IOException e) {
+            LOGGER.error("Could not close the embedding vectors file", e);
+        }
+        super.close();
     }
 
     @Override
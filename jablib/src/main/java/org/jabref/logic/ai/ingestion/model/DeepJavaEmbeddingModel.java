@@ -24,13 +24,18 @@ public class DeepJavaEmbeddingModel implements EmbeddingModel, AutoCloseable {
         this.predictor = model.newPredictor();
     }
 
+    /**
+     * Embeds the segments in one batch, which is much faster than embedding them one by one.
+     * <p>
+     * Synchronized, because a {@link Predictor} must not be used by several threads at once.
+     */
     @Override
-    public Response<List<Embedding>> embedAll(List<TextSegment> list) {
+    public synchronized Response<List<Embedding>> embedAll(List<TextSegment> list) {
         try {
-            List<Embedding> result = new ArrayList<>();
+            List<float[]> embeddings = predictor.batchPredict(list.stream().map(TextSegment::text).toList());
 
-            for (TextSegment textSegment : list) {
-                float[] embedding = predictor.predict(textSegment.text());
+            List<Embedding> result = new ArrayList<>(embeddings.size());
+            for (float[] embedding : embeddings) {
                 result.add(new Embedding(embedding));
             }
 
@@ -17,6 +17,7 @@ import org.jabref.logic.ai.templates.AiTemplate;
 import org.jabref.logic.ai.templates.AiTemplatesService;
 import org.jabref.logic.ai.util.CitationKeyCheck;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.pdf.PdfTextCache;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.ProgressCounter;
 import org.jabref.model.database.BibDatabaseContext;
@@ -180,7 +181,7 @@ public class GenerateSummaryTask extends BackgroundTask<Summary> {
             return Optional.empty();
         }
 
-        Optional<Document> document = new FileToDocument(shutdownSignal).fromFile(path.get());
+        Optional<Document> document = new FileToDocument(shutdownSignal, PdfTextCache.getInstance()).fromFile(path.get());
 
         if (document.isEmpty()) {
             LOGGER.warn("Could not extract text from a linked file \"{}\" of entry {}. It will be skipped when generating a summary.", linkedFile.getLink(), citationKey);
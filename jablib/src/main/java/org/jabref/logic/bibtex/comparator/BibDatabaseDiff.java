@@ -1,17 +1,28 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.Queue;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import org.jabref.logic.database.DuplicateCheck;
+import org.jabref.logic.os.OS;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.EntryType;
+import org.jabref.model.strings.StringUtil;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -66,6 +77,15 @@ public class BibDatabaseDiff {
         return comparator;
     }
 
+    /// Pairs the entries of the original database with the entries of the new database.
+    ///
+    /// Comparing each original entry with all new entries is quadratic, thus the pairs are looked up in hash maps:
+    ///
+    /// - Exact matches have the same [EntryFingerprint].
+    /// - Close matches share at least one field value, unless no new entry shares a field value with the original entry
+    ///   (see [#findBestMatch]). Only these candidates are scored.
+    ///
+    /// The result is the same as comparing all pairs.
     private static List<BibEntryDiff> compareEntries(List<BibEntry> originalEntries, List<BibEntry> newEntries, BibDatabaseMode mode) {
         List<BibEntryDiff> differences = new ArrayList<>();
 
@@ -82,49 +102,37 @@ public class BibDatabaseDiff {
         // Loop through the entries of the original database, looking for exact matches in the new one.
         // We must finish scanning for exact matches before looking for near matches, to avoid an exact
         // match being "stolen" from another entry.
-        mainLoop:
+        Map<EntryFingerprint, Queue<Integer>> newEntriesByFingerprint = new HashMap<>();
+        for (int i = 0; i < newEntries.size(); i++) {
+            newEntriesByFingerprint.computeIfAbsent(EntryFingerprint.of(newEntries.get(i)), _ -> new ArrayDeque<>()).add(i);
+        }
         for (BibEntry originalEntry : originalEntries) {
-            for (int i = 0; i < newEntries.size(); i++) {
-                if (!matchedEntries.contains(i)) {
-                    double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
-                    if (score > 1) {
-                        matchedEntries.add(i);
-                        continue mainLoop;
-                    }
-                }
+            // The indices are ascending, thus the first unmatched exact match is taken
+            Queue<Integer> exactMatches = newEntriesByFingerprint.get(EntryFingerprint.of(originalEntry));
+            if (exactMatches != null && !exactMatches.isEmpty()) {
+                matchedEntries.add(exactMatches.poll());
+            } else {
+                // No? Add this entry to the list of non-matched entries.
+                notMatched.add(originalEntry);
             }
-
-            // No? Add this entry to the list of non-matched entries.
-            notMatched.add(originalEntry);
         }
 
         // We've found all exact matches - and stored the non-matched entries in the notMatched set.
         // Look through the remaining entries, looking for close matches.
         DuplicateCheck duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
+        Map<FieldValue, List<Integer>> newEntriesByFieldValue = notMatched.isEmpty() ? Map.of() : indexFieldValues(newEntries);
         for (BibEntry originalEntry : notMatched) {
-            // These two variables will keep track of which entry most closely matches the one we're looking at.
-            double bestMatch = 0;
-            int bestMatchIndex = 0;
-            for (int i = 0; i < newEntries.size(); i++) {
-                if (!matchedEntries.contains(i)) {
-                    double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
-                    if (score > bestMatch) {
-                        bestMatch = score;
-                        bestMatchIndex = i;
-                    }
-                }
-            }
-
-            BibEntry bestEntry = newEntries.get(bestMatchIndex);
+            BestMatch best = findBestMatch(originalEntry, newEntries, matchedEntries, newEntriesByFieldValue);
+            BibEntry bestEntry = newEntries.get(best.index());
 
             boolean isDuplicate = duplicateCheck.isDuplicate(originalEntry, bestEntry, mode);
             boolean hasEqualCitationKey = hasEqualCitationKey(originalEntry, bestEntry);
             // For a diff, it could be nice to have a pair of entries being similar, but not being a duplicate or having the same citation key.
-            boolean ratioOfEqualFieldsAboveThreshold = bestMatch > MATCH_THRESHOLD;
+            boolean ratioOfEqualFieldsAboveThreshold = best.score() > MATCH_THRESHOLD;
 
             if (isDuplicate || hasEqualCitationKey || ratioOfEqualFieldsAboveThreshold) {
-                matchedEntries.add(bestMatchIndex);
-                differences.add(new BibEntryDiff(originalEntry, newEntries.get(bestMatchIndex)));
+                matchedEntries.add(best.index());
+                differences.add(new BibEntryDiff(originalEntry, bestEntry));
             } else {
                 differences.add(new BibEntryDiff(originalEntry, null));
             }
@@ -140,6 +148,56 @@ public class BibDatabaseDiff {
         return differences;
     }
 
+    /// Maps each field value to the indices of the new entries having it, in ascending order.
+    /// The citation key is a field, too, thus entries with the same citation key are found by this index.
+    private static Map<FieldValue, List<Integer>> indexFieldValues(List<BibEntry> entries) {
+        Map<FieldValue, List<Integer>> entriesByFieldValue = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            for (Map.Entry<Field, String> field : entries.get(i).getFieldMap().entrySet()) {
+                entriesByFieldValue.computeIfAbsent(FieldValue.of(field.getKey(), field.getValue()), _ -> new ArrayList<>()).add(i);
+            }
+        }
+        return entriesByFieldValue;
+    }
+
+    /// Finds the unmatched new entry with the highest [DuplicateCheck#compareEntriesStrictly] score.
+    /// On equal scores, the entry with the lowest index wins. If no entry scores above 0, the index is 0.
+    ///
+    /// An entry sharing no field value with the original entry can at most have the same type and comment. Its score is
+    /// thus at most `2 / (number of fields of the original entry + 2)`. If an entry sharing a field value scores higher,
+    /// the other entries need not be scored. Otherwise, all entries are scored.
+    private static BestMatch findBestMatch(BibEntry originalEntry, List<BibEntry> newEntries, Set<Integer> matchedEntries, Map<FieldValue, List<Integer>> newEntriesByFieldValue) {
+        BitSet candidates = new BitSet(newEntries.size());
+        for (Map.Entry<Field, String> field : originalEntry.getFieldMap().entrySet()) {
+            newEntriesByFieldValue.getOrDefault(FieldValue.of(field.getKey(), field.getValue()), List.of()).forEach(candidates::set);
+        }
+
+        BestMatch best = findBestMatch(originalEntry, newEntries, matchedEntries, candidates.stream());
+        double maximalScoreWithoutEqualField = 2.0 / (originalEntry.getFields().size() + 2);
+        if (best.score() > maximalScoreWithoutEqualField) {
+            return best;
+        }
+        return findBestMatch(originalEntry, newEntries, matchedEntries, IntStream.range(0, newEntries.size()));
+    }
+
+    private static BestMatch findBestMatch(BibEntry originalEntry, List<BibEntry> newEntries, Set<Integer> matchedEntries, IntStream indices) {
+        // These two variables will keep track of which entry most closely matches the one we're looking at.
+        double bestMatch = 0;
+        int bestMatchIndex = 0;
+        PrimitiveIterator.OfInt iterator = indices.iterator();
+        while (iterator.hasNext()) {
+            int i = iterator.nextInt();
+            if (!matchedEntries.contains(i)) {
+                double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
+                if (score > bestMatch) {
+                    bestMatch = score;
+                    bestMatchIndex = i;
+                }
+            }
+        }
+        return new BestMatch(bestMatchIndex, bestMatch);
+    }
+
     private static boolean hasEqualCitationKey(BibEntry oneEntry, BibEntry twoEntry) {
         return oneEntry.hasCitationKey() && twoEntry.hasCitationKey() && oneEntry.getCitationKey().equals(twoEntry.getCitationKey());
     }
@@ -163,4 +221,24 @@ public class BibDatabaseDiff {
     public List<BibEntryDiff> getEntryDifferences() {
         return entryDiffs;
     }
+
+    private record BestMatch(int index, double score) {
+    }
+
+    /// A field value with unified line breaks, as compared by [DuplicateCheck#compareEntriesStrictly]
+    private record FieldValue(Field field, String value) {
+        static FieldValue of(Field field, String value) {
+            return new FieldValue(field, StringUtil.unifyLineBreaks(value, OS.NEWLINE));
+        }
+    }
+
+    /// The properties compared by [DuplicateCheck#compareEntriesStrictly]: the type, the fields, and the comment, with
+    /// unified line breaks. Two entries are exact matches if and only if their fingerprints are equal.
+    private record EntryFingerprint(EntryType type, Map<Field, String> fields, String comment) {
+        static EntryFingerprint of(BibEntry entry) {
+            Map<Field, String> fields = HashMap.newHashMap(entry.getFieldMap().size());
+            entry.getFieldMap().forEach((field, value) -> fields.put(field, StringUtil.unifyLineBreaks(value, OS.NEWLINE)));
+            return new EntryFingerprint(entry.getType(), fields, StringUtil.unifyLineBreaks(entry.getUserComments(), OS.NEWLINE));
+        }
+    }
 }
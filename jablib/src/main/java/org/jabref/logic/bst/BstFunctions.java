@@ -18,7 +18,6 @@ import org.jabref.model.entry.AuthorList;
 
 import com.google.common.annotations.VisibleForTesting;
 import org.antlr.v4.runtime.ParserRuleContext;
-import org.antlr.v4.runtime.tree.ParseTree;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -510,8 +509,8 @@ public class BstFunctions {
         Object f2 = stack.pop();
         Object i = stack.pop();
 
-        if (!((f1 instanceof BstVMVisitor.Identifier) || (f1 instanceof ParseTree))
-                && ((f2 instanceof BstVMVisitor.Identifier) || (f2 instanceof ParseTree))
+        if (!((f1 instanceof BstVMVisitor.Identifier) || (f1 instanceof BstProgram.Block))
+                && ((f2 instanceof BstVMVisitor.Identifier) || (f2 instanceof BstProgram.Block))
                 && (i instanceof Integer)) {
             throw new BstVMException("Expecting two functions and an integer for if$ (line %d)".formatted(ctx.start.getLine()));
         }
@@ -524,8 +523,8 @@ public class BstFunctions {
     }
 
     private void callIdentifierOrTree(Object f, BstVMVisitor visitor, ParserRuleContext ctx) {
-        if (f instanceof ParseTree tree) {
-            visitor.visit(tree);
+        if (f instanceof BstProgram.Block block) {
+            visitor.execute(block);
         } else if (f instanceof BstVMVisitor.Identifier(
                 String name
         )) {
@@ -894,15 +893,15 @@ public class BstFunctions {
         Object f2 = stack.pop();
         Object f1 = stack.pop();
 
-        if (!((f1 instanceof BstVMVisitor.Identifier) || (f1 instanceof ParseTree))
-                && ((f2 instanceof BstVMVisitor.Identifier) || (f2 instanceof ParseTree))) {
+        if (!((f1 instanceof BstVMVisitor.Identifier) || (f1 instanceof BstProgram.Block))
+                && ((f2 instanceof BstVMVisitor.Identifier) || (f2 instanceof BstProgram.Block))) {
             throw new BstVMException("Expecting two functions for while$ (line %d)".formatted(ctx.start.getLine()));
         }
 
         // @formatter:off
         do {
             // @formatter:on
-            visitor.visit((ParseTree) f1);
+            callIdentifierOrTree(f1, visitor, ctx);
 
             Object i = stack.pop();
             if (!(i instanceof Integer)) {
@@ -912,7 +911,7 @@ public class BstFunctions {
             if ((Integer) i <= 0) {
                 break;
             }
-            visitor.visit((ParseTree) f2);
+            callIdentifierOrTree(f2, visitor, ctx);
         } while (true);
     }
 
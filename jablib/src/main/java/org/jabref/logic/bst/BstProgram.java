@@ -0,0 +1,137 @@
+package org.jabref.logic.bst;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+/**
+ * A parsed .bst program whose function bodies are compiled to arrays of {@link Instruction}s.
+ * <p>
+ * Compiling resolves the literals once: strings are stripped of their quotes, integers are parsed, and equal literals
+ * share one instance. Each identifier gets a symbol number, so that a render can remember what an identifier refers
+ * to in an array indexed by the number instead of searching the symbol tables on each use.
+ * <p>
+ * The program is immutable and can be rendered by several threads at the same time.
+ */
+final class BstProgram {
+
+    sealed interface Instruction permits Push, Call {
+    }
+
+    /**
+     * Pushes a literal: a string, an integer, a quoted {@link BstVMVisitor.Identifier}, or a {@link Block}
+     */
+    record Push(Object value) implements Instruction {
+    }
+
+    /**
+     * Calls the function or pushes the value of the variable with the given name
+     */
+    record Call(String name, int symbol, ParserRuleContext ctx) implements Instruction {
+    }
+
+    /**
+     * The compiled instructions of a function body or of a function literal ({@code { ... }})
+     */
+    record Block(Instruction[] instructions) {
+    }
+
+    private final ParseTree tree;
+
+    // The bodies of the FUNCTION commands and the functions called by EXECUTE, ITERATE and REVERSE
+    private final Map<ParserRuleContext, Block> blocks = new IdentityHashMap<>();
+    private final Map<String, Integer> symbols = new HashMap<>();
+    private final Map<Object, Object> literals = new HashMap<>();
+
+    BstProgram(ParseTree tree) {
+        this.tree = tree;
+        if (tree instanceof BstParser.BstFileContext file) {
+            for (BstParser.CommandsContext command : file.commands()) {
+                switch (command) {
+                    case BstParser.FunctionCommandContext function ->
+                            blocks.put(function.function, compile(function.function));
+                    case BstParser.ExecuteCommandContext execute ->
+                            blocks.put(execute.bstFunction(), new Block(new Instruction[] {compile(execute.bstFunction())}));
+                    case BstParser.IterateCommandContext iterate ->
+                            blocks.put(iterate.bstFunction(), new Block(new Instruction[] {compile(iterate.bstFunction())}));
+                    case BstParser.ReverseCommandContext reverse ->
+                            blocks.put(reverse.bstFunction(), new Block(new Instruction[] {compile(reverse.bstFunction())}));
+                    default -> {
+                    }
+                }
+            }
+        }
+    }
+
+    ParseTree getTree() {
+        return tree;
+    }
+
+    /**
+     * Returns the compiled body of a FUNCTION command or the compiled call of an EXECUTE, ITERATE or REVERSE command
+     */
+    Block getBlock(ParserRuleContext ctx) {
+        Block block = blocks.get(ctx);
+        if (block == null) {
+            throw new BstVMException("No compiled code for line %d".formatted(ctx.start.getLine()));
+        }
+        return block;
+    }
+
+    int getSymbolCount() {
+        return symbols.size();
+    }
+
+    /**
+     * Returns the symbol number of the given identifier, or -1 if the program does not mention it
+     */
+    int getSymbol(String name) {
+        return symbols.getOrDefault(name, -1);
+    }
+
+    private Block compile(BstParser.StackContext stack) {
+        List<Instruction> instructions = new ArrayList<>(stack.stackitem().size());
+        for (BstParser.StackitemContext item : stack.stackitem()) {
+            instructions.add(compile(item));
+        }
+        return new Block(instructions.toArray(Instruction[]::new));
+    }
+
+    private Instruction compile(BstParser.StackitemContext item) {
+        if (item.bstFunction() != null) {
+            return compile(item.bstFunction());
+        }
+        if (item.stack() != null) {
+            return new Push(compile(item.stack()));
+        }
+        if (item.STRING() != null) {
+            String text = item.STRING().getText();
+            return new Push(intern(text.substring(1, text.length() - 1)));
+        }
+        if (item.INTEGER() != null) {
+            return new Push(intern(Integer.parseInt(item.INTEGER().getText().substring(1))));
+        }
+        String name = item.QUOTED().getText().substring(1);
+        // Quoted functions are called by if$ and while$
+        getOrAddSymbol(name);
+        return new Push(intern(new BstVMVisitor.Identifier(name)));
+    }
+
+    private Call compile(BstParser.BstFunctionContext bstFunction) {
+        String name = bstFunction.getChild(0).getText();
+        return new Call(name, getOrAddSymbol(name), bstFunction);
+    }
+
+    private int getOrAddSymbol(String name) {
+        return symbols.computeIfAbsent(name, _ -> symbols.size());
+    }
+
+    private Object intern(Object literal) {
+        return literals.computeIfAbsent(literal, _ -> literal);
+    }
+}
@@ -1,7 +1,10 @@
 package org.jabref.logic.bst;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.List;
@@ -10,6 +13,8 @@ import java.util.stream.Collectors;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.BaseErrorListener;
 import org.antlr.v4.runtime.CharStream;
@@ -26,13 +31,24 @@ public class BstVM {
     protected static final Integer FALSE = 0;
     protected static final Integer TRUE = 1;
 
-    protected final ParseTree tree;
+    // Compiled styles, so that the previews of several entries or libraries do not parse and compile a style again
+    private static final Cache<StyleFile, BstProgram> COMPILED_STYLES = CacheBuilder.newBuilder()
+                                                                                    .maximumSize(16)
+                                                                                    .build();
+
+    private final BstProgram program;
     protected BstVMContext latestContext; // for testing
 
     private Path path = null;
 
+    /**
+     * Identifies a version of a style file. A changed file gets a new key and is compiled again.
+     */
+    private record StyleFile(Path path, FileTime lastModified, long size) {
+    }
+
     public BstVM(Path path) throws RecognitionException, IOException {
-        this(CharStreams.fromPath(path));
+        this(getCompiledStyle(path));
         this.path = path;
     }
 
@@ -41,11 +57,22 @@ public class BstVM {
     }
 
     protected BstVM(CharStream bst) throws RecognitionException {
-        this(charStream2CommonTree(bst));
+        this(new BstProgram(charStream2CommonTree(bst)));
+    }
+
+    private BstVM(BstProgram program) {
+        this.program = program;
     }
 
-    private BstVM(ParseTree tree) {
-        this.tree = tree;
+    private static BstProgram getCompiledStyle(Path path) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        StyleFile styleFile = new StyleFile(path.toAbsolutePath().normalize(), attributes.lastModifiedTime(), attributes.size());
+        BstProgram program = COMPILED_STYLES.getIfPresent(styleFile);
+        if (program == null) {
+            program = new BstProgram(charStream2CommonTree(CharStreams.fromPath(path)));
+            COMPILED_STYLES.put(styleFile, program);
+        }
+        return program;
     }
 
     private static ParseTree charStream2CommonTree(CharStream query) {
@@ -77,8 +104,8 @@ public class BstVM {
         bstVMContext.integers().put("entry.max$", Integer.MAX_VALUE);
         bstVMContext.integers().put("global.max$", Integer.MAX_VALUE);
 
-        BstVMVisitor bstVMVisitor = new BstVMVisitor(bstVMContext, resultBuffer);
-        bstVMVisitor.visit(tree);
+        BstVMVisitor bstVMVisitor = new BstVMVisitor(program, bstVMContext, resultBuffer);
+        bstVMVisitor.visit(program.getTree());
 
         latestContext = bstVMContext;
 
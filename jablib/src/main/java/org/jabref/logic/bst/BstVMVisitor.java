@@ -1,9 +1,16 @@
 package org.jabref.logic.bst;
 
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 import org.jabref.logic.bibtex.FieldPreferences;
 import org.jabref.logic.bibtex.FieldWriter;
@@ -14,25 +21,76 @@ import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.StandardField;
 
 import org.antlr.v4.runtime.ParserRuleContext;
-import org.antlr.v4.runtime.tree.ParseTree;
-import org.antlr.v4.runtime.tree.TerminalNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 class BstVMVisitor extends BstBaseVisitor<Integer> {
     private static final Logger LOGGER = LoggerFactory.getLogger(BstVMVisitor.class);
 
+    // An ITERATE is only split if each task gets at least this many entries
+    private static final int MIN_ENTRIES_PER_TASK = 64;
+
+    // The built-in functions which neither write to the output nor depend on the order of the entries.
+    // warning$ is included, because styles warn about missing fields while computing sort keys; only the order of the
+    // logged warnings changes.
+    private static final Set<String> ORDER_INDEPENDENT_BUILT_INS = Set.of(
+            ">", "<", "=", "+", "-", "*", ":=", "add.period$", "change.case$", "chr.to.int$", "cite$", "duplicate$",
+            "empty$", "format.name$", "if$", "int.to.chr$", "int.to.str$", "missing$", "num.names$", "pop$", "preamble$",
+            "purify$", "quote$", "skip$", "substring$", "swap$", "text.length$", "text.prefix$", "type$", "warning$",
+            "while$", "width$");
+
+    private final BstProgram program;
     private final BstVMContext bstVMContext;
     private final StringBuilder bbl;
 
+    // What the symbols of the program refer to, filled on first use and cleared when a command declares names
+    private final Resolution[] resolutions;
+
+    // Set for the visitors running a part of an ITERATE in parallel, see #iterateInParallel
+    private final GlobalVariableAccesses globalAccesses;
+
     private BstEntry selectedBstEntry = null;
 
     public record Identifier(String name) {
     }
 
-    public BstVMVisitor(BstVMContext bstVMContext, StringBuilder bbl) {
+    private enum Kind {
+        ENTRY_FIELD, ENTRY_STRING, ENTRY_INTEGER, GLOBAL_STRING, GLOBAL_INTEGER, FUNCTION
+    }
+
+    private record Resolution(Kind kind, BstFunctions.BstFunction function) {
+    }
+
+    /**
+     * A function defined by a FUNCTION command
+     */
+    private record CompiledFunction(BstProgram.Block body) implements BstFunctions.BstFunction {
+        @Override
+        public void execute(BstVMVisitor visitor, ParserRuleContext ctx) {
+            visitor.execute(body);
+        }
+    }
+
+    /**
+     * A function defined by a MACRO command
+     */
+    private record MacroFunction(String replacement) implements BstFunctions.BstFunction {
+        @Override
+        public void execute(BstVMVisitor visitor, ParserRuleContext ctx) {
+            visitor.bstVMContext.stack().push(replacement);
+        }
+    }
+
+    public BstVMVisitor(BstProgram program, BstVMContext bstVMContext, StringBuilder bbl) {
+        this(program, bstVMContext, bbl, null);
+    }
+
+    private BstVMVisitor(BstProgram program, BstVMContext bstVMContext, StringBuilder bbl, GlobalVariableAccesses globalAccesses) {
+        this.program = program;
         this.bstVMContext = bstVMContext;
         this.bbl = bbl;
+        this.resolutions = new Resolution[program.getSymbolCount()];
+        this.globalAccesses = globalAccesses;
     }
 
     @Override
@@ -44,6 +102,7 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
         for (BstParser.IdentifierContext identifierContext : ctx.ids.identifier()) {
             bstVMContext.strings().put(identifierContext.getText(), null);
         }
+        clearResolutions();
         return BstVM.TRUE;
     }
 
@@ -52,6 +111,7 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
         for (BstParser.IdentifierContext identifierContext : ctx.ids.identifier()) {
             bstVMContext.integers().put(identifierContext.getText(), 0);
         }
+        clearResolutions();
         return BstVM.TRUE;
     }
 
@@ -59,16 +119,16 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
     public Integer visitFunctionCommand(BstParser.FunctionCommandContext ctx) {
         String name = ctx.id.getText();
         LOGGER.trace("Function: {}", name);
-        bstVMContext.functions().put(name,
-                (visitor, functionContext) -> visitor.visit(ctx.function));
+        bstVMContext.functions().put(name, new CompiledFunction(program.getBlock(ctx.function)));
+        clearResolutions();
         return BstVM.TRUE;
     }
 
     @Override
     public Integer visitMacroCommand(BstParser.MacroCommandContext ctx) {
         String replacement = ctx.repl.getText().substring(1, ctx.repl.getText().length() - 1);
-        bstVMContext.functions().put(ctx.id.getText(),
-                (visitor, functionContext) -> bstVMContext.stack().push(replacement));
+        bstVMContext.functions().put(ctx.id.getText(), new MacroFunction(replacement));
+        clearResolutions();
         return BstVM.TRUE;
     }
 
@@ -109,6 +169,7 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
                 e.fields.put(StandardField.CROSSREF.getName(), null);
             }
         }
+        clearResolutions();
 
         return BstVM.TRUE;
     }
@@ -119,7 +180,7 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
         BstParser.BstFunctionContext bstFunction = ctx.bstFunction();
         String name = bstFunction.getText();
         LOGGER.trace("Executing function {}", name);
-        visit(bstFunction);
+        execute(program.getBlock(bstFunction));
         LOGGER.trace("Finished executing function {}", name);
 
         return BstVM.TRUE;
@@ -129,9 +190,12 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
     public Integer visitIterateCommand(BstParser.IterateCommandContext ctx) {
         String name = ctx.bstFunction().getText();
         LOGGER.trace("Executing {}", name);
-        for (BstEntry entry : bstVMContext.entries()) {
-            this.selectedBstEntry = entry;
-            visit(ctx.bstFunction());
+        BstProgram.Block block = program.getBlock(ctx.bstFunction());
+        if (!iterateInParallel(block)) {
+            for (BstEntry entry : bstVMContext.entries()) {
+                this.selectedBstEntry = entry;
+                execute(block);
+            }
         }
         LOGGER.trace("Finished executing {}", name);
         return BstVM.TRUE;
@@ -139,10 +203,11 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
 
     @Override
     public Integer visitReverseCommand(BstParser.ReverseCommandContext ctx) {
+        BstProgram.Block block = program.getBlock(ctx.bstFunction());
         ListIterator<BstEntry> i = bstVMContext.entries().listIterator(bstVMContext.entries().size());
         while (i.hasPrevious()) {
             this.selectedBstEntry = i.previous();
-            visit(ctx.bstFunction());
+            execute(block);
         }
 
         return BstVM.TRUE;
@@ -177,6 +242,7 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
         for (BstEntry entry : bstVMContext.entries()) {
             entry.localStrings.put("sort.key$", null);
         }
+        clearResolutions();
 
         return BstVM.TRUE;
     }
@@ -187,15 +253,117 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
         return BstVM.TRUE;
     }
 
-    @Override
-    public Integer visitIdentifier(BstParser.IdentifierContext ctx) {
-        String name = ctx.IDENTIFIER().getText();
-        LOGGER.trace("Identifier: {}", name);
-        resolveIdentifier(name, ctx);
-        return BstVM.TRUE;
+    /**
+     * Runs the given compiled code for the selected entry
+     */
+    void execute(BstProgram.Block block) {
+        try {
+            for (BstProgram.Instruction instruction : block.instructions()) {
+                switch (instruction) {
+                    case BstProgram.Push(Object value) ->
+                            bstVMContext.stack().push(value);
+                    case BstProgram.Call(String name, int symbol, ParserRuleContext ctx) ->
+                            call(symbol, name, ctx);
+                }
+            }
+        } catch (BstVMException e) {
+            // A failing parallel ITERATE is repeated sequentially, which reports the error
+            if (globalAccesses == null) {
+                bstVMContext.path().ifPresentOrElse(
+                        path -> LOGGER.error("{} ({})", e.getMessage(), path, e),
+                        () -> LOGGER.error("", e));
+            }
+            throw e;
+        }
     }
 
     protected void resolveIdentifier(String name, ParserRuleContext ctx) {
+        int symbol = program.getSymbol(name);
+        if (symbol < 0) {
+            resolveUncached(name, ctx);
+        } else {
+            call(symbol, name, ctx);
+        }
+    }
+
+    private void call(int symbol, String name, ParserRuleContext ctx) {
+        Resolution resolution = resolutions[symbol];
+        if (resolution == null) {
+            resolution = resolve(name);
+            if (resolution == null) {
+                resolveUncached(name, ctx);
+                return;
+            }
+            resolutions[symbol] = resolution;
+        }
+
+        switch (resolution.kind()) {
+            case ENTRY_FIELD, ENTRY_STRING, ENTRY_INTEGER ->
+                    pushEntryVariable(resolution.kind(), name, ctx);
+            case GLOBAL_STRING ->
+                    bstVMContext.stack().push(bstVMContext.strings().get(name));
+            case GLOBAL_INTEGER ->
+                    bstVMContext.stack().push(bstVMContext.integers().get(name));
+            case FUNCTION ->
+                    resolution.function().execute(this, ctx, selectedBstEntry);
+        }
+    }
+
+    private void pushEntryVariable(Kind kind, String name, ParserRuleContext ctx) {
+        if (selectedBstEntry != null) {
+            Map<String, ?> variables = switch (kind) {
+                case ENTRY_FIELD -> selectedBstEntry.fields;
+                case ENTRY_STRING -> selectedBstEntry.localStrings;
+                default -> selectedBstEntry.localIntegers;
+            };
+            Object value = variables.get(name);
+            if ((value != null) || variables.containsKey(name)) {
+                bstVMContext.stack().push(value);
+                return;
+            }
+        }
+        // Without a selected entry, e.g., in EXECUTE, the name refers to a global variable or a function
+        resolveUncached(name, ctx);
+    }
+
+    /**
+     * Determines what the name refers to in the same order as {@link #resolveUncached(String, ParserRuleContext)}.
+     * All entries have the same fields and entry variables, thus it is sufficient to check the first entry.
+     *
+     * @return null if the name is unknown
+     */
+    private Resolution resolve(String name) {
+        List<BstEntry> entries = bstVMContext.entries();
+        if (!entries.isEmpty()) {
+            BstEntry entry = entries.getFirst();
+            if (entry.fields.containsKey(name)) {
+                return new Resolution(Kind.ENTRY_FIELD, null);
+            }
+            if (entry.localStrings.containsKey(name)) {
+                return new Resolution(Kind.ENTRY_STRING, null);
+            }
+            if (entry.localIntegers.containsKey(name)) {
+                return new Resolution(Kind.ENTRY_INTEGER, null);
+            }
+        }
+        if (bstVMContext.strings().containsKey(name)) {
+            return new Resolution(Kind.GLOBAL_STRING, null);
+        }
+        if (bstVMContext.integers().containsKey(name)) {
+            return new Resolution(Kind.GLOBAL_INTEGER, null);
+        }
+        BstFunctions.BstFunction function = bstVMContext.functions().get(name);
+        if (function != null) {
+            return new Resolution(Kind.FUNCTION, function);
+        }
+        return null;
+    }
+
+    private void clearResolutions() {
+        Arrays.fill(resolutions, null);
+    }
+
+    private void resolveUncached(String name, ParserRuleContext ctx) {
         LOGGER.trace("Resolving name {} at resolveIdentifier", name);
         LOGGER.trace("Stack: {}", bstVMContext.stack());
         if (selectedBstEntry != null) {
@@ -242,41 +410,208 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
         throw new BstVMException("No matching identifier found: " + name);
     }
 
-    @Override
-    public Integer visitBstFunction(BstParser.BstFunctionContext ctx) {
-        String name = ctx.getChild(0).getText();
-        LOGGER.trace("Resolving name {} at visitBstFunction", name);
-        resolveIdentifier(name, ctx);
-        return BstVM.TRUE;
-    }
+    /**
+     * Runs an ITERATE in parallel for parts of the entries if the function does not write to the output.
+     * <p>
+     * Styles use global variables as temporary variables while processing an entry, e.g., {@code s} and
+     * {@code nameptr} in {@code sort.format.names}. Thus, each part gets its own copy of the global variables and the
+     * accesses to them are recorded. The result is the same as the one of the sequential ITERATE if no entry reads a
+     * global variable written by the ITERATE before writing it itself. Otherwise, or if the function fails, the changes
+     * to the entries are undone and the caller runs the ITERATE sequentially.
+     *
+     * @return false if the caller has to run the ITERATE sequentially
+     */
+    private boolean iterateInParallel(BstProgram.Block block) {
+        List<BstEntry> entries = bstVMContext.entries();
+        int tasks = Math.min(ForkJoinPool.getCommonPoolParallelism(), entries.size() / MIN_ENTRIES_PER_TASK);
+        if ((tasks < 2) || !isOrderIndependent(block, new HashSet<>())) {
+            return false;
+        }
 
-    @Override
-    public Integer visitStackitem(BstParser.StackitemContext ctx) {
-        for (ParseTree childNode : ctx.children) {
-            try {
-                if (childNode instanceof TerminalNode token) {
-                    switch (token.getSymbol().getType()) {
-                        case BstParser.STRING -> {
-                            String s = token.getText();
-                            bstVMContext.stack().push(s.substring(1, s.length() - 1));
-                        }
-                        case BstParser.INTEGER ->
-                                bstVMContext.stack().push(Integer.parseInt(token.getText().substring(1)));
-                        case BstParser.QUOTED ->
-                                bstVMContext.stack().push(new Identifier(token.getText().substring(1)));
+        List<Map<String, String>> localStrings = entries.stream().<Map<String, String>>map(entry -> new HashMap<>(entry.localStrings)).toList();
+        List<Map<String, Integer>> localIntegers = entries.stream().<Map<String, Integer>>map(entry -> new HashMap<>(entry.localIntegers)).toList();
+
+        BstVMVisitor[] workers = new BstVMVisitor[tasks];
+        // The values each entry left on the stack, the top first
+        Object[][] leftovers = new Object[entries.size()][];
+        try {
+            IntStream.range(0, tasks).parallel().forEach(task -> {
+                BstVMVisitor worker = createWorker();
+                workers[task] = worker;
+                int from = entries.size() * task / tasks;
+                int to = entries.size() * (task + 1) / tasks;
+                for (int i = from; i < to; i++) {
+                    worker.globalAccesses.startEntry();
+                    worker.selectedBstEntry = entries.get(i);
+                    worker.execute(block);
+                    if (!worker.bstVMContext.stack().isEmpty()) {
+                        leftovers[i] = worker.bstVMContext.stack().toArray();
+                        worker.bstVMContext.stack().clear();
                     }
-                } else if (childNode instanceof BstParser.StackContext) {
-                    bstVMContext.stack().push(childNode);
-                } else {
-                    this.visit(childNode);
                 }
-            } catch (BstVMException e) {
-                bstVMContext.path().ifPresentOrElse(
-                        path -> LOGGER.error("{} ({})", e.getMessage(), path, e),
-                        () -> LOGGER.error("", e));
-                throw e;
+            });
+        } catch (RuntimeException e) {
+            // E.g., an entry consumed the values another entry left on the stack
+            LOGGER.debug("Could not iterate in parallel", e);
+            restoreEntryVariables(localStrings, localIntegers);
+            return false;
+        }
+
+        Set<String> written = new HashSet<>();
+        for (BstVMVisitor worker : workers) {
+            written.addAll(worker.globalAccesses.strings.written);
+            written.addAll(worker.globalAccesses.integers.written);
+        }
+        for (BstVMVisitor worker : workers) {
+            if (worker.globalAccesses.readBeforeWritten.stream().anyMatch(written::contains)) {
+                LOGGER.debug("Iterating sequentially, because entries depend on global variables written for other entries");
+                restoreEntryVariables(localStrings, localIntegers);
+                return false;
+            }
+        }
+
+        // The parts are in the order of the entries, thus the last part writing a variable has the final value
+        for (BstVMVisitor worker : workers) {
+            worker.globalAccesses.strings.copyWrittenTo(bstVMContext.strings());
+            worker.globalAccesses.integers.copyWrittenTo(bstVMContext.integers());
+        }
+        for (Object[] values : leftovers) {
+            if (values != null) {
+                for (int i = values.length - 1; i >= 0; i--) {
+                    bstVMContext.stack().push(values[i]);
+                }
+            }
+        }
+        selectedBstEntry = entries.getLast();
+        return true;
+    }
+
+    private void restoreEntryVariables(List<Map<String, String>> localStrings, List<Map<String, Integer>> localIntegers) {
+        List<BstEntry> entries = bstVMContext.entries();
+        for (int i = 0; i < entries.size(); i++) {
+            entries.get(i).localStrings.putAll(localStrings.get(i));
+            entries.get(i).localIntegers.putAll(localIntegers.get(i));
+        }
+    }
+
+    /**
+     * Creates a visitor with its own stack and its own copy of the global variables for a parallel ITERATE
+     */
+    private BstVMVisitor createWorker() {
+        GlobalVariableAccesses accesses = new GlobalVariableAccesses(bstVMContext.strings(), bstVMContext.integers());
+        BstVMContext context = new BstVMContext(
+                bstVMContext.entries(),
+                accesses.strings,
+                accesses.integers,
+                new HashMap<>(),
+                new LinkedList<>(),
+                bstVMContext.bibDatabase(),
+                bstVMContext.path());
+        // The built-in functions use the stack of the context they are created for
+        context.functions().putAll(new BstFunctions(context, bbl).getBuiltInFunctions());
+        bstVMContext.functions().forEach((name, function) -> {
+            if ((function instanceof CompiledFunction) || (function instanceof MacroFunction)) {
+                context.functions().put(name, function);
+            }
+        });
+        return new BstVMVisitor(program, context, bbl, accesses);
+    }
+
+    private boolean isOrderIndependent(BstProgram.Block block, Set<String> checkedFunctions) {
+        for (BstProgram.Instruction instruction : block.instructions()) {
+            boolean independent = switch (instruction) {
+                case BstProgram.Push(BstProgram.Block nested) ->
+                        isOrderIndependent(nested, checkedFunctions);
+                // Quoted functions might be called by if$ and while$
+                case BstProgram.Push(Identifier(String name)) ->
+                        isOrderIndependent(name, checkedFunctions);
+                case BstProgram.Push _ ->
+                        true;
+                case BstProgram.Call call ->
+                        isOrderIndependent(call.name(), checkedFunctions);
+            };
+            if (!independent) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isOrderIndependent(String name, Set<String> checkedFunctions) {
+        Resolution resolution = resolve(name);
+        if (resolution == null) {
+            // The sequential ITERATE reports the unknown name
+            return false;
+        }
+        if ((resolution.kind() != Kind.FUNCTION) || !checkedFunctions.add(name)) {
+            return true;
+        }
+        return switch (resolution.function()) {
+            case CompiledFunction(BstProgram.Block body) ->
+                    isOrderIndependent(body, checkedFunctions);
+            case MacroFunction _ ->
+                    true;
+            default ->
+                    ORDER_INDEPENDENT_BUILT_INS.contains(name);
+        };
+    }
+
+    /**
+     * The copies of the global variables of one part of a parallel ITERATE, recording which entry accessed them
+     */
+    private static class GlobalVariableAccesses {
+        private final TrackedVariables<String> strings;
+        private final TrackedVariables<Integer> integers;
+        // The variables read for an entry before they were written for it, so that they might have been read from another entry
+        private final Set<String> readBeforeWritten = new HashSet<>();
+        private final Set<String> writtenForEntry = new HashSet<>();
+
+        GlobalVariableAccesses(Map<String, String> strings, Map<String, Integer> integers) {
+            this.strings = new TrackedVariables<>(strings, this);
+            this.integers = new TrackedVariables<>(integers, this);
+        }
+
+        void startEntry() {
+            writtenForEntry.clear();
+        }
+
+        void read(Object name) {
+            if ((name instanceof String variable) && !writtenForEntry.contains(variable)) {
+                readBeforeWritten.add(variable);
+            }
+        }
+
+        void written(String name) {
+            writtenForEntry.add(name);
+        }
+    }
+
+    private static class TrackedVariables<V> extends HashMap<String, V> {
+        private final GlobalVariableAccesses accesses;
+        private final Set<String> written = new HashSet<>();
+
+        TrackedVariables(Map<String, V> variables, GlobalVariableAccesses accesses) {
+            super(variables);
+            this.accesses = accesses;
+        }
+
+        @Override
+        public V get(Object key) {
+            accesses.read(key);
+            return super.get(key);
+        }
+
+        @Override
+        public V put(String key, V value) {
+            accesses.written(key);
+            written.add(key);
+            return super.put(key, value);
+        }
+
+        void copyWrittenTo(Map<String, V> variables) {
+            for (String name : written) {
+                variables.put(name, super.get(name));
             }
         }
-        return BstVM.TRUE;
     }
 }
@@ -0,0 +1,175 @@
+package org.jabref.logic.citation.repository;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jabref.logic.bibtex.comparator.BibEntryCompare;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.EntryType;
+import org.jabref.model.entry.types.EntryTypeFactory;
+
+import org.h2.mvstore.DataUtils;
+import org.h2.mvstore.WriteBuffer;
+import org.h2.mvstore.type.BasicDataType;
+import org.jspecify.annotations.NonNull;
+
+/// Compact binary serialization of a {@link BibEntry} for the MVStore.
+///
+/// In contrast to {@link BibEntrySerializer}, the entry is neither written as BibTeX nor parsed on reading.
+/// Layout of one entry:
+///
+/// ```
+/// version (1 byte)
+/// entry type name (varint length + UTF-8)
+/// number of fields (varint)
+/// per field: field id (varint), [field name (varint length + UTF-8) if id is 0], value (varint length + UTF-8)
+/// ```
+///
+/// Commonly used fields are written as ids of {@link #KNOWN_FIELDS}. All other fields are written by name.
+class BibEntryBinarySerializer extends BasicDataType<BibEntry> {
+
+    static final byte VERSION = 1;
+
+    /// Id 0 is reserved for fields written by name.
+    /// The list is persisted implicitly by the ids stored in the MVStore. Thus, new fields may only be appended.
+    private static final List<Field> KNOWN_FIELDS = List.of(
+            InternalField.KEY_FIELD,
+            StandardField.AUTHOR,
+            StandardField.TITLE,
+            StandardField.YEAR,
+            StandardField.DATE,
+            StandardField.MONTH,
+            StandardField.JOURNAL,
+            StandardField.JOURNALTITLE,
+            StandardField.BOOKTITLE,
+            StandardField.EDITOR,
+            StandardField.PUBLISHER,
+            StandardField.VOLUME,
+            StandardField.NUMBER,
+            StandardField.PAGES,
+            StandardField.DOI,
+            StandardField.URL,
+            StandardField.ABSTRACT,
+            StandardField.KEYWORDS,
+            StandardField.ISBN,
+            StandardField.ISSN,
+            StandardField.EPRINT,
+            StandardField.EPRINTTYPE,
+            StandardField.NOTE,
+            StandardField.SCHOOL,
+            StandardField.INSTITUTION,
+            StandardField.ADDRESS,
+            StandardField.EDITION,
+            StandardField.SERIES,
+            StandardField.CITATIONCOUNT);
+
+    private static final Map<Field, Integer> KNOWN_FIELD_IDS = new HashMap<>();
+
+    static {
+        for (int i = 0; i < KNOWN_FIELDS.size(); i++) {
+            KNOWN_FIELD_IDS.put(KNOWN_FIELDS.get(i), i + 1);
+        }
+    }
+
+    private final Map<String, Field> fieldsByName = new ConcurrentHashMap<>();
+    private final Map<String, EntryType> entryTypesByName = new ConcurrentHashMap<>();
+
+    @Override
+    public int getMemory(BibEntry entry) {
+        // Estimation only: Java strings use up to two bytes per character
+        int memory = 32 + (2 * entry.getType().getName().length());
+        for (Map.Entry<Field, String> field : entry.getFieldMap().entrySet()) {
+            memory += 16 + (2 * field.getValue().length());
+        }
+        return memory;
+    }
+
+    @Override
+    public void write(WriteBuffer buff, BibEntry entry) {
+        buff.put(VERSION);
+        putString(buff, entry.getType().getName());
+        Map<Field, String> fields = entry.getFieldMap();
+        buff.putVarInt(fields.size());
+        for (Map.Entry<Field, String> field : fields.entrySet()) {
+            Integer fieldId = KNOWN_FIELD_IDS.get(field.getKey());
+            if (fieldId == null) {
+                buff.putVarInt(0);
+                putString(buff, field.getKey().getName());
+            } else {
+                buff.putVarInt(fieldId);
+            }
+            putString(buff, field.getValue());
+        }
+    }
+
+    @Override
+    public BibEntry read(ByteBuffer buff) {
+        byte version = buff.get();
+        if (version != VERSION) {
+            // The length of the entry is unknown, thus the following entries cannot be read either
+            throw new UnsupportedEntryVersionException(version);
+        }
+        String typeName = getString(buff);
+        BibEntry entry = new BibEntry(entryTypesByName.computeIfAbsent(typeName, EntryTypeFactory::parse));
+        int fieldCount = DataUtils.readVarInt(buff);
+        Map<Field, String> fields = HashMap.newHashMap(fieldCount);
+        for (int i = 0; i < fieldCount; i++) {
+            int fieldId = DataUtils.readVarInt(buff);
+            Field field;
+            if (fieldId == 0) {
+                field = fieldsByName.computeIfAbsent(getString(buff), FieldFactory::parseField);
+            } else {
+                field = KNOWN_FIELDS.get(fieldId - 1);
+            }
+            fields.put(field, getString(buff));
+        }
+        entry.setField(fields);
+        entry.setChanged(false);
+        return entry;
+    }
+
+    private static void putString(WriteBuffer buff, String string) {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        buff.putVarInt(bytes.length);
+        buff.put(bytes);
+    }
+
+    private static String getString(ByteBuffer buff) {
+        byte[] bytes = new byte[DataUtils.readVarInt(buff)];
+        buff.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int compare(@NonNull BibEntry a, @NonNull BibEntry b) {
+        return switch (BibEntryCompare.compareEntries(a, b)) {
+            case SUBSET ->
+                    -1;
+            case SUPERSET ->
+                    1;
+            case EQUAL ->
+                    0;
+            default ->
+                    Objects.compare(a.hashCode(), b.hashCode(), Integer::compare);
+        };
+    }
+
+    @Override
+    public BibEntry[] createStorage(int size) {
+        return new BibEntry[size];
+    }
+
+    @Override
+    public boolean isMemoryEstimationAllowed() {
+        return false;
+    }
+}
@@ -15,10 +15,12 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
 import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
 import org.h2.mvstore.type.BasicDataType;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,6 +35,7 @@ public class MVStoreBibEntryRelationRepository implements BibEntryRelationReposi
     private final static ZoneId TIME_STAMP_ZONE_ID = ZoneId.of("UTC");
     private final static Clock CLOCK = Clock.system(TIME_STAMP_ZONE_ID);
     private final static String MAP_SUFFIX_TIME_STAMP = "-insertion-timestamp";
+    private final static String MAP_SUFFIX_BINARY = "-binary";
 
     private final int storeTTLInDays;
     private final MVMap<String, LinkedHashSet<BibEntry>> relationsMap;
@@ -52,6 +55,7 @@ public class MVStoreBibEntryRelationRepository implements BibEntryRelationReposi
                 path,
                 mapName,
                 storeTTLInDays,
+                new BibEntryHashSetSerializer(new BibEntryBinarySerializer()),
                 new BibEntryHashSetSerializer(entryTypesManager, importFormatPreferences, fieldPreferences)
         );
     }
@@ -61,6 +65,17 @@ public class MVStoreBibEntryRelationRepository implements BibEntryRelationReposi
                                       String mapName,
                                       int storeTTLInDays,
                                       BasicDataType<LinkedHashSet<BibEntry>> serializer) {
+        this(path, mapName, storeTTLInDays, serializer, null);
+    }
+
+    /**
+     * @param legacySerializer serializer of the relations stored as BibTeX text by earlier versions of JabRef. If present, these relations are migrated to the binary format.
+     */
+    private MVStoreBibEntryRelationRepository(Path path,
+                                              String mapName,
+                                              int storeTTLInDays,
+                                              BasicDataType<LinkedHashSet<BibEntry>> serializer,
+                                              @Nullable BasicDataType<LinkedHashSet<BibEntry>> legacySerializer) {
         try {
             Files.createDirectories(path.getParent());
             if (!Files.exists(path)) {
@@ -77,16 +92,55 @@ public class MVStoreBibEntryRelationRepository implements BibEntryRelationReposi
         store = new MVStore.Builder()
                 .fileName(path.toAbsolutePath().toString())
                 .open();
-        this.relationsMap = store.openMap(mapName, mapConfiguration);
+        this.relationsMap = store.openMap(mapName + MAP_SUFFIX_BINARY, mapConfiguration);
         this.insertionTimeStampMap = store.openMap(mapName + MAP_SUFFIX_TIME_STAMP);
+
+        if (legacySerializer != null) {
+            migrateTextRelations(mapName, legacySerializer);
+        }
+    }
+
+    /**
+     * Earlier versions stored the relations as BibTeX text in the map named {@code mapName}. These are parsed once, stored in the binary map, and removed.
+     */
+    private void migrateTextRelations(String mapName, BasicDataType<LinkedHashSet<BibEntry>> legacySerializer) {
+        if (!store.hasMap(mapName)) {
+            return;
+        }
+        LOGGER.info("Migrating {} storage to binary format", mapName);
+        MVMap<String, LinkedHashSet<BibEntry>> legacyMap = store.openMap(mapName, new MVMap.Builder<String, LinkedHashSet<BibEntry>>().valueType(legacySerializer));
+        legacyMap.forEach(relationsMap::putIfAbsent);
+        store.removeMap(legacyMap);
+        store.commit();
     }
 
     @Override
     public List<BibEntry> getRelations(BibEntry entry) {
-        return entry
-                .getDOI()
-                .map(doi -> relationsMap.getOrDefault(doi.asString(), new LinkedHashSet<>()).stream().toList())
-                .orElse(List.of());
+        try {
+            return entry
+                    .getDOI()
+                    .map(doi -> relationsMap.getOrDefault(doi.asString(), new LinkedHashSet<>()).stream().toList())
+                    .orElse(List.of());
+        } catch (RuntimeException e) {
+            dropUnreadableRelations(e);
+            return List.of();
+        }
+    }
+
+    /**
+     * The relations are read page by page. If one relation cannot be read, because it was written by a newer
+     * version of JabRef, the whole store is dropped. The relations are fetched again on the next request.
+     * All other errors, e.g., of the store file itself, are rethrown.
+     *
+     * @param e the error while reading, possibly wrapped by the MVStore
+     */
+    private synchronized void dropUnreadableRelations(RuntimeException e) {
+        if (Throwables.getCausalChain(e).stream().noneMatch(UnsupportedEntryVersionException.class::isInstance)) {
+            throw e;
+        }
+        LOGGER.warn("Could not read the stored relations, they are fetched again", e);
+        relationsMap.clear();
+        insertionTimeStampMap.clear();
     }
 
     /**
@@ -97,7 +151,13 @@ public class MVStoreBibEntryRelationRepository implements BibEntryRelationReposi
         entry.getDOI().ifPresent(doi -> {
             if (!relations.isEmpty()) {
                 // Save the relations
-                LinkedHashSet<BibEntry> relationsAlreadyStored = relationsMap.getOrDefault(doi.asString(), new LinkedHashSet<>());
+                LinkedHashSet<BibEntry> relationsAlreadyStored;
+                try {
+                    relationsAlreadyStored = relationsMap.getOrDefault(doi.asString(), new LinkedHashSet<>());
+                } catch (RuntimeException e) {
+                    dropUnreadableRelations(e);
+                    relationsAlreadyStored = new LinkedHashSet<>();
+                }
                 relationsAlreadyStored.addAll(relations);
                 relationsMap.put(doi.asString(), relationsAlreadyStored);
             }
@@ -110,10 +170,15 @@ public class MVStoreBibEntryRelationRepository implements BibEntryRelationReposi
 
     @Override
     synchronized public boolean containsKey(BibEntry entry) {
-        return entry
-                .getDOI()
-                .map(doi -> relationsMap.containsKey(doi.asString()))
-                .orElse(false);
+        try {
+            return entry
+                    .getDOI()
+                    .map(doi -> relationsMap.containsKey(doi.asString()))
+                    .orElse(false);
+        } catch (RuntimeException e) {
+            dropUnreadableRelations(e);
+            return false;
+        }
     }
 
     @Override
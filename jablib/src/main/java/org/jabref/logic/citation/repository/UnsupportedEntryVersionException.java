@@ -0,0 +1,10 @@
+package org.jabref.logic.citation.repository;
+
+/// Thrown by {@link BibEntryBinarySerializer} if a stored entry was written in a version it cannot read,
+/// e.g., by a newer version of JabRef.
+class UnsupportedEntryVersionException extends RuntimeException {
+
+    UnsupportedEntryVersionException(byte version) {
+        super("Unsupported version %d of serialized entry in relation MV store".formatted(version));
+    }
+}
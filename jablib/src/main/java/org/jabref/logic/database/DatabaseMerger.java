@@ -48,18 +48,18 @@ public class DatabaseMerger {
      * @param other The other databases that is merged into this database
      */
     public synchronized void merge(BibDatabaseContext target, BibDatabaseContext other, String otherFileName) {
-        mergeEntries(target.getDatabase(), other.getDatabase());
+        mergeEntries(target, other.getDatabase());
         mergeStrings(target.getDatabase(), other.getDatabase());
         mergeMetaData(target.getMetaData(), other.getMetaData(), otherFileName, other.getEntries());
     }
 
-    private void mergeEntries(BibDatabase target, BibDatabase other) {
+    private void mergeEntries(BibDatabaseContext target, BibDatabase other) {
         DuplicateCheck duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
         List<BibEntry> newEntries = other.getEntries().stream()
                                          // Remove all entries that are already part of the database (duplicate)
-                                         .filter(entry -> duplicateCheck.containsDuplicate(target, entry, BibDatabaseModeDetection.inferMode(target)).isEmpty())
+                                         .filter(entry -> duplicateCheck.containsDuplicate(target, entry, BibDatabaseModeDetection.inferMode(target.getDatabase())).isEmpty())
                                          .collect(Collectors.toList());
-        target.insertEntries(newEntries);
+        target.getDatabase().insertEntries(newEntries);
     }
 
     public void mergeStrings(BibDatabase target, BibDatabase other) {
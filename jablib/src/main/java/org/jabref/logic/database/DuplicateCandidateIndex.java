@@ -0,0 +1,249 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.StandardField;
+
+import com.google.common.eventbus.Subscribe;
+
+/// Blocking index to find duplicate candidates of an entry without comparing it to every entry of the library.
+///
+/// Each entry is put into several "blocks":
+///
+/// - one block per identifier (DOI, eprint, ...) and ISBN, matching exactly
+/// - one block per pair of consecutive words of the normalized title, ignoring stop words such as "of" or "the"
+/// - one block for the family name of the first author combined with the year
+///
+/// Title and author blocks are additionally separated by entry type, because {@link DuplicateCheck#isDuplicate(BibEntry, BibEntry, BibDatabaseMode)} never reports entries of different types as duplicates (except for equal identifiers).
+/// Only entries sharing at least one block with the entry to check are handed to the full duplicate scoring.
+/// Entries without any block (e.g., no title, no author, no identifier) are always considered as candidates.
+/// Blocks having more than {@link #MAXIMUM_BLOCK_SIZE} entries (e.g., a common title phrase or a placeholder DOI) are too unspecific and thus skipped,
+/// because comparing all their entries with each other would take quadratic time.
+///
+/// The index listens to the events of the database and is thus kept up to date on entry additions, removals and field changes.
+/// The index of a library is held by {@link org.jabref.model.database.BibDatabaseContext#getDuplicateCandidateIndex()}.
+public class DuplicateCandidateIndex {
+
+    static final int MAXIMUM_BLOCK_SIZE = 100;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "into", "is", "its", "of", "on", "or",
+            "over", "the", "their", "to", "towards", "under", "using", "via", "with");
+
+    private final Map<String, Set<BibEntry>> blocks = new HashMap<>();
+    private final Map<BibEntry, Set<String>> blocksOfEntry = new IdentityHashMap<>();
+    private final Set<BibEntry> unblockedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    public DuplicateCandidateIndex(BibDatabase database) {
+        database.getEntries().forEach(this::add);
+        database.registerListener(this);
+    }
+
+    /// Returns all entries which possibly are duplicates of the given entry, sorted in the order they were added to the database.
+    /// If the given entry is part of the database, it is contained in the result.
+    public synchronized List<BibEntry> getCandidates(BibEntry entry) {
+        Set<String> keys = computeBlockKeys(entry);
+        Set<BibEntry> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (keys.isEmpty()) {
+            // Nothing to block on, thus every entry is a candidate
+            candidates.addAll(blocksOfEntry.keySet());
+        } else {
+            for (String key : keys) {
+                Set<BibEntry> block = blocks.getOrDefault(key, Set.of());
+                if (block.size() <= MAXIMUM_BLOCK_SIZE) {
+                    candidates.addAll(block);
+                }
+            }
+            candidates.addAll(unblockedEntries);
+        }
+        List<BibEntry> result = new ArrayList<>(candidates);
+        result.sort(Comparator.comparing(BibEntry::getId));
+        return result;
+    }
+
+    /// Finds all groups of duplicates in the library. Two entries are in the same group if they are (transitively) duplicates of each other.
+    /// Only entries sharing a block are compared, thus the run time is nearly linear in the number of entries.
+    ///
+    /// @return groups having at least two entries, each sorted in the order the entries were added to the database
+    public synchronized List<List<BibEntry>> findDuplicateClusters(DuplicateCheck duplicateCheck, BibDatabaseMode mode) {
+        List<BibEntry> entries = new ArrayList<>(blocksOfEntry.keySet());
+        entries.sort(Comparator.comparing(BibEntry::getId));
+        Map<BibEntry, Integer> ordinals = new IdentityHashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            ordinals.put(entries.get(i), i);
+        }
+
+        int[] parent = new int[entries.size()];
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+        }
+
+        Set<Long> comparedPairs = new HashSet<>();
+        for (Set<BibEntry> block : blocks.values()) {
+            if (block.size() > MAXIMUM_BLOCK_SIZE) {
+                continue;
+            }
+            List<BibEntry> blockEntries = new ArrayList<>(block);
+            for (int i = 0; i < blockEntries.size() - 1; i++) {
+                for (int j = i + 1; j < blockEntries.size(); j++) {
+                    union(parent, ordinals.get(blockEntries.get(i)), ordinals.get(blockEntries.get(j)), entries, comparedPairs, duplicateCheck, mode);
+                }
+            }
+        }
+        // Unblocked entries have to be compared to every other entry
+        for (BibEntry unblockedEntry : unblockedEntries) {
+            int one = ordinals.get(unblockedEntry);
+            for (int two = 0; two < entries.size(); two++) {
+                if (one != two) {
+                    union(parent, one, two, entries, comparedPairs, duplicateCheck, mode);
+                }
+            }
+        }
+
+        Map<Integer, List<BibEntry>> clusters = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            clusters.computeIfAbsent(find(parent, i), _ -> new ArrayList<>()).add(entries.get(i));
+        }
+        return clusters.values().stream()
+                       .filter(cluster -> cluster.size() > 1)
+                       .sorted(Comparator.comparing(cluster -> cluster.getFirst().getId()))
+                       .toList();
+    }
+
+    private static void union(int[] parent, int one, int two, List<BibEntry> entries, Set<Long> comparedPairs, DuplicateCheck duplicateCheck, BibDatabaseMode mode) {
+        int first = Math.min(one, two);
+        int second = Math.max(one, two);
+        if (find(parent, first) == find(parent, second) || !comparedPairs.add(((long) first << 32) | second)) {
+            return;
+        }
+        if (duplicateCheck.isDuplicate(entries.get(first), entries.get(second), mode)) {
+            parent[find(parent, first)] = find(parent, second);
+        }
+    }
+
+    private static int find(int[] parent, int node) {
+        int root = node;
+        while (parent[root] != root) {
+            root = parent[root];
+        }
+        // path compression
+        while (parent[node] != root) {
+            int next = parent[node];
+            parent[node] = root;
+            node = next;
+        }
+        return root;
+    }
+
+    private synchronized void add(BibEntry entry) {
+        Set<String> keys = computeBlockKeys(entry);
+        blocksOfEntry.put(entry, keys);
+        if (keys.isEmpty()) {
+            unblockedEntries.add(entry);
+        }
+        for (String key : keys) {
+            blocks.computeIfAbsent(key, _ -> Collections.newSetFromMap(new IdentityHashMap<>())).add(entry);
+        }
+    }
+
+    private synchronized void remove(BibEntry entry) {
+        Set<String> keys = blocksOfEntry.remove(entry);
+        if (keys == null) {
+            return;
+        }
+        unblockedEntries.remove(entry);
+        for (String key : keys) {
+            Set<BibEntry> block = blocks.get(key);
+            if (block != null) {
+                block.remove(entry);
+                if (block.isEmpty()) {
+                    blocks.remove(key);
+                }
+            }
+        }
+    }
+
+    @Subscribe
+    public void listen(EntriesAddedEvent event) {
+        event.getBibEntries().forEach(this::add);
+    }
+
+    @Subscribe
+    public void listen(EntriesRemovedEvent event) {
+        event.getBibEntries().forEach(this::remove);
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldChangedEvent event) {
+        BibEntry entry = event.getBibEntry();
+        if (blocksOfEntry.containsKey(entry)) {
+            remove(entry);
+            add(entry);
+        }
+    }
+
+    static Set<String> computeBlockKeys(BibEntry entry) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (Field field : entry.getFields()) {
+            if (field.getProperties().contains(FieldProperty.IDENTIFIER)) {
+                entry.getField(field)
+                     .map(value -> value.trim().toLowerCase(Locale.ROOT))
+                     .filter(value -> !value.isEmpty())
+                     .ifPresent(value -> keys.add("id:" + field.getName() + ":" + value));
+            }
+        }
+        entry.getISBN().ifPresent(isbn -> keys.add("isbn:" + isbn.asString().toLowerCase(Locale.ROOT)));
+
+        String type = entry.getType().getName().toLowerCase(Locale.ROOT);
+        entry.getFieldLatexFree(StandardField.TITLE).ifPresent(title -> {
+            List<String> words = Arrays.stream(normalize(title).split(" "))
+                                       .filter(word -> !word.isEmpty() && !STOP_WORDS.contains(word))
+                                       .toList();
+            if (words.size() == 1) {
+                keys.add("title:" + type + ":" + words.getFirst());
+            }
+            for (int i = 0; i < words.size() - 1; i++) {
+                keys.add("title:" + type + ":" + words.get(i) + " " + words.get(i + 1));
+            }
+        });
+
+        Optional<String> year = entry.getFieldOrAlias(StandardField.YEAR).map(String::trim);
+        Optional<String> firstAuthor = entry.getFieldLatexFree(StandardField.AUTHOR)
+                                            .map(AuthorList::parse)
+                                            .filter(authors -> !authors.isEmpty())
+                                            .flatMap(authors -> authors.getAuthor(0).getFamilyName())
+                                            .map(DuplicateCandidateIndex::normalize)
+                                            .filter(name -> !name.isEmpty());
+        if (year.isPresent() && firstAuthor.isPresent()) {
+            keys.add("author:" + type + ":" + firstAuthor.get() + ":" + year.get());
+        }
+        return keys;
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT)
+                   .replaceAll("[^\\p{L}\\p{N}]+", " ")
+                   .trim();
+    }
+}
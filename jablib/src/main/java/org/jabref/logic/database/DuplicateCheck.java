@@ -12,7 +12,7 @@ import java.util.stream.Collectors;
 
 import org.jabref.logic.os.OS;
 import org.jabref.logic.util.strings.StringSimilarity;
-import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
@@ -349,19 +349,20 @@ public class DuplicateCheck {
     }
 
     /**
-     * Goes through all entries in the given database, and if at least one of
-     * them is a duplicate of the given entry, as per
-     * Util.isDuplicate(BibEntry, BibEntry), the duplicate is returned.
+     * Goes through the entries in the given library sharing a block of the {@link DuplicateCandidateIndex} with the given entry,
+     * and if at least one of them is a duplicate of the given entry, as per
+     * {@link #isDuplicate(BibEntry, BibEntry, BibDatabaseMode)}, the duplicate is returned.
      * The search is terminated when the first duplicate is found.
      *
-     * @param database The database to search.
+     * @param databaseContext The library to search.
      * @param entry    The entry of which we are looking for duplicates.
      * @return The first duplicate entry found. Empty Optional if no duplicates are found.
      */
-    public Optional<BibEntry> containsDuplicate(final BibDatabase database,
+    public Optional<BibEntry> containsDuplicate(final BibDatabaseContext databaseContext,
                                                 final BibEntry entry,
                                                 final BibDatabaseMode bibDatabaseMode) {
-
-        return database.getEntries().stream().filter(other -> isDuplicate(entry, other, bibDatabaseMode)).findFirst();
+        return databaseContext.getDuplicateCandidateIndex().getCandidates(entry).stream()
+                              .filter(other -> isDuplicate(entry, other, bibDatabaseMode))
+                              .findFirst();
     }
 }
@@ -1,5 +1,6 @@
 package org.jabref.logic.exporter;
 
+import java.io.BufferedOutputStream;
 import java.io.FileOutputStream;
 import java.io.FilterOutputStream;
 import java.io.IOException;
@@ -49,6 +50,7 @@ public class AtomicFileOutputStream extends FilterOutputStream {
     private static final Logger LOGGER = LoggerFactory.getLogger(AtomicFileOutputStream.class);
 
     private static final String TEMPORARY_EXTENSION = ".tmp";
+    private static final int BUFFER_SIZE = 1024 * 1024;
     private static final String SAVE_EXTENSION = "." + BackupFileType.SAVE.getExtensions().getFirst();
 
     /**
@@ -80,7 +82,8 @@ public class AtomicFileOutputStream extends FilterOutputStream {
      */
     public AtomicFileOutputStream(Path path, boolean keepBackup) throws IOException {
         // Files.newOutputStream(getPathOfTemporaryFile(path)) leads to a "sun.nio.ch.ChannelOutputStream", which does not offer "lock"
-        this(path, getPathOfTemporaryFile(path), Files.newOutputStream(getPathOfTemporaryFile(path)), keepBackup);
+        // Large libraries are written in few big chunks instead of many small ones
+        this(path, getPathOfTemporaryFile(path), new BufferedOutputStream(Files.newOutputStream(getPathOfTemporaryFile(path)), BUFFER_SIZE), keepBackup);
     }
 
     /**
@@ -19,6 +19,8 @@ import java.util.TreeSet;
 public class AtomicFileWriter extends OutputStreamWriter {
 
     private final CharsetEncoder encoder;
+    // Unicode encodings can encode all characters except for unpaired surrogates
+    private final boolean isUnicodeEncoding;
     private final Set<Character> problemCharacters = new TreeSet<>();
 
     public AtomicFileWriter(Path file, Charset encoding) throws IOException {
@@ -28,11 +30,16 @@ public class AtomicFileWriter extends OutputStreamWriter {
     public AtomicFileWriter(Path file, Charset encoding, boolean keepBackup) throws IOException {
         super(new AtomicFileOutputStream(file, keepBackup), encoding);
         encoder = encoding.newEncoder();
+        isUnicodeEncoding = encoding.name().startsWith("UTF-");
     }
 
     @Override
     public void write(String str) throws IOException {
         super.write(str);
+        // canEncode encodes the complete string once more, which is costly for large libraries
+        if (isUnicodeEncoding && !containsSurrogate(str)) {
+            return;
+        }
         if (!encoder.canEncode(str)) {
             for (int i = 0; i < str.length(); i++) {
                 char character = str.charAt(i);
@@ -43,6 +50,15 @@ public class AtomicFileWriter extends OutputStreamWriter {
         }
     }
 
+    private static boolean containsSurrogate(String str) {
+        for (int i = 0; i < str.length(); i++) {
+            if (Character.isSurrogate(str.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public boolean hasEncodingProblems() {
         return !problemCharacters.isEmpty();
     }
@@ -74,6 +74,9 @@ public class BibDatabaseWriter {
     protected final BibEntryTypesManager entryTypesManager;
     protected final FieldPreferences fieldPreferences;
 
+    // One writer for all entries. Unchanged entries are written using their parsed serialization.
+    private final BibEntryWriter bibEntryWriter;
+
     public BibDatabaseWriter(@NonNull BibWriter bibWriter,
                              SelfContainedSaveConfiguration saveConfiguration,
                              FieldPreferences fieldPreferences,
@@ -84,6 +87,7 @@ public class BibDatabaseWriter {
         this.keyPatternPreferences = keyPatternPreferences;
         this.fieldPreferences = fieldPreferences;
         this.entryTypesManager = entryTypesManager;
+        this.bibEntryWriter = new BibEntryWriter(new FieldWriter(fieldPreferences), entryTypesManager);
         assert saveConfiguration.getSaveOrder().getOrderType() != SaveOrder.OrderType.TABLE;
     }
 
@@ -259,8 +263,7 @@ public class BibDatabaseWriter {
     }
 
     protected void writeEntry(BibEntry entry, BibDatabaseMode mode) throws IOException {
-        BibEntryWriter bibtexEntryWriter = new BibEntryWriter(new FieldWriter(fieldPreferences), entryTypesManager);
-        bibtexEntryWriter.write(entry, bibWriter, mode, saveConfiguration.shouldReformatFile());
+        bibEntryWriter.write(entry, bibWriter, mode, saveConfiguration.shouldReformatFile());
     }
 
     protected void writeEpilogue(String epilogue) throws IOException {
@@ -1,12 +1,16 @@
 package org.jabref.logic.importer;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.importer.fileformat.BiblioscapeImporter;
@@ -33,16 +37,27 @@ import org.jabref.logic.importer.fileformat.pdf.PdfGrobidImporter;
 import org.jabref.logic.importer.fileformat.pdf.PdfVerbatimBibtexImporter;
 import org.jabref.logic.importer.fileformat.pdf.PdfXmpImporter;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.model.database.BibDatabases;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.util.FileUpdateMonitor;
 
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
 import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class ImportFormatReader {
 
     public static final String BIBTEX_FORMAT = "BibTeX";
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImportFormatReader.class);
+
+    // Larger files are not kept in main memory while checking their format
+    private static final long MAX_SNIFFED_FILE_SIZE = 32L * 1024 * 1024;
+
     /**
      * All import formats.
      * Sorted accordingly to {@link Importer#compareTo}, which defaults to alphabetically by the name
@@ -149,7 +164,7 @@ public class ImportFormatReader {
     public UnknownFormatImport importUnknownFormat(@NonNull Path filePath,
                                                    FileUpdateMonitor fileMonitor) throws ImportException {
         try {
-            UnknownFormatImport unknownFormatImport = importUnknownFormat(importer -> importer.importDatabase(filePath), importer -> importer.isRecognizedFormat(filePath));
+            UnknownFormatImport unknownFormatImport = importUnknownFormat(importer -> importer.importDatabase(filePath), getFormatRecognizer(filePath));
             unknownFormatImport.parserResult.setPath(filePath);
             return unknownFormatImport;
         } catch (ImportException e) {
@@ -169,9 +184,28 @@ public class ImportFormatReader {
         }
     }
 
+    /// Returns the function checking whether the file is in the format of an importer.
+    ///
+    /// The file is read once and all importers check its content in main memory. Files too large for that are read by
+    /// each importer on its own.
+    private static CheckedFunction<Importer, Boolean> getFormatRecognizer(Path filePath) {
+        try {
+            if (Files.size(filePath) <= MAX_SNIFFED_FILE_SIZE) {
+                byte[] content = Files.readAllBytes(filePath);
+                return importer -> importer.isRecognizedFormat(filePath, content);
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Could not read {}", filePath, e);
+        }
+        return importer -> importer.isRecognizedFormat(filePath);
+    }
+
     /**
      * Tries to import entries by iterating through the available import filters,
      * and keeping the import that seems the most promising
+     * <p>
+     * All importers check the format of the source first. Then, the importers recognizing the format import the
+     * source in parallel.
      *
      * @param importDatabase     the function to import the entries with a formatter
      * @param isRecognizedFormat the function to check whether the source is in the correct format for an importer
@@ -179,39 +213,69 @@ public class ImportFormatReader {
      * @throws ImportException if the import fails (for example, if no suitable importer is found)
      */
     private UnknownFormatImport importUnknownFormat(CheckedFunction<Importer, ParserResult> importDatabase, CheckedFunction<Importer, Boolean> isRecognizedFormat) throws ImportException {
-        // stores ref to best result, gets updated at the next loop
-        List<BibEntry> bestResult = null;
-        int bestResultCount = 0;
-        String bestFormatName = null;
-
-        // Cycle through all importers:
+        // Refer/BibIX should be explicitly chosen by user
+        Importer referImporter = new ReferImporter();
+        List<Importer> candidates = new ArrayList<>();
         for (Importer imFo : formats) {
             try {
-                if (!isRecognizedFormat.apply(imFo) || imFo.equals(new ReferImporter())) {
-                    // Refer/BibIX should be explicitly chosen by user
-                    continue;
+                if (!imFo.equals(referImporter) && isRecognizedFormat.apply(imFo)) {
+                    candidates.add(imFo);
                 }
+            } catch (IOException ex) {
+                // The source cannot be read by this importer. Go on.
+            }
+        }
 
-                ParserResult parserResult = importDatabase.apply(imFo);
-                List<BibEntry> entries = parserResult.getDatabase().getEntries();
+        List<Future<List<BibEntry>>> imports = new ArrayList<>(candidates.size());
+        try {
+            // stores ref to best result, gets updated at the next loop
+            List<BibEntry> bestResult = null;
+            int bestResultCount = 0;
+            String bestFormatName = null;
 
-                BibDatabases.purgeEmptyEntries(entries);
-                int entryCount = entries.size();
+            for (Importer imFo : candidates) {
+                Callable<List<BibEntry>> importEntries = () -> {
+                    List<BibEntry> entries = importDatabase.apply(imFo).getDatabase().getEntries();
+                    BibDatabases.purgeEmptyEntries(entries);
+                    return entries;
+                };
+                // A single candidate is imported directly
+                imports.add(candidates.size() == 1 ? Futures.submit(importEntries, MoreExecutors.directExecutor()) : HeadlessExecutorService.INSTANCE.execute(importEntries));
+            }
 
+            // The results are compared in the order of the importers, so that the first importer wins a tie
+            for (int i = 0; i < candidates.size(); i++) {
+                List<BibEntry> entries;
+                try {
+                    entries = imports.get(i).get();
+                } catch (ExecutionException ex) {
+                    if (ex.getCause() instanceof IOException) {
+                        // The import did not succeed. Go on.
+                        continue;
+                    }
+                    Throwables.throwIfUnchecked(ex.getCause());
+                    throw new ImportException(ex);
+                }
+
+                int entryCount = entries.size();
                 if (entryCount > bestResultCount) {
                     bestResult = entries;
                     bestResultCount = entryCount;
-                    bestFormatName = imFo.getName();
+                    bestFormatName = candidates.get(i).getName();
                 }
-            } catch (IOException ex) {
-                // The import did not succeed. Go on.
             }
-        }
 
-        if (bestResult != null) {
-            // we found something
-            ParserResult parserResult = new ParserResult(bestResult);
-            return new UnknownFormatImport(bestFormatName, parserResult);
+            if (bestResult != null) {
+                // we found something
+                ParserResult parserResult = new ParserResult(bestResult);
+                return new UnknownFormatImport(bestFormatName, parserResult);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ImportException(ex);
+        } finally {
+            // Imports which are still running are not needed anymore if the import was interrupted or an importer failed
+            imports.forEach(future -> future.cancel(true));
         }
 
         throw new ImportException(Localization.lang("Could not find a suitable import format."));
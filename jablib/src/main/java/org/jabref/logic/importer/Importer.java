@@ -2,6 +2,7 @@ package org.jabref.logic.importer;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -55,6 +56,23 @@ public abstract class Importer implements Comparable<Importer> {
         }
     }
 
+    /**
+     * Check whether the file is in the correct format for this importer, using the content of the file read before.
+     * <p>
+     * This is used when trying all importers on a file of unknown format, so that the file is read only once.
+     * Importers which read the file in another way than {@link #getReader(Path)} have to override this method.
+     *
+     * @param filePath the path of the file to check
+     * @param content  the complete content of the file
+     * @return true, if the file is in a recognized format
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public boolean isRecognizedFormat(@NonNull Path filePath, byte @NonNull [] content) throws IOException {
+        try (BufferedReader bufferedReader = getReader(filePath, new ByteArrayInputStream(content))) {
+            return isRecognizedFormat(bufferedReader);
+        }
+    }
+
     /**
      * Check whether the source is in the correct format for this importer.
      *
@@ -160,8 +178,10 @@ public abstract class Importer implements Comparable<Importer> {
     }
 
     public static BufferedReader getReader(Path filePath) throws IOException {
-        InputStream stream = Files.newInputStream(filePath, StandardOpenOption.READ);
+        return getReader(filePath, Files.newInputStream(filePath, StandardOpenOption.READ));
+    }
 
+    private static BufferedReader getReader(Path filePath, InputStream stream) {
         if (FileUtil.isBibFile(filePath)) {
             return getReader(stream);
         }
@@ -128,7 +128,8 @@ public class BibtexImporter extends Importer {
      */
     @Override
     public ParserResult importDatabase(@NonNull BufferedReader reader) throws IOException {
-        return new BibtexParser(importFormatPreferences, fileMonitor).parse(reader);
+        // Small libraries are parsed serially anyway
+        return new BibtexParser(importFormatPreferences, fileMonitor).parseInParallel(reader);
     }
 
     @Override
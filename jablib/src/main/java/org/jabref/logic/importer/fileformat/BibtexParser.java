@@ -5,9 +5,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.PushbackReader;
 import java.io.Reader;
+import java.io.StringReader;
 import java.io.StringWriter;
 import java.nio.file.Path;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.Deque;
@@ -19,8 +21,10 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
@@ -42,6 +46,7 @@ import org.jabref.model.database.KeyCollisionException;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryType;
 import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.IdGenerator;
 import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
@@ -60,6 +65,7 @@ import com.dd.plist.BinaryPropertyListParser;
 import com.dd.plist.NSArray;
 import com.dd.plist.NSDictionary;
 import com.dd.plist.NSString;
+import com.google.common.annotations.VisibleForTesting;
 import io.github.adr.linked.ADR;
 import org.jspecify.annotations.NonNull;
 import org.slf4j.Logger;
@@ -98,11 +104,18 @@ public class BibtexParser implements Parser {
     private static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY = DocumentBuilderFactory.newInstance();
     private static final Pattern EPILOG_PATTERN = Pattern.compile("\\w+\\s*=.*,");
     private static final int INDEX_RELATIVE_PATH_IN_PLIST = 4;
+    // Inputs with less than two chunks of this size are parsed serially
+    private static final int MIN_CHUNK_LENGTH = 256 * 1024;
+    // More chunks than processors balance entries of different sizes
+    private static final int CHUNKS_PER_PROCESSOR = 4;
     private final Deque<Character> pureTextFromFile = new LinkedList<>();
     private final ImportFormatPreferences importFormatPreferences;
     private PushbackReader pushbackReader;
     private BibDatabase database;
     private Set<BibEntryType> entryTypes;
+    private List<BibEntry> parsedEntries;
+    // Metadata comments of a chunk, only used when parsing in parallel
+    private Map<String, String> chunkMeta;
     private boolean eof;
 
     private int line = 1;
@@ -186,6 +199,287 @@ public class BibtexParser implements Parser {
         return parseFileContent();
     }
 
+    /// Parses BibTeX data found when reading from reader, using all available processors.
+    ///
+    /// The result is identical to the one of {@link #parse(Reader)}. The parsing runs in three stages:
+    ///
+    /// 1. A pre-scan splits the input at top-level `@` boundaries, counting braces to skip the contents of entries,
+    ///    strings, preambles, and comments. Chunks are only cut after the line break following a regular entry,
+    ///    because at these positions, the serial parser has no pending state.
+    /// 2. The chunks are parsed on the {@link ForkJoinPool#commonPool() common ForkJoinPool}, each by its own parser.
+    /// 3. The results are merged in the original order.
+    ///
+    /// If the chunks cannot be merged without changing the result (e.g., because of parse warnings or duplicate strings),
+    /// the complete input is parsed serially. The same happens for small inputs, where splitting does not pay off.
+    public ParserResult parseInParallel(@NonNull Reader in) throws IOException {
+        return parseInParallel(in, MIN_CHUNK_LENGTH);
+    }
+
+    @VisibleForTesting
+    ParserResult parseInParallel(@NonNull Reader in, int minChunkLength) throws IOException {
+        StringWriter content = new StringWriter();
+        in.transferTo(content);
+        String text = content.toString();
+
+        int chunkLength = Math.max(minChunkLength, text.length() / (CHUNKS_PER_PROCESSOR * ForkJoinPool.getCommonPoolParallelism()));
+        List<Integer> chunkStarts = findChunkStarts(text, chunkLength);
+        if (chunkStarts.size() < 2) {
+            return parse(new StringReader(text));
+        }
+
+        List<Integer> chunkEnds = new ArrayList<>(chunkStarts.subList(1, chunkStarts.size()));
+        chunkEnds.add(text.length());
+        List<Optional<BibtexParser>> chunkParsers = IntStream.range(0, chunkStarts.size())
+                                                             .parallel()
+                                                             .mapToObj(i -> parseChunk(text.substring(chunkStarts.get(i), chunkEnds.get(i))))
+                                                             .toList();
+        if (!canBeMerged(chunkParsers)) {
+            LOGGER.debug("Chunks cannot be merged, falling back to serial parsing");
+            return parse(new StringReader(text));
+        }
+
+        pushbackReader = new PushbackReader(new StringReader(text), BibtexParser.LOOKAHEAD);
+        initializeParserResult(determineNewLineSeparator());
+        Map<String, String> meta = new HashMap<>();
+        int lineOffset = 0;
+        for (int i = 0; i < chunkParsers.size(); i++) {
+            BibtexParser chunkParser = chunkParsers.get(i).orElseThrow();
+            if (i > 0) {
+                lineOffset += countLineBreaks(text, chunkStarts.get(i - 1), chunkStarts.get(i));
+            }
+            mergeChunk(chunkParser, lineOffset, meta);
+        }
+        BibtexParser lastChunkParser = chunkParsers.getLast().orElseThrow();
+        line = lastChunkParser.line + lineOffset;
+        column = lastChunkParser.column;
+        eof = true;
+        pureTextFromFile.clear();
+        pureTextFromFile.addAll(lastChunkParser.pureTextFromFile);
+
+        database.insertEntries(parsedEntries);
+        return finishParsing(meta);
+    }
+
+    /// Determines the start positions of chunks which can be parsed independently of each other.
+    /// The first chunk always starts at position 0.
+    ///
+    /// Also used by {@link IncrementalBibtexParser} to find the parts of a document changed by an edit.
+    ///
+    /// @param minChunkLength the minimal number of characters of a chunk
+    static List<Integer> findChunkStarts(String text, int minChunkLength) {
+        List<Integer> chunkStarts = new ArrayList<>();
+        chunkStarts.add(0);
+
+        int depth = 0;
+        boolean lastItemIsEntry = false;
+        int lastItemEnd = -1;
+        int position = 0;
+        while (position < text.length()) {
+            char character = text.charAt(position);
+            if (depth == 0) {
+                if (character != '@') {
+                    position++;
+                    continue;
+                }
+
+                int typeEnd = position + 1;
+                while ((typeEnd < text.length()) && Character.isLetter(text.charAt(typeEnd))) {
+                    typeEnd++;
+                }
+                int opening = typeEnd;
+                while ((opening < text.length()) && Character.isWhitespace(text.charAt(opening))) {
+                    opening++;
+                }
+                if (lastItemIsEntry) {
+                    int chunkStart = getChunkStartAfterEntry(text, lastItemEnd, position);
+                    if ((chunkStart >= 0) && ((chunkStart - chunkStarts.getLast()) >= minChunkLength)) {
+                        chunkStarts.add(chunkStart);
+                    }
+                }
+
+                if ((opening >= text.length()) || (text.charAt(opening) != '{')) {
+                    // Entries delimited by parentheses and stray @ characters (e.g., of e-mail addresses in comments)
+                    // stay in the chunk of the following item, which is parsed by the serial parser. No cut is made
+                    // directly after them.
+                    lastItemIsEntry = false;
+                    if ((opening < text.length()) && (text.charAt(opening) == '(')) {
+                        position = getEndOfParenthesizedItem(text, opening);
+                        if (position < 0) {
+                            return chunkStarts;
+                        }
+                    } else {
+                        position = typeEnd;
+                    }
+                    continue;
+                }
+
+                String type = text.substring(position + 1, typeEnd).toLowerCase(Locale.ROOT);
+                lastItemIsEntry = !type.isEmpty() && !"preamble".equals(type) && !"string".equals(type) && !"comment".equals(type);
+                depth = 1;
+                position = opening + 1;
+                continue;
+            }
+
+            if ((character == '\\') && (position + 1 < text.length())) {
+                char escaped = text.charAt(position + 1);
+                // Same heuristics as in parseBracketedFieldContent: "\}" only closes if followed by ",<newline>"
+                boolean isClosingBracket = (escaped == '}')
+                        && (position + 3 < text.length())
+                        && (text.charAt(position + 2) == ',')
+                        && ((text.charAt(position + 3) == '\n') || (text.charAt(position + 3) == '\r'));
+                if ((escaped == '{') || ((escaped == '}') && !isClosingBracket)) {
+                    position += 2;
+                    continue;
+                }
+            } else if (character == '{') {
+                depth++;
+            } else if (character == '}') {
+                depth--;
+                if (depth == 0) {
+                    lastItemEnd = position + 1;
+                }
+            }
+            position++;
+        }
+        return chunkStarts;
+    }
+
+    /// @param opening the position of the opening parenthesis
+    /// @return the position after the closing parenthesis, -1 if the item is not closed
+    private static int getEndOfParenthesizedItem(String text, int opening) {
+        int braceDepth = 0;
+        int parenthesisDepth = 0;
+        for (int position = opening; position < text.length(); position++) {
+            char character = text.charAt(position);
+            if (character == '{') {
+                braceDepth++;
+            } else if ((character == '}') && (braceDepth > 0)) {
+                braceDepth--;
+            } else if ((braceDepth == 0) && (character == '(')) {
+                parenthesisDepth++;
+            } else if ((braceDepth == 0) && (character == ')')) {
+                parenthesisDepth--;
+                if (parenthesisDepth == 0) {
+                    return position + 1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /// The parser consumes spaces and one line break after an entry. Whitespace following that line break is part of
+    /// the next item. Thus, the next chunk can start right after that line break if only whitespace follows until the next item.
+    ///
+    /// @param entryEnd the position after the closing brace of the entry
+    /// @param nextItemStart the position of the `@` of the next item
+    /// @return the start of the next chunk, -1 if the text in between does not allow a cut
+    private static int getChunkStartAfterEntry(String text, int entryEnd, int nextItemStart) {
+        int position = entryEnd;
+        while ((position < nextItemStart) && (text.charAt(position) == ' ')) {
+            position++;
+        }
+        if ((position < nextItemStart) && (text.charAt(position) == '\r')) {
+            position++;
+        }
+        if ((position >= nextItemStart) || (text.charAt(position) != '\n')) {
+            return -1;
+        }
+        int chunkStart = position + 1;
+        for (int i = chunkStart; i < nextItemStart; i++) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                return -1;
+            }
+        }
+        return chunkStart;
+    }
+
+    private static int countLineBreaks(String text, int start, int end) {
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) == '\n') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /// Parses one chunk without finishing the parsing (no metadata, no epilog).
+    ///
+    /// @return the parser holding the state after parsing the chunk, empty if the chunk could not be parsed
+    private Optional<BibtexParser> parseChunk(String chunk) {
+        BibtexParser chunkParser = new BibtexParser(importFormatPreferences);
+        chunkParser.pushbackReader = new PushbackReader(new StringReader(chunk), BibtexParser.LOOKAHEAD);
+        chunkParser.initializeParserResult(OS.NEWLINE);
+        chunkParser.chunkMeta = new HashMap<>();
+        try {
+            chunkParser.parseDatabaseID();
+            chunkParser.skipWhitespace();
+            chunkParser.parseItems(chunkParser.chunkMeta);
+        } catch (IOException e) {
+            LOGGER.debug("Could not parse chunk", e);
+            return Optional.empty();
+        }
+        return Optional.of(chunkParser);
+    }
+
+    /// Checks that merging the chunks gives the same result as parsing the input serially
+    private static boolean canBeMerged(List<Optional<BibtexParser>> chunkParsers) {
+        Set<String> stringNames = new HashSet<>();
+        for (int i = 0; i < chunkParsers.size(); i++) {
+            if (chunkParsers.get(i).isEmpty()) {
+                return false;
+            }
+            BibtexParser chunkParser = chunkParsers.get(i).get();
+            // Warnings are reported with the serial parser to keep their ranges and the epilog check identical
+            if (chunkParser.parserResult.hasWarnings() || (chunkParser.bibDeskGroupTreeNode != null)) {
+                return false;
+            }
+            // Text not belonging to an item would be part of the next item in the serial parser
+            if ((i < chunkParsers.size() - 1) && !chunkParser.pureTextFromFile.isEmpty()) {
+                return false;
+            }
+            for (BibtexString string : chunkParser.database.getStringValues()) {
+                if (!stringNames.add(string.getName())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private void mergeChunk(BibtexParser chunkParser, int lineOffset, Map<String, String> meta) {
+        BibDatabase chunkDatabase = chunkParser.database;
+        chunkDatabase.getSharedDatabaseID().ifPresent(database::setSharedDatabaseID);
+        chunkDatabase.getPreamble().ifPresent(database::setPreamble);
+        for (BibtexString string : chunkDatabase.getStringValues()) {
+            database.addString(string);
+        }
+        entryTypes.addAll(chunkParser.entryTypes);
+        meta.putAll(chunkParser.chunkMeta);
+
+        for (BibEntry entry : chunkParser.parsedEntries) {
+            // The ids of entries parsed in parallel are not in order. Reassign them to keep the order of the serial parser.
+            boolean changed = entry.hasChanged();
+            entry.setId(IdGenerator.next());
+            entry.setChanged(changed);
+            parsedEntries.add(entry);
+
+            ParserResult.Range articleRange = chunkParser.parserResult.getArticleRanges().get(entry);
+            if (articleRange != null) {
+                parserResult.getArticleRanges().put(entry, shift(articleRange, lineOffset));
+            }
+            Map<Field, ParserResult.Range> fieldRanges = chunkParser.parserResult.getFieldRanges().get(entry);
+            if (fieldRanges != null) {
+                Map<Field, ParserResult.Range> shiftedRanges = parserResult.getFieldRanges().computeIfAbsent(entry, _ -> new HashMap<>());
+                fieldRanges.forEach((field, range) -> shiftedRanges.put(field, shift(range, lineOffset)));
+            }
+        }
+    }
+
+    private static ParserResult.Range shift(ParserResult.Range range, int lineOffset) {
+        return new ParserResult.Range(range.startLine() + lineOffset, range.startColumn(), range.endLine() + lineOffset, range.endColumn());
+    }
+
     private String determineNewLineSeparator() throws IOException {
         String newLineSeparator = OS.NEWLINE;
         StringWriter stringWriter = new StringWriter(BibtexParser.LOOKAHEAD);
@@ -214,6 +508,7 @@ public class BibtexParser implements Parser {
         database = new BibDatabase();
         database.setNewLineSeparator(newLineSeparator);
         entryTypes = new HashSet<>(); // To store custom entry types parsed.
+        parsedEntries = new ArrayList<>();
         parserResult = new ParserResult(database, new MetaData(), entryTypes);
     }
 
@@ -239,7 +534,14 @@ public class BibtexParser implements Parser {
 
     private ParserResult parseFileContent() throws IOException {
         Map<String, String> meta = new HashMap<>();
+        parseItems(meta);
+        database.insertEntries(parsedEntries);
+        return finishParsing(meta);
+    }
 
+    /// Parses all items (entries, strings, preambles, and comments) until the end of the input is reached.
+    /// Parsed entries are collected in {@link #parsedEntries} and not yet added to the database.
+    private void parseItems(Map<String, String> meta) throws IOException {
         while (!eof) {
             boolean found = consumeUncritically('@');
             if (!found) {
@@ -270,7 +572,10 @@ public class BibtexParser implements Parser {
 
             skipWhitespace();
         }
+    }
 
+    /// Resolves the BibDesk groups, parses the metadata, and stores the remaining text as epilog
+    private ParserResult finishParsing(Map<String, String> meta) {
         addBibDeskGroupEntriesToJabRefGroups();
 
         int startLine = line;
@@ -349,7 +654,7 @@ public class BibtexParser implements Parser {
             String parsedSerialization = commentsAndEntryTypeDefinition + dumpTextReadSoFarToString();
             entry.setParsedSerialization(parsedSerialization);
 
-            database.insertEntry(entry);
+            parsedEntries.add(entry);
         } catch (IOException ex) {
             // This makes the parser more robust:
             // If an exception is thrown when parsing an entry, drop the entry and try to resume parsing.
@@ -62,6 +62,7 @@ public class CitaviXmlImporter extends Importer implements Parser {
     private static final byte UUID_SEMICOLON_OFFSET_INDEX = 37;
     private static final int END_TAG_CHARACTER_COUNT = 5; // </os> or </ps>
     private static final EnumSet<QuotationTypeMapping> QUOTATION_TYPES = EnumSet.allOf(QuotationTypeMapping.class);
+    private static final byte[] ZIP_LOCAL_FILE_HEADER = {'P', 'K', 3, 4};
     private final HtmlToLatexFormatter htmlToLatexFormatter = new HtmlToLatexFormatter();
     private final NormalizePagesFormatter pagesFormatter = new NormalizePagesFormatter();
 
@@ -120,6 +121,16 @@ public class CitaviXmlImporter extends Importer implements Parser {
         return false;
     }
 
+    @Override
+    public boolean isRecognizedFormat(@NonNull Path filePath, byte @NonNull [] content) throws IOException {
+        // Files without a local file header contain no zip entry, thus there is no need to extract them
+        if (content.length < ZIP_LOCAL_FILE_HEADER.length
+                || !Arrays.equals(content, 0, ZIP_LOCAL_FILE_HEADER.length, ZIP_LOCAL_FILE_HEADER, 0, ZIP_LOCAL_FILE_HEADER.length)) {
+            return false;
+        }
+        return isRecognizedFormat(filePath);
+    }
+
     @Override
     public ParserResult importDatabase(@NonNull Path filePath) throws IOException {
         try (BufferedReader reader = getReaderFromZip(filePath)) {
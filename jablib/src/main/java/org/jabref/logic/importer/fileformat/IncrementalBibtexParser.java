@@ -0,0 +1,225 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.metadata.MetaData;
+
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// Parses successive versions of the same BibTeX document, e.g., while the document is edited in a text editor.
+///
+/// The document is split into chunks at the positions used by {@link BibtexParser#parseInParallel(Reader)}, i.e., after
+/// each regular entry. Thus, a chunk holds one entry together with the strings, preambles, and comments preceding it.
+/// Chunks whose text did not change since the previous version keep their parsed entries; only new chunks are parsed.
+///
+/// The entries of all chunks are collected in a new {@link ParserResult} for each version, whose ranges refer to the
+/// complete document. The results of earlier versions are not changed afterwards, thus they can be read by other
+/// threads while the next version is parsed.
+///
+/// The versions of a document have to be parsed one after another, this class is not thread-safe.
+public class IncrementalBibtexParser {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IncrementalBibtexParser.class);
+
+    private final ImportFormatPreferences importFormatPreferences;
+
+    private ParserResult parserResult = new ParserResult();
+    private List<Chunk> chunks = List.of();
+
+    public IncrementalBibtexParser(ImportFormatPreferences importFormatPreferences) {
+        this.importFormatPreferences = importFormatPreferences;
+    }
+
+    /// The changes caused by parsing a new version of the document
+    ///
+    /// @param parserResult the result for the complete document. A new instance is returned for each version.
+    /// @param addedEntries the entries parsed from changed parts of the document
+    /// @param removedEntries the entries of the previous version which are no longer part of the document
+    /// @param complete true if all entries have to be considered as changed, e.g., because strings or metadata changed
+    public record Update(ParserResult parserResult, List<BibEntry> addedEntries, List<BibEntry> removedEntries, boolean complete) {
+    }
+
+    private static final class Chunk {
+        private final String text;
+        private final ParserResult parserResult;
+        private final boolean hasStrings;
+        private final boolean hasMetaData;
+        private int lineOffset = -1;
+        // The ranges of the entries in the complete document, shifted by lineOffset
+        private final Map<BibEntry, ParserResult.Range> articleRanges = new IdentityHashMap<>();
+        private final Map<BibEntry, Map<Field, ParserResult.Range>> fieldRanges = new IdentityHashMap<>();
+
+        private Chunk(String text, ParserResult parserResult) {
+            this.text = text;
+            this.parserResult = parserResult;
+            this.hasStrings = !parserResult.getDatabase().hasNoStrings();
+            this.hasMetaData = !parserResult.getMetaData().isEmpty();
+        }
+
+        private List<BibEntry> getEntries() {
+            return parserResult.getDatabase().getEntries();
+        }
+    }
+
+    public ParserResult getParserResult() {
+        return parserResult;
+    }
+
+    /// Parses the given version of the document, reusing the parsed chunks of the previous version
+    public Update parse(@NonNull String text) throws IOException {
+        Map<String, Deque<Chunk>> previousChunks = new HashMap<>();
+        for (Chunk chunk : chunks) {
+            previousChunks.computeIfAbsent(chunk.text, _ -> new ArrayDeque<>()).add(chunk);
+        }
+
+        List<Integer> chunkStarts = BibtexParser.findChunkStarts(text, 0);
+        List<Chunk> newChunks = new ArrayList<>(chunkStarts.size());
+        List<Chunk> addedChunks = new ArrayList<>();
+        for (int i = 0; i < chunkStarts.size(); i++) {
+            int chunkEnd = (i + 1 < chunkStarts.size()) ? chunkStarts.get(i + 1) : text.length();
+            String chunkText = text.substring(chunkStarts.get(i), chunkEnd);
+            Deque<Chunk> candidates = previousChunks.get(chunkText);
+            Chunk chunk = (candidates == null) ? null : candidates.poll();
+            if (chunk == null) {
+                chunk = new Chunk(chunkText, new BibtexParser(importFormatPreferences).parse(Reader.of(chunkText)));
+                addedChunks.add(chunk);
+            }
+            newChunks.add(chunk);
+        }
+        List<Chunk> removedChunks = previousChunks.values().stream().flatMap(Collection::stream).toList();
+
+        boolean isFirstVersion = chunks.isEmpty();
+        boolean stringsChanged = Stream.concat(addedChunks.stream(), removedChunks.stream()).anyMatch(chunk -> chunk.hasStrings);
+        if (stringsChanged && !canMergeStrings(newChunks)) {
+            LOGGER.debug("Duplicate string names, parsing the complete document");
+            return parseCompletely(text);
+        }
+
+        boolean metaDataChanged = merge(text, chunkStarts, newChunks);
+        return new Update(parserResult, getEntries(addedChunks), getEntries(removedChunks), isFirstVersion || stringsChanged || metaDataChanged);
+    }
+
+    /// Parses the document as a single chunk. Used if the chunks would give a different result than the serial parser.
+    private Update parseCompletely(String text) throws IOException {
+        List<BibEntry> removedEntries = List.copyOf(parserResult.getDatabase().getEntries());
+        Chunk chunk = new Chunk(text, new BibtexParser(importFormatPreferences).parse(Reader.of(text)));
+        merge(text, List.of(0), List.of(chunk));
+        return new Update(parserResult, getEntries(List.of(chunk)), removedEntries, true);
+    }
+
+    /// Replaces the chunks of the previous version by the given ones and publishes a new result collecting them
+    ///
+    /// @return true if the metadata changed
+    private boolean merge(String text, List<Integer> chunkStarts, List<Chunk> newChunks) {
+        chunks = newChunks;
+        updateRanges(text, chunkStarts);
+
+        ParserResult result = new ParserResult();
+        BibDatabase database = result.getDatabase();
+        database.insertEntries(getEntries(chunks));
+        // The strings are copied, because a database listens to the changes of its strings
+        database.setStrings(chunks.stream()
+                                  .flatMap(chunk -> chunk.parserResult.getDatabase().getStringValues().stream())
+                                  .map(string -> (BibtexString) string.clone())
+                                  .toList());
+        chunks.forEach(chunk -> chunk.parserResult.getDatabase().getPreamble().ifPresent(database::setPreamble));
+        for (Chunk chunk : chunks) {
+            result.getEntryTypes().addAll(chunk.parserResult.getEntryTypes());
+            result.getArticleRanges().putAll(chunk.articleRanges);
+            result.getFieldRanges().putAll(chunk.fieldRanges);
+            chunk.parserResult.getWarningsMap().forEach((range, warning) -> result.addWarning(shift(range, chunk.lineOffset), warning));
+        }
+        MetaData metaData = getMetaData();
+        result.setMetaData(metaData);
+        boolean metaDataChanged = !Objects.equals(metaData, parserResult.getMetaData());
+
+        // The previous result may still be read by other threads, thus it is left as it is. Only its database stops
+        // listening to the entries, which are reused by the new result.
+        BibDatabase previousDatabase = parserResult.getDatabase();
+        previousDatabase.getEntries().forEach(entry -> entry.unregisterListener(previousDatabase));
+        parserResult = result;
+        return metaDataChanged;
+    }
+
+    private static List<BibEntry> getEntries(List<Chunk> chunks) {
+        return chunks.stream().flatMap(chunk -> chunk.getEntries().stream()).toList();
+    }
+
+    /// Moves the ranges of all chunks to their position in the complete document
+    private void updateRanges(String text, List<Integer> chunkStarts) {
+        int lineOffset = 0;
+        for (int i = 0; i < chunks.size(); i++) {
+            if (i > 0) {
+                lineOffset += countLineBreaks(text, chunkStarts.get(i - 1), chunkStarts.get(i));
+            }
+            Chunk chunk = chunks.get(i);
+            if (chunk.lineOffset != lineOffset) {
+                chunk.lineOffset = lineOffset;
+                for (BibEntry entry : chunk.getEntries()) {
+                    ParserResult.Range articleRange = chunk.parserResult.getArticleRanges().get(entry);
+                    if (articleRange != null) {
+                        chunk.articleRanges.put(entry, shift(articleRange, lineOffset));
+                    }
+                    Map<Field, ParserResult.Range> fieldRanges = chunk.parserResult.getFieldRanges().get(entry);
+                    if (fieldRanges != null) {
+                        Map<Field, ParserResult.Range> shiftedRanges = new HashMap<>();
+                        fieldRanges.forEach((field, range) -> shiftedRanges.put(field, shift(range, chunk.lineOffset)));
+                        chunk.fieldRanges.put(entry, shiftedRanges);
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean canMergeStrings(List<Chunk> chunks) {
+        long stringCount = chunks.stream().mapToLong(chunk -> chunk.parserResult.getDatabase().getStringCount()).sum();
+        long stringNameCount = chunks.stream()
+                                     .flatMap(chunk -> chunk.parserResult.getDatabase().getStringValues().stream())
+                                     .map(BibtexString::getName)
+                                     .distinct()
+                                     .count();
+        return stringCount == stringNameCount;
+    }
+
+    /// Returns the metadata of the last chunk having metadata. JabRef writes all metadata at the end of the file.
+    private MetaData getMetaData() {
+        return chunks.reversed().stream()
+                     .filter(chunk -> chunk.hasMetaData)
+                     .map(chunk -> chunk.parserResult.getMetaData())
+                     .findFirst()
+                     .orElseGet(MetaData::new);
+    }
+
+    private static int countLineBreaks(String text, int start, int end) {
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) == '\n') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static ParserResult.Range shift(ParserResult.Range range, int lineOffset) {
+        return new ParserResult.Range(range.startLine() + lineOffset, range.startColumn(), range.endLine() + lineOffset, range.endColumn());
+    }
+}
@@ -1,7 +1,11 @@
 package org.jabref.logic.integrity;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabase;
@@ -12,10 +16,24 @@ import org.jspecify.annotations.NonNull;
 
 public class CitationKeyDuplicationChecker implements EntryChecker {
 
-    private final BibDatabase database;
+    private final Predicate<String> isDuplicateCitationKey;
 
     public CitationKeyDuplicationChecker(@NonNull BibDatabase database) {
-        this.database = database;
+        this(database::isDuplicateCitationKeyExisting);
+    }
+
+    private CitationKeyDuplicationChecker(Predicate<String> isDuplicateCitationKey) {
+        this.isDuplicateCitationKey = isDuplicateCitationKey;
+    }
+
+    /// Creates a checker working on a snapshot of the citation keys of the given database.
+    /// In contrast to {@link #CitationKeyDuplicationChecker(BibDatabase)}, a check does not scan the database and
+    /// can run concurrently with other checks. Changes of the database after creation are not considered.
+    public static CitationKeyDuplicationChecker withCitationKeyIndex(@NonNull BibDatabase database) {
+        Map<String, Long> citationKeyOccurrences = database.getEntries().stream()
+                                                            .flatMap(entry -> entry.getCitationKey().stream())
+                                                            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        return new CitationKeyDuplicationChecker(citationKey -> citationKeyOccurrences.getOrDefault(citationKey, 0L) > 1);
     }
 
     @Override
@@ -25,7 +43,7 @@ public class CitationKeyDuplicationChecker implements EntryChecker {
             return List.of();
         }
 
-        boolean isDuplicate = database.isDuplicateCitationKeyExisting(citeKey.get());
+        boolean isDuplicate = isDuplicateCitationKey.test(citeKey.get());
         if (isDuplicate) {
             return List.of(
                     new IntegrityMessage(Localization.lang("Duplicate citation key"), entry, StandardField.KEY));
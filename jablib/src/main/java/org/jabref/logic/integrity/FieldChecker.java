@@ -22,6 +22,11 @@ public class FieldChecker implements EntryChecker {
         this.checker = checker;
     }
 
+    /// Name of the value checker and the checked field, e.g., for reporting durations
+    public String getName() {
+        return checker.getClass().getSimpleName() + " (" + field.getName() + ")";
+    }
+
     @Override
     public List<IntegrityMessage> check(BibEntry entry) {
         Optional<String> value = entry.getField(field);
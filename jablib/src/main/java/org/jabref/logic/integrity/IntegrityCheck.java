@@ -1,8 +1,16 @@
 package org.jabref.logic.integrity;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
 
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
@@ -15,8 +23,11 @@ import org.jabref.model.entry.field.StandardField;
 public class IntegrityCheck {
 
     private final BibDatabaseContext bibDatabaseContext;
+    private final CitationKeyPatternPreferences citationKeyPatternPreferences;
+    private final JournalAbbreviationRepository journalAbbreviationRepository;
     private final FieldCheckers fieldCheckers;
     private final List<EntryChecker> entryCheckers;
+    private final List<DatabaseChecker> databaseCheckers = List.of(new DoiDuplicationChecker());
 
     public IntegrityCheck(BibDatabaseContext bibDatabaseContext,
                           FilePreferences filePreferences,
@@ -24,49 +35,115 @@ public class IntegrityCheck {
                           JournalAbbreviationRepository journalAbbreviationRepository,
                           boolean allowIntegerEdition) {
         this.bibDatabaseContext = bibDatabaseContext;
+        this.citationKeyPatternPreferences = citationKeyPatternPreferences;
+        this.journalAbbreviationRepository = journalAbbreviationRepository;
 
         fieldCheckers = new FieldCheckers(bibDatabaseContext,
                 filePreferences,
                 journalAbbreviationRepository,
                 allowIntegerEdition);
 
-        entryCheckers = new ArrayList<>(List.of(
+        entryCheckers = createEntryCheckers(new CitationKeyDuplicationChecker(bibDatabaseContext.getDatabase()));
+    }
+
+    private List<EntryChecker> createEntryCheckers(CitationKeyDuplicationChecker citationKeyDuplicationChecker) {
+        List<EntryChecker> checkers = new ArrayList<>(List.of(
                 new CitationKeyChecker(),
                 new TypeChecker(),
                 new BibStringChecker(),
                 new HTMLCharacterChecker(),
                 new EntryLinkChecker(bibDatabaseContext.getDatabase()),
                 new CitationKeyDeviationChecker(bibDatabaseContext, citationKeyPatternPreferences),
-                new CitationKeyDuplicationChecker(bibDatabaseContext.getDatabase()),
+                citationKeyDuplicationChecker,
                 new AmpersandChecker(),
                 new LatexIntegrityChecker(),
                 new JournalInAbbreviationListChecker(StandardField.JOURNAL, journalAbbreviationRepository)));
 
         if (bibDatabaseContext.isBiblatexMode()) {
-            entryCheckers.add(new UTF8Checker(bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8)));
+            checkers.add(new UTF8Checker(bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8)));
         } else {
-            entryCheckers.addAll(List.of(
+            checkers.addAll(List.of(
                     new ASCIICharacterChecker(),
                     new NoBibtexFieldChecker(),
                     new UnicodeNormalFormCanonicalCompositionCheck(),
                     new BibTeXEntryTypeChecker())
             );
         }
+        return checkers;
     }
 
     List<IntegrityMessage> check() {
-        List<IntegrityMessage> result = new ArrayList<>();
+        return check(false).messages();
+    }
 
+    /// Checks all entries of the library and the library as a whole.
+    ///
+    /// Database-wide lookups (duplicate citation keys) use an index created once at the beginning of the check.
+    /// Thus, the library must not be modified during the check.
+    ///
+    /// @param parallel whether to spread the entries across all processors. The order of the messages is the same in both modes.
+    public IntegrityCheckResult check(boolean parallel) {
         BibDatabase database = bibDatabaseContext.getDatabase();
+        Map<String, Long> nanosByChecker = new LinkedHashMap<>();
+        List<IntegrityMessage> messages = new ArrayList<>(checkEntries(database.getEntries(), parallel, nanosByChecker));
+
+        for (DatabaseChecker databaseChecker : databaseCheckers) {
+            long start = System.nanoTime();
+            messages.addAll(databaseChecker.check(database));
+            nanosByChecker.merge(databaseChecker.getClass().getSimpleName(), System.nanoTime() - start, Long::sum);
+        }
+
+        Map<String, Duration> checkerDurations = new LinkedHashMap<>();
+        nanosByChecker.entrySet().stream()
+                      .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                      .forEach(checker -> checkerDurations.put(checker.getKey(), Duration.ofNanos(checker.getValue())));
+        return new IntegrityCheckResult(messages, checkerDurations);
+    }
+
+    /// Checks the given entries of the library, e.g., the ones changed since the last check.
+    /// In contrast to {@link #check(boolean)}, the library as a whole is not checked.
+    public List<IntegrityMessage> checkEntries(Collection<BibEntry> entries, boolean parallel) {
+        return checkEntries(entries, parallel, new HashMap<>());
+    }
+
+    private List<IntegrityMessage> checkEntries(Collection<BibEntry> entriesToCheck, boolean parallel, Map<String, Long> nanosByChecker) {
+        List<BibEntry> entries = List.copyOf(entriesToCheck);
+
+        List<EntryChecker> checkers = new ArrayList<>(fieldCheckers.getAll());
+        checkers.addAll(createEntryCheckers(CitationKeyDuplicationChecker.withCitationKeyIndex(bibDatabaseContext.getDatabase())));
+        List<LongAdder> checkerNanos = checkers.stream().map(_ -> new LongAdder()).toList();
 
-        for (BibEntry entry : database.getEntries()) {
-            result.addAll(checkEntry(entry));
+        IntStream entryIndices = IntStream.range(0, entries.size());
+        if (parallel) {
+            entryIndices = entryIndices.parallel();
         }
-        result.addAll(checkDatabase(database));
+        List<IntegrityMessage> messages = entryIndices.mapToObj(i -> checkEntry(entries.get(i), checkers, checkerNanos))
+                                                      .flatMap(List::stream)
+                                                      .toList();
 
+        for (int i = 0; i < checkers.size(); i++) {
+            nanosByChecker.merge(getName(checkers.get(i)), checkerNanos.get(i).sum(), Long::sum);
+        }
+        return messages;
+    }
+
+    private static List<IntegrityMessage> checkEntry(BibEntry entry, List<EntryChecker> checkers, List<LongAdder> checkerNanos) {
+        List<IntegrityMessage> result = new ArrayList<>();
+        for (int i = 0; i < checkers.size(); i++) {
+            long start = System.nanoTime();
+            result.addAll(checkers.get(i).check(entry));
+            checkerNanos.get(i).add(System.nanoTime() - start);
+        }
         return result;
     }
 
+    private static String getName(EntryChecker checker) {
+        if (checker instanceof FieldChecker fieldChecker) {
+            return fieldChecker.getName();
+        }
+        return checker.getClass().getSimpleName();
+    }
+
     public List<IntegrityMessage> checkEntry(BibEntry entry) {
         List<IntegrityMessage> result = new ArrayList<>();
         if (entry == null) {
@@ -85,6 +162,10 @@ public class IntegrityCheck {
     }
 
     public List<IntegrityMessage> checkDatabase(BibDatabase database) {
-        return new DoiDuplicationChecker().check(database);
+        List<IntegrityMessage> result = new ArrayList<>();
+        for (DatabaseChecker databaseChecker : databaseCheckers) {
+            result.addAll(databaseChecker.check(database));
+        }
+        return result;
     }
 }
@@ -0,0 +1,12 @@
+package org.jabref.logic.integrity;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/// Findings of an integrity check of a complete library
+///
+/// @param messages         the findings, ordered by entry (as in the library) and checker
+/// @param checkerDurations the cumulative time spent in each checker over all entries, longest first
+public record IntegrityCheckResult(List<IntegrityMessage> messages, Map<String, Duration> checkerDurations) {
+}
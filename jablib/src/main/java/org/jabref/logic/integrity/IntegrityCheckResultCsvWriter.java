@@ -2,7 +2,9 @@ package org.jabref.logic.integrity;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 import org.jabref.model.entry.field.FieldTextMapper;
 
@@ -17,11 +19,24 @@ public class IntegrityCheckResultCsvWriter extends IntegrityCheckResultWriter {
         super(writer, messages);
     }
 
+    public IntegrityCheckResultCsvWriter(Writer writer, List<IntegrityMessage> messages, Map<String, Duration> checkerDurations) {
+        super(writer, messages, checkerDurations);
+    }
+
     @Override
     public void writeFindings() throws IOException {
         csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT);
         csvPrinter.printRecord("Citation Key", "Field", "Message");
         csvPrinter.printRecords(messages.stream().map(message -> List.of(message.entry().getCitationKey().orElse(""), FieldTextMapper.getDisplayName(message.field()), message.message())));
+
+        if (!checkerDurations.isEmpty()) {
+            // Separate table after an empty line
+            csvPrinter.println();
+            csvPrinter.printRecord("Checker", "Duration (ms)");
+            for (Map.Entry<String, Duration> checkerDuration : checkerDurations.entrySet()) {
+                csvPrinter.printRecord(checkerDuration.getKey(), checkerDuration.getValue().toMillis());
+            }
+        }
     }
 
     @Override
@@ -2,7 +2,9 @@ package org.jabref.logic.integrity;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 public class IntegrityCheckResultTxtWriter extends IntegrityCheckResultWriter {
 
@@ -10,11 +12,25 @@ public class IntegrityCheckResultTxtWriter extends IntegrityCheckResultWriter {
         super(writer, messages);
     }
 
+    public IntegrityCheckResultTxtWriter(Writer writer, List<IntegrityMessage> messages, Map<String, Duration> checkerDurations) {
+        super(writer, messages, checkerDurations);
+    }
+
     @Override
     public void writeFindings() throws IOException {
         for (IntegrityMessage message : messages) {
             writer.write(message.toString());
             writer.write(System.lineSeparator());
         }
+
+        if (!checkerDurations.isEmpty()) {
+            writer.write(System.lineSeparator());
+            writer.write("Duration per checker:");
+            writer.write(System.lineSeparator());
+            for (Map.Entry<String, Duration> checkerDuration : checkerDurations.entrySet()) {
+                writer.write("%s: %d ms".formatted(checkerDuration.getKey(), checkerDuration.getValue().toMillis()));
+                writer.write(System.lineSeparator());
+            }
+        }
     }
 }
@@ -3,17 +3,26 @@ package org.jabref.logic.integrity;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.Writer;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 public abstract class IntegrityCheckResultWriter implements Closeable {
 
     protected final List<IntegrityMessage> messages;
     protected final Writer writer;
+    protected final Map<String, Duration> checkerDurations;
 
     /// Writer lifecycle: The caller is responsible for closing the writer at the appropriate time.
     public IntegrityCheckResultWriter(Writer writer, List<IntegrityMessage> messages) {
+        this(writer, messages, Map.of());
+    }
+
+    /// @param checkerDurations the durations of the checkers to report after the findings. Nothing is reported if empty.
+    public IntegrityCheckResultWriter(Writer writer, List<IntegrityMessage> messages, Map<String, Duration> checkerDurations) {
         this.writer = writer;
         this.messages = messages;
+        this.checkerDurations = checkerDurations;
     }
 
     public abstract void writeFindings() throws IOException;
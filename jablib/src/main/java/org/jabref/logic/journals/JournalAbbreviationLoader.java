@@ -35,6 +35,14 @@ public class JournalAbbreviationLoader {
     }
 
     public static JournalAbbreviationRepository loadRepository(JournalAbbreviationPreferences journalAbbreviationPreferences) {
+        return loadRepository(journalAbbreviationPreferences, false);
+    }
+
+    /**
+     * @param keepOnDisk if true, the built-in abbreviations are read on demand instead of being loaded into memory.
+     *                   This is intended for short-running processes doing few lookups, such as the command line.
+     */
+    public static JournalAbbreviationRepository loadRepository(JournalAbbreviationPreferences journalAbbreviationPreferences, boolean keepOnDisk) {
         JournalAbbreviationRepository repository;
 
         // Initialize with built-in list
@@ -46,7 +54,7 @@ public class JournalAbbreviationLoader {
                 Path tempDir = Files.createTempDirectory("jabref-journal");
                 Path tempJournalList = tempDir.resolve("journal-list.mv");
                 Files.copy(resourceAsStream, tempJournalList);
-                repository = new JournalAbbreviationRepository(tempJournalList, loadLtwaRepository());
+                repository = new JournalAbbreviationRepository(tempJournalList, loadLtwaRepository(), keepOnDisk);
                 tempDir.toFile().deleteOnExit();
                 tempJournalList.toFile().deleteOnExit();
                 LOGGER.info("Loaded journal abbreviations from {}", tempJournalList.toAbsolutePath());
@@ -1,37 +1,72 @@
 package org.jabref.logic.journals;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.jabref.logic.journals.ltwa.LtwaRepository;
 import org.jabref.logic.util.strings.StringSimilarity;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * A repository for all journal abbreviations, including add and find methods.
  */
-public class JournalAbbreviationRepository {
+public class JournalAbbreviationRepository implements AutoCloseable {
     static final Pattern QUESTION_MARK = Pattern.compile("\\?");
 
-    private final Map<String, Abbreviation> fullToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> abbreviationToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> dotlessToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> shortestUniqueToAbbreviationObject = new HashMap<>();
+    private static final Logger LOGGER = LoggerFactory.getLogger(JournalAbbreviationRepository.class);
+
+    private static final String FULL_TO_ABBREVIATION_MAP_NAME = "FullToAbbreviation";
+    private static final String ABBREVIATION_TO_FULL_MAP_NAME = "AbbreviationToFull";
+    private static final String DOTLESS_TO_FULL_MAP_NAME = "DotlessToFull";
+    private static final String SHORTEST_UNIQUE_TO_FULL_MAP_NAME = "ShortestUniqueToFull";
+
+    // Number of abbreviations kept in memory if the abbreviations are kept on disk
+    private static final int CACHE_SIZE = 1024;
+
+    private final Map<String, Abbreviation> fullToAbbreviationObject;
+    private final Map<String, Abbreviation> abbreviationToAbbreviationObject;
+    private final Map<String, Abbreviation> dotlessToAbbreviationObject;
+    private final Map<String, Abbreviation> shortestUniqueToAbbreviationObject;
     private final TreeSet<Abbreviation> customAbbreviations = new TreeSet<>();
     private final StringSimilarity similarity = new StringSimilarity();
     private final LtwaRepository ltwaRepository;
+    private final JournalNameIndex nameIndex;
+    // The store the abbreviations are read from, if they are kept on disk
+    private final @Nullable MVStore store;
+
+    // Lookup structures for the custom abbreviations, rebuilt on first use after a change
+    private volatile CustomAbbreviationIndex customAbbreviationIndex;
+
+    /**
+     * @param byLowerCaseName the custom abbreviations by all their lower-cased forms, in the order of the {@link #customAbbreviations}
+     * @param byName          the custom abbreviations by their full names, in the order of the {@link #customAbbreviations}
+     */
+    private record CustomAbbreviationIndex(
+            Map<String, List<Abbreviation>> byLowerCaseName,
+            Map<String, List<Abbreviation>> byName,
+            JournalNameIndex nameIndex) {
+    }
 
     /**
      * Initializes the internal data based on the abbreviations found in the given MV file
@@ -40,9 +75,47 @@ public class JournalAbbreviationRepository {
      * @param ltwaRepository The LTWA repository to use for abbreviations.
      */
     public JournalAbbreviationRepository(Path journalList, LtwaRepository ltwaRepository) {
-        MVMap<String, Abbreviation> mvFullToAbbreviationObject;
-        try (MVStore store = new MVStore.Builder().readOnly().fileName(journalList.toAbsolutePath().toString()).open()) {
-            mvFullToAbbreviationObject = store.openMap("FullToAbbreviation");
+        this(journalList, ltwaRepository, false);
+    }
+
+    /**
+     * Initializes the repository based on the abbreviations found in the given MV file
+     *
+     * @param journalList    The path to the MV file containing the journal abbreviations.
+     * @param ltwaRepository The LTWA repository to use for abbreviations.
+     * @param keepOnDisk     If true, the abbreviations are read from the file on demand instead of being loaded into
+     *                       memory. This speeds up the start and saves memory if only few lookups happen, e.g., in the
+     *                       command line. The file is kept open until {@link #close()} is called and must not be
+     *                       deleted while the repository is used. Requires the lookup maps written by
+     *                       {@link #writeLookupMaps(MVStore)}.
+     */
+    public JournalAbbreviationRepository(Path journalList, LtwaRepository ltwaRepository, boolean keepOnDisk) {
+        this.ltwaRepository = ltwaRepository;
+        // If kept on disk, the file is memory-mapped, so that the operating system caches the pages read by lookups
+        String fileName = (keepOnDisk ? "nioMapped:" : "") + journalList.toAbsolutePath();
+        MVStore store = new MVStore.Builder().readOnly().fileName(fileName).open();
+        if (keepOnDisk && store.hasMap(ABBREVIATION_TO_FULL_MAP_NAME) && store.hasMap(DOTLESS_TO_FULL_MAP_NAME) && store.hasMap(SHORTEST_UNIQUE_TO_FULL_MAP_NAME)) {
+            Cache<String, Abbreviation> cache = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build();
+            MVMap<String, Abbreviation> mvFullToAbbreviationObject = store.openMap(FULL_TO_ABBREVIATION_MAP_NAME);
+            fullToAbbreviationObject = new StoredAbbreviationMap(mvFullToAbbreviationObject, null, cache);
+            abbreviationToAbbreviationObject = new StoredAbbreviationMap(mvFullToAbbreviationObject, store.openMap(ABBREVIATION_TO_FULL_MAP_NAME), cache);
+            dotlessToAbbreviationObject = new StoredAbbreviationMap(mvFullToAbbreviationObject, store.openMap(DOTLESS_TO_FULL_MAP_NAME), cache);
+            shortestUniqueToAbbreviationObject = new StoredAbbreviationMap(mvFullToAbbreviationObject, store.openMap(SHORTEST_UNIQUE_TO_FULL_MAP_NAME), cache);
+            nameIndex = JournalNameIndex.open(store).orElseGet(() -> JournalNameIndex.of(fullToAbbreviationObject.keySet()));
+            this.store = store;
+            return;
+        }
+        if (keepOnDisk) {
+            LOGGER.info("Journal list {} does not contain lookup maps, loading it into memory", journalList);
+        }
+
+        fullToAbbreviationObject = new HashMap<>();
+        abbreviationToAbbreviationObject = new HashMap<>();
+        dotlessToAbbreviationObject = new HashMap<>();
+        shortestUniqueToAbbreviationObject = new HashMap<>();
+        JournalNameIndex storedNameIndex;
+        try (store) {
+            MVMap<String, Abbreviation> mvFullToAbbreviationObject = store.openMap(FULL_TO_ABBREVIATION_MAP_NAME);
             mvFullToAbbreviationObject.forEach((name, abbreviation) -> {
                 String abbrevationString = abbreviation.getAbbreviation();
                 String shortestUniqueAbbreviation = abbreviation.getShortestUniqueAbbreviation();
@@ -56,8 +129,11 @@ public class JournalAbbreviationRepository {
                 dotlessToAbbreviationObject.put(newAbbreviation.getDotlessAbbreviation(), newAbbreviation);
                 shortestUniqueToAbbreviationObject.put(shortestUniqueAbbreviation, newAbbreviation);
             });
+            // Journal lists generated by older versions do not contain an index
+            storedNameIndex = JournalNameIndex.read(store).orElse(null);
         }
-        this.ltwaRepository = ltwaRepository;
+        this.nameIndex = storedNameIndex != null ? storedNameIndex : JournalNameIndex.of(fullToAbbreviationObject.keySet());
+        this.store = null;
     }
 
     /**
@@ -69,11 +145,39 @@ public class JournalAbbreviationRepository {
                 "Demo",
                 "Dem"
         );
+        fullToAbbreviationObject = new HashMap<>();
+        abbreviationToAbbreviationObject = new HashMap<>();
+        dotlessToAbbreviationObject = new HashMap<>();
+        shortestUniqueToAbbreviationObject = new HashMap<>();
         fullToAbbreviationObject.put("Demonstration", newAbbreviation);
         abbreviationToAbbreviationObject.put("Demo", newAbbreviation);
         dotlessToAbbreviationObject.put("Demo", newAbbreviation);
         shortestUniqueToAbbreviationObject.put("Dem", newAbbreviation);
         ltwaRepository = new LtwaRepository();
+        nameIndex = JournalNameIndex.of(fullToAbbreviationObject.keySet());
+        store = null;
+    }
+
+    /**
+     * Writes the maps needed to keep the abbreviations on disk (see {@link #JournalAbbreviationRepository(Path, LtwaRepository, boolean)})
+     * and the index for fuzzy lookups. The store must already contain the abbreviations by full name.
+     */
+    public static void writeLookupMaps(MVStore store) {
+        MVMap<String, Abbreviation> mvFullToAbbreviationObject = store.openMap(FULL_TO_ABBREVIATION_MAP_NAME);
+        MVMap<String, String> abbreviationToFull = store.openMap(ABBREVIATION_TO_FULL_MAP_NAME);
+        MVMap<String, String> dotlessToFull = store.openMap(DOTLESS_TO_FULL_MAP_NAME);
+        MVMap<String, String> shortestUniqueToFull = store.openMap(SHORTEST_UNIQUE_TO_FULL_MAP_NAME);
+        abbreviationToFull.clear();
+        dotlessToFull.clear();
+        shortestUniqueToFull.clear();
+        // Same order as when loading into memory, so that the same abbreviation wins for ambiguous keys
+        mvFullToAbbreviationObject.forEach((name, abbreviation) -> {
+            Abbreviation newAbbreviation = new Abbreviation(name, abbreviation.getAbbreviation(), abbreviation.getShortestUniqueAbbreviation());
+            abbreviationToFull.put(newAbbreviation.getAbbreviation(), name);
+            dotlessToFull.put(newAbbreviation.getDotlessAbbreviation(), name);
+            shortestUniqueToFull.put(newAbbreviation.getShortestUniqueAbbreviation(), name);
+        });
+        JournalNameIndex.of(mvFullToAbbreviationObject.keySet()).write(store);
     }
 
     private static boolean isMatched(String name, Abbreviation abbreviation) {
@@ -124,7 +228,7 @@ public class JournalAbbreviationRepository {
             return false;
         }
         String journal = journalName.trim().replaceAll(Matcher.quoteReplacement("\\&"), "&");
-        return customAbbreviations.stream().anyMatch(abbreviation -> isMatchedAbbreviated(journal, abbreviation))
+        return getCustomAbbreviationsNamed(journal).stream().anyMatch(abbreviation -> isMatchedAbbreviated(journal, abbreviation))
                 || abbreviationToAbbreviationObject.containsKey(journal)
                 || dotlessToAbbreviationObject.containsKey(journal)
                 || shortestUniqueToAbbreviationObject.containsKey(journal);
@@ -140,9 +244,9 @@ public class JournalAbbreviationRepository {
         // Clean up input: trim and unescape ampersand
         String journal = input.trim().replaceAll(Matcher.quoteReplacement("\\&"), "&");
 
-        Optional<Abbreviation> customAbbreviation = customAbbreviations.stream()
-                                                                       .filter(abbreviation -> isMatched(journal, abbreviation))
-                                                                       .findFirst();
+        Optional<Abbreviation> customAbbreviation = getCustomAbbreviationsNamed(journal).stream()
+                                                                                         .filter(abbreviation -> isMatched(journal, abbreviation))
+                                                                                         .findFirst();
         if (customAbbreviation.isPresent()) {
             return customAbbreviation;
         }
@@ -159,23 +263,55 @@ public class JournalAbbreviationRepository {
         return abbreviation;
     }
 
+    /**
+     * @return the custom abbreviations having the given name in any form, ignoring case
+     */
+    private List<Abbreviation> getCustomAbbreviationsNamed(String name) {
+        return getCustomAbbreviationIndex().byLowerCaseName().getOrDefault(name.toLowerCase(Locale.ROOT), List.of());
+    }
+
+    private CustomAbbreviationIndex getCustomAbbreviationIndex() {
+        CustomAbbreviationIndex index = customAbbreviationIndex;
+        if (index != null) {
+            return index;
+        }
+        synchronized (customAbbreviations) {
+            if (customAbbreviationIndex == null) {
+                Map<String, List<Abbreviation>> byLowerCaseName = new HashMap<>();
+                Map<String, List<Abbreviation>> byName = new HashMap<>();
+                for (Abbreviation abbreviation : customAbbreviations) {
+                    Stream.of(abbreviation.getName(), abbreviation.getAbbreviation(), abbreviation.getDotlessAbbreviation(), abbreviation.getShortestUniqueAbbreviation())
+                          .map(name -> name.toLowerCase(Locale.ROOT))
+                          .distinct()
+                          .forEach(name -> byLowerCaseName.computeIfAbsent(name, _ -> new ArrayList<>()).add(abbreviation));
+                    byName.computeIfAbsent(abbreviation.getName(), _ -> new ArrayList<>()).add(abbreviation);
+                }
+                customAbbreviationIndex = new CustomAbbreviationIndex(byLowerCaseName, byName, JournalNameIndex.of(byName.keySet()));
+            }
+            return customAbbreviationIndex;
+        }
+    }
+
     private Optional<Abbreviation> findAbbreviationFuzzyMatched(String input) {
-        Optional<Abbreviation> customMatch = findBestFuzzyMatched(customAbbreviations, input);
+        CustomAbbreviationIndex customIndex = getCustomAbbreviationIndex();
+        Optional<Abbreviation> customMatch = findBestFuzzyMatched(customIndex.nameIndex(), customIndex.byName()::get, input);
         if (customMatch.isPresent()) {
             return customMatch;
         }
 
-        return findBestFuzzyMatched(fullToAbbreviationObject.values(), input);
+        return findBestFuzzyMatched(nameIndex, name -> List.of(fullToAbbreviationObject.get(name)), input);
     }
 
-    private Optional<Abbreviation> findBestFuzzyMatched(Collection<Abbreviation> abbreviations, String input) {
+    private Optional<Abbreviation> findBestFuzzyMatched(JournalNameIndex index, Function<String, List<Abbreviation>> abbreviationsByName, String input) {
         // threshold for edit distance similarity comparison
         final double SIMILARITY_THRESHOLD = 1.0;
 
-        List<Abbreviation> candidates = abbreviations.stream()
-                                                     .filter(abbreviation -> similarity.isSimilar(input, abbreviation.getName()))
-                                                     .sorted(Comparator.comparingDouble(abbreviation -> similarity.editDistanceIgnoreCase(input, abbreviation.getName())))
-                                                     .toList();
+        // The index preselects the names which might be similar, so that only these are compared
+        List<Abbreviation> candidates = index.findCandidates(input, similarity.getMetricThreshold()).stream()
+                                             .filter(name -> similarity.isSimilar(input, name))
+                                             .flatMap(name -> abbreviationsByName.apply(name).stream())
+                                             .sorted(Comparator.comparingDouble(abbreviation -> similarity.editDistanceIgnoreCase(input, abbreviation.getName())))
+                                             .toList();
 
         if (candidates.isEmpty()) {
             return Optional.empty();
@@ -198,7 +334,11 @@ public class JournalAbbreviationRepository {
         // We do NOT want to keep duplicates
         // The set automatically "removes" duplicates
         // What is a duplicate? An abbreviation is NOT the same if any field is NOT equal (e.g., if the shortest unique differs, the abbreviation is NOT the same)
-        customAbbreviations.add(abbreviation);
+        synchronized (customAbbreviations) {
+            if (customAbbreviations.add(abbreviation)) {
+                customAbbreviationIndex = null;
+            }
+        }
     }
 
     public Collection<Abbreviation> getCustomAbbreviations() {
@@ -232,4 +372,15 @@ public class JournalAbbreviationRepository {
     public Collection<Abbreviation> getAllLoaded() {
         return fullToAbbreviationObject.values();
     }
+
+    /**
+     * Closes the journal list if the abbreviations are kept on disk. Afterwards, only abbreviations loaded into memory
+     * can be looked up. Short-running processes should close the repository, so that the journal list can be deleted.
+     */
+    @Override
+    public void close() {
+        if (store != null && !store.isClosed()) {
+            store.close();
+        }
+    }
 }
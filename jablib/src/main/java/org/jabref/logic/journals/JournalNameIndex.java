@@ -0,0 +1,233 @@
+package org.jabref.logic.journals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A trigram index of journal names to find the names within a given edit distance of an input without comparing the
+ * input to all names.
+ * <p>
+ * A name within edit distance {@code k} of the input differs in length by at most {@code k} and shares at least
+ * {@code max(length of input, length of name) + 2 - 3k} trigrams of the padded, lower-cased strings with the input,
+ * because each edit destroys at most three trigrams. Thus, the index only counts common trigrams of names of suitable
+ * length. If the bound is not positive, e.g., for very short inputs, all names of suitable length are candidates.
+ * <p>
+ * The candidates have to be verified by computing the edit distance. The names are compared lower-cased in the same
+ * way as {@link org.jabref.logic.util.strings.StringSimilarity#editDistanceIgnoreCase(String, String)} does.
+ * <p>
+ * The index can be stored in the MVStore of the journal list, so that it does not need to be computed on startup.
+ * It can be read completely into memory ({@link #read(MVStore)}) or used from the store ({@link #open(MVStore)}).
+ */
+public class JournalNameIndex {
+
+    private static final String NAMES_MAP_NAME = "FuzzyIndexNames";
+    private static final String TRIGRAMS_MAP_NAME = "FuzzyIndexTrigrams";
+    private static final String LENGTHS_MAP_NAME = "FuzzyIndexLengths";
+
+    private static final int GRAM_LENGTH = 3;
+    private static final char PADDING = '\u0000';
+
+    // Ordinal to name, sorted by the length of the lower-cased name
+    private final IntFunction<String> names;
+    // Ordinal to the length of the lower-cased name
+    private final int[] lengths;
+    // Trigram to the sorted ordinals of the names containing it, an ordinal is repeated for each occurrence
+    private final Function<String, int @Nullable []> postings;
+
+    private JournalNameIndex(IntFunction<String> names, int[] lengths, Function<String, int @Nullable []> postings) {
+        this.names = names;
+        this.lengths = lengths;
+        this.postings = postings;
+    }
+
+    private static int[] getLengths(String[] names) {
+        return Arrays.stream(names).mapToInt(name -> normalize(name).length()).toArray();
+    }
+
+    /**
+     * Builds the index of the given names
+     */
+    public static JournalNameIndex of(Collection<String> names) {
+        String[] sortedNames = names.stream()
+                                    .distinct()
+                                    .sorted(Comparator.<String>comparingInt(name -> normalize(name).length()).thenComparing(Comparator.naturalOrder()))
+                                    .toArray(String[]::new);
+
+        Map<String, List<Integer>> postingLists = new HashMap<>();
+        for (int ordinal = 0; ordinal < sortedNames.length; ordinal++) {
+            for (String gram : getGrams(normalize(sortedNames[ordinal]))) {
+                postingLists.computeIfAbsent(gram, _ -> new ArrayList<>()).add(ordinal);
+            }
+        }
+
+        Map<String, int[]> postings = HashMap.newHashMap(postingLists.size());
+        postingLists.forEach((gram, ordinals) -> postings.put(gram, ordinals.stream().mapToInt(Integer::intValue).toArray()));
+        return new JournalNameIndex(ordinal -> sortedNames[ordinal], getLengths(sortedNames), postings::get);
+    }
+
+    /**
+     * Reads the index written by {@link #write(MVStore)}
+     *
+     * @return an empty optional if the store does not contain an index
+     */
+    public static Optional<JournalNameIndex> read(MVStore store) {
+        if (!store.hasMap(NAMES_MAP_NAME) || !store.hasMap(TRIGRAMS_MAP_NAME)) {
+            return Optional.empty();
+        }
+
+        MVMap<Integer, String> namesMap = store.openMap(NAMES_MAP_NAME);
+        MVMap<String, int[]> trigramsMap = store.openMap(TRIGRAMS_MAP_NAME);
+        String[] names = new String[namesMap.size()];
+        namesMap.forEach((ordinal, name) -> names[ordinal] = name);
+        Map<String, int[]> postings = HashMap.newHashMap(trigramsMap.size());
+        postings.putAll(trigramsMap);
+        return Optional.of(new JournalNameIndex(ordinal -> names[ordinal], getLengths(names), postings::get));
+    }
+
+    /**
+     * Uses the index written by {@link #write(MVStore)} without reading it into memory. Names and trigrams are read
+     * from the store on each lookup, thus the store has to stay open.
+     *
+     * @return an empty optional if the store does not contain an index
+     */
+    public static Optional<JournalNameIndex> open(MVStore store) {
+        if (!store.hasMap(NAMES_MAP_NAME) || !store.hasMap(TRIGRAMS_MAP_NAME) || !store.hasMap(LENGTHS_MAP_NAME)) {
+            return Optional.empty();
+        }
+
+        MVMap<Integer, String> namesMap = store.openMap(NAMES_MAP_NAME);
+        MVMap<String, int[]> trigramsMap = store.openMap(TRIGRAMS_MAP_NAME);
+        MVMap<Integer, int[]> lengthsMap = store.openMap(LENGTHS_MAP_NAME);
+        return Optional.ofNullable(lengthsMap.get(0))
+                       .map(lengths -> new JournalNameIndex(namesMap::get, lengths, trigramsMap::get));
+    }
+
+    /**
+     * Writes the index to the given store, replacing a previously written index
+     */
+    public void write(MVStore store) {
+        MVMap<Integer, String> namesMap = store.openMap(NAMES_MAP_NAME);
+        MVMap<String, int[]> trigramsMap = store.openMap(TRIGRAMS_MAP_NAME);
+        MVMap<Integer, int[]> lengthsMap = store.openMap(LENGTHS_MAP_NAME);
+        namesMap.clear();
+        trigramsMap.clear();
+        for (int ordinal = 0; ordinal < lengths.length; ordinal++) {
+            namesMap.put(ordinal, names.apply(ordinal));
+            for (String gram : getGrams(normalize(names.apply(ordinal)))) {
+                trigramsMap.computeIfAbsent(gram, postings::apply);
+            }
+        }
+        // The lengths are needed for every lookup, so they are stored together
+        lengthsMap.put(0, lengths);
+    }
+
+    public int size() {
+        return lengths.length;
+    }
+
+    /**
+     * Returns the names which might be within the given edit distance of the input, ignoring case. All names within
+     * the edit distance are returned, but some of the returned names might be farther away.
+     */
+    public List<String> findCandidates(String input, int maxDistance) {
+        String query = normalize(input);
+        int queryLength = query.length();
+        int from = getFirstOrdinalOfLength(queryLength - maxDistance);
+        int to = getFirstOrdinalOfLength(queryLength + maxDistance + 1);
+        if (from >= to) {
+            return List.of();
+        }
+
+        if (getMinimalCommonGrams(queryLength, queryLength + maxDistance, maxDistance) <= 0) {
+            // Some names of suitable length need not share any trigram with the input
+            return IntStream.range(from, to).mapToObj(names).toList();
+        }
+
+        Map<String, Integer> queryGrams = new HashMap<>();
+        for (String gram : getGrams(query)) {
+            queryGrams.merge(gram, 1, Integer::sum);
+        }
+
+        int[] commonGrams = new int[to - from];
+        queryGrams.forEach((gram, queryCount) -> {
+            int[] ordinals = postings.apply(gram);
+            if (ordinals == null) {
+                return;
+            }
+            // Skip the names which are too short
+            int position = Arrays.binarySearch(ordinals, from);
+            position = position < 0 ? -position - 1 : firstOccurrence(ordinals, position);
+            while ((position < ordinals.length) && (ordinals[position] < to)) {
+                int ordinal = ordinals[position];
+                int nameCount = 0;
+                while ((position < ordinals.length) && (ordinals[position] == ordinal)) {
+                    nameCount++;
+                    position++;
+                }
+                commonGrams[ordinal - from] += Math.min(queryCount, nameCount);
+            }
+        });
+
+        List<String> candidates = new ArrayList<>();
+        for (int ordinal = from; ordinal < to; ordinal++) {
+            if (commonGrams[ordinal - from] >= getMinimalCommonGrams(queryLength, lengths[ordinal], maxDistance)) {
+                candidates.add(names.apply(ordinal));
+            }
+        }
+        return candidates;
+    }
+
+    private static int getMinimalCommonGrams(int queryLength, int nameLength, int maxDistance) {
+        return Math.max(queryLength, nameLength) + GRAM_LENGTH - 1 - (maxDistance * GRAM_LENGTH);
+    }
+
+    private static int firstOccurrence(int[] ordinals, int position) {
+        while ((position > 0) && (ordinals[position - 1] == ordinals[position])) {
+            position--;
+        }
+        return position;
+    }
+
+    private int getFirstOrdinalOfLength(int length) {
+        int low = 0;
+        int high = lengths.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (lengths[middle] < length) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static String normalize(String name) {
+        // Same as StringSimilarity#editDistanceIgnoreCase
+        return name.toLowerCase(Locale.ENGLISH);
+    }
+
+    private static List<String> getGrams(String normalizedName) {
+        String padding = String.valueOf(PADDING).repeat(GRAM_LENGTH - 1);
+        String padded = padding + normalizedName + padding;
+        List<String> grams = new ArrayList<>(padded.length() - GRAM_LENGTH + 1);
+        for (int i = 0; i + GRAM_LENGTH <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,99 @@
+package org.jabref.logic.journals;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.h2.mvstore.MVMap;
+
+import com.google.common.cache.Cache;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A read-only view of the abbreviations of a journal list stored in an MVStore, keyed by one form of the journal name.
+ * <p>
+ * The abbreviations are only materialized on access. The recently used ones are kept in a cache shared by the views of
+ * all forms, so that repeated lookups of the same journal do not deserialize it again.
+ */
+class StoredAbbreviationMap extends AbstractMap<String, Abbreviation> {
+
+    private final MVMap<String, Abbreviation> fullToAbbreviation;
+    // Maps the key to the full name, null if the keys are the full names
+    private final @Nullable MVMap<String, String> keyToFullName;
+    private final Cache<String, Abbreviation> cache;
+
+    StoredAbbreviationMap(MVMap<String, Abbreviation> fullToAbbreviation, @Nullable MVMap<String, String> keyToFullName, Cache<String, Abbreviation> cache) {
+        this.fullToAbbreviation = fullToAbbreviation;
+        this.keyToFullName = keyToFullName;
+        this.cache = cache;
+    }
+
+    @Override
+    public @Nullable Abbreviation get(Object key) {
+        if (!(key instanceof String name)) {
+            return null;
+        }
+        String fullName = keyToFullName == null ? name : keyToFullName.get(name);
+        return fullName == null ? null : getByFullName(fullName);
+    }
+
+    private @Nullable Abbreviation getByFullName(String fullName) {
+        Abbreviation abbreviation = cache.getIfPresent(fullName);
+        if (abbreviation != null) {
+            return abbreviation;
+        }
+
+        Abbreviation stored = fullToAbbreviation.get(fullName);
+        if (stored == null) {
+            return null;
+        }
+        // The name is not serialized, see JournalAbbreviationRepository(Path, LtwaRepository)
+        abbreviation = new Abbreviation(fullName, stored.getAbbreviation(), stored.getShortestUniqueAbbreviation());
+        cache.put(fullName, abbreviation);
+        return abbreviation;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return (keyToFullName == null ? fullToAbbreviation : keyToFullName).containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return (keyToFullName == null ? fullToAbbreviation : keyToFullName).size();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return (keyToFullName == null ? fullToAbbreviation : keyToFullName).keySet();
+    }
+
+    @Override
+    public Set<Entry<String, Abbreviation>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Abbreviation>> iterator() {
+                Iterator<String> keys = keySet().iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return keys.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, Abbreviation> next() {
+                        String key = keys.next();
+                        return Map.entry(key, get(key));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return StoredAbbreviationMap.this.size();
+            }
+        };
+    }
+}
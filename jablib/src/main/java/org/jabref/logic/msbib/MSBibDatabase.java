@@ -59,9 +59,9 @@ public class MSBibDatabase {
         this();
         List<BibEntry> resolvedEntries;
         if (entries == null) {
-            resolvedEntries = database.resolveForStrings(database.getEntries(), false);
+            resolvedEntries = database.resolveForStrings(database.getEntries(), false, true);
         } else {
-            resolvedEntries = database.resolveForStrings(entries, false);
+            resolvedEntries = database.resolveForStrings(entries, false, true);
         }
         setEntriesForExport(resolvedEntries);
     }
@@ -45,7 +45,7 @@ public class EntryAnnotationImporter {
      */
     public Map<Path, List<FileAnnotation>> importAnnotationsFromFiles(BibDatabaseContext databaseContext, FilePreferences filePreferences) {
         Map<Path, List<FileAnnotation>> annotations = new HashMap<>();
-        AnnotationImporter importer = new PdfAnnotationImporter();
+        AnnotationImporter importer = new PdfAnnotationImporter(PdfTextCache.getInstance());
 
         // import annotationsOfFiles if the selected files are valid which is checked in getFilteredFileList()
         for (LinkedFile linkedFile : this.getFilteredFileList()) {
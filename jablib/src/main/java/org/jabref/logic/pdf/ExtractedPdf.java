@@ -0,0 +1,23 @@
+package org.jabref.logic.pdf;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.jabref.model.pdf.FileAnnotation;
+
+/// The text and the annotations of a PDF file as read by [PdfTextCache].
+///
+/// @param pages       the pages in order. If reading was stopped, only the pages read until then.
+/// @param annotations the annotations as imported by [PdfAnnotationImporter]
+public record ExtractedPdf(List<Page> pages, List<FileAnnotation> annotations) {
+
+    /// @param text               the text of the page with `\n` as line separator
+    /// @param annotationContents the contents of the annotations of the page having contents
+    public record Page(String text, List<String> annotationContents) {
+    }
+
+    /// Returns the text of all pages
+    public String getText() {
+        return pages.stream().map(Page::text).collect(Collectors.joining());
+    }
+}
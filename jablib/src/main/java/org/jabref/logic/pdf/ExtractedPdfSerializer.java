@@ -0,0 +1,149 @@
+package org.jabref.logic.pdf;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.pdf.FileAnnotation;
+import org.jabref.model.pdf.FileAnnotationType;
+
+import org.h2.mvstore.DataUtils;
+import org.h2.mvstore.WriteBuffer;
+import org.h2.mvstore.type.BasicDataType;
+import org.jspecify.annotations.Nullable;
+
+/// Compact binary serialization of an [ExtractedPdf] for the MVStore.
+///
+/// Layout:
+///
+/// ```
+/// version (1 byte)
+/// number of pages (varint)
+/// per page: text, number of annotation contents (varint), annotation contents
+/// number of annotations (varint)
+/// per annotation: author (1 byte presence + string), time modified (varlong epoch seconds in UTC, varint nanos),
+///                 page (varint), content, type name, linked annotation (1 byte presence + annotation)
+/// ```
+///
+/// Strings are written as varint length and UTF-8.
+class ExtractedPdfSerializer extends BasicDataType<ExtractedPdf> {
+
+    static final byte VERSION = 1;
+
+    @Override
+    public int getMemory(ExtractedPdf extractedPdf) {
+        // Estimation only: Java strings use up to two bytes per character
+        int memory = 32;
+        for (ExtractedPdf.Page page : extractedPdf.pages()) {
+            memory += 16 + (2 * page.text().length());
+            for (String content : page.annotationContents()) {
+                memory += 16 + (2 * content.length());
+            }
+        }
+        return memory + (64 * extractedPdf.annotations().size());
+    }
+
+    @Override
+    public void write(WriteBuffer buff, ExtractedPdf extractedPdf) {
+        buff.put(VERSION);
+        buff.putVarInt(extractedPdf.pages().size());
+        for (ExtractedPdf.Page page : extractedPdf.pages()) {
+            putString(buff, page.text());
+            buff.putVarInt(page.annotationContents().size());
+            page.annotationContents().forEach(content -> putString(buff, content));
+        }
+        buff.putVarInt(extractedPdf.annotations().size());
+        extractedPdf.annotations().forEach(annotation -> putAnnotation(buff, annotation));
+    }
+
+    /// @throws IllegalStateException if the data was written by another version
+    @Override
+    public ExtractedPdf read(ByteBuffer buff) {
+        byte version = buff.get();
+        if (version != VERSION) {
+            throw new IllegalStateException("Unsupported version %d of extracted PDF text".formatted(version));
+        }
+        int pageCount = DataUtils.readVarInt(buff);
+        List<ExtractedPdf.Page> pages = new ArrayList<>(pageCount);
+        for (int i = 0; i < pageCount; i++) {
+            String text = getString(buff);
+            int contentCount = DataUtils.readVarInt(buff);
+            List<String> contents = new ArrayList<>(contentCount);
+            for (int j = 0; j < contentCount; j++) {
+                contents.add(getString(buff));
+            }
+            pages.add(new ExtractedPdf.Page(text, List.copyOf(contents)));
+        }
+        int annotationCount = DataUtils.readVarInt(buff);
+        List<FileAnnotation> annotations = new ArrayList<>(annotationCount);
+        for (int i = 0; i < annotationCount; i++) {
+            annotations.add(getAnnotation(buff));
+        }
+        return new ExtractedPdf(List.copyOf(pages), List.copyOf(annotations));
+    }
+
+    private static void putAnnotation(WriteBuffer buff, FileAnnotation annotation) {
+        putNullableString(buff, annotation.getAuthor());
+        LocalDateTime timeModified = annotation.getTimeModified();
+        buff.putVarLong(timeModified.toEpochSecond(ZoneOffset.UTC));
+        buff.putVarInt(timeModified.getNano());
+        buff.putVarInt(annotation.getPage());
+        putString(buff, annotation.getContent());
+        putString(buff, annotation.getAnnotationType().name());
+        if (annotation.hasLinkedAnnotation()) {
+            buff.put((byte) 1);
+            putAnnotation(buff, annotation.getLinkedFileAnnotation());
+        } else {
+            buff.put((byte) 0);
+        }
+    }
+
+    private static FileAnnotation getAnnotation(ByteBuffer buff) {
+        String author = getNullableString(buff);
+        LocalDateTime timeModified = LocalDateTime.ofEpochSecond(DataUtils.readVarLong(buff), DataUtils.readVarInt(buff), ZoneOffset.UTC);
+        int page = DataUtils.readVarInt(buff);
+        String content = getString(buff);
+        FileAnnotationType type = FileAnnotationType.valueOf(getString(buff));
+        Optional<FileAnnotation> linkedAnnotation = buff.get() == 1 ? Optional.of(getAnnotation(buff)) : Optional.empty();
+        return new FileAnnotation(author, timeModified, page, content, type, linkedAnnotation);
+    }
+
+    private static void putNullableString(WriteBuffer buff, @Nullable String string) {
+        if (string == null) {
+            buff.put((byte) 0);
+        } else {
+            buff.put((byte) 1);
+            putString(buff, string);
+        }
+    }
+
+    private static @Nullable String getNullableString(ByteBuffer buff) {
+        return buff.get() == 1 ? getString(buff) : null;
+    }
+
+    private static void putString(WriteBuffer buff, String string) {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        buff.putVarInt(bytes.length);
+        buff.put(bytes);
+    }
+
+    private static String getString(ByteBuffer buff) {
+        byte[] bytes = new byte[DataUtils.readVarInt(buff)];
+        buff.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public ExtractedPdf[] createStorage(int size) {
+        return new ExtractedPdf[size];
+    }
+
+    @Override
+    public boolean isMemoryEstimationAllowed() {
+        return false;
+    }
+}
@@ -9,10 +9,11 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 
+import javafx.beans.property.SimpleBooleanProperty;
+
 import org.jabref.model.pdf.FileAnnotation;
 import org.jabref.model.pdf.FileAnnotationType;
 
-import org.apache.pdfbox.Loader;
 import org.apache.pdfbox.cos.COSArray;
 import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.pdmodel.PDDocument;
@@ -27,8 +28,14 @@ public class PdfAnnotationImporter implements AnnotationImporter {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PdfAnnotationImporter.class);
 
+    private final PdfTextCache pdfTextCache;
+
+    public PdfAnnotationImporter(PdfTextCache pdfTextCache) {
+        this.pdfTextCache = pdfTextCache;
+    }
+
     /**
-     * Imports the comments from a pdf specified by its path
+     * Imports the comments from a pdf specified by its path. The pdf is only read if it is not in the {@link PdfTextCache}.
      *
      * @param path a path to a pdf
      * @return a list with the all the annotations found in the file of the path
@@ -40,33 +47,40 @@ public class PdfAnnotationImporter implements AnnotationImporter {
             return List.of();
         }
 
+        return pdfTextCache.get(path, new SimpleBooleanProperty(false))
+                           .map(ExtractedPdf::annotations)
+                           .orElse(List.of());
+    }
+
+    /**
+     * Imports the comments from a loaded pdf
+     *
+     * @param document the pdf, whose annotations with marked text get the marked text as contents
+     */
+    static List<FileAnnotation> importAnnotations(PDDocument document) throws IOException {
         List<FileAnnotation> annotationsList = new LinkedList<>();
-        try (PDDocument document = Loader.loadPDF(path.toFile())) {
-            PDPageTree pdfPages = document.getDocumentCatalog().getPages();
-            for (int pageIndex = 0; pageIndex < pdfPages.getCount(); pageIndex++) {
-                PDPage page = pdfPages.get(pageIndex);
-                for (PDAnnotation annotation : page.getAnnotations()) {
-                    if (!isSupportedAnnotationType(annotation)) {
-                        continue;
-                    }
+        PDPageTree pdfPages = document.getDocumentCatalog().getPages();
+        for (int pageIndex = 0; pageIndex < pdfPages.getCount(); pageIndex++) {
+            PDPage page = pdfPages.get(pageIndex);
+            for (PDAnnotation annotation : page.getAnnotations()) {
+                if (!isSupportedAnnotationType(annotation)) {
+                    continue;
+                }
 
-                    if (FileAnnotationType.isMarkedFileAnnotationType(annotation.getSubtype())) {
-                        annotationsList.add(createMarkedAnnotations(pageIndex, page, annotation));
-                    } else {
-                        FileAnnotation fileAnnotation = new FileAnnotation(annotation, pageIndex + 1);
-                        if ((fileAnnotation.getContent() != null) && !fileAnnotation.getContent().isEmpty()) {
-                            annotationsList.add(fileAnnotation);
-                        }
+                if (FileAnnotationType.isMarkedFileAnnotationType(annotation.getSubtype())) {
+                    annotationsList.add(createMarkedAnnotations(pageIndex, page, annotation));
+                } else {
+                    FileAnnotation fileAnnotation = new FileAnnotation(annotation, pageIndex + 1);
+                    if ((fileAnnotation.getContent() != null) && !fileAnnotation.getContent().isEmpty()) {
+                        annotationsList.add(fileAnnotation);
                     }
                 }
             }
-        } catch (IOException e) {
-            LOGGER.error("Failed to read file '{}'.", path, e);
         }
         return annotationsList;
     }
 
-    private boolean isSupportedAnnotationType(PDAnnotation annotation) {
+    private static boolean isSupportedAnnotationType(PDAnnotation annotation) {
         if (annotation.getSubtype() == null) {
             return false;
         }
@@ -84,7 +98,7 @@ public class PdfAnnotationImporter implements AnnotationImporter {
         return true;
     }
 
-    private FileAnnotation createMarkedAnnotations(int pageIndex, PDPage page, PDAnnotation annotation) {
+    private static FileAnnotation createMarkedAnnotations(int pageIndex, PDPage page, PDAnnotation annotation) {
         FileAnnotation annotationBelongingToMarking = new FileAnnotation(
                 annotation.getCOSObject().getString(COSName.T), FileAnnotation.extractModifiedTime(annotation.getModifiedDate()),
                 pageIndex + 1, annotation.getContents(), FileAnnotationType.valueOf(annotation.getSubtype().toUpperCase(Locale.ROOT)), Optional.empty());
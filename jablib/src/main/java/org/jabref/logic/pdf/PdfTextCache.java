@@ -0,0 +1,276 @@
+package org.jabref.logic.pdf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import javafx.beans.property.ReadOnlyBooleanProperty;
+
+import org.jabref.logic.util.Directories;
+import org.jabref.model.pdf.FileAnnotation;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotation;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.h2.mvstore.MVStoreException;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// A persistent cache of the text and the annotations of PDF files, shared by the fulltext index, the AI ingestion and
+/// the annotation importer.
+///
+/// The files are identified by the SHA-256 hash of their content. Thus, a file is only read once, even if it is
+/// renamed, moved, or linked from several libraries. Reading a file which is already cached costs computing its hash.
+///
+/// If the extraction changes, [#EXTRACTOR_VERSION] has to be increased. The text extracted by other versions is
+/// removed when the cache is opened.
+///
+/// The number of cached files is bounded. If more files are read, the files which were not read for the longest time
+/// are removed.
+public class PdfTextCache implements AutoCloseable {
+
+    public static final int EXTRACTOR_VERSION = 1;
+    public static final int DEFAULT_MAXIMUM_NUMBER_OF_FILES = 2_000;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PdfTextCache.class);
+
+    private static final String MAP_NAME_PREFIX = "pdfs-v";
+    private static final String ACCESS_MAP_NAME_PREFIX = "accessed-v";
+    // Larger files are buffered in temporary files instead of main memory while reading
+    private static final long LARGE_FILE_SIZE = 64L * 1024 * 1024;
+
+    private static @Nullable PdfTextCache instance;
+
+    private final MVStore store;
+    private final MVMap<String, ExtractedPdf> extractedPdfs;
+    // The number of the last access of each file. Numbers are used instead of timestamps, because they are unique.
+    private final MVMap<String, Long> lastAccess;
+    private final int maximumNumberOfFiles;
+    private long accessCount;
+
+    /// @param path the file of the store. If null or if the store cannot be opened, the cache is kept in memory.
+    public PdfTextCache(@Nullable Path path) {
+        this(path, DEFAULT_MAXIMUM_NUMBER_OF_FILES);
+    }
+
+    /// @param path                 the file of the store. If null or if the store cannot be opened, the cache is kept in memory.
+    /// @param maximumNumberOfFiles the number of files which are kept at most
+    public PdfTextCache(@Nullable Path path, int maximumNumberOfFiles) {
+        this.store = openStore(path);
+        this.maximumNumberOfFiles = maximumNumberOfFiles;
+        String mapName = MAP_NAME_PREFIX + EXTRACTOR_VERSION;
+        String accessMapName = ACCESS_MAP_NAME_PREFIX + EXTRACTOR_VERSION;
+        for (String name : List.copyOf(store.getMapNames())) {
+            if ((name.startsWith(MAP_NAME_PREFIX) && !name.equals(mapName))
+                    || (name.startsWith(ACCESS_MAP_NAME_PREFIX) && !name.equals(accessMapName))) {
+                LOGGER.debug("Removing PDF text extracted by an earlier version ({})", name);
+                store.removeMap(name);
+            }
+        }
+        this.extractedPdfs = store.openMap(mapName, new MVMap.Builder<String, ExtractedPdf>().valueType(new ExtractedPdfSerializer()));
+        this.lastAccess = store.openMap(accessMapName);
+        this.accessCount = lastAccess.values().stream().mapToLong(Long::longValue).max().orElse(0);
+    }
+
+    /// Returns the cache stored in the user data directory, opening it on first use
+    public static synchronized PdfTextCache getInstance() {
+        if (instance == null) {
+            instance = new PdfTextCache(Directories.getPdfTextCacheDirectory().resolve("pdf-text.mv"));
+        }
+        return instance;
+    }
+
+    /// Closes the cache returned by [#getInstance()] if it was opened
+    public static synchronized void closeInstance() {
+        if (instance != null) {
+            instance.close();
+        }
+    }
+
+    private static MVStore openStore(@Nullable Path path) {
+        if (path != null) {
+            try {
+                Files.createDirectories(path.getParent());
+                // We can rely on the auto commit features, because each value is written once
+                return new MVStore.Builder()
+                        .fileName(path.toAbsolutePath().toString())
+                        .compress()
+                        .open();
+            } catch (IOException | MVStoreException e) {
+                LOGGER.error("Could not open the PDF text cache at {}, the cache is kept in memory", path, e);
+            }
+        }
+        return new MVStore.Builder().open();
+    }
+
+    /// Returns the text and the annotations of the given file, reading the file only if it is not cached.
+    ///
+    /// If the shutdown signal is set while reading, the pages read until then are returned, but not cached.
+    ///
+    /// @return an empty optional if the file could not be read
+    public Optional<ExtractedPdf> get(Path path, ReadOnlyBooleanProperty shutdownSignal) {
+        String hash;
+        try {
+            hash = hash(path);
+        } catch (IOException e) {
+            LOGGER.warn("Could not read {}", path.toAbsolutePath(), e);
+            return Optional.empty();
+        }
+
+        ExtractedPdf cached = getCached(hash);
+        if (cached != null) {
+            LOGGER.debug("Using cached text of {}", path.toAbsolutePath());
+            markAccessed(hash);
+            return Optional.of(cached);
+        }
+
+        Optional<ExtractedPdf> extracted = extract(path, shutdownSignal);
+        if (extracted.isPresent() && !shutdownSignal.get()) {
+            put(hash, extracted.get());
+        }
+        return extracted;
+    }
+
+    /// Returns whether the content of the given file is cached
+    public boolean contains(Path path) throws IOException {
+        return getCached(hash(path)) != null;
+    }
+
+    private synchronized @Nullable ExtractedPdf getCached(String hash) {
+        if (store.isClosed()) {
+            return null;
+        }
+        try {
+            return extractedPdfs.get(hash);
+        } catch (IllegalStateException e) {
+            LOGGER.warn("Could not read the cached text with hash {}", hash, e);
+            return null;
+        }
+    }
+
+    private synchronized void put(String hash, ExtractedPdf extractedPdf) {
+        // Files can still be read while closing
+        if (!store.isClosed()) {
+            extractedPdfs.put(hash, extractedPdf);
+            lastAccess.put(hash, ++accessCount);
+            if (lastAccess.size() > maximumNumberOfFiles) {
+                removeLeastRecentlyUsed();
+            }
+        }
+    }
+
+    private synchronized void markAccessed(String hash) {
+        if (!store.isClosed()) {
+            lastAccess.put(hash, ++accessCount);
+        }
+    }
+
+    /// Removes the files which were not read for the longest time. A tenth of the files is removed at once, so that
+    /// the access numbers are not sorted for each file read.
+    private void removeLeastRecentlyUsed() {
+        int numberOfFilesToKeep = Math.max(1, maximumNumberOfFiles - (maximumNumberOfFiles / 10));
+        List<String> leastRecentlyUsed = lastAccess.entrySet().stream()
+                                                   .sorted(Map.Entry.comparingByValue())
+                                                   .limit(lastAccess.size() - numberOfFilesToKeep)
+                                                   .map(Map.Entry::getKey)
+                                                   .toList();
+        LOGGER.debug("Removing the text of {} files from the PDF text cache", leastRecentlyUsed.size());
+        for (String hash : leastRecentlyUsed) {
+            extractedPdfs.remove(hash);
+            lastAccess.remove(hash);
+        }
+    }
+
+    private static String hash(Path path) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static Optional<ExtractedPdf> extract(Path path, ReadOnlyBooleanProperty shutdownSignal) {
+        try (PDDocument document = loadPdf(path)) {
+            int numberOfPages = document.getNumberOfPages();
+            LOGGER.debug("Reading file {} content with {} pages", path.toAbsolutePath(), numberOfPages);
+            List<ExtractedPdf.Page> pages = new ArrayList<>(numberOfPages);
+            for (int pageNumber = 1; pageNumber <= numberOfPages; pageNumber++) {
+                if (shutdownSignal.get()) {
+                    LOGGER.debug("Stopped reading file {} at page {} of {}", path.toAbsolutePath(), pageNumber, numberOfPages);
+                    return Optional.of(new ExtractedPdf(pages, List.of()));
+                }
+                pages.add(extractPage(document, path, pageNumber, shutdownSignal));
+            }
+
+            // Importing the annotations changes the contents of marked text annotations, thus the pages are read before
+            List<FileAnnotation> annotations = PdfAnnotationImporter.importAnnotations(document);
+            return Optional.of(new ExtractedPdf(pages, annotations));
+        } catch (IOException e) {
+            LOGGER.warn("Could not read {}", path.toAbsolutePath(), e);
+            return Optional.empty();
+        }
+    }
+
+    private static PDDocument loadPdf(Path path) throws IOException {
+        if (Files.size(path) > LARGE_FILE_SIZE) {
+            return Loader.loadPDF(path.toFile(), IOUtils.createTempFileOnlyStreamCache());
+        }
+        return Loader.loadPDF(path.toFile());
+    }
+
+    private static ExtractedPdf.Page extractPage(PDDocument document, Path path, int pageNumber, ReadOnlyBooleanProperty shutdownSignal) {
+        PDFTextStripper pdfTextStripper = new InterruptablePDFTextStripper(shutdownSignal);
+        pdfTextStripper.setLineSeparator("\n");
+        pdfTextStripper.setStartPage(pageNumber);
+        pdfTextStripper.setEndPage(pageNumber);
+
+        String text = "";
+        List<String> annotationContents = List.of();
+        try {
+            text = pdfTextStripper.getText(document);
+
+            // Apache PDFTextStripper is 1-based. See {@link org.apache.pdfbox.text.PDFTextStripper.processPages}
+            PDPage page = document.getPage(pageNumber - 1);
+            annotationContents = page.getAnnotations()
+                                     .stream()
+                                     .map(PDAnnotation::getContents)
+                                     .filter(Objects::nonNull)
+                                     .toList();
+        } catch (IOException e) {
+            LOGGER.warn("Could not read page {} of  {}", pageNumber, path.toAbsolutePath(), e);
+        }
+        return new ExtractedPdf.Page(text, annotationContents);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!store.isClosed()) {
+            store.close();
+        }
+    }
+}
@@ -111,6 +111,7 @@ import org.jabref.model.entry.types.EntryTypeFactory;
 import org.jabref.model.metadata.SaveOrder;
 import org.jabref.model.metadata.SelfContainedSaveOrder;
 import org.jabref.model.metadata.UserHostInfo;
+import org.jabref.model.search.SearchBackend;
 import org.jabref.model.search.SearchDisplayMode;
 import org.jabref.model.search.SearchFlags;
 import org.jabref.model.strings.StringUtil;
@@ -227,6 +228,7 @@ public class JabRefCliPreferences implements CliPreferences {
     public static final String SEARCH_WINDOW_HEIGHT = "searchWindowHeight";
     public static final String SEARCH_WINDOW_WIDTH = "searchWindowWidth";
     public static final String SEARCH_WINDOW_DIVIDER_POS = "searchWindowDividerPos";
+    public static final String SEARCH_BACKEND = "searchBackend";
     public static final String SEARCH_CATALOGS = "searchCatalogs";
     public static final String DEFAULT_PLAIN_CITATION_PARSER = "defaultPlainCitationParser";
     public static final String CITATIONS_RELATIONS_STORE_TTL = "citationsRelationsStoreTTL";
@@ -518,6 +520,7 @@ public class JabRefCliPreferences implements CliPreferences {
         defaults.put(SEARCH_WINDOW_HEIGHT, 176.0);
         defaults.put(SEARCH_WINDOW_WIDTH, 600.0);
         defaults.put(SEARCH_WINDOW_DIVIDER_POS, 0.5);
+        defaults.put(SEARCH_BACKEND, SearchBackend.POSTGRES.name());
         defaults.put(SEARCH_CATALOGS, convertListToString(List.of(
                 ACMPortalFetcher.FETCHER_NAME,
                 SpringerNatureWebFetcher.FETCHER_NAME,
@@ -2104,7 +2107,8 @@ public class JabRefCliPreferences implements CliPreferences {
                 getBoolean(SEARCH_KEEP_GLOBAL_WINDOW_ON_TOP),
                 getDouble(SEARCH_WINDOW_HEIGHT),
                 getDouble(SEARCH_WINDOW_WIDTH),
-                getDouble(SEARCH_WINDOW_DIVIDER_POS));
+                getDouble(SEARCH_WINDOW_DIVIDER_POS),
+                getSearchBackend());
 
         searchPreferences.getObservableSearchFlags().addListener((SetChangeListener<SearchFlags>) _ ->
                 putBoolean(SEARCH_FULLTEXT, searchPreferences.getObservableSearchFlags().contains(SearchFlags.FULLTEXT)));
@@ -2114,10 +2118,20 @@ public class JabRefCliPreferences implements CliPreferences {
         EasyBind.listen(searchPreferences.getSearchWindowHeightProperty(), (_, _, _) -> putDouble(SEARCH_WINDOW_HEIGHT, searchPreferences.getSearchWindowHeight()));
         EasyBind.listen(searchPreferences.getSearchWindowWidthProperty(), (_, _, _) -> putDouble(SEARCH_WINDOW_WIDTH, searchPreferences.getSearchWindowWidth()));
         EasyBind.listen(searchPreferences.getSearchWindowDividerPositionProperty(), (_, _, _) -> putDouble(SEARCH_WINDOW_DIVIDER_POS, searchPreferences.getSearchWindowDividerPosition()));
+        EasyBind.listen(searchPreferences.searchBackendProperty(), (_, _, newValue) -> put(SEARCH_BACKEND, newValue.name()));
 
         return searchPreferences;
     }
 
+    private SearchBackend getSearchBackend() {
+        try {
+            return SearchBackend.valueOf(get(SEARCH_BACKEND));
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Unknown search backend {}, using {}", get(SEARCH_BACKEND), SearchBackend.POSTGRES);
+            return SearchBackend.POSTGRES;
+        }
+    }
+
     @Override
     public XmpPreferences getXmpPreferences() {
         if (xmpPreferences != null) {
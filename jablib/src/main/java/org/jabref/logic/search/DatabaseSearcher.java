@@ -27,6 +27,14 @@ public class DatabaseSearcher {
         this.indexManager = new IndexManager(databaseContext, taskExecutor, preferences, postgreServer);
     }
 
+    /// Searches using an in-memory index of the bib fields. In contrast to the other constructor, no Postgres server is needed.
+    public DatabaseSearcher(BibDatabaseContext databaseContext,
+                            TaskExecutor taskExecutor,
+                            CliPreferences preferences) {
+        this.databaseContext = databaseContext;
+        this.indexManager = new IndexManager(databaseContext, taskExecutor, preferences);
+    }
+
     /**
      * @return The matches in the order they appear in the library.
      */
@@ -15,12 +15,17 @@ import java.util.concurrent.Future;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.value.ChangeListener;
 
+import org.jabref.logic.pdf.PdfTextCache;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.search.indexing.BibFieldsIndexer;
 import org.jabref.logic.search.indexing.DefaultLinkedFilesIndexer;
+import org.jabref.logic.search.indexing.InMemoryBibFieldsIndexer;
+import org.jabref.logic.search.indexing.PostgresBibFieldsIndexer;
 import org.jabref.logic.search.indexing.ReadOnlyLinkedFilesIndexer;
 import org.jabref.logic.search.retrieval.BibFieldsSearcher;
+import org.jabref.logic.search.retrieval.InMemoryBibFieldsSearcher;
 import org.jabref.logic.search.retrieval.LinkedFilesSearcher;
+import org.jabref.logic.search.retrieval.PostgresBibFieldsSearcher;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.Directories;
 import org.jabref.logic.util.HeadlessExecutorService;
@@ -52,32 +57,60 @@ public class IndexManager {
     private final BibFieldsSearcher bibFieldsSearcher;
     private final LinkedFilesSearcher linkedFilesSearcher;
 
+    /// Creates an index manager storing the bib fields in the given Postgres server
     public IndexManager(BibDatabaseContext databaseContext,
                         TaskExecutor executor,
                         CliPreferences preferences,
                         PostgreServer postgreServer) {
+        this(databaseContext, executor, preferences, createPostgresBibFieldsIndex(databaseContext, preferences, postgreServer));
+    }
+
+    /// Creates an index manager storing the bib fields in memory. No Postgres server is required.
+    public IndexManager(BibDatabaseContext databaseContext,
+                        TaskExecutor executor,
+                        CliPreferences preferences) {
+        this(databaseContext, executor, preferences, createInMemoryBibFieldsIndex(databaseContext, preferences));
+    }
+
+    private IndexManager(BibDatabaseContext databaseContext,
+                         TaskExecutor executor,
+                         CliPreferences preferences,
+                         BibFieldsIndex bibFieldsIndex) {
         this.taskExecutor = executor;
         this.databaseContext = databaseContext;
         this.shouldIndexLinkedFiles = preferences.getFilePreferences().fulltextIndexLinkedFilesProperty();
         this.preferencesListener = (_, _, newValue) -> bindToPreferences(newValue);
         this.shouldIndexLinkedFiles.addListener(preferencesListener);
 
-        bibFieldsIndexer = new BibFieldsIndexer(preferences.getBibEntryPreferences(), databaseContext, postgreServer.getConnection());
+        this.bibFieldsIndexer = bibFieldsIndex.indexer();
+        this.bibFieldsSearcher = bibFieldsIndex.searcher();
 
         LuceneIndexer indexer;
         try {
-            indexer = new DefaultLinkedFilesIndexer(databaseContext, preferences.getFilePreferences());
+            indexer = new DefaultLinkedFilesIndexer(databaseContext, preferences.getFilePreferences(), PdfTextCache.getInstance());
         } catch (IOException e) {
             LOGGER.debug("Error initializing linked files index - using read only index");
             indexer = new ReadOnlyLinkedFilesIndexer(databaseContext);
         }
         linkedFilesIndexer = indexer;
 
-        this.bibFieldsSearcher = new BibFieldsSearcher(postgreServer.getConnection(), bibFieldsIndexer.getTable());
         this.linkedFilesSearcher = new LinkedFilesSearcher(databaseContext, linkedFilesIndexer, preferences.getFilePreferences());
         updateOnStart();
     }
 
+    private static BibFieldsIndex createPostgresBibFieldsIndex(BibDatabaseContext databaseContext, CliPreferences preferences, PostgreServer postgreServer) {
+        PostgresBibFieldsIndexer indexer = new PostgresBibFieldsIndexer(preferences.getBibEntryPreferences(), databaseContext, postgreServer.getConnection());
+        return new BibFieldsIndex(indexer, new PostgresBibFieldsSearcher(postgreServer.getConnection(), indexer.getTable()));
+    }
+
+    private static BibFieldsIndex createInMemoryBibFieldsIndex(BibDatabaseContext databaseContext, CliPreferences preferences) {
+        InMemoryBibFieldsIndexer indexer = new InMemoryBibFieldsIndexer(preferences.getBibEntryPreferences(), databaseContext);
+        return new BibFieldsIndex(indexer, new InMemoryBibFieldsSearcher(indexer));
+    }
+
+    private record BibFieldsIndex(BibFieldsIndexer indexer, BibFieldsSearcher searcher) {
+    }
+
     private void bindToPreferences(boolean newValue) {
         if (newValue) {
             new BackgroundTask<>() {
@@ -11,6 +11,7 @@ import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableSet;
 
+import org.jabref.model.search.SearchBackend;
 import org.jabref.model.search.SearchDisplayMode;
 import org.jabref.model.search.SearchFlags;
 
@@ -25,6 +26,7 @@ public class SearchPreferences {
     private final DoubleProperty searchWindowDividerPosition;
     private final BooleanProperty keepSearchString;
     private final ObjectProperty<SearchDisplayMode> searchDisplayMode;
+    private final ObjectProperty<SearchBackend> searchBackend;
 
     public SearchPreferences(SearchDisplayMode searchDisplayMode,
                              boolean isRegularExpression,
@@ -34,8 +36,9 @@ public class SearchPreferences {
                              boolean keepWindowOnTop,
                              double searchWindowHeight,
                              double searchWindowWidth,
-                             double searchWindowDividerPosition) {
-        this(searchDisplayMode, EnumSet.noneOf(SearchFlags.class), keepSearchString, keepWindowOnTop, searchWindowHeight, searchWindowWidth, searchWindowDividerPosition);
+                             double searchWindowDividerPosition,
+                             SearchBackend searchBackend) {
+        this(searchDisplayMode, EnumSet.noneOf(SearchFlags.class), keepSearchString, keepWindowOnTop, searchWindowHeight, searchWindowWidth, searchWindowDividerPosition, searchBackend);
         if (isRegularExpression) {
             searchFlags.add(SearchFlags.REGULAR_EXPRESSION);
         }
@@ -49,7 +52,13 @@ public class SearchPreferences {
 
     @VisibleForTesting
     public SearchPreferences(SearchDisplayMode searchDisplayMode, EnumSet<SearchFlags> searchFlags, boolean keepSearchString, boolean keepWindowOnTop, double searchWindowHeight, double searchWindowWidth, double searchWindowDividerPosition) {
+        this(searchDisplayMode, searchFlags, keepSearchString, keepWindowOnTop, searchWindowHeight, searchWindowWidth, searchWindowDividerPosition, SearchBackend.POSTGRES);
+    }
+
+    @VisibleForTesting
+    public SearchPreferences(SearchDisplayMode searchDisplayMode, EnumSet<SearchFlags> searchFlags, boolean keepSearchString, boolean keepWindowOnTop, double searchWindowHeight, double searchWindowWidth, double searchWindowDividerPosition, SearchBackend searchBackend) {
         this.searchDisplayMode = new SimpleObjectProperty<>(searchDisplayMode);
+        this.searchBackend = new SimpleObjectProperty<>(searchBackend);
         this.searchFlags = FXCollections.observableSet(searchFlags);
 
         this.keepWindowOnTop = new SimpleBooleanProperty(keepWindowOnTop);
@@ -162,4 +171,17 @@ public class SearchPreferences {
     public void setKeepSearchString(boolean keepSearchString) {
         this.keepSearchString.set(keepSearchString);
     }
+
+    /// Storage used for searching the bib fields. [SearchBackend#IN_MEMORY] does not need an embedded Postgres server.
+    public SearchBackend getSearchBackend() {
+        return searchBackend.get();
+    }
+
+    public ObjectProperty<SearchBackend> searchBackendProperty() {
+        return searchBackend;
+    }
+
+    public void setSearchBackend(SearchBackend searchBackend) {
+        this.searchBackend.set(searchBackend);
+    }
 }
@@ -3,22 +3,36 @@ package org.jabref.logic.search.indexing;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.util.Pair;
 
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.importer.util.FileFieldParser;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.pdf.PdfTextCache;
 import org.jabref.logic.search.LuceneIndexer;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.HeadlessExecutorService;
@@ -29,6 +43,7 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.search.LinkedFilesConstants;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.commons.io.FileUtils;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.index.IndexWriter;
@@ -48,11 +63,18 @@ import org.slf4j.LoggerFactory;
 
 public class DefaultLinkedFilesIndexer implements LuceneIndexer {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultLinkedFilesIndexer.class);
-    private static final DocumentReader DOCUMENT_READER = new DocumentReader();
     private static int NUMBER_OF_UNSAVED_LIBRARIES = 1;
 
+    // Leaves cores for the user interface and the other indexers
+    private static final int NUMBER_OF_WORKERS = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    // The memory for the files being read at once in MiB
+    private static final int MEMORY_BUDGET_MB = (int) Math.max(64, Runtime.getRuntime().maxMemory() / (4 * 1024 * 1024));
+    private static final Duration FILE_TIMEOUT = Duration.ofMinutes(2);
+    private static final int COMMIT_INTERVAL = 100;
+
     private final BibDatabaseContext databaseContext;
     private final FilePreferences filePreferences;
+    private final DocumentReader documentReader;
     private final String libraryName;
     private final Directory indexDirectory;
     private final IndexWriter indexWriter;
@@ -60,9 +82,13 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
     private Path indexDirectoryPath;
     private Map<String, Long> indexedFiles;
 
-    public DefaultLinkedFilesIndexer(BibDatabaseContext databaseContext, FilePreferences filePreferences) throws IOException {
+    private record IndexedFile(Path path, int pages) {
+    }
+
+    public DefaultLinkedFilesIndexer(BibDatabaseContext databaseContext, FilePreferences filePreferences, PdfTextCache pdfTextCache) throws IOException {
         this.databaseContext = databaseContext;
         this.filePreferences = filePreferences;
+        this.documentReader = new DocumentReader(pdfTextCache);
         this.libraryName = databaseContext.getDatabasePath().map(path -> path.getFileName().toString()).orElse("untitled");
         this.indexedFiles = new ConcurrentHashMap<>();
 
@@ -124,42 +150,144 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
         addToIndex(filesToAdd, task);
     }
 
+    /**
+     * Reads the files in parallel. Each worker adds the pages of its file to the index writer, which is thread-safe.
+     * The calling thread only reports the progress and commits the index periodically, so that the files indexed so
+     * far need not be indexed again after a crash.
+     */
     private void addToIndex(Map<String, Pair<Long, Path>> linkedFiles, BackgroundTask<?> task) {
-        for (String fileLink : linkedFiles.keySet()) {
+        linkedFiles.keySet().removeIf(fileLink -> {
             if (indexedFiles.containsKey(fileLink)) {
                 LOGGER.debug("File {} is already indexed.", fileLink);
-                linkedFiles.remove(fileLink);
+                return true;
             }
-        }
+            return false;
+        });
         if (linkedFiles.isEmpty()) {
             return;
         }
 
         LOGGER.debug("Adding {} files to index", linkedFiles.size());
-        int i = 1;
-        for (Map.Entry<String, Pair<Long, Path>> entry : linkedFiles.entrySet()) {
-            if (task.isCancelled()) {
-                LOGGER.debug("Adding files to index canceled");
-                return;
+        Instant startTime = Instant.now();
+        ExecutorService executor = Executors.newFixedThreadPool(NUMBER_OF_WORKERS,
+                new ThreadFactoryBuilder().setNameFormat("linked-files-indexer-%d").setDaemon(true).build());
+        CompletionService<IndexedFile> completionService = new ExecutorCompletionService<>(executor);
+        Semaphore memory = new Semaphore(MEMORY_BUDGET_MB);
+        // The shutdown signals of the files being read, used to stop reading if the task is cancelled
+        Set<BooleanProperty> shutdownSignals = ConcurrentHashMap.newKeySet();
+        AtomicBoolean cancelled = new AtomicBoolean();
+
+        Iterator<Map.Entry<String, Pair<Long, Path>>> files = linkedFiles.entrySet().iterator();
+        int submitted = 0;
+        int indexed = 0;
+        long pages = 0;
+        try {
+            while (indexed < submitted || files.hasNext()) {
+                // Keep the workers busy, but do not queue all files at once
+                while (files.hasNext() && (submitted - indexed < 2 * NUMBER_OF_WORKERS) && !task.isCancelled()) {
+                    Map.Entry<String, Pair<Long, Path>> entry = files.next();
+                    completionService.submit(() -> addToIndex(entry.getKey(), entry.getValue().getKey(), entry.getValue().getValue(), memory, shutdownSignals, cancelled));
+                    submitted++;
+                }
+                if (task.isCancelled()) {
+                    cancel(cancelled, shutdownSignals);
+                }
+                if (indexed == submitted) {
+                    break;
+                }
+
+                Optional<IndexedFile> indexedFile = Optional.empty();
+                try {
+                    indexedFile = Optional.of(completionService.take().get());
+                    pages += indexedFile.get().pages();
+                } catch (ExecutionException e) {
+                    LOGGER.warn("Could not add a file to the index.", e.getCause());
+                }
+                indexed++;
+                if (indexed % COMMIT_INTERVAL == 0) {
+                    commit();
+                }
+                task.setTitle(Localization.lang("Indexing files for %1 | %2 of %0 file(s) indexed.", linkedFiles.size(), libraryName, indexed));
+                task.updateProgress(indexed, linkedFiles.size());
+                String fileName = indexedFile.map(file -> FileUtil.shortenFileName(file.path().getFileName().toString(), 68)).orElse("");
+                task.updateMessage(Localization.lang("Indexing %0", fileName) + " - " + getThroughputMessage(startTime, indexed, pages));
+                task.showToUser(true);
             }
-            addToIndex(entry.getKey(), entry.getValue().getKey(), entry.getValue().getValue());
-            task.setTitle(Localization.lang("Indexing files for %1 | %2 of %0 file(s) indexed.", linkedFiles.size(), libraryName, i));
-            task.updateProgress(i, linkedFiles.size());
-            task.updateMessage(Localization.lang("Indexing %0", FileUtil.shortenFileName(entry.getValue().getValue().getFileName().toString(), 68)));
-            task.showToUser(true);
-            i++;
+        } catch (InterruptedException e) {
+            LOGGER.debug("Adding files to index interrupted");
+            cancel(cancelled, shutdownSignals);
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdown();
         }
-        LOGGER.debug("Added {} files to index", linkedFiles.size());
+
+        commit();
+        if (cancelled.get()) {
+            LOGGER.debug("Adding files to index canceled");
+        } else {
+            LOGGER.debug("Added {} files with {} pages to index", indexed, pages);
+        }
+    }
+
+    private static void cancel(AtomicBoolean cancelled, Set<BooleanProperty> shutdownSignals) {
+        cancelled.set(true);
+        shutdownSignals.forEach(signal -> signal.set(true));
     }
 
-    private void addToIndex(String fileLink, long modifiedTime, Path resolvedPath) {
+    /**
+     * Reads the file and adds its pages to the index. The file is read until {@link #FILE_TIMEOUT} has passed, the
+     * pages read until then are indexed. Nothing is indexed if the indexing is cancelled meanwhile.
+     *
+     * @return the file with the number of indexed pages
+     */
+    private IndexedFile addToIndex(String fileLink, long modifiedTime, Path resolvedPath, Semaphore memory, Set<BooleanProperty> shutdownSignals, AtomicBoolean cancelled) throws InterruptedException {
         LOGGER.debug("Adding file {} to the index.", fileLink);
-        List<Document> pages = DOCUMENT_READER.readPdfContents(fileLink, resolvedPath);
+        // Reading a file needs memory roughly proportional to its size, thus the number of large files read at once is limited
+        int permits = Math.clamp(getFileSize(resolvedPath) / (1024 * 1024), 1, MEMORY_BUDGET_MB);
+        memory.acquire(permits);
+        BooleanProperty shutdownSignal = new SimpleBooleanProperty(cancelled.get());
+        shutdownSignals.add(shutdownSignal);
         try {
+            CompletableFuture.delayedExecutor(FILE_TIMEOUT.toSeconds(), TimeUnit.SECONDS).execute(() -> {
+                if (shutdownSignals.contains(shutdownSignal) && !shutdownSignal.get()) {
+                    LOGGER.warn("Reading file {} took longer than {} seconds, only the pages read so far are indexed.", fileLink, FILE_TIMEOUT.toSeconds());
+                    shutdownSignal.set(true);
+                }
+            });
+            List<Document> pages = documentReader.readPdfContents(fileLink, resolvedPath, shutdownSignal);
+            if (cancelled.get()) {
+                return new IndexedFile(resolvedPath, 0);
+            }
             indexWriter.addDocuments(pages);
             indexedFiles.put(fileLink, modifiedTime);
+            return new IndexedFile(resolvedPath, pages.size());
         } catch (IOException e) {
             LOGGER.warn("Could not add the document {} to the index.", fileLink, e);
+            return new IndexedFile(resolvedPath, 0);
+        } finally {
+            shutdownSignals.remove(shutdownSignal);
+            memory.release(permits);
+        }
+    }
+
+    private static long getFileSize(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static String getThroughputMessage(Instant startTime, int files, long pages) {
+        double minutes = Math.max(1, Duration.between(startTime, Instant.now()).toSeconds()) / 60.0;
+        return Localization.lang("%0 files per minute, %1 pages per minute", Math.round(files / minutes), Math.round(pages / minutes));
+    }
+
+    private void commit() {
+        try {
+            indexWriter.commit();
+        } catch (IOException e) {
+            LOGGER.warn("Could not commit the index.", e);
         }
     }
 
@@ -236,7 +364,8 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
 
     private Map<String, Long> getLinkedFilesFromIndex() {
         LOGGER.debug("Getting all linked files from index.");
-        Map<String, Long> linkedFiles = new HashMap<>();
+        // Updated by the workers adding files to the index
+        Map<String, Long> linkedFiles = new ConcurrentHashMap<>();
         try {
             TermQuery query = new TermQuery(new Term(LinkedFilesConstants.PAGE_NUMBER.toString(), "1"));
             searcherManager.maybeRefresh();
@@ -5,21 +5,21 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+
+import org.jabref.logic.pdf.ExtractedPdf;
+import org.jabref.logic.pdf.PdfTextCache;
 import org.jabref.model.strings.StringUtil;
 
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
-import org.apache.pdfbox.Loader;
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.pdmodel.PDPage;
-import org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotation;
-import org.apache.pdfbox.text.PDFTextStripper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,22 +38,35 @@ public final class DocumentReader {
     private static final Pattern HYPHEN_LINEBREAK_PATTERN = Pattern.compile("\\-\n");
     private static final Pattern LINEBREAK_WITHOUT_PERIOD_PATTERN = Pattern.compile("([^\\\\.])\\n");
 
+    private final PdfTextCache pdfTextCache;
+
+    public DocumentReader(PdfTextCache pdfTextCache) {
+        this.pdfTextCache = pdfTextCache;
+    }
+
     public List<Document> readPdfContents(String fileLink, Path resolvedPdfPath) {
+        return readPdfContents(fileLink, resolvedPdfPath, new SimpleBooleanProperty(false));
+    }
+
+    /**
+     * Reads the pages of the given file until the shutdown signal is set. The pages read until then are returned.
+     * The file is only read if its text is not in the {@link PdfTextCache}.
+     */
+    public List<Document> readPdfContents(String fileLink, Path resolvedPdfPath, ReadOnlyBooleanProperty shutdownSignal) {
+        Optional<ExtractedPdf> extractedPdf = pdfTextCache.get(resolvedPdfPath, shutdownSignal);
+        if (extractedPdf.isEmpty()) {
+            return List.of();
+        }
+
         List<Document> pages = new ArrayList<>();
-        try (PDDocument pdfDocument = Loader.loadPDF(resolvedPdfPath.toFile())) {
-            int numberOfPages = pdfDocument.getNumberOfPages();
-            LOGGER.debug("Reading file {} content with {} pages", resolvedPdfPath.toAbsolutePath(), numberOfPages);
-            for (int pageNumber = 1; pageNumber <= numberOfPages; pageNumber++) {
-                Document newDocument = new Document();
-                addIdentifiers(newDocument, fileLink);
-                addMetaData(newDocument, resolvedPdfPath, pageNumber);
-                addContentIfNotEmpty(pdfDocument, newDocument, resolvedPdfPath, pageNumber);
-
-                pages.add(newDocument);
-            }
-        } catch (IOException e) {
-            LOGGER.warn("Could not read {}", resolvedPdfPath.toAbsolutePath(), e);
-            return pages;
+        List<ExtractedPdf.Page> extractedPages = extractedPdf.get().pages();
+        for (int pageNumber = 1; pageNumber <= extractedPages.size(); pageNumber++) {
+            Document newDocument = new Document();
+            addIdentifiers(newDocument, fileLink);
+            addMetaData(newDocument, resolvedPdfPath, pageNumber);
+            addContentIfNotEmpty(newDocument, extractedPages.get(pageNumber - 1));
+
+            pages.add(newDocument);
         }
         if (pages.isEmpty()) {
             Document newDocument = new Document();
@@ -90,31 +103,12 @@ public final class DocumentReader {
         addStringField(newDocument, PAGE_NUMBER.toString(), String.valueOf(pageNumber));
     }
 
-    private void addContentIfNotEmpty(PDDocument pdfDocument, Document newDocument, Path resolvedPath, int pageNumber) {
-        PDFTextStripper pdfTextStripper = new PDFTextStripper();
-        pdfTextStripper.setLineSeparator("\n");
-        pdfTextStripper.setStartPage(pageNumber);
-        pdfTextStripper.setEndPage(pageNumber);
-
-        try {
-            String pdfContent = pdfTextStripper.getText(pdfDocument);
-            if (StringUtil.isNotBlank(pdfContent)) {
-                newDocument.add(new TextField(CONTENT.toString(), mergeLines(pdfContent), Field.Store.YES));
-            }
-
-            // Apache PDFTextStripper is 1-based. See {@link org.apache.pdfbox.text.PDFTextStripper.processPages}
-            PDPage page = pdfDocument.getPage(pageNumber - 1);
-            List<String> annotations = page.getAnnotations()
-                                           .stream()
-                                           .map(PDAnnotation::getContents)
-                                           .filter(Objects::nonNull)
-                                           .toList();
-
-            if (!annotations.isEmpty()) {
-                newDocument.add(new TextField(ANNOTATIONS.toString(), String.join("\n", annotations), Field.Store.YES));
-            }
-        } catch (IOException e) {
-            LOGGER.warn("Could not read page {} of  {}", pageNumber, resolvedPath.toAbsolutePath(), e);
+    private void addContentIfNotEmpty(Document newDocument, ExtractedPdf.Page page) {
+        if (StringUtil.isNotBlank(page.text())) {
+            newDocument.add(new TextField(CONTENT.toString(), mergeLines(page.text()), Field.Store.YES));
+        }
+        if (!page.annotationContents().isEmpty()) {
+            newDocument.add(new TextField(ANNOTATIONS.toString(), String.join("\n", page.annotationContents()), Field.Store.YES));
         }
     }
 
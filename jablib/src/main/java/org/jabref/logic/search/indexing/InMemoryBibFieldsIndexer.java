@@ -0,0 +1,292 @@
+package org.jabref.logic.search.indexing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.entry.KeywordList;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.strings.LatexToUnicodeAdapter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.jabref.model.entry.field.InternalField.TYPE_HEADER;
+
+/// In-process alternative to [PostgresBibFieldsIndexer]. No external database is required.
+///
+/// For each entry, the same values as in the Postgres tables are kept: one value per field (literal and transformed) and
+/// the split values of multi-value fields (authors, keywords, groups, entry links).
+/// On top of that, two indexes are maintained to avoid scanning all entries:
+///
+/// - an inverted index mapping each lower-cased complete value to the entries having it in any field (used for exact matches)
+/// - a trigram index mapping each lower-cased trigram to the entries containing it (used for "contains" matches)
+///
+/// The index is queried by [org.jabref.logic.search.retrieval.InMemoryBibFieldsSearcher].
+public class InMemoryBibFieldsIndexer implements BibFieldsIndexer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(InMemoryBibFieldsIndexer.class);
+
+    private static final Pattern GROUPS_SEPARATOR_REGEX = Pattern.compile("\s*,\s*");
+    private static final Set<Field> DATE_FIELDS = Set.of(StandardField.DATE, StandardField.YEAR, StandardField.MONTH, StandardField.DAY);
+
+    private final BibDatabaseContext databaseContext;
+    private final String libraryName;
+    private final Character keywordSeparator;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, IndexedEntry> entries = new HashMap<>();
+    private final Map<String, Set<String>> entriesByValue = new HashMap<>();
+    private final Map<String, Set<String>> entriesByTrigram = new HashMap<>();
+
+    public InMemoryBibFieldsIndexer(BibEntryPreferences bibEntryPreferences, BibDatabaseContext databaseContext) {
+        this.databaseContext = databaseContext;
+        this.keywordSeparator = bibEntryPreferences.getKeywordSeparator();
+        this.libraryName = databaseContext.getDatabasePath().map(path -> path.getFileName().toString()).orElse("unsaved");
+    }
+
+    /// A single indexed value, either the complete field value or one part of a multi-value field
+    public record IndexedValue(String field, String literal, String transformed) {
+    }
+
+    /// All indexed values of an entry
+    ///
+    /// @param values values of the fields as a whole
+    /// @param splitValues single values of multi-value fields
+    public record IndexedEntry(List<IndexedValue> values, List<IndexedValue> splitValues) {
+    }
+
+    @Override
+    public void updateOnStart(BackgroundTask<?> task) {
+        addToIndex(databaseContext.getDatabase().getEntries(), task);
+    }
+
+    @Override
+    public void addToIndex(List<BibEntry> entriesToAdd, BackgroundTask<?> task) {
+        int count = entriesToAdd.size();
+        if (count > 1) {
+            task.showToUser(true);
+            task.setTitle(Localization.lang("Indexing bib fields for %0", libraryName));
+        }
+        long startTime = System.currentTimeMillis();
+        LOGGER.debug("Adding {} entries to index", count);
+        for (int i = 0; i < count; i++) {
+            if (task.isCancelled()) {
+                LOGGER.debug("Indexing canceled");
+                return;
+            }
+            addToIndex(entriesToAdd.get(i));
+            task.updateProgress(i, count);
+            task.updateMessage(Localization.lang("%0 of %1 entries added to the index.", i, count));
+        }
+        LOGGER.debug("Added {} entries to index in {} ms", count, System.currentTimeMillis() - startTime);
+    }
+
+    private void addToIndex(BibEntry entry) {
+        // Values are computed outside the lock, as resolving and LaTeX conversion are the expensive parts
+        IndexedEntry indexedEntry = createIndexedEntry(entry);
+        lock.writeLock().lock();
+        try {
+            removeFromIndex(entry.getId());
+            entries.put(entry.getId(), indexedEntry);
+            for (String key : getValueKeys(indexedEntry)) {
+                entriesByValue.computeIfAbsent(key, _ -> new HashSet<>()).add(entry.getId());
+            }
+            for (String trigram : getTrigrams(indexedEntry)) {
+                entriesByTrigram.computeIfAbsent(trigram, _ -> new HashSet<>()).add(entry.getId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void removeFromIndex(Collection<BibEntry> entriesToRemove, BackgroundTask<?> task) {
+        if (entriesToRemove.size() > 1) {
+            task.showToUser(true);
+            task.setTitle(Localization.lang("Removing entries from index for %0", libraryName));
+        }
+        int i = 1;
+        for (BibEntry entry : entriesToRemove) {
+            if (task.isCancelled()) {
+                LOGGER.debug("Removing entries canceled");
+                return;
+            }
+            lock.writeLock().lock();
+            try {
+                removeFromIndex(entry.getId());
+            } finally {
+                lock.writeLock().unlock();
+            }
+            task.updateProgress(i, entriesToRemove.size());
+            task.updateMessage(Localization.lang("%0 of %1 entries removed from the index.", i, entriesToRemove.size()));
+            i++;
+        }
+    }
+
+    /// Must be called while holding the write lock
+    private void removeFromIndex(String entryId) {
+        IndexedEntry indexedEntry = entries.remove(entryId);
+        if (indexedEntry == null) {
+            return;
+        }
+        for (String key : getValueKeys(indexedEntry)) {
+            removePosting(entriesByValue, key, entryId);
+        }
+        for (String trigram : getTrigrams(indexedEntry)) {
+            removePosting(entriesByTrigram, trigram, entryId);
+        }
+    }
+
+    private static void removePosting(Map<String, Set<String>> postings, String key, String entryId) {
+        Set<String> entryIds = postings.get(key);
+        if (entryIds != null) {
+            entryIds.remove(entryId);
+            if (entryIds.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    /// Re-indexes the complete entry. Resolved values (e.g., of date fields or entry links) may depend on other fields.
+    @Override
+    public void updateEntry(BibEntry entry, Field field) {
+        addToIndex(entry);
+    }
+
+    @Override
+    public void close() {
+        clear();
+    }
+
+    @Override
+    public void closeAndWait() {
+        clear();
+    }
+
+    private void clear() {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            entriesByValue.clear();
+            entriesByTrigram.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /// Gives the searcher consistent access to the index. The accessor must not store any of the passed references.
+    public <T> T read(IndexAccessor<T> accessor) {
+        lock.readLock().lock();
+        try {
+            return accessor.read(entries, entriesByValue, entriesByTrigram);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @FunctionalInterface
+    public interface IndexAccessor<T> {
+        /// @param entries the indexed values by entry id
+        /// @param entriesByValue the entry ids by [InMemoryBibFieldsIndexer#getValueKey(String)]
+        /// @param entriesByTrigram the entry ids by lower-cased trigram
+        T read(Map<String, IndexedEntry> entries, Map<String, Set<String>> entriesByValue, Map<String, Set<String>> entriesByTrigram);
+    }
+
+    /// Key of the inverted index for the given value. The field is not part of the key, so that the index also serves queries on any field.
+    public static String getValueKey(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    /// Returns the lower-cased trigrams of the given text. Texts shorter than three characters have no trigrams.
+    public static Set<String> getTrigrams(String text) {
+        String lowerCase = text.toLowerCase(Locale.ROOT);
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= lowerCase.length(); i++) {
+            trigrams.add(lowerCase.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    private static Set<String> getValueKeys(IndexedEntry indexedEntry) {
+        Set<String> keys = new HashSet<>();
+        for (List<IndexedValue> values : List.of(indexedEntry.values(), indexedEntry.splitValues())) {
+            for (IndexedValue value : values) {
+                keys.add(getValueKey(value.literal()));
+                keys.add(getValueKey(value.transformed()));
+            }
+        }
+        return keys;
+    }
+
+    private static Set<String> getTrigrams(IndexedEntry indexedEntry) {
+        Set<String> trigrams = new HashSet<>();
+        for (List<IndexedValue> values : List.of(indexedEntry.values(), indexedEntry.splitValues())) {
+            for (IndexedValue value : values) {
+                trigrams.addAll(getTrigrams(value.literal()));
+                trigrams.addAll(getTrigrams(value.transformed()));
+            }
+        }
+        return trigrams;
+    }
+
+    /// Computes the same values [PostgresBibFieldsIndexer] stores in its main and split table
+    private IndexedEntry createIndexedEntry(BibEntry bibEntry) {
+        List<IndexedValue> values = new ArrayList<>();
+        List<IndexedValue> splitValues = new ArrayList<>();
+        for (Map.Entry<Field, String> fieldPair : bibEntry.getFieldMap().entrySet()) {
+            Field field = fieldPair.getKey();
+            String value = fieldPair.getValue();
+
+            // Date-related fields are handled below
+            if (!DATE_FIELDS.contains(field)) {
+                String resolvedFieldLatexFree = bibEntry.getResolvedFieldOrAliasLatexFree(field, databaseContext.getDatabase()).orElse("");
+                values.add(new IndexedValue(field.getName(), value, resolvedFieldLatexFree));
+            }
+
+            if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
+                AuthorList.parse(value).getAuthors().forEach(author ->
+                        splitValues.add(new IndexedValue(field.getName(), author.getGivenFamily(false), author.latexFree().getGivenFamily(false))));
+            } else if (field == StandardField.KEYWORDS) {
+                KeywordList.parse(value, keywordSeparator).stream()
+                           .flatMap(keyword -> keyword.flatten().stream())
+                           .forEach(keyword -> splitValues.add(createValue(field, keyword.toString())));
+            } else if (field == StandardField.GROUPS) {
+                Arrays.stream(GROUPS_SEPARATOR_REGEX.split(value))
+                      .distinct()
+                      .forEach(group -> splitValues.add(createValue(field, group)));
+            } else if (field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
+                bibEntry.getEntryLinkList(field, databaseContext.getDatabase()).stream()
+                        .distinct()
+                        .forEach(link -> splitValues.add(createValue(field, link.getKey())));
+            }
+        }
+        for (Field dateField : DATE_FIELDS) {
+            Optional<String> resolvedDateValue = bibEntry.getResolvedFieldOrAlias(dateField, databaseContext.getDatabase());
+            resolvedDateValue.ifPresent(dateValue -> values.add(createValue(dateField, dateValue)));
+        }
+        values.add(createValue(TYPE_HEADER, bibEntry.getType().getName()));
+        return new IndexedEntry(List.copyOf(values), List.copyOf(splitValues));
+    }
+
+    private static IndexedValue createValue(Field field, String value) {
+        return new IndexedValue(field.getName(), value, LatexToUnicodeAdapter.format(value));
+    }
+}
@@ -26,7 +26,7 @@ import static org.jabref.model.search.SearchFlags.INEXACT_MATCH;
 import static org.jabref.model.search.SearchFlags.NEGATION;
 import static org.jabref.model.search.SearchFlags.REGULAR_EXPRESSION;
 
-/// Converts to a query processable by the scheme created by [org.jabref.logic.search.indexing.BibFieldsIndexer].
+/// Converts to a query processable by the scheme created by [org.jabref.logic.search.indexing.PostgresBibFieldsIndexer].
 
 /// Tests are located in `org.jabref.logic.search.query.SearchQuerySQLConversionTest`
 public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
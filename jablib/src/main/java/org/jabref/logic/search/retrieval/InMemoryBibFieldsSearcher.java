@@ -0,0 +1,334 @@
+package org.jabref.logic.search.retrieval;
+
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.jabref.logic.search.indexing.InMemoryBibFieldsIndexer;
+import org.jabref.logic.search.indexing.InMemoryBibFieldsIndexer.IndexedEntry;
+import org.jabref.logic.search.indexing.InMemoryBibFieldsIndexer.IndexedValue;
+import org.jabref.logic.search.query.SearchQueryConversion;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.search.query.SearchResult;
+import org.jabref.model.search.query.SearchResults;
+import org.jabref.search.SearchBaseVisitor;
+import org.jabref.search.SearchParser;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.jabref.model.search.PostgreConstants.ENTRY_ID;
+import static org.jabref.model.search.SearchFlags.CASE_INSENSITIVE;
+import static org.jabref.model.search.SearchFlags.CASE_SENSITIVE;
+import static org.jabref.model.search.SearchFlags.EXACT_MATCH;
+import static org.jabref.model.search.SearchFlags.INEXACT_MATCH;
+import static org.jabref.model.search.SearchFlags.NEGATION;
+import static org.jabref.model.search.SearchFlags.REGULAR_EXPRESSION;
+
+/// Evaluates search queries on an [InMemoryBibFieldsIndexer].
+///
+/// The semantics are the same as of [PostgresBibFieldsSearcher] (see [org.jabref.logic.search.query.SearchToSqlVisitor]).
+/// Exact matches are looked up in the inverted index, "contains" matches of terms having at least three characters are narrowed down using the trigram index.
+/// The remaining candidates (and all entries for regular expressions) are checked value by value.
+public class InMemoryBibFieldsSearcher implements BibFieldsSearcher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(InMemoryBibFieldsSearcher.class);
+
+    private static final String GROUPS_FIELD = StandardField.GROUPS.getName();
+
+    private final InMemoryBibFieldsIndexer indexer;
+
+    public InMemoryBibFieldsSearcher(InMemoryBibFieldsIndexer indexer) {
+        this.indexer = indexer;
+    }
+
+    @Override
+    public boolean isMatched(BibEntry entry, SearchQuery searchQuery) {
+        if (!searchQuery.isValid()) {
+            return false;
+        }
+        return findMatches(searchQuery, entry.getId()).contains(entry.getId());
+    }
+
+    @Override
+    public SearchResults search(SearchQuery searchQuery) {
+        SearchResults searchResults = new SearchResults();
+        if (!searchQuery.isValid()) {
+            return searchResults;
+        }
+        for (String entryId : findMatches(searchQuery, null)) {
+            searchResults.addSearchResult(entryId, new SearchResult());
+        }
+        return searchResults;
+    }
+
+    /// @param onlyEntryId if not null, the query is evaluated for this entry only
+    private Set<String> findMatches(SearchQuery searchQuery, String onlyEntryId) {
+        LOGGER.debug("Executing in-memory search query: {}", searchQuery.getSearchExpression());
+        try {
+            return indexer.read((entries, entriesByValue, entriesByTrigram) -> {
+                Set<String> scope;
+                if (onlyEntryId == null) {
+                    scope = entries.keySet();
+                } else {
+                    scope = entries.containsKey(onlyEntryId) ? Set.of(onlyEntryId) : Set.of();
+                }
+                return new MatchingEntriesVisitor(searchQuery.getSearchFlags(), scope, entries, entriesByValue, entriesByTrigram)
+                        .visit(searchQuery.getContext());
+            });
+        } catch (PatternSyntaxException e) {
+            LOGGER.error("Error during bib fields search execution", e);
+            return Set.of();
+        }
+    }
+
+    /// Computes the ids of the entries matching the visited expression
+    private static class MatchingEntriesVisitor extends SearchBaseVisitor<Set<String>> {
+
+        private final EnumSet<SearchFlags> searchBarFlags;
+        private final Set<String> scope;
+        private final Map<String, IndexedEntry> entries;
+        private final Map<String, Set<String>> entriesByValue;
+        private final Map<String, Set<String>> entriesByTrigram;
+
+        MatchingEntriesVisitor(EnumSet<SearchFlags> searchBarFlags,
+                               Set<String> scope,
+                               Map<String, IndexedEntry> entries,
+                               Map<String, Set<String>> entriesByValue,
+                               Map<String, Set<String>> entriesByTrigram) {
+            this.searchBarFlags = searchBarFlags;
+            this.scope = scope;
+            this.entries = entries;
+            this.entriesByValue = entriesByValue;
+            this.entriesByTrigram = entriesByTrigram;
+        }
+
+        @Override
+        public Set<String> visitStart(SearchParser.StartContext ctx) {
+            if (ctx.andExpression() == null) {
+                return Set.of();
+            }
+            return visit(ctx.andExpression());
+        }
+
+        @Override
+        public Set<String> visitImplicitAndExpression(SearchParser.ImplicitAndExpressionContext ctx) {
+            Set<String> result = null;
+            for (SearchParser.ExpressionContext expression : ctx.expression()) {
+                Set<String> child = visit(expression);
+                result = result == null ? child : intersect(result, child);
+            }
+            return result;
+        }
+
+        @Override
+        public Set<String> visitParenExpression(SearchParser.ParenExpressionContext ctx) {
+            return visit(ctx.andExpression());
+        }
+
+        @Override
+        public Set<String> visitNegatedExpression(SearchParser.NegatedExpressionContext ctx) {
+            return complement(visit(ctx.expression()));
+        }
+
+        @Override
+        public Set<String> visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+            Set<String> left = visit(ctx.left);
+            Set<String> right = visit(ctx.right);
+            if (ctx.bin_op.getType() == SearchParser.AND) {
+                return intersect(left, right);
+            }
+            Set<String> union = new HashSet<>(left);
+            union.addAll(right);
+            return union;
+        }
+
+        @Override
+        public Set<String> visitComparisonExpression(SearchParser.ComparisonExpressionContext ctx) {
+            return visit(ctx.comparison());
+        }
+
+        @Override
+        public Set<String> visitComparison(SearchParser.ComparisonContext ctx) {
+            EnumSet<SearchFlags> searchFlags = EnumSet.noneOf(SearchFlags.class);
+            String term = SearchQueryConversion.unescapeSearchValue(ctx.searchValue());
+
+            // unfielded expression
+            if (ctx.FIELD() == null) {
+                boolean isCaseSensitive = searchBarFlags.contains(CASE_SENSITIVE);
+                if (searchBarFlags.contains(REGULAR_EXPRESSION)) {
+                    setFlags(searchFlags, REGULAR_EXPRESSION, isCaseSensitive, false);
+                } else {
+                    setFlags(searchFlags, INEXACT_MATCH, isCaseSensitive, false);
+                }
+                return getMatches("any", term, searchFlags);
+            }
+
+            // fielded expression
+            String field = ctx.FIELD().getText();
+            int operator = ctx.operator().getStart().getType();
+
+            if (operator == SearchParser.EQUAL || operator == SearchParser.CONTAINS) {
+                setFlags(searchFlags, INEXACT_MATCH, false, false);
+            } else if (operator == SearchParser.CEQUAL) {
+                setFlags(searchFlags, INEXACT_MATCH, true, false);
+            } else if (operator == SearchParser.EEQUAL || operator == SearchParser.MATCHES) {
+                setFlags(searchFlags, EXACT_MATCH, false, false);
+            } else if (operator == SearchParser.CEEQUAL) {
+                setFlags(searchFlags, EXACT_MATCH, true, false);
+            } else if (operator == SearchParser.REQUAL) {
+                setFlags(searchFlags, REGULAR_EXPRESSION, false, false);
+            } else if (operator == SearchParser.CREEQUAL) {
+                setFlags(searchFlags, REGULAR_EXPRESSION, true, false);
+            } else if (operator == SearchParser.NEQUAL) {
+                setFlags(searchFlags, INEXACT_MATCH, false, true);
+            } else if (operator == SearchParser.NCEQUAL) {
+                setFlags(searchFlags, INEXACT_MATCH, true, true);
+            } else if (operator == SearchParser.NEEQUAL) {
+                setFlags(searchFlags, EXACT_MATCH, false, true);
+            } else if (operator == SearchParser.NCEEQUAL) {
+                setFlags(searchFlags, EXACT_MATCH, true, true);
+            } else if (operator == SearchParser.NREQUAL) {
+                setFlags(searchFlags, REGULAR_EXPRESSION, false, true);
+            } else if (operator == SearchParser.NCREEQUAL) {
+                setFlags(searchFlags, REGULAR_EXPRESSION, true, true);
+            }
+
+            // field = "" -> should find entries where the field is empty
+            // field != "" -> should find entries where the field is not empty
+            if (term.isEmpty()) {
+                if (searchFlags.contains(NEGATION)) {
+                    searchFlags.remove(NEGATION);
+                } else {
+                    searchFlags.add(NEGATION);
+                }
+            }
+
+            return getMatches(field.toLowerCase(Locale.ROOT), term, searchFlags);
+        }
+
+        private Set<String> getMatches(String field, String term, EnumSet<SearchFlags> searchFlags) {
+            // Pseudo-fields
+            String searchedField = switch (field) {
+                case "key" ->
+                        InternalField.KEY_FIELD.getName();
+                case "anykeyword" ->
+                        StandardField.KEYWORDS.getName();
+                case "anyfield" ->
+                        "any";
+                default ->
+                        field;
+            };
+
+            if (ENTRY_ID.toString().equals(searchedField)) {
+                return scope.contains(term) ? Set.of(term) : Set.of();
+            }
+
+            boolean isAnyField = "any".equals(searchedField);
+            Predicate<IndexedValue> isSearchedField = isAnyField
+                                                      ? value -> !GROUPS_FIELD.equals(value.field())
+                                                      : value -> searchedField.equals(value.field());
+            Predicate<String> valueMatcher = getValueMatcher(term, searchFlags);
+            // Split values of multi-value fields are only considered for exact matches
+            boolean includeSplitValues = searchFlags.contains(EXACT_MATCH);
+
+            Set<String> matches = new HashSet<>();
+            for (String entryId : getCandidates(term, searchFlags)) {
+                IndexedEntry indexedEntry = entries.get(entryId);
+                if (indexedEntry != null
+                        && (matchesAny(indexedEntry.values(), isSearchedField, valueMatcher)
+                        || (includeSplitValues && matchesAny(indexedEntry.splitValues(), isSearchedField, valueMatcher)))) {
+                    matches.add(entryId);
+                }
+            }
+            return searchFlags.contains(NEGATION) ? complement(matches) : matches;
+        }
+
+        /// Returns the entries which possibly match the given term. Without a usable index, all entries in scope are returned.
+        private Set<String> getCandidates(String term, EnumSet<SearchFlags> searchFlags) {
+            if (searchFlags.contains(EXACT_MATCH)) {
+                return intersect(scope, entriesByValue.getOrDefault(InMemoryBibFieldsIndexer.getValueKey(term), Set.of()));
+            }
+            if (searchFlags.contains(INEXACT_MATCH)) {
+                Set<String> trigrams = InMemoryBibFieldsIndexer.getTrigrams(term);
+                if (trigrams.isEmpty()) {
+                    return scope;
+                }
+                Set<String> candidates = scope;
+                for (String trigram : trigrams) {
+                    candidates = intersect(candidates, entriesByTrigram.getOrDefault(trigram, Set.of()));
+                    if (candidates.isEmpty()) {
+                        break;
+                    }
+                }
+                return candidates;
+            }
+            return scope;
+        }
+
+        private static boolean matchesAny(List<IndexedValue> values, Predicate<IndexedValue> isSearchedField, Predicate<String> valueMatcher) {
+            for (IndexedValue value : values) {
+                if (isSearchedField.test(value) && (valueMatcher.test(value.literal()) || valueMatcher.test(value.transformed()))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /// @throws PatternSyntaxException if a regular expression is requested, but the term is not a valid one
+        private static Predicate<String> getValueMatcher(String term, EnumSet<SearchFlags> searchFlags) {
+            boolean isCaseSensitive = searchFlags.contains(CASE_SENSITIVE);
+            if (searchFlags.contains(REGULAR_EXPRESSION)) {
+                Pattern pattern = isCaseSensitive
+                                  ? Pattern.compile(term)
+                                  : Pattern.compile(term, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+                return value -> pattern.matcher(value).find();
+            }
+            if (isCaseSensitive) {
+                return searchFlags.contains(EXACT_MATCH)
+                       ? term::equals
+                       : value -> value.contains(term);
+            }
+            String lowerCaseTerm = term.toLowerCase(Locale.ROOT);
+            return searchFlags.contains(EXACT_MATCH)
+                   ? value -> value.toLowerCase(Locale.ROOT).equals(lowerCaseTerm)
+                   : value -> value.toLowerCase(Locale.ROOT).contains(lowerCaseTerm);
+        }
+
+        private Set<String> complement(Set<String> matches) {
+            Set<String> result = new HashSet<>(scope);
+            result.removeAll(matches);
+            return result;
+        }
+
+        private static Set<String> intersect(Set<String> one, Set<String> two) {
+            Set<String> smaller = one.size() <= two.size() ? one : two;
+            Set<String> larger = smaller == one ? two : one;
+            Set<String> result = new HashSet<>();
+            for (String entryId : smaller) {
+                if (larger.contains(entryId)) {
+                    result.add(entryId);
+                }
+            }
+            return result;
+        }
+
+        private static void setFlags(EnumSet<SearchFlags> flags, SearchFlags matchType, boolean caseSensitive, boolean negation) {
+            flags.add(matchType);
+
+            flags.add(caseSensitive ? CASE_SENSITIVE : CASE_INSENSITIVE);
+            if (negation) {
+                flags.add(NEGATION);
+            }
+        }
+    }
+}
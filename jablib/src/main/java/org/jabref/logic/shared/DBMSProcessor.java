@@ -6,6 +6,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -14,6 +15,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.shared.exception.OfflineLockException;
@@ -43,6 +45,9 @@ public abstract class DBMSProcessor {
 
     protected DatabaseConnectionProperties connectionProperties;
 
+    protected final LongAdder pulledRows = new LongAdder();
+    protected final LongAdder pushedRows = new LongAdder();
+
     protected DBMSProcessor(DatabaseConnection dbmsConnection) {
         this.connection = dbmsConnection.getConnection();
         this.connectionProperties = dbmsConnection.getProperties();
@@ -187,7 +192,7 @@ public abstract class DBMSProcessor {
             for (int i = 0; i < bibEntries.size(); i++) {
                 preparedEntryStatement.setString(i + 1, bibEntries.get(i).getType().getName());
             }
-            preparedEntryStatement.executeUpdate();
+            pushedRows.add(preparedEntryStatement.executeUpdate());
 
             try (ResultSet generatedKeys = preparedEntryStatement.getGeneratedKeys()) {
                 // The following assumes that we get the generated keys in the order the entries were inserted
@@ -212,7 +217,6 @@ public abstract class DBMSProcessor {
      * @return <code>true</code> if existent, else <code>false</code>
      */
     private List<BibEntry> getNotYetExistingEntries(List<BibEntry> bibEntries) {
-        List<Integer> remoteIds = new ArrayList<>();
         List<Integer> localIds = bibEntries.stream()
                                            .map(BibEntry::getSharedBibEntryData)
                                            .map(SharedBibEntryData::getSharedID)
@@ -221,19 +225,8 @@ public abstract class DBMSProcessor {
         if (localIds.isEmpty()) {
             return bibEntries;
         }
-        try {
-            String selectQuery = "SELECT * FROM " +
-                    escape_Table("ENTRY");
-
-            try (ResultSet resultSet = connection.createStatement().executeQuery(selectQuery)) {
-                while (resultSet.next()) {
-                    int id = resultSet.getInt("SHARED_ID");
-                    remoteIds.add(id);
-                }
-            }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
-        }
+        // Only the given ids are looked up instead of reading all shared ids
+        Set<Integer> remoteIds = getSharedIDVersionMapping(localIds).keySet();
         return bibEntries.stream().filter(entry ->
                                  !remoteIds.contains(entry.getSharedBibEntryData().getSharedID()))
                          .collect(Collectors.toList());
@@ -283,7 +276,7 @@ public abstract class DBMSProcessor {
                         fieldsCompleted += 1;
                     }
                 }
-                preparedFieldStatement.executeUpdate();
+                pushedRows.add(preparedFieldStatement.executeUpdate());
             }
         } catch (SQLException e) {
             LOGGER.error("SQL Error: ", e);
@@ -314,7 +307,7 @@ public abstract class DBMSProcessor {
             // update only if local version is higher or the entries are equal
             if ((localBibEntry.getSharedBibEntryData().getVersion() >= sharedBibEntry.getSharedBibEntryData()
                                                                                      .getVersion()) || localBibEntry.equals(sharedBibEntry)) {
-                insertOrUpdateFields(localBibEntry);
+                insertOrUpdateFields(localBibEntry, sharedBibEntry);
 
                 // updating entry type
                 String updateEntryTypeQuery = "UPDATE " +
@@ -332,7 +325,7 @@ public abstract class DBMSProcessor {
                 try (PreparedStatement preparedUpdateEntryTypeStatement = connection.prepareStatement(updateEntryTypeQuery)) {
                     preparedUpdateEntryTypeStatement.setString(1, localBibEntry.getType().getName());
                     preparedUpdateEntryTypeStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                    preparedUpdateEntryTypeStatement.executeUpdate();
+                    pushedRows.add(preparedUpdateEntryTypeStatement.executeUpdate());
                 }
 
                 connection.commit(); // apply all changes in current transaction
@@ -353,90 +346,69 @@ public abstract class DBMSProcessor {
     private void removeSharedFieldsByDifference(BibEntry localBibEntry, BibEntry sharedBibEntry) throws SQLException {
         Set<Field> nullFields = new HashSet<>(sharedBibEntry.getFields());
         nullFields.removeAll(localBibEntry.getFields());
-        for (Field nullField : nullFields) {
-            String deleteFieldQuery = "DELETE FROM " +
-                    escape_Table("FIELD") +
-                    " WHERE " +
-                    escape("NAME") +
-                    " = ? AND " +
-                    escape("ENTRY_SHARED_ID") +
-                    " = ?";
-
-            try (PreparedStatement preparedDeleteFieldStatement = connection
-                    .prepareStatement(deleteFieldQuery)) {
-                preparedDeleteFieldStatement.setString(1, nullField.getName());
-                preparedDeleteFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                preparedDeleteFieldStatement.executeUpdate();
-            }
-        }
+        deleteFields(localBibEntry.getSharedBibEntryData().getSharedID(), nullFields);
     }
 
     /**
-     * Helping method. Inserts a key-value pair into FIELD table for every field if not existing. Otherwise only an
-     * update is performed.
+     * Helping method. Writes the fields whose local value differs from the shared one. The outdated rows of these fields
+     * are deleted and the local values are inserted using a single multi-row insert.
      */
-    private void insertOrUpdateFields(BibEntry localBibEntry) throws SQLException {
-        for (Field field : localBibEntry.getFields()) {
-            // avoiding to use deprecated BibEntry.getField() method. null values are accepted by PreparedStatement!
-            Optional<String> valueOptional = localBibEntry.getField(field);
-            String value = null;
-            if (valueOptional.isPresent()) {
-                value = valueOptional.get();
+    private void insertOrUpdateFields(BibEntry localBibEntry, BibEntry sharedBibEntry) throws SQLException {
+        List<Field> changedFields = localBibEntry.getFields().stream()
+                                                 .filter(field -> !localBibEntry.getField(field).equals(sharedBibEntry.getField(field)))
+                                                 .toList();
+        if (changedFields.isEmpty()) {
+            return;
+        }
+        int sharedID = localBibEntry.getSharedBibEntryData().getSharedID();
+        deleteFields(sharedID, changedFields);
+
+        String insertFieldQuery = "INSERT INTO " +
+                escape_Table("FIELD") +
+                "(" +
+                escape("ENTRY_SHARED_ID") +
+                ", " +
+                escape("NAME") +
+                ", " +
+                escape("VALUE") +
+                ") VALUES(?, ?, ?)" +
+                ", (?, ?, ?)".repeat(changedFields.size() - 1);
+
+        try (PreparedStatement preparedFieldStatement = connection.prepareStatement(insertFieldQuery)) {
+            for (int i = 0; i < changedFields.size(); i++) {
+                Field field = changedFields.get(i);
+                preparedFieldStatement.setInt((3 * i) + 1, sharedID);
+                preparedFieldStatement.setString((3 * i) + 2, field.getName());
+                preparedFieldStatement.setString((3 * i) + 3, localBibEntry.getField(field).orElse(null));
             }
+            pushedRows.add(preparedFieldStatement.executeUpdate());
+        }
+    }
 
-            String selectFieldQuery = "SELECT * FROM " +
-                    escape_Table("FIELD") +
-                    " WHERE " +
-                    escape("NAME") +
-                    " = ? AND " +
-                    escape("ENTRY_SHARED_ID") +
-                    " = ?";
-
-            try (PreparedStatement preparedSelectFieldStatement = connection
-                    .prepareStatement(selectFieldQuery)) {
-                preparedSelectFieldStatement.setString(1, field.getName());
-                preparedSelectFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-
-                try (ResultSet selectFieldResultSet = preparedSelectFieldStatement.executeQuery()) {
-                    if (selectFieldResultSet.next()) { // check if field already exists
-                        String updateFieldQuery = "UPDATE " +
-                                escape_Table("FIELD") +
-                                " SET " +
-                                escape("VALUE") +
-                                " = ? WHERE " +
-                                escape("NAME") +
-                                " = ? AND " +
-                                escape("ENTRY_SHARED_ID") +
-                                " = ?";
-
-                        try (PreparedStatement preparedUpdateFieldStatement = connection
-                                .prepareStatement(updateFieldQuery)) {
-                            preparedUpdateFieldStatement.setString(1, value);
-                            preparedUpdateFieldStatement.setString(2, field.getName());
-                            preparedUpdateFieldStatement.setInt(3, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedUpdateFieldStatement.executeUpdate();
-                        }
-                    } else {
-                        String insertFieldQuery = "INSERT INTO " +
-                                escape_Table("FIELD") +
-                                "(" +
-                                escape("ENTRY_SHARED_ID") +
-                                ", " +
-                                escape("NAME") +
-                                ", " +
-                                escape("VALUE") +
-                                ") VALUES(?, ?, ?)";
-
-                        try (PreparedStatement preparedFieldStatement = connection
-                                .prepareStatement(insertFieldQuery)) {
-                            preparedFieldStatement.setInt(1, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedFieldStatement.setString(2, field.getName());
-                            preparedFieldStatement.setString(3, value);
-                            preparedFieldStatement.executeUpdate();
-                        }
-                    }
-                }
+    /**
+     * Helping method. Deletes the given fields of the given shared entry using a single statement.
+     */
+    private void deleteFields(int sharedID, Collection<Field> fields) throws SQLException {
+        if (fields.isEmpty()) {
+            return;
+        }
+        String deleteFieldQuery = "DELETE FROM " +
+                escape_Table("FIELD") +
+                " WHERE " +
+                escape("ENTRY_SHARED_ID") +
+                " = ? AND " +
+                escape("NAME") +
+                " IN (" +
+                "?, ".repeat(fields.size() - 1) +
+                "?)";
+
+        try (PreparedStatement preparedDeleteFieldStatement = connection.prepareStatement(deleteFieldQuery)) {
+            preparedDeleteFieldStatement.setInt(1, sharedID);
+            int parameterIndex = 2;
+            for (Field field : fields) {
+                preparedDeleteFieldStatement.setString(parameterIndex++, field.getName());
             }
+            pushedRows.add(preparedDeleteFieldStatement.executeUpdate());
         }
     }
 
@@ -462,7 +434,7 @@ public abstract class DBMSProcessor {
             for (int j = 0; j < bibEntries.size(); j++) {
                 preparedStatement.setInt(j + 1, bibEntries.get(j).getSharedBibEntryData().getSharedID());
             }
-            preparedStatement.executeUpdate();
+            pushedRows.add(preparedStatement.executeUpdate());
         } catch (SQLException e) {
             LOGGER.error("SQL Error: ", e);
         }
@@ -540,6 +512,7 @@ public abstract class DBMSProcessor {
                 BibEntry bibEntry = null;
                 int lastId = -1;
                 while (selectEntryResultSet.next()) {
+                    pulledRows.increment();
                     // We get a list of field values of bib entries "grouped" by bib entries
                     // Thus, the first change in the shared id leads to a new BibEntry
                     if (selectEntryResultSet.getInt("SHARED_ID") > lastId) {
@@ -576,15 +549,17 @@ public abstract class DBMSProcessor {
      */
     public Map<Integer, Integer> getSharedIDVersionMapping() {
         Map<Integer, Integer> sharedIDVersionMapping = new HashMap<>();
-        String selectEntryQuery = "SELECT * FROM " +
+        String selectEntryQuery = "SELECT " +
+                escape("SHARED_ID") +
+                ", " +
+                escape("VERSION") +
+                " FROM " +
                 escape_Table("ENTRY") +
                 " ORDER BY " +
                 escape("SHARED_ID");
 
         try (ResultSet selectEntryResultSet = connection.createStatement().executeQuery(selectEntryQuery)) {
-            while (selectEntryResultSet.next()) {
-                sharedIDVersionMapping.put(selectEntryResultSet.getInt("SHARED_ID"), selectEntryResultSet.getInt("VERSION"));
-            }
+            readSharedIDVersionMapping(selectEntryResultSet, sharedIDVersionMapping);
         } catch (SQLException e) {
             LOGGER.error("SQL Error", e);
         }
@@ -592,6 +567,60 @@ public abstract class DBMSProcessor {
         return sharedIDVersionMapping;
     }
 
+    /**
+     * Retrieves a mapping between the columns SHARED_ID and VERSION for the given shared ids only.
+     * Ids of entries not present on the shared database are not contained in the mapping.
+     */
+    public Map<Integer, Integer> getSharedIDVersionMapping(Collection<Integer> sharedIDs) {
+        Map<Integer, Integer> sharedIDVersionMapping = new HashMap<>();
+        for (List<Integer> partition : Lists.partition(List.copyOf(sharedIDs), 500)) {
+            String selectEntryQuery = "SELECT " +
+                    escape("SHARED_ID") +
+                    ", " +
+                    escape("VERSION") +
+                    " FROM " +
+                    escape_Table("ENTRY") +
+                    " WHERE " +
+                    escape("SHARED_ID") +
+                    " IN (" +
+                    "?, ".repeat(partition.size() - 1) +
+                    "?)";
+
+            try (PreparedStatement preparedStatement = connection.prepareStatement(selectEntryQuery)) {
+                for (int i = 0; i < partition.size(); i++) {
+                    preparedStatement.setInt(i + 1, partition.get(i));
+                }
+                try (ResultSet selectEntryResultSet = preparedStatement.executeQuery()) {
+                    readSharedIDVersionMapping(selectEntryResultSet, sharedIDVersionMapping);
+                }
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error", e);
+            }
+        }
+        return sharedIDVersionMapping;
+    }
+
+    private void readSharedIDVersionMapping(ResultSet resultSet, Map<Integer, Integer> sharedIDVersionMapping) throws SQLException {
+        while (resultSet.next()) {
+            pulledRows.increment();
+            sharedIDVersionMapping.put(resultSet.getInt("SHARED_ID"), resultSet.getInt("VERSION"));
+        }
+    }
+
+    /**
+     * Returns the number of rows read from the shared database by this processor.
+     */
+    public long getPulledRowCount() {
+        return pulledRows.sum();
+    }
+
+    /**
+     * Returns the number of rows inserted, updated, or deleted on the shared database by this processor.
+     */
+    public long getPushedRowCount() {
+        return pushedRows.sum();
+    }
+
     /**
      * Fetches and returns all shared meta data.
      */
@@ -688,4 +717,14 @@ public abstract class DBMSProcessor {
     public void notifyClients() {
         // nothing to do
     }
+
+    /**
+     * Notifies all clients ({@link DBMSSynchronizer}) which are connected to the same DBMS about changes of the given
+     * shared entries. Thus, the clients can pull these entries only. Needs to be implemented if LiveUpdate is supported by the DBMS
+     *
+     * @param sharedIDs the shared ids of the inserted, updated, or removed entries
+     */
+    public void notifyClients(@SuppressWarnings("unused") Collection<Integer> sharedIDs) {
+        // nothing to do
+    }
 }
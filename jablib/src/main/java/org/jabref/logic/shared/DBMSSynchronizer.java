@@ -3,6 +3,9 @@ package org.jabref.logic.shared;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -58,6 +61,16 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     private final FileUpdateMonitor fileMonitor;
     private Optional<BibEntry> lastEntryChanged;
     private final String userAndHost;
+    private SynchronizationStatistics lastSynchronizationStatistics = new SynchronizationStatistics(0, 0);
+
+    /**
+     * Number of rows transferred during one synchronization
+     *
+     * @param pulledRows rows read from the shared database
+     * @param pushedRows rows inserted, updated, or deleted on the shared database
+     */
+    public record SynchronizationStatistics(long pulledRows, long pushedRows) {
+    }
 
     public DBMSSynchronizer(@NonNull BibDatabaseContext bibDatabaseContext,
                             Character keywordSeparator,
@@ -85,12 +98,15 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntriesEvents may be posted.
         // In this case DBSynchronizer should not try to insert the bibEntry entry again (but it would not harm).
         if (isEventSourceAccepted(event) && checkCurrentConnection()) {
-            synchronizeLocalMetaData();
-            pullWithLastEntry();
-            synchronizeLocalDatabase();
-            dbmsProcessor.insertEntries(event.getBibEntries());
-            // Reset last changed entry because it just has already been synchronized -> Why necessary?
-            lastEntryChanged = Optional.empty();
+            synchronize(() -> {
+                synchronizeLocalMetaData();
+                pullWithLastEntry();
+                synchronizeLocalDatabase();
+                dbmsProcessor.insertEntries(event.getBibEntries());
+                dbmsProcessor.notifyClients(getSharedIDs(event.getBibEntries()));
+                // Reset last changed entry because it just has already been synchronized -> Why necessary?
+                lastEntryChanged = Optional.empty();
+            });
         }
     }
 
@@ -103,10 +119,12 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntriesEvents may be posted.
         // In this case DBSynchronizer should not try to update the bibEntry entry again (but it would not harm).
         if (isPresentLocalBibEntry(bibEntry) && isEventSourceAccepted(event) && checkCurrentConnection() && !event.isFilteredOut()) {
-            synchronizeLocalMetaData();
-            pullWithLastEntry();
-            synchronizeSharedEntry(bibEntry);
-            synchronizeLocalDatabase(); // Pull changes for the case that there were some
+            synchronize(() -> {
+                synchronizeLocalMetaData();
+                pullWithLastEntry();
+                synchronizeSharedEntry(bibEntry);
+                synchronizeLocalDatabase(); // Pull changes for the case that there were some
+            });
         } else {
             // Set new BibEntry that has been changed last
             lastEntryChanged = Optional.of(bibEntry);
@@ -121,10 +139,13 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntriesEvents may be posted.
         // In this case DBSynchronizer should not try to delete the bibEntry entry again (but it would not harm).
         if (isEventSourceAccepted(event) && checkCurrentConnection()) {
-            synchronizeLocalMetaData();
-            pullWithLastEntry();
-            dbmsProcessor.removeEntries(event.getBibEntries());
-            synchronizeLocalDatabase();
+            synchronize(() -> {
+                synchronizeLocalMetaData();
+                pullWithLastEntry();
+                dbmsProcessor.removeEntries(event.getBibEntries());
+                dbmsProcessor.notifyClients(getSharedIDs(event.getBibEntries()));
+                synchronizeLocalDatabase();
+            });
         }
     }
 
@@ -173,6 +194,9 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     /**
      * Synchronizes the local database with shared one. Possible update types are: removal, update, or insert of a
      * {@link BibEntry}.
+     * <p>
+     * The versions of the local entries are compared with the shared versions. Only the shared entries having a higher
+     * version than the local ones are fetched.
      */
     @Override
     public void synchronizeLocalDatabase() {
@@ -180,43 +204,78 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             return;
         }
 
-        List<BibEntry> localEntries = bibDatabase.getEntries();
         Map<Integer, Integer> idVersionMap = dbmsProcessor.getSharedIDVersionMapping();
 
         // remove old entries locally
-        removeNotSharedEntries(localEntries, idVersionMap.keySet());
+        removeLocalEntries(bibDatabase.getEntries().stream()
+                                      .filter(localEntry -> !idVersionMap.containsKey(localEntry.getSharedBibEntryData().getSharedID()))
+                                      .toList());
+        synchronizeLocalEntries(idVersionMap);
+    }
+
+    /**
+     * Synchronizes the given shared entries only, e.g., the entries another client announced as changed.
+     * Local entries having one of the given ids are removed if they are not present on the shared database anymore.
+     *
+     * @param sharedIDs the shared ids of the entries to synchronize
+     */
+    public void synchronizeLocalDatabase(Collection<Integer> sharedIDs) {
+        if (!checkCurrentConnection()) {
+            return;
+        }
+
+        Map<Integer, Integer> idVersionMap = dbmsProcessor.getSharedIDVersionMapping(sharedIDs);
+
+        Set<Integer> removedSharedIDs = new HashSet<>(sharedIDs);
+        removedSharedIDs.removeAll(idVersionMap.keySet());
+        removeLocalEntries(bibDatabase.getEntries().stream()
+                                      .filter(localEntry -> removedSharedIDs.contains(localEntry.getSharedBibEntryData().getSharedID()))
+                                      .toList());
+        synchronizeLocalEntries(idVersionMap);
+    }
+
+    /**
+     * Updates the outdated local entries and inserts the missing ones
+     *
+     * @param idVersionMap the shared versions by shared id
+     */
+    private void synchronizeLocalEntries(Map<Integer, Integer> idVersionMap) {
+        Map<Integer, List<BibEntry>> localEntriesBySharedID = bibDatabase.getEntries().stream()
+                                                                         .collect(Collectors.groupingBy(localEntry -> localEntry.getSharedBibEntryData().getSharedID()));
+        List<Integer> outdatedSharedIDs = new ArrayList<>();
         List<Integer> entriesToInsertIntoLocalDatabase = new ArrayList<>();
+        idVersionMap.forEach((sharedID, version) -> {
+            List<BibEntry> localEntries = localEntriesBySharedID.get(sharedID);
+            if (localEntries == null) {
+                entriesToInsertIntoLocalDatabase.add(sharedID);
+            } else if (localEntries.stream().anyMatch(localEntry -> version > localEntry.getSharedBibEntryData().getVersion())) {
+                outdatedSharedIDs.add(sharedID);
+            }
+        });
+        Collections.sort(outdatedSharedIDs);
+        Collections.sort(entriesToInsertIntoLocalDatabase);
+
         // compare versions and update local entry if needed
-        for (Map.Entry<Integer, Integer> idVersionEntry : idVersionMap.entrySet()) {
-            boolean remoteEntryMatchingOneLocalEntryFound = false;
-            for (BibEntry localEntry : localEntries) {
-                if (idVersionEntry.getKey().equals(localEntry.getSharedBibEntryData().getSharedID())) {
-                    remoteEntryMatchingOneLocalEntryFound = true;
-                    if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
-                        Optional<BibEntry> sharedEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                        if (sharedEntry.isPresent()) {
-                            // update fields
-                            localEntry.setType(sharedEntry.get().getType(), EntriesEventSource.SHARED);
-                            localEntry.getSharedBibEntryData()
-                                      .setVersion(sharedEntry.get().getSharedBibEntryData().getVersion());
-                            sharedEntry.get().getFieldMap().forEach(
-                                    // copy remote values to local entry
-                                    (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
-                            );
-
-                            // locally remove not existing fields
-                            localEntry.getFields().stream()
-                                      .filter(field -> !sharedEntry.get().hasField(field))
-                                      .forEach(
-                                              field -> localEntry.clearField(field, EntriesEventSource.SHARED)
-                                      );
-                        }
-                    }
+        for (BibEntry sharedEntry : dbmsProcessor.partitionAndGetSharedEntries(outdatedSharedIDs)) {
+            for (BibEntry localEntry : localEntriesBySharedID.get(sharedEntry.getSharedBibEntryData().getSharedID())) {
+                if (sharedEntry.getSharedBibEntryData().getVersion() > localEntry.getSharedBibEntryData().getVersion()) {
+                    // update fields
+                    localEntry.setType(sharedEntry.getType(), EntriesEventSource.SHARED);
+                    localEntry.getSharedBibEntryData()
+                              .setVersion(sharedEntry.getSharedBibEntryData().getVersion());
+                    sharedEntry.getFieldMap().forEach(
+                            // copy remote values to local entry
+                            (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
+                    );
+
+                    // locally remove not existing fields
+                    localEntry.getFields().stream()
+                              .filter(field -> !sharedEntry.hasField(field))
+                              .forEach(
+                                      field -> localEntry.clearField(field, EntriesEventSource.SHARED)
+                              );
                 }
             }
-            if (!remoteEntryMatchingOneLocalEntryFound) {
-                entriesToInsertIntoLocalDatabase.add(idVersionEntry.getKey());
-            }
         }
 
         if (!entriesToInsertIntoLocalDatabase.isEmpty()) {
@@ -226,16 +285,11 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     }
 
     /**
-     * Removes all local entries which are not present on shared database.
+     * Removes the given local entries, which are not present on shared database.
      *
-     * @param localEntries List of {@link BibEntry} the entries should be removed from
-     * @param sharedIDs    Set of all IDs which are present on shared database
+     * @param entriesToRemove List of {@link BibEntry} to be removed
      */
-    private void removeNotSharedEntries(List<BibEntry> localEntries, Set<Integer> sharedIDs) {
-        List<BibEntry> entriesToRemove =
-                localEntries.stream()
-                            .filter(localEntry -> !sharedIDs.contains(localEntry.getSharedBibEntryData().getSharedID()))
-                            .collect(Collectors.toList());
+    private void removeLocalEntries(List<BibEntry> entriesToRemove) {
         if (!entriesToRemove.isEmpty()) {
             eventBus.post(new SharedEntriesNotPresentEvent(entriesToRemove));
             // remove all non-shared entries without triggering listeners
@@ -254,6 +308,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         try {
             BibDatabaseWriter.applySaveActions(bibEntry, metaData, fieldPreferences); // perform possibly existing save actions
             dbmsProcessor.updateEntry(bibEntry);
+            dbmsProcessor.notifyClients(List.of(bibEntry.getSharedBibEntryData().getSharedID()));
         } catch (OfflineLockException exception) {
             eventBus.post(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
         } catch (SQLException e) {
@@ -323,9 +378,54 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             return;
         }
         // First synchronize entry, then synchronize database
-        pullWithLastEntry();
-        synchronizeLocalDatabase();
-        synchronizeLocalMetaData();
+        synchronize(() -> {
+            pullWithLastEntry();
+            synchronizeLocalDatabase();
+            synchronizeLocalMetaData();
+        });
+    }
+
+    /**
+     * Synchronizes the given shared entries only. Used if another client announced the entries it changed.
+     *
+     * @param sharedIDs the shared ids of the changed entries
+     */
+    public void pullChanges(Collection<Integer> sharedIDs) {
+        if (!checkCurrentConnection()) {
+            return;
+        }
+        synchronize(() -> {
+            pullWithLastEntry();
+            synchronizeLocalDatabase(sharedIDs);
+        });
+    }
+
+    /**
+     * Runs the given synchronization and records the number of transferred rows
+     */
+    private void synchronize(Runnable synchronization) {
+        long pulledRowsBefore = dbmsProcessor.getPulledRowCount();
+        long pushedRowsBefore = dbmsProcessor.getPushedRowCount();
+        synchronization.run();
+        lastSynchronizationStatistics = new SynchronizationStatistics(
+                dbmsProcessor.getPulledRowCount() - pulledRowsBefore,
+                dbmsProcessor.getPushedRowCount() - pushedRowsBefore);
+        LOGGER.debug("Synchronization transferred {} rows from and {} rows to the shared database",
+                lastSynchronizationStatistics.pulledRows(), lastSynchronizationStatistics.pushedRows());
+    }
+
+    /**
+     * Returns the number of rows transferred during the last synchronization triggered by a local change or a pull
+     */
+    public SynchronizationStatistics getLastSynchronizationStatistics() {
+        return lastSynchronizationStatistics;
+    }
+
+    private static List<Integer> getSharedIDs(List<BibEntry> entries) {
+        return entries.stream()
+                      .map(entry -> entry.getSharedBibEntryData().getSharedID())
+                      .filter(sharedID -> sharedID != -1)
+                      .toList();
     }
 
     /**
@@ -4,6 +4,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -105,7 +106,7 @@ public class PostgreSQLProcessor extends DBMSProcessor {
             for (int i = 0; i < bibEntries.size(); i++) {
                 preparedEntryStatement.setString(i + 1, bibEntries.get(i).getType().getName());
             }
-            preparedEntryStatement.executeUpdate();
+            pushedRows.add(preparedEntryStatement.executeUpdate());
 
             try (ResultSet generatedKeys = preparedEntryStatement.getGeneratedKeys()) {
                 // The following assumes that we get the generated keys in the order the entries were inserted
@@ -172,4 +173,18 @@ public class PostgreSQLProcessor extends DBMSProcessor {
             LOGGER.error("SQL Error during client notification", e);
         }
     }
+
+    @Override
+    public void notifyClients(Collection<Integer> sharedIDs) {
+        if (sharedIDs.isEmpty()) {
+            return;
+        }
+        // The payload consists of the processor id and digits only, thus it can be part of the statement
+        String payload = PostgresSQLNotificationListener.createPayload(PROCESSOR_ID, sharedIDs);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("NOTIFY jabrefLiveUpdate, '" + payload + "';");
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error during client notification", e);
+        }
+    }
 }
@@ -1,6 +1,13 @@
 package org.jabref.logic.shared.listener;
 
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.shared.DBMSProcessor;
 import org.jabref.logic.shared.DBMSSynchronizer;
@@ -12,11 +19,19 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A listener for PostgreSQL database notifications.
+ * <p>
+ * The payload of a notification is the id of the sending {@link DBMSProcessor}, optionally followed by the shared ids
+ * of the changed entries (<code>processorId:id,id,...</code>). Without ids, all shared entries are pulled.
  */
 public class PostgresSQLNotificationListener implements Runnable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PostgresSQLNotificationListener.class);
 
+    private static final String ID_SEPARATOR = ":";
+
+    // PostgreSQL limits the payload to 8000 bytes
+    private static final int MAX_PAYLOAD_LENGTH = 7900;
+
     private final DBMSSynchronizer dbmsSynchronizer;
     private final PGConnection pgConnection;
     private volatile boolean stop;
@@ -35,11 +50,7 @@ public class PostgresSQLNotificationListener implements Runnable {
                 PGNotification[] notifications = pgConnection.getNotifications();
 
                 if (notifications != null) {
-                    for (PGNotification notification : notifications) {
-                        if (!DBMSProcessor.PROCESSOR_ID.equals(notification.getName())) {
-                            dbmsSynchronizer.pullChanges();
-                        }
-                    }
+                    handleNotifications(notifications);
                 }
 
                 // Wait a while before checking again for new notifications
@@ -50,6 +61,68 @@ public class PostgresSQLNotificationListener implements Runnable {
         }
     }
 
+    /**
+     * Pulls the entries named by the notifications of other clients. If one notification does not name entries, all
+     * entries are pulled once.
+     */
+    private void handleNotifications(PGNotification[] notifications) {
+        Set<Integer> changedSharedIDs = new HashSet<>();
+        boolean pullAll = false;
+        for (PGNotification notification : notifications) {
+            String payload = notification.getParameter();
+            if (DBMSProcessor.PROCESSOR_ID.equals(getProcessorId(payload))) {
+                continue;
+            }
+            Optional<List<Integer>> sharedIDs = getSharedIDs(payload);
+            if (sharedIDs.isPresent()) {
+                changedSharedIDs.addAll(sharedIDs.get());
+            } else {
+                pullAll = true;
+            }
+        }
+
+        if (pullAll) {
+            dbmsSynchronizer.pullChanges();
+        } else if (!changedSharedIDs.isEmpty()) {
+            dbmsSynchronizer.pullChanges(changedSharedIDs);
+        }
+    }
+
+    /**
+     * Creates the payload announcing changes of the given entries. If the ids do not fit into a payload, they are left
+     * out and the receiving clients pull all entries.
+     */
+    public static String createPayload(String processorId, Collection<Integer> sharedIDs) {
+        String payload = processorId + ID_SEPARATOR + sharedIDs.stream().map(String::valueOf).collect(Collectors.joining(","));
+        if (payload.length() > MAX_PAYLOAD_LENGTH) {
+            return processorId;
+        }
+        return payload;
+    }
+
+    static String getProcessorId(String payload) {
+        int separatorIndex = payload.indexOf(ID_SEPARATOR);
+        return separatorIndex < 0 ? payload : payload.substring(0, separatorIndex);
+    }
+
+    /**
+     * @return the shared ids contained in the payload, empty if all entries should be pulled
+     */
+    static Optional<List<Integer>> getSharedIDs(String payload) {
+        int separatorIndex = payload.indexOf(ID_SEPARATOR);
+        if (separatorIndex < 0) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Arrays.stream(payload.substring(separatorIndex + 1).split(","))
+                                     .map(Integer::parseInt)
+                                     .toList());
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Invalid notification payload {}", payload, e);
+            return Optional.empty();
+        }
+    }
+
     public void stop() {
         stop = true;
     }
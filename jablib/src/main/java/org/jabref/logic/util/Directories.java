@@ -46,6 +46,13 @@ public class Directories {
                                              OS.APP_DIR_APP_AUTHOR));
     }
 
+    public static Path getPdfTextCacheDirectory() {
+        return Path.of(AppDirsFactory.getInstance()
+                                     .getUserDataDir(OS.APP_DIR_APP_NAME,
+                                             "pdf-text",
+                                             OS.APP_DIR_APP_AUTHOR));
+    }
+
     public static Path getAiFilesDirectory() {
         return Path.of(AppDirsFactory.getInstance()
                                      .getUserDataDir(OS.APP_DIR_APP_NAME,
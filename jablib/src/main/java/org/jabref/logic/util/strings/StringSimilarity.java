@@ -24,6 +24,13 @@ public class StringSimilarity {
         return editDistanceIgnoreCase(a, b) <= METRIC_THRESHOLD;
     }
 
+    /**
+     * @return the maximal edit distance of strings considered as similar by {@link #isSimilar(String, String)}
+     */
+    public int getMetricThreshold() {
+        return METRIC_THRESHOLD;
+    }
+
     public double editDistanceIgnoreCase(String a, String b) {
         // TODO: Locale is dependent on the language of the strings. English is a good denominator.
         return METRIC_DISTANCE.distance(a.toLowerCase(Locale.ENGLISH), b.toLowerCase(Locale.ENGLISH));
@@ -10,15 +10,18 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -36,6 +39,7 @@ import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.strings.StringUtil;
 
@@ -57,18 +61,28 @@ public class BibDatabase {
     /**
      * State attributes
      */
-    private final ObservableList<BibEntry> entries = FXCollections.synchronizedObservableList(FXCollections.observableArrayList(BibEntry::getObservables));
+    private final ObservableList<BibEntry> entries = FXCollections.synchronizedObservableList(createEntryList());
 
     // BibEntryId to BibEntry
-    private final Map<String, BibEntry> entriesId = new HashMap<>();
+    private final Map<String, BibEntry> entriesId = new ConcurrentHashMap<>();
     private Map<String, BibtexString> bibtexStrings = new ConcurrentHashMap<>();
 
+    // Counts the changes of bibtexStrings and the modifications of the strings themselves
+    private final AtomicLong stringChanges = new AtomicLong();
+    private final Runnable stringChangeListener = stringChanges::incrementAndGet;
+
+    // Built on demand, see getStringIndex()
+    private volatile StringIndex stringIndex;
+
     // Not included in equals, because it is not relevant for the content of the database
     private final EventBus eventBus = new EventBus();
 
     // Reverse index for citation links
     private final Map<String, Set<BibEntry>> citationIndex = new ConcurrentHashMap<>();
 
+    // Citation key to the entries having this key. The lists are immutable and replaced on each change.
+    private final Map<String, List<BibEntry>> citationKeyIndex = new ConcurrentHashMap<>();
+
     private String preamble;
 
     // All file contents below the last entry in the file
@@ -92,6 +106,14 @@ public class BibDatabase {
         this.registerListener(new KeyChangeListener(this));
     }
 
+    private static ObservableList<BibEntry> createEntryList() {
+        if (BibEntry.isCompactStorage()) {
+            // Observing the entries would give up their compact storage
+            return FXCollections.observableArrayList();
+        }
+        return FXCollections.observableArrayList(BibEntry::getObservables);
+    }
+
     /**
      * Returns the number of entries.
      */
@@ -144,27 +166,19 @@ public class BibDatabase {
     /**
      * Returns the entry with the given citation key.
      */
-    public synchronized Optional<BibEntry> getEntryByCitationKey(String key) {
-        return entries.stream().filter(entry -> Objects.equals(entry.getCitationKey().orElse(null), key)).findFirst();
+    public Optional<BibEntry> getEntryByCitationKey(String key) {
+        List<BibEntry> entriesWithKey = getIndexedEntries(key);
+        return entriesWithKey.isEmpty() ? Optional.empty() : Optional.of(entriesWithKey.getFirst());
     }
 
     /**
      * Collects entries having the specified citation key and returns these entries as list.
-     * The order of the entries is the order they appear in the database.
+     * The order of the entries is the order they were added to the database or got the key.
      *
      * @return list of entries that contains the given key
      */
-    public synchronized List<BibEntry> getEntriesByCitationKey(String key) {
-        List<BibEntry> result = new ArrayList<>();
-
-        for (BibEntry entry : entries) {
-            entry.getCitationKey().ifPresent(entryKey -> {
-                if (key.equals(entryKey)) {
-                    result.add(entry);
-                }
-            });
-        }
-        return result;
+    public List<BibEntry> getEntriesByCitationKey(String key) {
+        return new ArrayList<>(getIndexedEntries(key));
     }
 
     public synchronized void insertEntry(BibEntry entry) {
@@ -202,6 +216,7 @@ public class BibDatabase {
         newEntries.forEach(entry -> {
                     entriesId.put(entry.getId(), entry);
                     indexEntry(entry);
+                    entry.getCitationKey().ifPresent(key -> addToCitationKeyIndex(entry, key));
                 }
         );
     }
@@ -249,6 +264,7 @@ public class BibDatabase {
         toBeDeleted.forEach(entry -> {
             entriesId.remove(entry.getId());
             removeEntryFromIndex(entry);
+            entry.getCitationKey().ifPresent(key -> removeFromCitationKeyIndex(entry, key));
         });
 
         entries.setAll(newEntries);
@@ -299,6 +315,47 @@ public class BibDatabase {
         });
     }
 
+    private List<BibEntry> getIndexedEntries(@Nullable String citationKey) {
+        // explicit null check because citationKeyIndex is a ConcurrentHashMap and will throw NPE on null
+        return citationKey != null ? citationKeyIndex.getOrDefault(citationKey, List.of()) : List.of();
+    }
+
+    private void addToCitationKeyIndex(BibEntry entry, String citationKey) {
+        citationKeyIndex.merge(citationKey, List.of(entry), (indexed, added) -> {
+            List<BibEntry> entriesWithKey = new ArrayList<>(indexed);
+            entriesWithKey.addAll(added);
+            return Collections.unmodifiableList(entriesWithKey);
+        });
+    }
+
+    private void removeFromCitationKeyIndex(BibEntry entry, String citationKey) {
+        citationKeyIndex.computeIfPresent(citationKey, (_, indexed) -> {
+            List<BibEntry> entriesWithKey = indexed.stream().filter(indexedEntry -> indexedEntry != entry).toList();
+            // returning null removes the key from the index
+            return entriesWithKey.isEmpty() ? null : entriesWithKey;
+        });
+    }
+
+    /**
+     * Moves the entry to its new citation key in the index. Called for all changes of entries having this database as
+     * listener, thus also for entries that were removed in the meantime.
+     */
+    private void updateCitationKeyIndex(FieldChangedEvent event) {
+        if (!InternalField.KEY_FIELD.equals(event.getField())) {
+            return;
+        }
+        BibEntry entry = event.getBibEntry();
+        if (entriesId.get(entry.getId()) != entry) {
+            return;
+        }
+        if (!StringUtil.isBlank(event.getOldValue())) {
+            removeFromCitationKeyIndex(entry, event.getOldValue());
+        }
+        if (!StringUtil.isBlank(event.getNewValue())) {
+            addToCitationKeyIndex(entry, event.getNewValue());
+        }
+    }
+
     /**
      * Returns the database's preamble.
      * If the preamble text consists only of whitespace, then also an empty optional is returned.
@@ -333,6 +390,8 @@ public class BibDatabase {
         }
 
         bibtexStrings.put(id, string);
+        string.registerChangeListener(stringChangeListener);
+        stringChanges.incrementAndGet();
     }
 
     /**
@@ -342,7 +401,9 @@ public class BibDatabase {
      * @param stringsToAdd The collection of strings to set
      */
     public void setStrings(List<BibtexString> stringsToAdd) {
+        bibtexStrings.values().forEach(string -> string.unregisterChangeListener(stringChangeListener));
         bibtexStrings = new ConcurrentHashMap<>();
+        stringChanges.incrementAndGet();
         stringsToAdd.forEach(this::addString);
     }
 
@@ -350,7 +411,11 @@ public class BibDatabase {
      * Removes the string with the given id.
      */
     public void removeString(String id) {
-        bibtexStrings.remove(id);
+        BibtexString removed = bibtexStrings.remove(id);
+        if (removed != null) {
+            removed.unregisterChangeListener(stringChangeListener);
+        }
+        stringChanges.incrementAndGet();
     }
 
     /**
@@ -421,6 +486,38 @@ public class BibDatabase {
         return resolveContent(content, new HashSet<>(), new HashSet<>());
     }
 
+    /**
+     * Resolved content of a string together with the ids of all strings used to resolve it
+     */
+    private record ResolvedString(String content, Set<String> usedIds) {
+    }
+
+    /**
+     * Case-insensitive index of the strings and cache of their resolved contents.
+     * Valid as long as neither the strings of the database nor any of its strings itself are changed.
+     */
+    private record StringIndex(long stringChanges,
+                               Map<String, BibtexString> stringsByLowerCaseName,
+                               Map<String, ResolvedString> resolvedStrings) {
+    }
+
+    private StringIndex getStringIndex() {
+        StringIndex index = stringIndex;
+        if ((index != null) && (index.stringChanges() == stringChanges.get())) {
+            return index;
+        }
+
+        // Read the counter first, so that changes during the creation of the index cause another update
+        long changes = stringChanges.get();
+        Map<String, BibtexString> stringsByLowerCaseName = new HashMap<>();
+        for (BibtexString string : bibtexStrings.values()) {
+            stringsByLowerCaseName.putIfAbsent(string.getName().toLowerCase(Locale.ROOT), string);
+        }
+        index = new StringIndex(changes, stringsByLowerCaseName, new ConcurrentHashMap<>());
+        stringIndex = index;
+        return index;
+    }
+
     /**
      * Get all strings used in the entries.
      */
@@ -453,12 +550,24 @@ public class BibDatabase {
      * @return a list of bibtexentries, with all strings resolved. It is dependent on the value of inPlace whether copies are made or the given BibtexEntries are modified.
      */
     public List<BibEntry> resolveForStrings(@NonNull Collection<BibEntry> entriesToResolve, boolean inPlace) {
-        List<BibEntry> results = new ArrayList<>(entriesToResolve.size());
+        return resolveForStrings(entriesToResolve, inPlace, false);
+    }
 
-        for (BibEntry entry : entriesToResolve) {
-            results.add(this.resolveForStrings(entry, inPlace));
+    /**
+     * Take the given collection of BibEntry and resolve any string references, optionally spread across all processors.
+     * <p>
+     * If the entries are resolved in place and in parallel, the listeners of the entries are notified from multiple threads.
+     *
+     * @param parallel whether to resolve the entries in parallel. The order of the returned entries is the same in both modes.
+     * @see #resolveForStrings(Collection, boolean)
+     */
+    public List<BibEntry> resolveForStrings(@NonNull Collection<BibEntry> entriesToResolve, boolean inPlace, boolean parallel) {
+        Stream<BibEntry> entryStream = List.copyOf(entriesToResolve).stream();
+        if (parallel) {
+            entryStream = entryStream.parallel();
         }
-        return results;
+        return entryStream.map(entry -> resolveForStrings(entry, inPlace))
+                          .collect(Collectors.toCollection(ArrayList::new));
     }
 
     /**
@@ -495,31 +604,47 @@ public class BibDatabase {
      * If the string is undefined, returns null.
      */
     private String resolveString(@NonNull String label, @NonNull Set<String> usedIds, @NonNull Set<String> allUsedIds) {
-        for (BibtexString string : bibtexStrings.values()) {
-            if (string.getName().equalsIgnoreCase(label)) {
-                // First check if this string label has been resolved
-                // earlier in this recursion. If so, we have a
-                // circular reference, and have to stop to avoid
-                // infinite recursion.
-                if (usedIds.contains(string.getId())) {
-                    LOGGER.info("Stopped due to circular reference in strings: {}", label);
-                    return label;
+        StringIndex index = getStringIndex();
+        BibtexString string = index.stringsByLowerCaseName().get(label.toLowerCase(Locale.ROOT));
+        if (string != null) {
+            // First check if this string label has been resolved
+            // earlier in this recursion. If so, we have a
+            // circular reference, and have to stop to avoid
+            // infinite recursion.
+            if (usedIds.contains(string.getId())) {
+                LOGGER.info("Stopped due to circular reference in strings: {}", label);
+                return label;
+            }
+
+            // The result of a nested resolution depends on the strings resolved before (circular references),
+            // thus only strings resolved from the top of the recursion are cached.
+            boolean isTopLevel = usedIds.isEmpty();
+            if (isTopLevel) {
+                ResolvedString cached = index.resolvedStrings().get(string.getId());
+                if (cached != null) {
+                    allUsedIds.addAll(cached.usedIds());
+                    return cached.content();
                 }
-                // If not, log this string's ID now.
-                usedIds.add(string.getId());
-                allUsedIds.add(string.getId());
+            }
+
+            // If not, log this string's ID now.
+            Set<String> stringUsedIds = new HashSet<>();
+            usedIds.add(string.getId());
+            stringUsedIds.add(string.getId());
 
-                // Ok, we found the string. Now we must make sure we
-                // resolve any references to other strings in this one.
-                String result = string.getContent();
-                result = resolveContent(result, usedIds, allUsedIds);
+            // Ok, we found the string. Now we must make sure we
+            // resolve any references to other strings in this one.
+            String result = resolveContent(string.getContent(), usedIds, stringUsedIds);
 
-                // Finished with recursing this branch, so we remove our
-                // ID again:
-                usedIds.remove(string.getId());
+            // Finished with recursing this branch, so we remove our
+            // ID again:
+            usedIds.remove(string.getId());
+            allUsedIds.addAll(stringUsedIds);
 
-                return result;
+            if (isTopLevel) {
+                index.resolvedStrings().put(string.getId(), new ResolvedString(result, Set.copyOf(stringUsedIds)));
             }
+            return result;
         }
 
         // If we get to this point, the string has obviously not been defined locally.
@@ -530,7 +655,8 @@ public class BibDatabase {
 
     private String resolveContent(String result, Set<String> usedIds, Set<String> allUsedIds) {
         String res = result;
-        if (RESOLVE_CONTENT_PATTERN.matcher(res).matches()) {
+        // The check for '#' is much cheaper than the pattern and excludes most field contents
+        if ((res.indexOf(FieldWriter.BIBTEX_STRING_START_END_SYMBOL) >= 0) && RESOLVE_CONTENT_PATTERN.matcher(res).matches()) {
             StringBuilder newRes = new StringBuilder();
             int piv = 0;
             int next;
@@ -616,6 +742,7 @@ public class BibDatabase {
 
     @Subscribe
     private void relayEntryChangeEvent(FieldChangedEvent event) {
+        updateCitationKeyIndex(event);
         eventBus.post(event);
     }
 
@@ -653,10 +780,7 @@ public class BibDatabase {
      * Returns the number of occurrences of the given citation key in this database.
      */
     public long getNumberOfCitationKeyOccurrences(String key) {
-        return entries.stream()
-                      .flatMap(entry -> entry.getCitationKey().stream())
-                      .filter(key::equals)
-                      .count();
+        return getIndexedEntries(key).size();
     }
 
     /**
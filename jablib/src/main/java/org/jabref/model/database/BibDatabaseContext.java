@@ -19,6 +19,7 @@ import org.jabref.logic.FilePreferences;
 import org.jabref.logic.JabRefException;
 import org.jabref.logic.crawler.Crawler;
 import org.jabref.logic.crawler.StudyRepository;
+import org.jabref.logic.database.DuplicateCandidateIndex;
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.BibtexParser;
@@ -28,6 +29,7 @@ import org.jabref.logic.util.CoarseChangeFilter;
 import org.jabref.logic.util.Directories;
 import org.jabref.logic.util.io.BackupFileUtil;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.groups.GroupMembershipIndex;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.study.Study;
 
@@ -68,6 +70,9 @@ public class BibDatabaseContext {
     private CoarseChangeFilter dbmsListener;
     private DatabaseLocation location;
 
+    private GroupMembershipIndex groupMembershipIndex;
+    private DuplicateCandidateIndex duplicateCandidateIndex;
+
     public BibDatabaseContext() {
         this(new BibDatabase());
     }
@@ -261,6 +266,26 @@ public class BibDatabaseContext {
         return database.getEntries();
     }
 
+    /**
+     * @return the index of the group memberships of the entries of this library, created on first use
+     */
+    public synchronized GroupMembershipIndex getGroupMembershipIndex() {
+        if (groupMembershipIndex == null) {
+            groupMembershipIndex = new GroupMembershipIndex(database);
+        }
+        return groupMembershipIndex;
+    }
+
+    /**
+     * @return the index of the duplicate candidates of the entries of this library, created on first use
+     */
+    public synchronized DuplicateCandidateIndex getDuplicateCandidateIndex() {
+        if (duplicateCandidateIndex == null) {
+            duplicateCandidateIndex = new DuplicateCandidateIndex(database);
+        }
+        return duplicateCandidateIndex;
+    }
+
     /**
      * @return The path to store the lucene index files. One directory for each library.
      */
@@ -46,7 +46,6 @@ import org.jabref.model.strings.LatexToUnicodeAdapter;
 import org.jabref.model.strings.StringUtil;
 import org.jabref.model.util.MultiKeyMap;
 
-import com.google.common.annotations.VisibleForTesting;
 import com.google.common.eventbus.EventBus;
 import com.tobiasdiez.easybind.EasyBind;
 import com.tobiasdiez.easybind.optional.OptionalBinding;
@@ -89,30 +88,40 @@ public class BibEntry {
 
     public static final EntryType DEFAULT_TYPE = StandardEntryType.Misc;
     private static final Logger LOGGER = LoggerFactory.getLogger(BibEntry.class);
+
+    /// Whether new entries store their fields in a [CompactFieldMap], see [#setCompactStorage(boolean)]
+    private static volatile boolean compactStorage;
+
     private final SharedBibEntryData sharedBibEntryData;
 
+    // The caches, the event bus, and the type property are created on first use, because most entries never need them.
+    // The caches are created under the lock of the entry, because entries are read by several threads, e.g., during a
+    // parallel integrity check.
+
     /**
      * Map to store the words in every field
      */
-    private final Map<Field, Set<String>> fieldsAsWords = new HashMap<>();
+    private volatile Map<Field, Set<String>> fieldsAsWords;
 
     /**
      * Cache that stores latex free versions of fields.
      */
-    private final Map<Field, String> latexFreeFields = new ConcurrentHashMap<>();
+    private volatile Map<Field, String> latexFreeFields;
 
     /**
      * Cache that stores the field as keyword lists (format &lt;Field, Separator, Keyword list>)
      */
-    private final MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
+    private volatile MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords;
 
-    private final EventBus eventBus = new EventBus();
+    private volatile EventBus eventBus;
 
     private String id;
 
-    private final ObjectProperty<EntryType> type = new SimpleObjectProperty<>(DEFAULT_TYPE);
+    private EntryType type = DEFAULT_TYPE;
 
-    private ObservableMap<Field, String> fields = FXCollections.observableMap(new ConcurrentHashMap<>());
+    private ObjectProperty<EntryType> typeProperty;
+
+    private volatile Map<Field, String> fields = createFieldMap(Map.of());
 
     /**
      * The part before the start of the entry
@@ -163,13 +172,34 @@ public class BibEntry {
      * Does <em>not</em> port the listeners.
      */
     public BibEntry(BibEntry other) {
-        this(other.type.getValue());
-        this.fields = FXCollections.observableMap(new ConcurrentHashMap<>(other.fields));
+        this(other.type);
+        this.fields = createFieldMap(other.fields);
         this.commentsBeforeEntry = other.commentsBeforeEntry;
         this.parsedSerialization = other.parsedSerialization;
         this.changed = other.changed;
     }
 
+    /// Lets entries created afterwards store their fields in a compact array instead of an observable hash map.
+    /// Moreover, libraries created afterwards do not observe the fields of their entries.
+    ///
+    /// Meant for headless use (JabKit, the standalone HTTP server), where nobody observes the entries.
+    /// A compact entry switches to an observable map on the first call of [#getFieldsObservable()] or [#getObservables()].
+    /// Thus, compact entries still work with observers, but without saving memory.
+    public static void setCompactStorage(boolean compactStorage) {
+        BibEntry.compactStorage = compactStorage;
+    }
+
+    public static boolean isCompactStorage() {
+        return compactStorage;
+    }
+
+    private static Map<Field, String> createFieldMap(Map<Field, String> content) {
+        if (compactStorage) {
+            return new CompactFieldMap(content);
+        }
+        return FXCollections.observableMap(new ConcurrentHashMap<>(content));
+    }
+
     public Optional<FieldChange> setMonth(Month parsedMonth) {
         return setField(StandardField.MONTH, parsedMonth.getJabRefFormat());
     }
@@ -334,7 +364,7 @@ public class BibEntry {
 
     private Optional<String> genericGetResolvedFieldOrAlias(Field field, @Nullable BibDatabase database, BiFunction<BibEntry, Field, Optional<String>> getFieldOrAlias) {
         if ((InternalField.TYPE_HEADER == field) || (InternalField.OBSOLETE_TYPE_HEADER == field)) {
-            return Optional.of(type.get().getDisplayName());
+            return Optional.of(type.getDisplayName());
         }
 
         if (InternalField.KEY_FIELD == field) {
@@ -347,8 +377,8 @@ public class BibEntry {
         if (result.isEmpty() && (database != null)) {
             Optional<BibEntry> referred = database.getReferencedEntry(this);
             if (referred.isPresent()) {
-                EntryType sourceEntry = referred.get().type.get();
-                EntryType targetEntry = type.get();
+                EntryType sourceEntry = referred.get().type;
+                EntryType targetEntry = type;
                 Optional<Field> sourceField = getSourceField(field, targetEntry, sourceEntry);
 
                 if (sourceField.isPresent()) {
@@ -380,11 +410,10 @@ public class BibEntry {
      *
      * @param id The ID to be used
      */
-    @VisibleForTesting
     public void setId(@NonNull String id) {
         String oldId = this.id;
 
-        eventBus.post(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
+        postEvent(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
         this.id = id;
         changed = true;
     }
@@ -425,11 +454,15 @@ public class BibEntry {
      * Returns this entry's type.
      */
     public EntryType getType() {
-        return type.getValue();
+        return type;
     }
 
-    public ObjectProperty<EntryType> typeProperty() {
-        return type;
+    public synchronized ObjectProperty<EntryType> typeProperty() {
+        if (typeProperty == null) {
+            typeProperty = new SimpleObjectProperty<>(type);
+            typeProperty.addListener((_, _, newType) -> type = newType);
+        }
+        return typeProperty;
     }
 
     /**
@@ -444,16 +477,19 @@ public class BibEntry {
      * If the new entry type equals the old entry type no changed flag is set.
      */
     public Optional<FieldChange> setType(@NonNull EntryType newType, EntriesEventSource eventSource) {
-        EntryType oldType = type.get();
+        EntryType oldType = type;
         if (newType.equals(oldType)) {
             return Optional.empty();
         }
 
         changed = true;
-        this.type.setValue(newType);
+        this.type = newType;
+        if (typeProperty != null) {
+            typeProperty.setValue(newType);
+        }
 
         FieldChange change = new FieldChange(this, InternalField.TYPE_HEADER, oldType.getName(), newType.getName());
-        eventBus.post(new FieldChangedEvent(change, eventSource));
+        postEvent(new FieldChangedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -483,15 +519,19 @@ public class BibEntry {
             // the key field should not be converted
             return getCitationKey();
         } else if (InternalField.TYPE_HEADER == field) {
-            return Optional.of(type.get().getDisplayName());
-        } else if (latexFreeFields.containsKey(field)) {
-            return Optional.ofNullable(latexFreeFields.get(field));
+            return Optional.of(type.getDisplayName());
+        }
+
+        Map<Field, String> latexFreeFieldsCache = latexFreeFields;
+        String cachedValue = (latexFreeFieldsCache == null) ? null : latexFreeFieldsCache.get(field);
+        if (cachedValue != null) {
+            return Optional.of(cachedValue);
         } else {
             Optional<String> fieldValue = getField(field);
             if (fieldValue.isPresent()) {
                 // TODO: Do we need FieldFactory.isLaTeXField(field) here to filter?
                 String latexFreeValue = LatexToUnicodeAdapter.format(fieldValue.get()).intern();
-                latexFreeFields.put(field, latexFreeValue);
+                getLatexFreeFieldsCache().put(field, latexFreeValue);
                 return Optional.of(latexFreeValue);
             } else {
                 return Optional.empty();
@@ -639,9 +679,9 @@ public class BibEntry {
 
         FieldChange change = new FieldChange(this, field, oldValue, value);
         if (isNewField) {
-            eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+            postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
         } else {
-            eventBus.post(new FieldChangedEvent(change, eventSource));
+            postEvent(new FieldChangedEvent(change, eventSource));
         }
         return Optional.of(change);
     }
@@ -684,7 +724,7 @@ public class BibEntry {
         fields.remove(field);
 
         FieldChange change = new FieldChange(this, field, oldValue.get(), null);
-        eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+        postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -938,7 +978,7 @@ public class BibEntry {
             return false;
         }
         BibEntry entry = (BibEntry) o;
-        return Objects.equals(type.getValue(), entry.type.getValue())
+        return Objects.equals(type, entry.type)
                 && Objects.equals(fields, entry.fields)
                 && Objects.equals(commentsBeforeEntry, entry.commentsBeforeEntry);
     }
@@ -956,16 +996,26 @@ public class BibEntry {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(type.getValue(), fields, commentsBeforeEntry);
+        return Objects.hash(type, fields, commentsBeforeEntry);
     }
 
     public void registerListener(Object object) {
+        synchronized (this) {
+            if (eventBus == null) {
+                eventBus = new EventBus();
+            }
+        }
         this.eventBus.register(object);
     }
 
     public void unregisterListener(Object object) {
+        EventBus bus = eventBus;
+        if (bus == null) {
+            LOGGER.debug("Problem unregistering, no listener registered");
+            return;
+        }
         try {
-            this.eventBus.unregister(object);
+            bus.unregister(object);
         } catch (IllegalArgumentException e) {
             // occurs if the event source has not been registered, should not prevent shutdown
             LOGGER.debug("Problem unregistering", e);
@@ -982,7 +1032,7 @@ public class BibEntry {
      * A copy is made of the parameter
      */
     public BibEntry withFields(Map<Field, String> content) {
-        this.fields = FXCollections.observableMap(new HashMap<>(content));
+        this.fields = compactStorage ? new CompactFieldMap(content) : FXCollections.observableMap(new HashMap<>(content));
         this.setChanged(false);
         return this;
     }
@@ -1022,7 +1072,8 @@ public class BibEntry {
     }
 
     public Set<String> getFieldAsWords(Field field) {
-        Set<String> storedList = fieldsAsWords.get(field);
+        Map<Field, Set<String>> fieldsAsWordsCache = fieldsAsWords;
+        Set<String> storedList = (fieldsAsWordsCache == null) ? null : fieldsAsWordsCache.get(field);
         if (storedList != null) {
             return storedList;
         } else {
@@ -1031,15 +1082,16 @@ public class BibEntry {
                 return Set.of();
             } else {
                 HashSet<String> words = new HashSet<>(StringUtil.getStringAsWords(fieldValue));
-                fieldsAsWords.put(field, words);
+                getFieldsAsWordsCache().put(field, words);
                 return words;
             }
         }
     }
 
     public KeywordList getFieldAsKeywords(Field field, Character keywordSeparator) {
-        if (field instanceof StandardField standardField) {
-            Optional<KeywordList> storedList = fieldsAsKeywords.get(standardField, keywordSeparator);
+        MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywordsCache = fieldsAsKeywords;
+        if ((fieldsAsKeywordsCache != null) && (field instanceof StandardField standardField)) {
+            Optional<KeywordList> storedList = fieldsAsKeywordsCache.get(standardField, keywordSeparator);
             if (storedList.isPresent()) {
                 return storedList.get();
             }
@@ -1050,7 +1102,7 @@ public class BibEntry {
                 .orElse(new KeywordList());
 
         if (field instanceof StandardField standardField) {
-            fieldsAsKeywords.put(standardField, keywordSeparator, keywords);
+            getFieldsAsKeywordsCache().put(standardField, keywordSeparator, keywords);
         }
         return keywords;
     }
@@ -1059,15 +1111,66 @@ public class BibEntry {
         return clearField(InternalField.KEY_FIELD);
     }
 
-    private void invalidateFieldCache(Field field) {
-        latexFreeFields.remove(field);
-        fieldsAsWords.remove(field);
+    private Map<Field, String> getLatexFreeFieldsCache() {
+        Map<Field, String> cache = latexFreeFields;
+        if (cache == null) {
+            synchronized (this) {
+                if (latexFreeFields == null) {
+                    latexFreeFields = new ConcurrentHashMap<>();
+                }
+                cache = latexFreeFields;
+            }
+        }
+        return cache;
+    }
 
-        if (field instanceof StandardField standardField) {
+    private Map<Field, Set<String>> getFieldsAsWordsCache() {
+        Map<Field, Set<String>> cache = fieldsAsWords;
+        if (cache == null) {
+            synchronized (this) {
+                if (fieldsAsWords == null) {
+                    fieldsAsWords = new ConcurrentHashMap<>();
+                }
+                cache = fieldsAsWords;
+            }
+        }
+        return cache;
+    }
+
+    private MultiKeyMap<StandardField, Character, KeywordList> getFieldsAsKeywordsCache() {
+        MultiKeyMap<StandardField, Character, KeywordList> cache = fieldsAsKeywords;
+        if (cache == null) {
+            synchronized (this) {
+                if (fieldsAsKeywords == null) {
+                    fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
+                }
+                cache = fieldsAsKeywords;
+            }
+        }
+        return cache;
+    }
+
+    /// Removes the cached values of the given field. Runs under the lock of the entry, thus it either sees a cache
+    /// created concurrently or the cache is created afterwards.
+    private synchronized void invalidateFieldCache(Field field) {
+        if (latexFreeFields != null) {
+            latexFreeFields.remove(field);
+        }
+        if (fieldsAsWords != null) {
+            fieldsAsWords.remove(field);
+        }
+        if ((fieldsAsKeywords != null) && (field instanceof StandardField standardField)) {
             fieldsAsKeywords.remove(standardField);
         }
     }
 
+    private void postEvent(Object event) {
+        EventBus bus = eventBus;
+        if (bus != null) {
+            bus.post(event);
+        }
+    }
+
     // region files
     public Optional<FieldChange> setFiles(List<LinkedFile> files) {
         Optional<String> oldValue = this.getField(StandardField.FILE);
@@ -1163,9 +1266,9 @@ public class BibEntry {
 
     public OptionalBinding<String> getFieldBinding(Field field) {
         if ((field == InternalField.TYPE_HEADER) || (field == InternalField.OBSOLETE_TYPE_HEADER)) {
-            return EasyBind.wrapNullable(type).mapOpt(EntryType::getDisplayName);
+            return EasyBind.wrapNullable(typeProperty()).mapOpt(EntryType::getDisplayName);
         }
-        return EasyBind.valueAt(fields, field);
+        return EasyBind.valueAt(getFieldsObservable(), field);
     }
 
     public OptionalBinding<String> getCiteKeyBinding() {
@@ -1173,14 +1276,23 @@ public class BibEntry {
     }
 
     public ObservableMap<Field, String> getFieldsObservable() {
-        return fields;
+        if (fields instanceof ObservableMap<Field, String> observableFields) {
+            return observableFields;
+        }
+        synchronized (this) {
+            // compact storage, see setCompactStorage
+            if (!(fields instanceof ObservableMap)) {
+                fields = FXCollections.observableMap(new ConcurrentHashMap<>(fields));
+            }
+            return (ObservableMap<Field, String>) fields;
+        }
     }
 
     /**
      * Returns a list of observables that represent the data of the entry.
      */
     public Observable[] getObservables() {
-        return new Observable[] {fields, type};
+        return new Observable[] {getFieldsObservable(), typeProperty()};
     }
 
     /**
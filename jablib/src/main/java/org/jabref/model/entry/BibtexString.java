@@ -1,7 +1,9 @@
 package org.jabref.model.entry;
 
+import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * This class models a BibTex String ("@String")
@@ -79,6 +81,9 @@ public class BibtexString implements Cloneable {
     private String parsedSerialization;
     private boolean hasChanged;
 
+    // Notified about modifications of the id, name, or content, e.g., by the database containing the string
+    private final List<Runnable> changeListeners = new CopyOnWriteArrayList<>();
+
     /**
      * Default constructor. Use this if in doubt.
      * <p>
@@ -111,6 +116,7 @@ public class BibtexString implements Cloneable {
     public void setId(String id) {
         this.id = id;
         hasChanged = true;
+        notifyChangeListeners();
     }
 
     /**
@@ -124,6 +130,7 @@ public class BibtexString implements Cloneable {
         this.name = name;
         hasChanged = true;
         type = Type.get(name);
+        notifyChangeListeners();
     }
 
     /*
@@ -136,6 +143,22 @@ public class BibtexString implements Cloneable {
     public void setContent(String content) {
         this.content = content;
         hasChanged = true;
+        notifyChangeListeners();
+    }
+
+    /**
+     * Registers a listener which is run after the id, the name, or the content of this string is modified.
+     */
+    public void registerChangeListener(Runnable listener) {
+        changeListeners.add(listener);
+    }
+
+    public void unregisterChangeListener(Runnable listener) {
+        changeListeners.remove(listener);
+    }
+
+    private void notifyChangeListeners() {
+        changeListeners.forEach(Runnable::run);
     }
 
     public Type getType() {
@@ -0,0 +1,157 @@
+package org.jabref.model.entry;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.jabref.model.entry.field.Field;
+
+/// Map of the fields of an entry to their values, backed by a single array holding fields and values alternately.
+///
+/// An entry has a few dozen fields at most. Thus, a linear search is about as fast as hashing, while the array needs only
+/// a fraction of the memory of a hash map and its nodes.
+///
+/// Each change replaces the array, so that reading needs no lock and iterating works on the state at the start of the iteration.
+/// Like {@link java.util.concurrent.ConcurrentHashMap}, neither null fields nor null values are allowed.
+///
+/// @see BibEntry#setCompactStorage(boolean)
+final class CompactFieldMap extends AbstractMap<Field, String> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private volatile Object[] fieldsAndValues = EMPTY;
+
+    CompactFieldMap() {
+    }
+
+    CompactFieldMap(Map<Field, String> fields) {
+        Object[] content = new Object[fields.size() * 2];
+        int i = 0;
+        for (Map.Entry<Field, String> field : fields.entrySet()) {
+            content[i++] = Objects.requireNonNull(field.getKey());
+            content[i++] = Objects.requireNonNull(field.getValue());
+        }
+        fieldsAndValues = content;
+    }
+
+    private static int indexOf(Object[] content, Object field) {
+        for (int i = 0; i < content.length; i += 2) {
+            if ((content[i] == field) || content[i].equals(field)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return fieldsAndValues.length / 2;
+    }
+
+    @Override
+    public boolean containsKey(Object field) {
+        return (field != null) && (indexOf(fieldsAndValues, field) >= 0);
+    }
+
+    @Override
+    public String get(Object field) {
+        if (field == null) {
+            return null;
+        }
+        Object[] content = fieldsAndValues;
+        int index = indexOf(content, field);
+        return index < 0 ? null : (String) content[index + 1];
+    }
+
+    @Override
+    public synchronized String put(Field field, String value) {
+        Objects.requireNonNull(field);
+        Objects.requireNonNull(value);
+        Object[] content = fieldsAndValues;
+        int index = indexOf(content, field);
+        Object[] newContent;
+        String oldValue = null;
+        if (index < 0) {
+            newContent = new Object[content.length + 2];
+            System.arraycopy(content, 0, newContent, 0, content.length);
+            newContent[content.length] = field;
+            newContent[content.length + 1] = value;
+        } else {
+            oldValue = (String) content[index + 1];
+            newContent = content.clone();
+            newContent[index + 1] = value;
+        }
+        fieldsAndValues = newContent;
+        return oldValue;
+    }
+
+    @Override
+    public synchronized String remove(Object field) {
+        if (field == null) {
+            return null;
+        }
+        Object[] content = fieldsAndValues;
+        int index = indexOf(content, field);
+        if (index < 0) {
+            return null;
+        }
+        Object[] newContent = new Object[content.length - 2];
+        System.arraycopy(content, 0, newContent, 0, index);
+        System.arraycopy(content, index + 2, newContent, index, content.length - index - 2);
+        fieldsAndValues = newContent;
+        return (String) content[index + 1];
+    }
+
+    @Override
+    public synchronized void clear() {
+        fieldsAndValues = EMPTY;
+    }
+
+    @Override
+    public Set<Map.Entry<Field, String>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<Field, String>> iterator() {
+                Object[] content = fieldsAndValues;
+                return new Iterator<>() {
+                    private int next = 0;
+                    private Field current;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < content.length;
+                    }
+
+                    @Override
+                    public Map.Entry<Field, String> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        current = (Field) content[next];
+                        Map.Entry<Field, String> entry = new AbstractMap.SimpleImmutableEntry<>(current, (String) content[next + 1]);
+                        next += 2;
+                        return entry;
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (current == null) {
+                            throw new IllegalStateException();
+                        }
+                        CompactFieldMap.this.remove(current);
+                        current = null;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return CompactFieldMap.this.size();
+            }
+        };
+    }
+}
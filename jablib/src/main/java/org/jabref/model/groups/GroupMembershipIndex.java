@@ -0,0 +1,401 @@
+package org.jabref.model.groups;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntryChangedEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.groups.event.GroupMembershipChangedEvent;
+import org.jabref.model.search.SearchMatcher;
+
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Index of the entries matched by each group of a database, kept as one {@link BitSet} per group over dense entry ordinals.
+ * <p>
+ * The matches of a group are computed on first request. Afterwards, the index keeps them up to date: added entries are
+ * checked against all known groups, while a changed field is only checked against the groups depending on that field.
+ * Counts, the hierarchy of {@link GroupTreeNode#getSearchMatcher()}, and the combination of several selected groups are
+ * then operations on bit sets.
+ * <p>
+ * The matches of {@link TexGroup}s also change without a change of the entries. These groups have to be refreshed
+ * using {@link #invalidate(AbstractGroup)}. {@link SearchGroup}s receive their matches asynchronously from the search
+ * index. Thus, they are not cached, but asked directly, which is a lookup in their set of matched entries.
+ * <p>
+ * Groups are only weakly referenced, so that the matches of removed groups do not stay in memory. Listeners registered
+ * using {@link #registerListener(Object)} are informed by a {@link GroupMembershipChangedEvent} after the index changed.
+ */
+public class GroupMembershipIndex {
+
+    private final EventBus eventBus = new EventBus();
+
+    private final Map<String, Integer> ordinalsById = new HashMap<>();
+    // Indexed by ordinal, null for free ordinals
+    private final List<BibEntry> entriesByOrdinal = new ArrayList<>();
+    private final BitSet usedOrdinals = new BitSet();
+
+    // The groups are looked up by identity, because their equality depends on mutable properties like the name
+    private final Map<Integer, List<GroupMatches>> groupMatchesByIdentity = new HashMap<>();
+    private final ReferenceQueue<AbstractGroup> collectedGroups = new ReferenceQueue<>();
+
+    // Incremented on each change, used to cache combined matches
+    private long modificationCount;
+
+    private static final class GroupMatches extends WeakReference<AbstractGroup> {
+        private final int identity;
+        // Empty if any field may change the matches
+        private final Optional<Set<Field>> fields;
+        private final BitSet matches;
+
+        private GroupMatches(AbstractGroup group, ReferenceQueue<AbstractGroup> queue, BitSet matches) {
+            super(group, queue);
+            this.identity = System.identityHashCode(group);
+            this.fields = getRelevantFields(group);
+            this.matches = matches;
+        }
+
+        private boolean dependsOn(Field field) {
+            return fields.map(relevantFields -> relevantFields.contains(field)).orElse(true);
+        }
+    }
+
+    public GroupMembershipIndex(BibDatabase database) {
+        synchronized (this) {
+            database.getEntries().forEach(this::addOrdinal);
+        }
+        database.registerListener(new DatabaseListener());
+    }
+
+    private static Optional<Set<Field>> getRelevantFields(AbstractGroup group) {
+        return switch (group) {
+            case KeywordGroup keywordGroup ->
+                    Optional.of(Set.of(keywordGroup.getSearchField()));
+            case TexGroup _ ->
+                    Optional.of(Set.of(InternalField.KEY_FIELD));
+            case AllEntriesGroup _,
+                 AutomaticGroup _ ->
+                    Optional.of(Set.of());
+            default ->
+                    Optional.empty();
+        };
+    }
+
+    public void registerListener(Object listener) {
+        eventBus.register(listener);
+    }
+
+    public void unregisterListener(Object listener) {
+        eventBus.unregister(listener);
+    }
+
+    /**
+     * @return true if the entry is part of the indexed database
+     */
+    public synchronized boolean contains(BibEntry entry) {
+        return getOrdinal(entry).isPresent();
+    }
+
+    /**
+     * Returns the entries matched by the node, taking the hierarchy into account like {@link GroupTreeNode#matches(BibEntry)}
+     */
+    public synchronized List<BibEntry> getMatchedEntries(GroupTreeNode node) {
+        return toEntries(getHierarchicalMatches(node, node.getGroup().getHierarchicalContext()));
+    }
+
+    public synchronized int getMatchCount(GroupTreeNode node) {
+        return getHierarchicalMatches(node, node.getGroup().getHierarchicalContext()).cardinality();
+    }
+
+    /**
+     * Returns whether the node matches the entry, taking the hierarchy into account like {@link GroupTreeNode#matches(BibEntry)}.
+     * Entries which are not (yet) part of the database are checked directly.
+     */
+    public synchronized boolean matches(GroupTreeNode node, BibEntry entry) {
+        return getOrdinal(entry).map(ordinal -> matches(node, ordinal, node.getGroup().getHierarchicalContext()))
+                                .orElseGet(() -> node.matches(entry));
+    }
+
+    /**
+     * Creates a matcher for the entries matched by all (intersection) or any (union) of the given nodes.
+     * The matches are combined once per change of the index, so that checking an entry is a lookup of a bit.
+     * This is not possible for hierarchies including uncached groups, where the matcher checks the nodes one by one.
+     */
+    public SearchMatcher createMatcher(List<GroupTreeNode> nodes, boolean intersection) {
+        List<GroupTreeNode> selectedNodes = List.copyOf(nodes);
+        if (!selectedNodes.stream().allMatch(GroupMembershipIndex::isCached)) {
+            // Combining would compute the matches of the uncached groups for each change, so check each entry instead
+            return entry -> intersection
+                            ? selectedNodes.stream().allMatch(node -> matches(node, entry))
+                            : selectedNodes.stream().anyMatch(node -> matches(node, entry));
+        }
+        return new SearchMatcher() {
+            private long combinedModificationCount = -1;
+            private BitSet combined;
+
+            @Override
+            public boolean isMatch(BibEntry entry) {
+                synchronized (GroupMembershipIndex.this) {
+                    Optional<Integer> ordinal = getOrdinal(entry);
+                    if (ordinal.isEmpty()) {
+                        // Not yet known, e.g., if the entry is filtered before the index is informed about its addition
+                        return intersection
+                               ? selectedNodes.stream().allMatch(node -> node.matches(entry))
+                               : selectedNodes.stream().anyMatch(node -> node.matches(entry));
+                    }
+                    if (combinedModificationCount != modificationCount) {
+                        combined = combine(selectedNodes, intersection);
+                        combinedModificationCount = modificationCount;
+                    }
+                    return combined.get(ordinal.get());
+                }
+            }
+        };
+    }
+
+    private Optional<Integer> getOrdinal(BibEntry entry) {
+        Integer ordinal = ordinalsById.get(entry.getId());
+        if ((ordinal == null) || (entriesByOrdinal.get(ordinal) != entry)) {
+            return Optional.empty();
+        }
+        return Optional.of(ordinal);
+    }
+
+    private BitSet combine(List<GroupTreeNode> nodes, boolean intersection) {
+        BitSet result = null;
+        for (GroupTreeNode node : nodes) {
+            BitSet nodeMatches = getHierarchicalMatches(node, node.getGroup().getHierarchicalContext());
+            if (result == null) {
+                result = nodeMatches;
+            } else if (intersection) {
+                result.and(nodeMatches);
+            } else {
+                result.or(nodeMatches);
+            }
+        }
+        return result == null ? new BitSet() : result;
+    }
+
+    /**
+     * Discards the matches of the group, so that they are computed again on the next request
+     */
+    public synchronized void invalidate(AbstractGroup group) {
+        expungeCollectedGroups();
+        List<GroupMatches> candidates = groupMatchesByIdentity.get(System.identityHashCode(group));
+        if (candidates != null) {
+            candidates.removeIf(groupMatches -> groupMatches.get() == group);
+        }
+        modificationCount++;
+    }
+
+    private boolean matches(GroupTreeNode node, int ordinal, GroupHierarchyType originalContext) {
+        // Mirrors GroupTreeNode#getSearchMatcher(GroupHierarchyType)
+        AbstractGroup group = node.getGroup();
+        GroupHierarchyType context = group.getHierarchicalContext();
+        boolean ownMatch = isCached(group) ? getGroupMatches(group).get(ordinal) : group.isMatch(entriesByOrdinal.get(ordinal));
+        if (context == GroupHierarchyType.INDEPENDENT) {
+            return ownMatch;
+        }
+        if ((context == GroupHierarchyType.INCLUDING) && (originalContext != GroupHierarchyType.REFINING)) {
+            if (ownMatch) {
+                return true;
+            }
+            for (GroupTreeNode child : node.getChildren()) {
+                if (matches(child, ordinal, originalContext)) {
+                    return true;
+                }
+            }
+            return false;
+        } else if ((context == GroupHierarchyType.REFINING) && !node.isRoot() && (originalContext != GroupHierarchyType.INCLUDING)) {
+            return ownMatch && matches(node.getParent().get(), ordinal, originalContext);
+        }
+        return ownMatch;
+    }
+
+    /**
+     * @return a new bit set, which may be modified by the caller
+     */
+    private BitSet getHierarchicalMatches(GroupTreeNode node, GroupHierarchyType originalContext) {
+        // Mirrors GroupTreeNode#getSearchMatcher(GroupHierarchyType)
+        GroupHierarchyType context = node.getGroup().getHierarchicalContext();
+        BitSet result = (BitSet) getGroupMatches(node.getGroup()).clone();
+        if ((context == GroupHierarchyType.INCLUDING) && (originalContext != GroupHierarchyType.REFINING)) {
+            for (GroupTreeNode child : node.getChildren()) {
+                result.or(getHierarchicalMatches(child, originalContext));
+            }
+        } else if ((context == GroupHierarchyType.REFINING) && !node.isRoot() && (originalContext != GroupHierarchyType.INCLUDING)) {
+            result.and(getHierarchicalMatches(node.getParent().get(), originalContext));
+        }
+        return result;
+    }
+
+    private static boolean isCached(AbstractGroup group) {
+        return !(group instanceof SearchGroup);
+    }
+
+    /**
+     * @return true if the matches of the node only depend on cached groups, regardless of the hierarchy
+     */
+    private static boolean isCached(GroupTreeNode node) {
+        return node.getPathFromRoot().stream().allMatch(ancestor -> isCached(ancestor.getGroup()))
+                && node.iterateOverTree().allMatch(descendant -> isCached(descendant.getGroup()));
+    }
+
+    private BitSet getGroupMatches(AbstractGroup group) {
+        if (!isCached(group)) {
+            return computeMatches(group);
+        }
+        expungeCollectedGroups();
+        List<GroupMatches> candidates = groupMatchesByIdentity.computeIfAbsent(System.identityHashCode(group), _ -> new ArrayList<>(1));
+        for (GroupMatches groupMatches : candidates) {
+            if (groupMatches.get() == group) {
+                return groupMatches.matches;
+            }
+        }
+
+        BitSet matches = computeMatches(group);
+        candidates.add(new GroupMatches(group, collectedGroups, matches));
+        return matches;
+    }
+
+    private BitSet computeMatches(AbstractGroup group) {
+        BitSet matches = new BitSet(entriesByOrdinal.size());
+        for (int ordinal = usedOrdinals.nextSetBit(0); ordinal >= 0; ordinal = usedOrdinals.nextSetBit(ordinal + 1)) {
+            if (group.isMatch(entriesByOrdinal.get(ordinal))) {
+                matches.set(ordinal);
+            }
+        }
+        return matches;
+    }
+
+    private void expungeCollectedGroups() {
+        for (Reference<? extends AbstractGroup> collected = collectedGroups.poll(); collected != null; collected = collectedGroups.poll()) {
+            GroupMatches groupMatches = (GroupMatches) collected;
+            List<GroupMatches> candidates = groupMatchesByIdentity.get(groupMatches.identity);
+            if (candidates != null) {
+                candidates.remove(groupMatches);
+                if (candidates.isEmpty()) {
+                    groupMatchesByIdentity.remove(groupMatches.identity);
+                }
+            }
+        }
+    }
+
+    private List<GroupMatches> getKnownGroups() {
+        expungeCollectedGroups();
+        return groupMatchesByIdentity.values().stream().flatMap(List::stream).toList();
+    }
+
+    private List<BibEntry> toEntries(BitSet matches) {
+        List<BibEntry> result = new ArrayList<>(matches.cardinality());
+        for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+            result.add(entriesByOrdinal.get(ordinal));
+        }
+        return result;
+    }
+
+    private int addOrdinal(BibEntry entry) {
+        int ordinal = usedOrdinals.nextClearBit(0);
+        usedOrdinals.set(ordinal);
+        if (ordinal == entriesByOrdinal.size()) {
+            entriesByOrdinal.add(entry);
+        } else {
+            entriesByOrdinal.set(ordinal, entry);
+        }
+        ordinalsById.put(entry.getId(), ordinal);
+        return ordinal;
+    }
+
+    /**
+     * @return true if the bit changed
+     */
+    private boolean updateBit(BitSet bits, int ordinal, boolean value) {
+        if (bits.get(ordinal) == value) {
+            return false;
+        }
+        bits.set(ordinal, value);
+        modificationCount++;
+        return true;
+    }
+
+    private void postChange(List<BibEntry> changedEntries) {
+        if (!changedEntries.isEmpty()) {
+            eventBus.post(new GroupMembershipChangedEvent(changedEntries));
+        }
+    }
+
+    private class DatabaseListener {
+        @Subscribe
+        public void listen(EntriesAddedEvent event) {
+            synchronized (GroupMembershipIndex.this) {
+                List<GroupMatches> knownGroups = getKnownGroups();
+                for (BibEntry entry : event.getBibEntries()) {
+                    int ordinal = addOrdinal(entry);
+                    for (GroupMatches groupMatches : knownGroups) {
+                        AbstractGroup group = groupMatches.get();
+                        groupMatches.matches.set(ordinal, (group != null) && group.isMatch(entry));
+                    }
+                }
+                modificationCount++;
+            }
+            postChange(event.getBibEntries());
+        }
+
+        @Subscribe
+        public void listen(EntriesRemovedEvent event) {
+            synchronized (GroupMembershipIndex.this) {
+                List<GroupMatches> knownGroups = getKnownGroups();
+                for (BibEntry entry : event.getBibEntries()) {
+                    Integer ordinal = ordinalsById.remove(entry.getId());
+                    if (ordinal == null) {
+                        continue;
+                    }
+                    usedOrdinals.clear(ordinal);
+                    entriesByOrdinal.set(ordinal, null);
+                    for (GroupMatches groupMatches : knownGroups) {
+                        groupMatches.matches.clear(ordinal);
+                    }
+                }
+                modificationCount++;
+            }
+            postChange(event.getBibEntries());
+        }
+
+        @Subscribe
+        public void listen(EntryChangedEvent event) {
+            BibEntry entry = event.getBibEntry();
+            boolean changed = false;
+            synchronized (GroupMembershipIndex.this) {
+                Optional<Integer> ordinal = getOrdinal(entry);
+                if (ordinal.isEmpty()) {
+                    return;
+                }
+                for (GroupMatches groupMatches : getKnownGroups()) {
+                    AbstractGroup group = groupMatches.get();
+                    // Other changes than field changes might affect any group
+                    boolean affected = !(event instanceof FieldChangedEvent fieldChangedEvent) || groupMatches.dependsOn(fieldChangedEvent.getField());
+                    if ((group != null) && affected) {
+                        changed |= updateBit(groupMatches.matches, ordinal.get(), group.isMatch(entry));
+                    }
+                }
+            }
+            if (changed) {
+                postChange(List.of(entry));
+            }
+        }
+    }
+}
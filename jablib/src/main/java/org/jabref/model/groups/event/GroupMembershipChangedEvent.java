@@ -0,0 +1,25 @@
+package org.jabref.model.groups.event;
+
+import java.util.List;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.groups.GroupMembershipIndex;
+
+/**
+ * Posted by a {@link GroupMembershipIndex} when entries were added, removed, or changed their membership in at least one group.
+ */
+public class GroupMembershipChangedEvent {
+
+    private final List<BibEntry> entries;
+
+    /**
+     * @param entries the entries whose membership might have changed
+     */
+    public GroupMembershipChangedEvent(List<BibEntry> entries) {
+        this.entries = entries;
+    }
+
+    public List<BibEntry> getEntries() {
+        return entries;
+    }
+}
@@ -0,0 +1,9 @@
+package org.jabref.model.search;
+
+/// Storage used for searching the bib fields of a library
+public enum SearchBackend {
+    /// Fields are mirrored into tables of an embedded Postgres server
+    POSTGRES,
+    /// Fields are kept in an in-process index. No external process is started.
+    IN_MEMORY
+}
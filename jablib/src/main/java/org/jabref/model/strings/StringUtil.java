@@ -410,9 +410,38 @@ public class StringUtil {
      * @return a String with only OS.NEWLINE as line breaks
      */
     public static String unifyLineBreaks(String s, String newline) {
+        // Most strings (e.g., the parsed serialization of unchanged entries) already use the requested line breaks
+        if (hasOnlyLineBreaks(s, newline)) {
+            return s;
+        }
         return LINE_BREAKS.matcher(s).replaceAll(newline);
     }
 
+    /**
+     * Checks whether all line breaks of the given string are equal to the given newline, i.e., whether {@link #unifyLineBreaks(String, String)} would not change the string.
+     */
+    private static boolean hasOnlyLineBreaks(String s, String newline) {
+        int i = 0;
+        while (i < s.length()) {
+            char character = s.charAt(i);
+            if (character == '\r') {
+                boolean isWindowsLineBreak = (i + 1 < s.length()) && (s.charAt(i + 1) == '\n');
+                if (isWindowsLineBreak ? !"\r\n".equals(newline) : !"\r".equals(newline)) {
+                    return false;
+                }
+                i += isWindowsLineBreak ? 2 : 1;
+            } else if (character == '\n') {
+                if (!"\n".equals(newline)) {
+                    return false;
+                }
+                i++;
+            } else {
+                i++;
+            }
+        }
+        return true;
+    }
+
     /**
      * Checks if the given String has exactly one pair of surrounding curly braces <br>
      * Strings with escaped characters in curly braces at the beginning and end are respected, too
@@ -0,0 +1,71 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmbeddingIndexTest {
+
+    private static final int DIMENSION = 16;
+
+    private final Random random = new Random(0);
+    private EmbeddingIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        index = new EmbeddingIndex(new EmbeddingVectorSegment(null), 100);
+    }
+
+    private float[] randomVector() {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+
+    @Test
+    void partitionedSearchFindsBestMatch() {
+        for (int i = 0; i < 2000; i++) {
+            index.add("id" + i, "file" + (i % 10), randomVector());
+        }
+        float[] query = randomVector();
+        index.add("query", "file0", query);
+
+        assertTrue(index.needsTraining());
+        index.train();
+        assertFalse(index.needsTraining());
+
+        assertEquals("query", index.search(query, null, 1, -1).getFirst().id());
+    }
+
+    @Test
+    void partitionedSearchRespectsFilter() {
+        for (int i = 0; i < 2000; i++) {
+            index.add("id" + i, "file" + (i % 10), randomVector());
+        }
+        index.train();
+
+        List<EmbeddingIndex.Match> matches = index.search(randomVector(), List.of("file3", "file4"), 20, -1);
+
+        assertEquals(20, matches.size());
+        assertTrue(matches.stream().allMatch(match -> (Integer.parseInt(match.id().substring(2)) % 10 == 3)
+                || (Integer.parseInt(match.id().substring(2)) % 10 == 4)));
+    }
+
+    @Test
+    void removedSlotIsReused() {
+        int slot = index.add("first", "a.pdf", randomVector());
+        index.remove(slot);
+
+        assertEquals(slot, index.add("second", "b.pdf", randomVector()));
+        assertEquals(1, index.size());
+    }
+}
@@ -0,0 +1,53 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+
+import org.jabref.logic.ai.AiPreferences;
+
+import dev.langchain4j.data.document.DefaultDocument;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LowLevelIngestorTest {
+
+    private final List<Integer> batchSizes = new ArrayList<>();
+
+    private final EmbeddingModel embeddingModel = new EmbeddingModel() {
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            batchSizes.add(textSegments.size());
+            return Response.from(textSegments.stream().map(_ -> Embedding.from(new float[] {1, 0})).toList());
+        }
+    };
+
+    @Test
+    void segmentsAreEmbeddedInBatches() throws InterruptedException {
+        AiPreferences aiPreferences = mock(AiPreferences.class);
+        when(aiPreferences.customizeExpertSettingsProperty()).thenReturn(new SimpleBooleanProperty());
+        when(aiPreferences.getDocumentSplitterChunkSize()).thenReturn(10);
+        when(aiPreferences.getDocumentSplitterOverlapSize()).thenReturn(0);
+        InMemoryEmbeddingStore<TextSegment> embeddingStore = new InMemoryEmbeddingStore<>();
+
+        LowLevelIngestor ingestor = new LowLevelIngestor(aiPreferences, embeddingStore, embeddingModel, 4);
+        SimpleIntegerProperty workDone = new SimpleIntegerProperty();
+        ingestor.ingestDocument(new DefaultDocument("word ".repeat(50)), new SimpleBooleanProperty(false), workDone, new SimpleIntegerProperty());
+
+        int segments = batchSizes.stream().mapToInt(Integer::intValue).sum();
+        assertEquals(segments, workDone.get());
+        assertEquals(segments, ingestor.getEmbeddedSegments());
+        assertEquals(4, batchSizes.getFirst());
+        assertEquals((segments + 3) / 4, batchSizes.size());
+    }
+}
@@ -0,0 +1,100 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.jabref.logic.util.NotificationService;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.filter.Filter;
+import dev.langchain4j.store.embedding.filter.MetadataFilterBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_KEY;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class MVStoreEmbeddingStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path storePath;
+    private MVStoreEmbeddingStore store;
+
+    @BeforeEach
+    void setUp() {
+        storePath = tempDir.resolve("embeddings.mv");
+        store = new MVStoreEmbeddingStore(storePath, mock(NotificationService.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    private void add(String file, String content, float... vector) {
+        store.add(Embedding.from(vector), TextSegment.from(content, Metadata.from(LINK_METADATA_KEY, file)));
+    }
+
+    private List<String> search(Filter filter, float... query) {
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                                                               .queryEmbedding(Embedding.from(query))
+                                                               .filter(filter)
+                                                               .maxResults(2)
+                                                               .build();
+        return store.search(request).matches().stream().map(match -> match.embedded().text()).toList();
+    }
+
+    @Test
+    void searchReturnsMostSimilarSegmentsFirst() {
+        add("a.pdf", "x", 1, 0, 0);
+        add("a.pdf", "y", 0, 1, 0);
+        add("b.pdf", "xy", 1, 1, 0);
+
+        assertEquals(List.of("x", "xy"), search(null, 1, 0.1f, 0));
+    }
+
+    @Test
+    void searchOnlyReturnsSegmentsOfFilteredFiles() {
+        add("a.pdf", "x", 1, 0, 0);
+        add("b.pdf", "y", 0, 1, 0);
+        add("c.pdf", "z", 0, 0, 1);
+
+        assertEquals(List.of("y", "z"), search(MetadataFilterBuilder.metadataKey(LINK_METADATA_KEY).isIn("b.pdf", "c.pdf"), 1, 1, 0.5f));
+    }
+
+    @Test
+    void removeAllWithFilterRemovesSegmentsOfFile() {
+        add("a.pdf", "x", 1, 0, 0);
+        add("b.pdf", "y", 0, 1, 0);
+
+        store.removeAll(MetadataFilterBuilder.metadataKey(LINK_METADATA_KEY).isEqualTo("a.pdf"));
+
+        assertEquals(List.of("y"), search(null, 1, 0, 0));
+    }
+
+    @Test
+    void embeddingsAreKeptAfterReopening() {
+        add("a.pdf", "x", 1, 2, 3);
+        store.close();
+
+        store = new MVStoreEmbeddingStore(storePath, mock(NotificationService.class));
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                                                               .queryEmbedding(Embedding.from(new float[] {1, 2, 3}))
+                                                               .build();
+        List<EmbeddingMatch<TextSegment>> matches = store.search(request).matches();
+
+        assertEquals(1, matches.size());
+        assertEquals("a.pdf", matches.getFirst().embedded().metadata().getString(LINK_METADATA_KEY));
+        assertArrayEquals(new float[] {1, 2, 3}, matches.getFirst().embedding().vector(), 1e-5f);
+    }
+}
@@ -8,6 +8,7 @@ import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
 
 import org.junit.jupiter.api.Test;
 
@@ -134,6 +135,35 @@ class BibDatabaseDiffTest {
         assertEquals(entryTwo, diff.getEntryDifferences().getFirst().newEntry(), "there is another value as newEntry");
     }
 
+    @Test
+    void compareOfModifiedEntryAmongUnchangedEntriesReportsOnlyModifiedEntry() {
+        BibEntry unchangedOne = new BibEntry(StandardEntryType.Article)
+                .withCitationKey("one")
+                .withField(StandardField.TITLE, "first")
+                .withField(StandardField.YEAR, "2001");
+        BibEntry unchangedTwo = new BibEntry(StandardEntryType.Article)
+                .withCitationKey("two")
+                .withField(StandardField.TITLE, "second")
+                .withField(StandardField.YEAR, "2001");
+        BibEntry original = new BibEntry(StandardEntryType.Article)
+                .withCitationKey("three")
+                .withField(StandardField.TITLE, "third")
+                .withField(StandardField.AUTHOR, "author")
+                .withField(StandardField.YEAR, "2001");
+        BibEntry modified = new BibEntry(StandardEntryType.Article)
+                .withCitationKey("three")
+                .withField(StandardField.TITLE, "third, revised")
+                .withField(StandardField.AUTHOR, "author")
+                .withField(StandardField.YEAR, "2002");
+        BibDatabaseContext databaseOne = new BibDatabaseContext(new BibDatabase(List.of(unchangedOne, original, unchangedTwo)));
+        BibDatabaseContext databaseTwo = new BibDatabaseContext(new BibDatabase(List.of(
+                new BibEntry(unchangedTwo), modified, new BibEntry(unchangedOne))));
+
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(databaseOne, databaseTwo);
+
+        assertEquals(List.of(new BibEntryDiff(original, modified)), diff.getEntryDifferences());
+    }
+
     private BibDatabaseDiff compareEntries(BibEntry entryOne, BibEntry entryTwo) {
         BibDatabaseContext databaseOne = new BibDatabaseContext(new BibDatabase(List.of(entryOne)));
         BibDatabaseContext databaseTwo = new BibDatabaseContext(new BibDatabase(List.of(entryTwo)));
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import org.jabref.logic.util.TestEntry;
 import org.jabref.model.entry.BibEntry;
@@ -233,4 +234,68 @@ public class BstVMTest {
 
         assertEquals("colorful morning", vm.latestContext.stack().pop());
     }
+
+    @Test
+    void iterateOverManyEntriesWithTemporaryGlobalVariable() {
+        BstVM vm = new BstVM("""
+                ENTRY { title } { } { label }
+                STRINGS { s }
+                FUNCTION { make.label } {
+                    title 's :=
+                    s "!" * 'label :=
+                }
+                READ
+                ITERATE { make.label }
+                EXECUTE { s }
+                """);
+
+        vm.render(manyEntries());
+
+        assertEquals("Title 999", vm.latestContext.stack().pop());
+        assertTrue(vm.latestContext.entries().stream()
+                                  .allMatch(entry -> entry.localStrings.get("label").equals(entry.fields.get("title") + "!")));
+    }
+
+    @Test
+    void iterateOverManyEntriesWithGlobalCounter() {
+        BstVM vm = new BstVM("""
+                ENTRY { title } { number } { }
+                INTEGERS { count }
+                FUNCTION { count.entry } {
+                    count #1 + 'count :=
+                    count 'number :=
+                }
+                READ
+                ITERATE { count.entry }
+                EXECUTE { count }
+                """);
+
+        vm.render(manyEntries());
+
+        assertEquals(1000, vm.latestContext.stack().pop());
+        assertEquals(IntStream.rangeClosed(1, 1000).boxed().toList(),
+                vm.latestContext.entries().stream().map(entry -> entry.localIntegers.get("number")).toList());
+    }
+
+    @Test
+    void iterateOverManyEntriesKeepsStackOrder() {
+        BstVM vm = new BstVM("""
+                ENTRY { title } { } { }
+                FUNCTION { push.title } { title }
+                READ
+                ITERATE { push.title }
+                """);
+
+        vm.render(manyEntries());
+
+        assertEquals(1000, vm.latestContext.stack().size());
+        assertEquals("Title 999", vm.latestContext.stack().pop());
+        assertEquals("Title 998", vm.latestContext.stack().pop());
+    }
+
+    private static List<BibEntry> manyEntries() {
+        return IntStream.range(0, 1000)
+                        .mapToObj(i -> new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Title " + i))
+                        .toList();
+    }
 }
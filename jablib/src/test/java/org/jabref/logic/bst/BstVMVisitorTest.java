@@ -8,7 +8,6 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.types.StandardEntryType;
 
 import org.antlr.v4.runtime.RecognitionException;
-import org.antlr.v4.runtime.tree.ParseTree;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -238,7 +237,7 @@ class BstVMVisitorTest {
         vm.render(List.of());
 
         assertEquals(3, vm.getStack().pop());
-        assertInstanceOf(ParseTree.class, vm.getStack().pop());
+        assertInstanceOf(BstProgram.Block.class, vm.getStack().pop());
         assertEquals(new BstVMVisitor.Identifier("t"), vm.getStack().pop());
         assertEquals(1, vm.getStack().pop());
         assertEquals("HELLO", vm.getStack().pop());
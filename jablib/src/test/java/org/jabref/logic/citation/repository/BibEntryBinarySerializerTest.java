@@ -0,0 +1,71 @@
+package org.jabref.logic.citation.repository;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.field.UnknownField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.entry.types.UnknownEntryType;
+
+import org.h2.mvstore.WriteBuffer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BibEntryBinarySerializerTest {
+
+    private final BibEntryBinarySerializer serializer = new BibEntryBinarySerializer();
+
+    private BibEntry roundTrip(BibEntry entry) {
+        WriteBuffer writeBuffer = new WriteBuffer();
+        serializer.write(writeBuffer, entry);
+        ByteBuffer buffer = writeBuffer.getBuffer();
+        buffer.flip();
+        return serializer.read(buffer);
+    }
+
+    @Test
+    void roundTripOfKnownFields() {
+        BibEntry entry = new BibEntry(StandardEntryType.Article)
+                .withCitationKey("Kaye2001")
+                .withField(StandardField.AUTHOR, "Phillip Kaye and Michele Mosca")
+                .withField(StandardField.TITLE, "Quantum Networks for Generating Arbitrary Quantum States")
+                .withField(StandardField.DOI, "10.1364/OFC.2001.PB28");
+
+        assertEquals(entry, roundTrip(entry));
+    }
+
+    @Test
+    void roundTripOfUnknownFieldAndType() {
+        BibEntry entry = new BibEntry(new UnknownEntryType("customtype"))
+                .withField(new UnknownField("custom"), "Ünïcödé value with {braces} and # hash");
+
+        assertEquals(entry, roundTrip(entry));
+    }
+
+    @Test
+    void readOfUnsupportedVersionFails() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[] {BibEntryBinarySerializer.VERSION + 1, 0, 0});
+
+        assertThrows(UnsupportedEntryVersionException.class, () -> serializer.read(buffer));
+    }
+
+    @Test
+    void roundTripOfSet() {
+        BibEntryHashSetSerializer setSerializer = new BibEntryHashSetSerializer(serializer);
+        LinkedHashSet<BibEntry> entries = new LinkedHashSet<>(List.of(
+                new BibEntry(StandardEntryType.Book).withField(StandardField.TITLE, "First"),
+                new BibEntry(StandardEntryType.Misc).withField(StandardField.TITLE, "Second")));
+
+        WriteBuffer writeBuffer = new WriteBuffer();
+        setSerializer.write(writeBuffer, entries);
+        ByteBuffer buffer = writeBuffer.getBuffer();
+        buffer.flip();
+
+        assertEquals(List.copyOf(entries), List.copyOf(setSerializer.read(buffer)));
+    }
+}
@@ -9,6 +9,7 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.random.RandomGenerator;
 import java.util.stream.IntStream;
@@ -24,8 +25,11 @@ import org.jabref.model.entry.identifier.DOI;
 import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.support.DisabledOnCIServer;
 
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -241,4 +245,27 @@ class MVStoreBibEntryRelationRepositoryTest {
         // THEN
         assertTrue(deserializedRelations.isEmpty());
     }
+
+    @Test
+    void relationsStoredAsTextAreMigrated() throws IOException {
+        // GIVEN
+        BibEntry entry = createBibEntry(1);
+        List<BibEntry> relations = createRelations(entry);
+        Path file = Files.createFile(temporaryFolder.resolve("migration_" + MV_STORE_NAME));
+        ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        FieldPreferences fieldPreferences = mock(FieldPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        BibEntryHashSetSerializer textSerializer = new BibEntryHashSetSerializer(new BibEntryTypesManager(), importFormatPreferences, fieldPreferences);
+        MVStore store = new MVStore.Builder().fileName(file.toAbsolutePath().toString()).open();
+        store.openMap(MAP_NAME, new MVMap.Builder<String, LinkedHashSet<BibEntry>>().valueType(textSerializer))
+             .put(entry.getDOI().orElseThrow().asString(), new LinkedHashSet<>(relations));
+        store.close();
+
+        // WHEN
+        MVStoreBibEntryRelationRepository daoUnderTest = new MVStoreBibEntryRelationRepository(file.toAbsolutePath(), MAP_NAME, 7, new BibEntryTypesManager(), importFormatPreferences, fieldPreferences);
+        List<BibEntry> migratedRelations = daoUnderTest.getRelations(entry);
+        daoUnderTest.close();
+
+        // THEN
+        assertEquals(relations.stream().distinct().toList(), migratedRelations);
+    }
 }
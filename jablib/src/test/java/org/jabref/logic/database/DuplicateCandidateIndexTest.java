@@ -0,0 +1,131 @@
+package org.jabref.logic.database;
+
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DuplicateCandidateIndexTest {
+
+    private BibEntry quantumNetworks;
+    private BibEntry quantumComputers;
+    private BibEntry effectiveJava;
+    private BibDatabase database;
+
+    @BeforeEach
+    void setUp() {
+        quantumNetworks = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Phillip Kaye and Michele Mosca")
+                .withField(StandardField.TITLE, "Quantum Networks for Generating Arbitrary Quantum States")
+                .withField(StandardField.YEAR, "2001");
+        quantumComputers = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Stephen Blaha")
+                .withField(StandardField.TITLE, "Quantum Computers and Quantum Computer Languages")
+                .withField(StandardField.YEAR, "2002");
+        effectiveJava = new BibEntry(StandardEntryType.Book)
+                .withField(StandardField.AUTHOR, "Joshua Bloch")
+                .withField(StandardField.TITLE, "Effective Java")
+                .withField(StandardField.DOI, "10.1000/182");
+        database = new BibDatabase(List.of(quantumNetworks, quantumComputers, effectiveJava));
+    }
+
+    @Test
+    void candidatesShareTitleBlock() {
+        BibEntry toCheck = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "Quantum networks for generating arbitrary quantum states");
+
+        assertEquals(List.of(quantumNetworks), new DuplicateCandidateIndex(database).getCandidates(toCheck));
+    }
+
+    @Test
+    void stopWordsDoNotFormBlocks() {
+        BibEntry toCheck = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "On the use of the quantum");
+
+        assertEquals(Set.of("title:article:use quantum"), DuplicateCandidateIndex.computeBlockKeys(toCheck));
+    }
+
+    @Test
+    void oversizedBlockIsSkipped() {
+        for (int i = 0; i < DuplicateCandidateIndex.MAXIMUM_BLOCK_SIZE; i++) {
+            database.insertEntry(new BibEntry(StandardEntryType.Article)
+                    .withField(StandardField.TITLE, "Quantum Computers " + i));
+        }
+        BibEntry toCheck = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "Quantum Computers and Quantum Computer Languages");
+
+        assertEquals(List.of(quantumComputers), new DuplicateCandidateIndex(database).getCandidates(toCheck));
+    }
+
+    @Test
+    void candidatesShareAuthorAndYearBlock() {
+        BibEntry toCheck = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "S. Blaha")
+                .withField(StandardField.TITLE, "Completely different")
+                .withField(StandardField.YEAR, "2002");
+
+        assertEquals(List.of(quantumComputers), new DuplicateCandidateIndex(database).getCandidates(toCheck));
+    }
+
+    @Test
+    void candidatesShareIdentifierRegardlessOfType() {
+        BibEntry toCheck = new BibEntry(StandardEntryType.Misc)
+                .withField(StandardField.DOI, "10.1000/182");
+
+        assertEquals(List.of(effectiveJava), new DuplicateCandidateIndex(database).getCandidates(toCheck));
+    }
+
+    @Test
+    void entryWithoutBlocksHasAllEntriesAsCandidates() {
+        BibEntry toCheck = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.NOTE, "Only a note");
+
+        assertEquals(List.of(quantumNetworks, quantumComputers, effectiveJava), new DuplicateCandidateIndex(database).getCandidates(toCheck));
+    }
+
+    @Test
+    void indexFollowsFieldChanges() {
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(database);
+        BibEntry toCheck = new BibEntry(StandardEntryType.Book)
+                .withField(StandardField.TITLE, "Java Concurrency in Practice");
+        assertFalse(index.getCandidates(toCheck).contains(effectiveJava));
+
+        effectiveJava.setField(StandardField.TITLE, "Java Concurrency in Practice");
+
+        assertTrue(index.getCandidates(toCheck).contains(effectiveJava));
+    }
+
+    @Test
+    void indexFollowsRemovals() {
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(database);
+        database.removeEntry(quantumNetworks);
+
+        assertEquals(List.of(), index.getCandidates(quantumNetworks));
+    }
+
+    @Test
+    void findDuplicateClustersGroupsDuplicates() {
+        BibEntry quantumNetworksDuplicate = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Phillip Kaye and Michele Mosca")
+                .withField(StandardField.TITLE, "Quantum Networks for Generating Arbitrary Quantum States")
+                .withField(StandardField.YEAR, "2001");
+        database.insertEntry(quantumNetworksDuplicate);
+
+        List<List<BibEntry>> clusters = new DuplicateCandidateIndex(database)
+                .findDuplicateClusters(new DuplicateCheck(new BibEntryTypesManager()), BibDatabaseMode.BIBTEX);
+
+        assertEquals(List.of(List.of(quantumNetworks, quantumNetworksDuplicate)), clusters);
+    }
+}
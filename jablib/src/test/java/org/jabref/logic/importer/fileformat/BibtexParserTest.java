@@ -2247,4 +2247,99 @@ class BibtexParserTest {
 
         assertEquals(List.of(firstEntry, secondEntry), result.getDatabase().getEntries());
     }
+
+    @Test
+    void findChunkStartsOnlyCutsAfterEntriesAtTopLevel() {
+        String bibtexString = "@String{a = {b}}\n@Article{x, title = {@Article{y}\n}}\n@Article{z}\n";
+
+        assertEquals(List.of(0, bibtexString.indexOf("@Article{z")), BibtexParser.findChunkStarts(bibtexString, 1));
+    }
+
+    @Test
+    void findChunkStartsCutsAfterLineBreakFollowingEntryButNotBeforeComments() {
+        String bibtexString = "@Article{x}\n\n@Article{y}\nSome comment\n@Article{z}\n";
+
+        assertEquals(List.of(0, "@Article{x}\n".length()), BibtexParser.findChunkStarts(bibtexString, 1));
+    }
+
+    @Test
+    void findChunkStartsContinuesAfterStrayAtAndParenthesizedEntry() {
+        String bibtexString = "@Article{x}\nMail to me@example.org\n@Article{y}\n@Article(z, title = {(}\n)\n@Article{w}\n@Article{v}\n";
+
+        assertEquals(List.of(0, bibtexString.indexOf("@Article(z"), bibtexString.indexOf("@Article{v")),
+                BibtexParser.findChunkStarts(bibtexString, 1));
+    }
+
+    @Test
+    void parseInParallelGivesSameResultAsSerialParsing() throws IOException {
+        String bibtexString = """
+                % Encoding: UTF-8
+
+                @Preamble{some text}
+
+                @String{aaa = {A string}}
+
+                @Article{first,
+                  author = {Ed von Test},
+                  title  = {First \\{escaped\\} braces},
+                }
+                @Book{second,
+                  title     = aaa # { and more},
+                  publisher = {Publisher},
+                }
+
+                Some comment before the third entry
+                @Misc{third,
+                  note = {With a {nested} brace},
+                }
+                @Misc{fourth,
+                  note = "Quoted {value}",
+                }
+
+                @Comment{jabref-meta: databaseType:bibtex;}
+
+                some epilog
+                """;
+        ParserResult serial = new BibtexParser(importFormatPreferences).parse(Reader.of(bibtexString));
+        ParserResult parallel = new BibtexParser(importFormatPreferences).parseInParallel(Reader.of(bibtexString), 1);
+
+        List<BibEntry> serialEntries = serial.getDatabase().getEntries();
+        List<BibEntry> parallelEntries = parallel.getDatabase().getEntries();
+        assertEquals(serialEntries, parallelEntries);
+        assertEquals(serialEntries.stream().map(BibEntry::getParsedSerialization).toList(),
+                parallelEntries.stream().map(BibEntry::getParsedSerialization).toList());
+        assertEquals(serialEntries.stream().map(entry -> serial.getArticleRanges().get(entry)).toList(),
+                parallelEntries.stream().map(entry -> parallel.getArticleRanges().get(entry)).toList());
+        assertEquals(serialEntries.stream().map(entry -> serial.getFieldRanges().get(entry)).toList(),
+                parallelEntries.stream().map(entry -> parallel.getFieldRanges().get(entry)).toList());
+        assertEquals(parallelEntries.stream().map(BibEntry::getId).sorted().toList(),
+                parallelEntries.stream().map(BibEntry::getId).toList());
+        assertEquals(serial.getDatabase().getStringValues().stream().map(BibtexString::getParsedSerialization).toList(),
+                parallel.getDatabase().getStringValues().stream().map(BibtexString::getParsedSerialization).toList());
+        assertEquals(serial.getDatabase().getPreamble(), parallel.getDatabase().getPreamble());
+        assertEquals(serial.getDatabase().getEpilog(), parallel.getDatabase().getEpilog());
+        assertEquals(serial.getMetaData(), parallel.getMetaData());
+        assertEquals(serial.warnings(), parallel.warnings());
+    }
+
+    @Test
+    void parseInParallelFallsBackToSerialParsingOnWarnings() throws IOException {
+        String bibtexString = """
+                @Article{first,
+                  title = {First},
+                }
+                @Comment{jabref-entrytype: broken}
+                @Article{second,
+                  title = {Second},
+                }
+                @Article{third,
+                  title = {Third},
+                }
+                """;
+        ParserResult serial = new BibtexParser(importFormatPreferences).parse(Reader.of(bibtexString));
+        ParserResult parallel = new BibtexParser(importFormatPreferences).parseInParallel(Reader.of(bibtexString), 1);
+
+        assertEquals(serial.getDatabase().getEntries(), parallel.getDatabase().getEntries());
+        assertEquals(serial.getWarningsMap(), parallel.getWarningsMap());
+    }
 }
@@ -36,6 +36,18 @@ class CitaviXmlImporterFilesTest {
         ImporterTestEngine.testIsNotRecognizedFormat(citaviXmlImporter, fileName);
     }
 
+    @ParameterizedTest
+    @MethodSource("fileNames")
+    void isRecognizedFormatFromContent(String fileName) throws IOException {
+        ImporterTestEngine.testIsRecognizedFormatFromContent(citaviXmlImporter, fileName);
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidFileNames")
+    void isNotRecognizedFormatFromContent(String fileName) throws IOException {
+        ImporterTestEngine.testIsNotRecognizedFormatFromContent(citaviXmlImporter, fileName);
+    }
+
     @ParameterizedTest
     @MethodSource("fileNames")
     void importEntries(String fileName) throws ImportException, IOException {
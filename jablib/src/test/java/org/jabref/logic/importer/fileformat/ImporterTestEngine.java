@@ -48,6 +48,16 @@ public class ImporterTestEngine {
         assertFalse(importer.isRecognizedFormat(getPath(fileName)));
     }
 
+    public static void testIsRecognizedFormatFromContent(Importer importer, String fileName) throws IOException {
+        Path path = getPath(fileName);
+        assertTrue(importer.isRecognizedFormat(path, Files.readAllBytes(path)));
+    }
+
+    public static void testIsNotRecognizedFormatFromContent(Importer importer, String fileName) throws IOException {
+        Path path = getPath(fileName);
+        assertFalse(importer.isRecognizedFormat(path, Files.readAllBytes(path)));
+    }
+
     public static void testImportEntries(Importer importer, String fileName, String fileType) throws IOException, ImportException {
         ParserResult parserResult = importer.importDatabase(getPath(fileName));
         if (parserResult.isInvalid()) {
@@ -0,0 +1,138 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IncrementalBibtexParserTest {
+
+    private static final String FIRST = """
+            @article{first,
+              title = {First},
+            }
+            """;
+    private static final String SECOND = """
+            @article{second,
+              title = {Second},
+            }
+            """;
+
+    private ImportFormatPreferences importFormatPreferences;
+    private IncrementalBibtexParser parser;
+
+    @BeforeEach
+    void setUp() {
+        importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.bibEntryPreferences().getKeywordSeparator()).thenReturn(',');
+        parser = new IncrementalBibtexParser(importFormatPreferences);
+    }
+
+    @Test
+    void firstVersionIsComplete() throws IOException {
+        IncrementalBibtexParser.Update update = parser.parse(FIRST + "\n" + SECOND);
+
+        assertTrue(update.complete());
+        assertEquals(2, update.addedEntries().size());
+        assertEquals(List.of(), update.removedEntries());
+    }
+
+    @Test
+    void onlyChangedEntryIsParsedAgain() throws IOException {
+        parser.parse(FIRST + "\n" + SECOND);
+        BibEntry first = getEntry("first");
+        BibEntry second = getEntry("second");
+
+        IncrementalBibtexParser.Update update = parser.parse(FIRST + "\n" + SECOND.replace("Second", "Changed"));
+
+        assertFalse(update.complete());
+        assertEquals(List.of(second), update.removedEntries());
+        assertEquals(1, update.addedEntries().size());
+        assertEquals(Optional.of("Changed"), update.addedEntries().getFirst().getField(StandardField.TITLE));
+        assertSame(first, getEntry("first"));
+        assertEquals(2, update.parserResult().getDatabase().getEntryCount());
+    }
+
+    @Test
+    void rangesOfUnchangedEntriesAreMoved() throws IOException {
+        parser.parse(FIRST + "\n" + SECOND);
+        BibEntry second = getEntry("second");
+        ParserResult.Range range = parser.getParserResult().getArticleRanges().get(second);
+
+        parser.parse(FIRST.replace("First", "First,\n  year = {2000}") + "\n" + SECOND);
+
+        assertSame(second, getEntry("second"));
+        assertEquals(range.startLine() + 1, parser.getParserResult().getArticleRanges().get(second).startLine());
+    }
+
+    @Test
+    void rangesAreTheSameAsWithSerialParser() throws IOException {
+        parser.parse(FIRST + "\n" + SECOND);
+        String text = "\n\n" + FIRST + "\n" + SECOND;
+        parser.parse(text);
+
+        ParserResult expected = new BibtexParser(importFormatPreferences).parse(Reader.of(text));
+        for (String citationKey : List.of("first", "second")) {
+            BibEntry expectedEntry = expected.getDatabase().getEntryByCitationKey(citationKey).orElseThrow();
+            BibEntry actualEntry = getEntry(citationKey);
+            assertEquals(expected.getArticleRanges().get(expectedEntry), parser.getParserResult().getArticleRanges().get(actualEntry));
+            assertEquals(expected.getFieldRanges().get(expectedEntry), parser.getParserResult().getFieldRanges().get(actualEntry));
+        }
+    }
+
+    @Test
+    void changedStringGivesCompleteUpdate() throws IOException {
+        parser.parse("@string{name = {Value}}\n" + FIRST + "\n" + SECOND);
+
+        IncrementalBibtexParser.Update update = parser.parse("@string{name = {Other}}\n" + FIRST + "\n" + SECOND);
+
+        assertTrue(update.complete());
+        assertEquals("Other", update.parserResult().getDatabase().getStringByName("name").orElseThrow().getContent());
+    }
+
+    @Test
+    void duplicateStringsGiveSameWarningsAsSerialParser() throws IOException {
+        parser.parse(FIRST + "\n" + SECOND);
+        String text = "@string{name = {Value}}\n" + FIRST + "\n@string{name = {Other}}\n" + SECOND;
+
+        IncrementalBibtexParser.Update update = parser.parse(text);
+
+        ParserResult expected = new BibtexParser(importFormatPreferences).parse(Reader.of(text));
+        assertTrue(update.complete());
+        assertEquals(expected.getWarningsMap(), update.parserResult().getWarningsMap());
+        assertEquals(2, update.parserResult().getDatabase().getEntryCount());
+    }
+
+    @Test
+    void resultOfPreviousVersionIsNotChanged() throws IOException {
+        ParserResult previous = parser.parse(FIRST + "\n" + SECOND).parserResult();
+        BibEntry second = getEntry("second");
+        ParserResult.Range range = previous.getArticleRanges().get(second);
+
+        IncrementalBibtexParser.Update update = parser.parse("\n" + FIRST);
+
+        assertEquals(2, previous.getDatabase().getEntryCount());
+        assertEquals(range, previous.getArticleRanges().get(second));
+        assertEquals(1, update.parserResult().getDatabase().getEntryCount());
+    }
+
+    private BibEntry getEntry(String citationKey) {
+        return parser.getParserResult().getDatabase().getEntryByCitationKey(citationKey).orElseThrow();
+    }
+}
@@ -41,4 +41,16 @@ class CitationKeyDuplicationCheckerTest {
                 new IntegrityMessage(Localization.lang("Duplicate citation key"), entry, StandardField.KEY));
         assertEquals(expected, checker.check(entry));
     }
+
+    @Test
+    void citationKeyIndexFindsDuplicateCitationKey() {
+        BibEntry entry = new BibEntry().withField(InternalField.KEY_FIELD, "Knuth2014");
+        BibEntry entry2 = new BibEntry().withField(InternalField.KEY_FIELD, "Knuth2014");
+        BibEntry entry3 = new BibEntry().withField(InternalField.KEY_FIELD, "Knuth2015");
+        BibDatabase bibDatabase = new BibDatabase(List.of(entry, entry2, entry3));
+        CitationKeyDuplicationChecker checker = CitationKeyDuplicationChecker.withCitationKeyIndex(bibDatabase);
+
+        assertEquals(List.of(new IntegrityMessage(Localization.lang("Duplicate citation key"), entry2, StandardField.KEY)), checker.check(entry2));
+        assertEquals(List.of(), checker.check(entry3));
+    }
 }
@@ -33,6 +33,7 @@ import org.mockito.Mockito;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -146,6 +147,35 @@ class IntegrityCheckTest {
         assertEquals(clonedEntry, entry);
     }
 
+    @Test
+    void parallelCheckFindsSameMessagesInSameOrder() {
+        BibDatabase bibDatabase = new BibDatabase();
+        for (int i = 0; i < 100; i++) {
+            bibDatabase.insertEntry(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("key" + (i % 30))
+                    .withField(StandardField.TITLE, "title " + i + " with http://example.org")
+                    .withField(StandardField.YEAR, i % 2 == 0 ? "2020" : "twenty")
+                    .withField(StandardField.DOI, "10.1000/" + (i % 50))
+                    // Every LaTeX error names the command, thus messages of mixed up entries differ
+                    .withField(StandardField.ABSTRACT, i % 3 == 0 ? "\\undefinedCommand" + (char) ('a' + i % 26) : "Abstract " + i));
+        }
+        IntegrityCheck integrityCheck = new IntegrityCheck(new BibDatabaseContext(bibDatabase),
+                mock(FilePreferences.class),
+                createCitationKeyPatternPreferences(),
+                JournalAbbreviationLoader.loadBuiltInRepository(),
+                false);
+
+        IntegrityCheckResult serial = integrityCheck.check(false);
+        IntegrityCheckResult parallel = integrityCheck.check(true);
+
+        assertNotEquals(List.of(), serial.messages());
+        assertEquals(serial.messages(), parallel.messages());
+        assertTrue(parallel.checkerDurations().containsKey("CitationKeyDuplicationChecker"));
+        assertTrue(parallel.checkerDurations().containsKey("YearChecker (year)"));
+        assertTrue(parallel.checkerDurations().containsKey("DoiDuplicationChecker"));
+        assertEquals(34, parallel.messages().stream().filter(message -> message.message().contains("undefinedCommand")).count());
+    }
+
     private BibDatabaseContext createContext(Field field, String value, EntryType type) {
         BibEntry entry = new BibEntry(type)
                 .withField(field, value);
@@ -0,0 +1,76 @@
+package org.jabref.logic.journals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.jabref.logic.journals.ltwa.LtwaRepository;
+
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JournalAbbreviationRepositoryOnDiskTest {
+
+    private JournalAbbreviationRepository inMemory;
+    private JournalAbbreviationRepository onDisk;
+    private Path journalList;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) {
+        journalList = tempDir.resolve("journal-list.mv");
+        try (MVStore store = new MVStore.Builder().fileName(journalList.toString()).open()) {
+            MVMap<String, Abbreviation> fullToAbbreviation = store.openMap("FullToAbbreviation");
+            fullToAbbreviation.put("Physical Review Letters", new Abbreviation("Physical Review Letters", "Phys. Rev. Lett.", "PRL"));
+            fullToAbbreviation.put("Journal of Physics", new Abbreviation("Journal of Physics", "J. Phys."));
+            JournalAbbreviationRepository.writeLookupMaps(store);
+        }
+        inMemory = new JournalAbbreviationRepository(journalList, new LtwaRepository());
+        onDisk = new JournalAbbreviationRepository(journalList, new LtwaRepository(), true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        onDisk.close();
+    }
+
+    @Test
+    void lookupsMatchRepositoryInMemory() {
+        for (String journal : new String[] {"Physical Review Letters", "Phys. Rev. Lett.", "Phys Rev Lett", "PRL", "J. Phys.", "Physical Review Leters", "Unknown"}) {
+            assertEquals(inMemory.get(journal), onDisk.get(journal), journal);
+        }
+    }
+
+    @Test
+    void abbreviationIsMaterializedWithName() {
+        assertEquals(Optional.of("Physical Review Letters"), onDisk.get("PRL").map(Abbreviation::getName));
+    }
+
+    @Test
+    void abbreviatedNameIsRecognized() {
+        assertTrue(onDisk.isAbbreviatedName("J. Phys."));
+        assertFalse(onDisk.isAbbreviatedName("Journal of Physics"));
+    }
+
+    @Test
+    void allAbbreviationsAreListed() {
+        assertEquals(inMemory.getFullNames(), onDisk.getFullNames());
+        assertEquals(2, onDisk.getAllLoaded().size());
+    }
+
+    @Test
+    void journalListCanBeDeletedAfterClose() throws Exception {
+        onDisk.close();
+
+        Files.delete(journalList);
+
+        assertFalse(Files.exists(journalList));
+    }
+}
@@ -0,0 +1,69 @@
+package org.jabref.logic.journals;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.jabref.logic.util.strings.StringSimilarity;
+
+import org.h2.mvstore.MVStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JournalNameIndexTest {
+
+    private static final List<String> NAMES = List.of(
+            "Physical Review Letters",
+            "Physical Review A",
+            "Physical Review B",
+            "Journal of Physics",
+            "Journal of Physical Chemistry",
+            "Nature",
+            "Nature Physics",
+            "Science",
+            "ACM Computing Surveys",
+            "IEEE Transactions on Software Engineering");
+
+    private final StringSimilarity similarity = new StringSimilarity();
+    private final JournalNameIndex index = JournalNameIndex.of(NAMES);
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Physical Review Leters", "physical review letters", "Physical Review C", "Natur", "Sciense", "Journal of Physic", "ACM Computing Survey", "Unknown Journal", "X"})
+    void candidatesContainAllSimilarNames(String input) {
+        Set<String> expected = NAMES.stream()
+                                    .filter(name -> similarity.isSimilar(input, name))
+                                    .collect(Collectors.toSet());
+
+        List<String> candidates = index.findCandidates(input, similarity.getMetricThreshold());
+
+        assertTrue(candidates.containsAll(expected), () -> "Missing candidates for " + input + " in " + candidates);
+    }
+
+    @Test
+    void candidatesExcludeDissimilarNames() {
+        assertEquals(List.of("Physical Review Letters"), index.findCandidates("Physical Review Leters", 1));
+    }
+
+    @Test
+    void indexIsRestoredFromStore() {
+        try (MVStore store = new MVStore.Builder().open()) {
+            index.write(store);
+
+            JournalNameIndex restored = JournalNameIndex.read(store).orElseThrow();
+
+            assertEquals(index.size(), restored.size());
+            assertEquals(index.findCandidates("Nature Physic", 2), restored.findCandidates("Nature Physic", 2));
+        }
+    }
+
+    @Test
+    void storeWithoutIndexIsNotRead() {
+        try (MVStore store = new MVStore.Builder().open()) {
+            assertTrue(JournalNameIndex.read(store).isEmpty());
+        }
+    }
+}
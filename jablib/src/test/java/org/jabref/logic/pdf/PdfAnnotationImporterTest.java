@@ -14,7 +14,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class PdfAnnotationImporterTest {
 
-    private final AnnotationImporter importer = new PdfAnnotationImporter();
+    private final AnnotationImporter importer = new PdfAnnotationImporter(new PdfTextCache(null));
 
     @Test
     void invalidPath() {
@@ -0,0 +1,81 @@
+package org.jabref.logic.pdf;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import javafx.beans.property.SimpleBooleanProperty;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PdfTextCacheTest {
+
+    private static final Path THESIS_EXAMPLE = Path.of("src/test/resources/pdfs/thesis-example.pdf");
+    private static final Path MINIMAL = Path.of("src/test/resources/pdfs/minimal.pdf");
+    private static final Path EXAMPLE = Path.of("src/test/resources/pdfs/example.pdf");
+
+    @Test
+    void readsPagesAndAnnotations() {
+        PdfTextCache cache = new PdfTextCache(null);
+
+        ExtractedPdf extractedPdf = cache.get(THESIS_EXAMPLE, new SimpleBooleanProperty(false)).orElseThrow();
+
+        assertEquals(33, extractedPdf.pages().size());
+        assertEquals(2, extractedPdf.annotations().size());
+    }
+
+    @Test
+    void renamedFileIsReadFromCache(@TempDir Path tempDir) throws IOException {
+        PdfTextCache cache = new PdfTextCache(null);
+        ExtractedPdf extractedPdf = cache.get(THESIS_EXAMPLE, new SimpleBooleanProperty(false)).orElseThrow();
+
+        Path renamed = Files.copy(THESIS_EXAMPLE, tempDir.resolve("renamed.pdf"));
+
+        assertTrue(cache.contains(renamed));
+        assertEquals(Optional.of(extractedPdf), cache.get(renamed, new SimpleBooleanProperty(false)));
+    }
+
+    @Test
+    void cacheIsPersisted(@TempDir Path tempDir) throws IOException {
+        Path storePath = tempDir.resolve("pdf-text.mv");
+        ExtractedPdf extractedPdf;
+        try (PdfTextCache cache = new PdfTextCache(storePath)) {
+            extractedPdf = cache.get(THESIS_EXAMPLE, new SimpleBooleanProperty(false)).orElseThrow();
+        }
+
+        try (PdfTextCache cache = new PdfTextCache(storePath)) {
+            assertTrue(cache.contains(THESIS_EXAMPLE));
+            assertEquals(Optional.of(extractedPdf), cache.get(THESIS_EXAMPLE, new SimpleBooleanProperty(false)));
+        }
+    }
+
+    @Test
+    void stoppedReadingIsNotCached() throws IOException {
+        PdfTextCache cache = new PdfTextCache(null);
+
+        ExtractedPdf extractedPdf = cache.get(THESIS_EXAMPLE, new SimpleBooleanProperty(true)).orElseThrow();
+
+        assertEquals(0, extractedPdf.pages().size());
+        assertFalse(cache.contains(THESIS_EXAMPLE));
+    }
+
+    @Test
+    void leastRecentlyReadFileIsRemoved() throws IOException {
+        PdfTextCache cache = new PdfTextCache(null, 2);
+        cache.get(THESIS_EXAMPLE, new SimpleBooleanProperty(false));
+        cache.get(MINIMAL, new SimpleBooleanProperty(false));
+        cache.get(THESIS_EXAMPLE, new SimpleBooleanProperty(false));
+
+        cache.get(EXAMPLE, new SimpleBooleanProperty(false));
+
+        assertTrue(cache.contains(THESIS_EXAMPLE));
+        assertFalse(cache.contains(MINIMAL));
+        assertTrue(cache.contains(EXAMPLE));
+    }
+}
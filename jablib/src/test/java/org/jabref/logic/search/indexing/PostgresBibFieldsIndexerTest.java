@@ -22,7 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
-public class BibFieldsIndexerTest {
+public class PostgresBibFieldsIndexerTest {
 
     private PostgreServer postgreServer;
 
@@ -45,7 +45,7 @@ public class BibFieldsIndexerTest {
     void addToIndexIsIdempotentForSameEntry() throws Exception {
         BibDatabaseContext databaseContext = new BibDatabaseContext();
         Connection connection = postgreServer.getConnection();
-        BibFieldsIndexer indexer = new BibFieldsIndexer(bibEntryPreferences, databaseContext, connection);
+        PostgresBibFieldsIndexer indexer = new PostgresBibFieldsIndexer(bibEntryPreferences, databaseContext, connection);
 
         BibEntry entry = new BibEntry(StandardEntryType.Article);
         entry.withCitationKey("https://doi.org/10.48550/arxiv.2405.02318");
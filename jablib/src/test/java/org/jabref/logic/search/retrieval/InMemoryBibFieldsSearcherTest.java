@@ -0,0 +1,151 @@
+package org.jabref.logic.search.retrieval;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jabref.logic.search.indexing.InMemoryBibFieldsIndexer;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.model.search.query.SearchQuery;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InMemoryBibFieldsSearcherTest {
+
+    private static final BibEntry KNUTH = new BibEntry(StandardEntryType.Book)
+            .withCitationKey("Knuth1997")
+            .withField(StandardField.AUTHOR, "Donald E. Knuth")
+            .withField(StandardField.TITLE, "The Art of Computer Programming")
+            .withField(StandardField.YEAR, "1997")
+            .withField(StandardField.KEYWORDS, "algorithms, Programming");
+
+    private static final BibEntry DIJKSTRA = new BibEntry(StandardEntryType.Article)
+            .withCitationKey("Dijkstra1968")
+            .withField(StandardField.AUTHOR, "Edsger W. Dijkstra")
+            .withField(StandardField.TITLE, "Go To Statement Considered Harmful")
+            .withField(StandardField.YEAR, "1968")
+            .withField(StandardField.GROUPS, "Programming");
+
+    private static final BibEntry UNICODE = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Kurt G{\\\"o}del")
+            .withField(StandardField.TITLE, "On Formally Undecidable Propositions");
+
+    private final BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
+    private final BackgroundTask<?> task = new BackgroundTask<>() {
+        @Override
+        public Object call() {
+            return null;
+        }
+    };
+
+    private BibDatabaseContext databaseContext;
+    private InMemoryBibFieldsIndexer indexer;
+    private InMemoryBibFieldsSearcher searcher;
+
+    @BeforeEach
+    void setUp() {
+        when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
+        databaseContext = new BibDatabaseContext();
+        databaseContext.getDatabase().insertEntries(List.of(KNUTH, DIJKSTRA, UNICODE));
+        indexer = new InMemoryBibFieldsIndexer(bibEntryPreferences, databaseContext);
+        indexer.updateOnStart(task);
+        searcher = new InMemoryBibFieldsSearcher(indexer);
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void search(List<BibEntry> expected, String query, EnumSet<SearchFlags> flags) {
+        Set<String> expectedIds = expected.stream().map(BibEntry::getId).collect(Collectors.toSet());
+        assertEquals(expectedIds, searcher.search(new SearchQuery(query, flags)).getMatchedEntries());
+    }
+
+    private static Stream<Arguments> search() {
+        EnumSet<SearchFlags> noFlags = EnumSet.noneOf(SearchFlags.class);
+        return Stream.of(
+                // unfielded, case-insensitive contains
+                Arguments.of(List.of(KNUTH), "computer", noFlags),
+                Arguments.of(List.of(), "computer", EnumSet.of(SearchFlags.CASE_SENSITIVE)),
+                Arguments.of(List.of(KNUTH), "Computer", EnumSet.of(SearchFlags.CASE_SENSITIVE)),
+                // the groups field is excluded from unfielded search
+                Arguments.of(List.of(KNUTH), "programming", noFlags),
+                // search bar regular expression
+                Arguments.of(List.of(KNUTH, DIJKSTRA), "19[69]\\d", EnumSet.of(SearchFlags.REGULAR_EXPRESSION)),
+                // LaTeX is converted to Unicode
+                Arguments.of(List.of(UNICODE), "gödel", noFlags),
+
+                // fielded operators
+                Arguments.of(List.of(DIJKSTRA), "author = dijkstra", noFlags),
+                Arguments.of(List.of(), "author =! dijkstra", noFlags),
+                Arguments.of(List.of(DIJKSTRA), "title == \"go to statement considered harmful\"", noFlags),
+                Arguments.of(List.of(), "title ==! \"go to statement considered harmful\"", noFlags),
+                Arguments.of(List.of(KNUTH), "title =~ \"^the.*ming$\"", noFlags),
+                Arguments.of(List.of(), "title =~! \"^the\"", noFlags),
+                Arguments.of(List.of(DIJKSTRA, UNICODE), "title != art", noFlags),
+                Arguments.of(List.of(KNUTH), "key == Knuth1997", noFlags),
+                Arguments.of(List.of(DIJKSTRA), "groups == programming", noFlags),
+
+                // exact matches consider the single values of multi-value fields
+                Arguments.of(List.of(KNUTH), "author == \"Donald E. Knuth\"", noFlags),
+                Arguments.of(List.of(KNUTH), "anykeyword == algorithms", noFlags),
+
+                // empty values
+                Arguments.of(List.of(UNICODE), "year = \"\"", noFlags),
+                Arguments.of(List.of(KNUTH, DIJKSTRA), "year != \"\"", noFlags),
+
+                // boolean operators
+                Arguments.of(List.of(KNUTH, DIJKSTRA), "knuth OR dijkstra", noFlags),
+                Arguments.of(List.of(DIJKSTRA), "year = 1968 AND author = dijkstra", noFlags),
+                Arguments.of(List.of(DIJKSTRA), "year = 1968 author = dijkstra", noFlags),
+                Arguments.of(List.of(DIJKSTRA, UNICODE), "NOT knuth", noFlags),
+                Arguments.of(List.of(KNUTH), "(knuth OR dijkstra) AND NOT year = 1968", noFlags),
+
+                // invalid regular expression
+                Arguments.of(List.of(), "title =~ \"(\"", noFlags)
+        );
+    }
+
+    @Test
+    void isMatchedOnlyConsidersGivenEntry() {
+        SearchQuery query = new SearchQuery("year = 19");
+
+        assertTrue(searcher.isMatched(KNUTH, query));
+        assertFalse(searcher.isMatched(UNICODE, query));
+    }
+
+    @Test
+    void indexFollowsFieldChanges() {
+        BibEntry entry = new BibEntry(StandardEntryType.Misc).withField(StandardField.TITLE, "Before");
+        indexer.addToIndex(List.of(entry), task);
+
+        entry.setField(StandardField.TITLE, "After");
+        indexer.updateEntry(entry, StandardField.TITLE);
+
+        assertEquals(Set.of(), searcher.search(new SearchQuery("title = before")).getMatchedEntries());
+        assertEquals(Set.of(entry.getId()), searcher.search(new SearchQuery("title = after")).getMatchedEntries());
+    }
+
+    @Test
+    void removedEntriesAreNotFound() {
+        indexer.removeFromIndex(List.of(KNUTH), task);
+
+        assertEquals(Set.of(), searcher.search(new SearchQuery("knuth")).getMatchedEntries());
+    }
+}
@@ -191,6 +191,25 @@ class DBMSSynchronizerTest {
         assertEquals(expectedBibEntries, bibDatabase.getEntries());
     }
 
+    @Test
+    void synchronizeLocalDatabaseWithGivenSharedIDs() {
+        BibEntry firstEntry = createExampleBibEntry(1);
+        BibEntry secondEntry = createExampleBibEntry(2);
+        dbmsProcessor.insertEntries(List.of(firstEntry, secondEntry));
+        int secondSharedID = secondEntry.getSharedBibEntryData().getSharedID();
+
+        dbmsSynchronizer.pullChanges(List.of(secondSharedID));
+
+        assertEquals(List.of(secondEntry), bibDatabase.getEntries());
+        // one version row and one row per field
+        assertEquals(new DBMSSynchronizer.SynchronizationStatistics(3, 0), dbmsSynchronizer.getLastSynchronizationStatistics());
+
+        dbmsProcessor.removeEntries(List.of(secondEntry));
+        dbmsSynchronizer.synchronizeLocalDatabase(List.of(secondSharedID));
+
+        assertEquals(List.of(), bibDatabase.getEntries());
+    }
+
     @Test
     void synchronizeLocalDatabaseWithEntryUpdate() throws SQLException, OfflineLockException {
         BibEntry bibEntry = createExampleBibEntry(1);
@@ -0,0 +1,33 @@
+package org.jabref.logic.shared.listener;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PostgresSQLNotificationListenerTest {
+
+    @Test
+    void payloadContainsProcessorIdAndSharedIDs() {
+        String payload = PostgresSQLNotificationListener.createPayload("processor", List.of(1, 42));
+
+        assertEquals("processor", PostgresSQLNotificationListener.getProcessorId(payload));
+        assertEquals(Optional.of(List.of(1, 42)), PostgresSQLNotificationListener.getSharedIDs(payload));
+    }
+
+    @Test
+    void payloadWithoutSharedIDsRequestsCompletePull() {
+        assertEquals("processor", PostgresSQLNotificationListener.getProcessorId("processor"));
+        assertEquals(Optional.empty(), PostgresSQLNotificationListener.getSharedIDs("processor"));
+    }
+
+    @Test
+    void tooManySharedIDsAreLeftOut() {
+        String payload = PostgresSQLNotificationListener.createPayload("processor", Collections.nCopies(2000, 123456));
+
+        assertEquals("processor", payload);
+    }
+}
@@ -344,6 +344,36 @@ class BibDatabaseTest {
         assertEquals(1, database.getNumberOfCitationKeyOccurrences("AAA"));
     }
 
+    @Test
+    void changedKeyIsFoundByNewKey() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+        entry.setCitationKey("BBB");
+
+        assertEquals(Optional.empty(), database.getEntryByCitationKey("AAA"));
+        assertEquals(Optional.of(entry), database.getEntryByCitationKey("BBB"));
+        assertEquals(List.of(entry), database.getEntriesByCitationKey("BBB"));
+    }
+
+    @Test
+    void clearedKeyIsNotFound() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+        entry.clearCiteKey();
+
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("AAA"));
+    }
+
+    @Test
+    void keyOfRemovedEntryIsNotIndexed() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+        entry.setCitationKey("BBB");
+
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("BBB"));
+    }
+
     @Test
     void circularStringResolving() {
         BibtexString string = new BibtexString("AAA", "#BBB#");
@@ -389,6 +419,60 @@ class BibDatabaseTest {
         assertEquals("AAAaaaAAA#", database.resolveForStrings("AAA#AAA#AAA#"));
     }
 
+    @Test
+    void resolveForStringsIgnoresCase() {
+        database.addString(new BibtexString("AAA", "aaa"));
+        assertEquals("aaa", database.resolveForStrings("#aAa#"));
+    }
+
+    @Test
+    void resolveForStringsUsesChangedString() {
+        BibtexString string = new BibtexString("AAA", "aaa");
+        database.addString(string);
+        database.resolveForStrings("#AAA#");
+
+        string.setContent("bbb");
+
+        assertEquals("bbb", database.resolveForStrings("#AAA#"));
+    }
+
+    @Test
+    void resolveForStringsUsesRenamedString() {
+        BibtexString string = new BibtexString("AAA", "aaa");
+        database.addString(string);
+        database.resolveForStrings("#AAA#");
+
+        string.setName("BBB");
+
+        assertEquals("#AAA#", database.resolveForStrings("#AAA#"));
+        assertEquals("aaa", database.resolveForStrings("#BBB#"));
+    }
+
+    @Test
+    void resolveForStringsUsesAddedString() {
+        database.addString(new BibtexString("AAA", "#BBB#"));
+        assertEquals("#BBB#", database.resolveForStrings("#AAA#"));
+
+        database.addString(new BibtexString("BBB", "bbb"));
+
+        assertEquals("bbb", database.resolveForStrings("#AAA#"));
+    }
+
+    @Test
+    void resolveEntriesInParallelKeepsOrder() {
+        database.addString(new BibtexString("AAA", "aaa"));
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            entries.add(new BibEntry().withField(StandardField.TITLE, i + "#AAA#"));
+        }
+
+        List<BibEntry> resolvedEntries = database.resolveForStrings(entries, false, true);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Optional.of(i + "aaa"), resolvedEntries.get(i).getField(StandardField.TITLE));
+        }
+    }
+
     @Test
     void getUsedStrings() {
         BibEntry entry = new BibEntry()
@@ -0,0 +1,98 @@
+package org.jabref.model.entry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableMap;
+
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/// Tests entries created while [BibEntry#setCompactStorage(boolean)] is switched on
+class BibEntryCompactStorageTest {
+
+    private BibEntry entry;
+
+    @BeforeEach
+    void setUp() {
+        BibEntry.setCompactStorage(true);
+        entry = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Author")
+                .withField(StandardField.TITLE, "Title");
+    }
+
+    @AfterEach
+    void tearDown() {
+        BibEntry.setCompactStorage(false);
+    }
+
+    @Test
+    void setFieldChangesCompactEntry() {
+        assertEquals(Optional.empty(), entry.setField(StandardField.TITLE, "Title"));
+        entry.setField(StandardField.TITLE, "Changed title");
+        entry.setField(StandardField.YEAR, "2025");
+        entry.clearField(StandardField.AUTHOR);
+
+        assertFalse(entry.getFieldMap() instanceof ObservableMap);
+        assertEquals(Map.of(StandardField.TITLE, "Changed title", StandardField.YEAR, "2025"), entry.getFieldMap());
+        assertTrue(entry.hasChanged());
+    }
+
+    @Test
+    void compactEntryEqualsObservableEntry() {
+        BibEntry.setCompactStorage(false);
+        BibEntry observableEntry = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "Title")
+                .withField(StandardField.AUTHOR, "Author");
+
+        assertEquals(observableEntry, entry);
+        assertEquals(observableEntry.hashCode(), entry.hashCode());
+    }
+
+    @Test
+    void getFieldsObservableKeepsFieldsAndReportsLaterChanges() {
+        ObservableMap<Field, String> observableFields = entry.getFieldsObservable();
+        List<Field> changedFields = new ArrayList<>();
+        observableFields.addListener((MapChangeListener<Field, String>) change -> changedFields.add(change.getKey()));
+
+        entry.setField(StandardField.YEAR, "2025");
+
+        assertEquals(Map.of(StandardField.AUTHOR, "Author", StandardField.TITLE, "Title", StandardField.YEAR, "2025"), observableFields);
+        assertEquals(List.of(StandardField.YEAR), changedFields);
+        assertEquals(observableFields, entry.getFieldsObservable());
+    }
+
+    @Test
+    void latexFreeValueFollowsChangedField() {
+        entry.setField(StandardField.TITLE, "Caf{\\'e}");
+        assertEquals(Optional.of("Café"), entry.getFieldLatexFree(StandardField.TITLE));
+
+        entry.setField(StandardField.TITLE, "M{\\\"u}nchen");
+        assertEquals(Optional.of("München"), entry.getFieldLatexFree(StandardField.TITLE));
+
+        entry.clearField(StandardField.TITLE);
+        assertEquals(Optional.empty(), entry.getFieldLatexFree(StandardField.TITLE));
+    }
+
+    @Test
+    void latexFreeValueIsComputedForFieldSetAfterSwitchingToObservableMap() {
+        assertEquals(Optional.of("Title"), entry.getFieldLatexFree(StandardField.TITLE));
+        entry.getFieldsObservable();
+
+        entry.setField(StandardField.TITLE, "Caf{\\'e}");
+
+        assertEquals(Optional.of("Café"), entry.getFieldLatexFree(StandardField.TITLE));
+    }
+}
@@ -0,0 +1,79 @@
+package org.jabref.model.entry;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.field.UnknownField;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompactFieldMapTest {
+
+    private final CompactFieldMap fields = new CompactFieldMap();
+
+    @Test
+    void putReplacesValue() {
+        assertNull(fields.put(StandardField.TITLE, "First"));
+        assertEquals("First", fields.put(StandardField.TITLE, "Second"));
+
+        assertEquals("Second", fields.get(StandardField.TITLE));
+        assertEquals(1, fields.size());
+    }
+
+    @Test
+    void getUsesEqualityOfFields() {
+        fields.put(new UnknownField("TeSt"), "value");
+
+        assertEquals("value", fields.get(new UnknownField("tEsT")));
+    }
+
+    @Test
+    void removeKeepsOtherFields() {
+        fields.put(StandardField.AUTHOR, "Author");
+        fields.put(StandardField.TITLE, "Title");
+        fields.put(StandardField.YEAR, "2000");
+
+        assertEquals("Title", fields.remove(StandardField.TITLE));
+
+        assertEquals(Map.of(StandardField.AUTHOR, "Author", StandardField.YEAR, "2000"), fields);
+        assertFalse(fields.containsKey(StandardField.TITLE));
+    }
+
+    @Test
+    void equalsAndHashCodeMatchHashMap() {
+        Map<Field, String> expected = new HashMap<>();
+        expected.put(StandardField.AUTHOR, "Author");
+        expected.put(StandardField.TITLE, "Title");
+
+        CompactFieldMap copy = new CompactFieldMap(expected);
+
+        assertEquals(expected, copy);
+        assertEquals(copy, expected);
+        assertEquals(expected.hashCode(), copy.hashCode());
+    }
+
+    @Test
+    void iteratorRemovesField() {
+        fields.put(StandardField.AUTHOR, "Author");
+        fields.put(StandardField.TITLE, "Title");
+
+        Iterator<Map.Entry<Field, String>> iterator = fields.entrySet().iterator();
+        iterator.next();
+        iterator.remove();
+
+        assertEquals(Map.of(StandardField.TITLE, "Title"), fields);
+    }
+
+    @Test
+    void nullValueIsRejected() {
+        assertThrows(NullPointerException.class, () -> fields.put(StandardField.TITLE, null));
+    }
+}
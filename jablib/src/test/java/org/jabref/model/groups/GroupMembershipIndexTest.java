@@ -0,0 +1,118 @@
+package org.jabref.model.groups;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.groups.event.GroupMembershipChangedEvent;
+import org.jabref.model.search.SearchMatcher;
+
+import com.google.common.eventbus.Subscribe;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroupMembershipIndexTest {
+
+    private final BibDatabase database = new BibDatabase();
+    private final BibEntry firstEntry = new BibEntry().withField(StandardField.KEYWORDS, "alpha");
+    private final BibEntry secondEntry = new BibEntry().withField(StandardField.KEYWORDS, "alpha, beta");
+    private final BibEntry thirdEntry = new BibEntry().withField(StandardField.KEYWORDS, "gamma");
+    private final List<GroupMembershipChangedEvent> events = new ArrayList<>();
+
+    private GroupMembershipIndex index;
+    private GroupTreeNode alpha;
+    private GroupTreeNode beta;
+
+    @BeforeEach
+    void setUp() {
+        database.insertEntries(firstEntry, secondEntry, thirdEntry);
+        index = new GroupMembershipIndex(database);
+        index.registerListener(new Object() {
+            @Subscribe
+            public void listen(GroupMembershipChangedEvent event) {
+                events.add(event);
+            }
+        });
+
+        GroupTreeNode root = GroupTreeNode.fromGroup(new AllEntriesGroup("All entries"));
+        alpha = root.addSubgroup(createKeywordGroup("alpha", GroupHierarchyType.INDEPENDENT));
+        beta = alpha.addSubgroup(createKeywordGroup("beta", GroupHierarchyType.INDEPENDENT));
+    }
+
+    private static WordKeywordGroup createKeywordGroup(String keyword, GroupHierarchyType context) {
+        return new WordKeywordGroup(keyword, context, StandardField.KEYWORDS, keyword, true, ',', false);
+    }
+
+    @Test
+    void matchedEntriesAreComputedOnFirstRequest() {
+        assertEquals(List.of(firstEntry, secondEntry), index.getMatchedEntries(alpha));
+        assertEquals(1, index.getMatchCount(beta));
+    }
+
+    @Test
+    void changedFieldUpdatesMatches() {
+        index.getMatchCount(alpha);
+
+        thirdEntry.setField(StandardField.KEYWORDS, "alpha");
+
+        assertTrue(index.matches(alpha, thirdEntry));
+        assertEquals(List.of(thirdEntry), events.getFirst().getEntries());
+    }
+
+    @Test
+    void changedUnrelatedFieldDoesNotPostEvent() {
+        index.getMatchCount(alpha);
+
+        firstEntry.setField(StandardField.TITLE, "alpha");
+
+        assertEquals(List.of(), events);
+    }
+
+    @Test
+    void addedAndRemovedEntriesUpdateMatches() {
+        index.getMatchCount(alpha);
+        BibEntry addedEntry = new BibEntry().withField(StandardField.KEYWORDS, "alpha");
+
+        database.insertEntry(addedEntry);
+        database.removeEntry(firstEntry);
+
+        assertEquals(List.of(secondEntry, addedEntry), index.getMatchedEntries(alpha));
+        assertFalse(index.contains(firstEntry));
+        assertEquals(2, events.size());
+    }
+
+    @Test
+    void refiningGroupIntersectsWithParent() {
+        GroupTreeNode refining = alpha.addSubgroup(createKeywordGroup("gamma", GroupHierarchyType.REFINING));
+
+        assertEquals(List.of(), index.getMatchedEntries(refining));
+    }
+
+    @Test
+    void includingGroupContainsMatchesOfChildren() {
+        GroupTreeNode including = GroupTreeNode.fromGroup(createKeywordGroup("gamma", GroupHierarchyType.INCLUDING));
+        including.addSubgroup(createKeywordGroup("beta", GroupHierarchyType.INDEPENDENT));
+
+        assertEquals(List.of(secondEntry, thirdEntry), index.getMatchedEntries(including));
+    }
+
+    @Test
+    void matcherCombinesSelectedGroups() {
+        SearchMatcher union = index.createMatcher(List.of(beta, alpha), false);
+        SearchMatcher intersection = index.createMatcher(List.of(beta, alpha), true);
+
+        assertTrue(union.isMatch(firstEntry));
+        assertFalse(intersection.isMatch(firstEntry));
+        assertTrue(intersection.isMatch(secondEntry));
+
+        firstEntry.setField(StandardField.KEYWORDS, "alpha, beta");
+
+        assertTrue(intersection.isMatch(firstEntry));
+    }
+}
@@ -81,6 +81,21 @@ class StringUtilTest {
         assertEquals("newline", result);
     }
 
+    @Test
+    void unifyLineBreaksToUnix() {
+        assertEquals("a\nb\nc", StringUtil.unifyLineBreaks("a\nb\r\nc", "\n"));
+        assertEquals("a\nb\n", StringUtil.unifyLineBreaks("a\r\nb\r", "\n"));
+        assertEquals("a\n\nb", StringUtil.unifyLineBreaks("a\n\rb", "\n"));
+        assertEquals("no break", StringUtil.unifyLineBreaks("no break", "\n"));
+    }
+
+    @Test
+    void unifyLineBreaksKeepsStringWithRequestedLineBreaks() {
+        String windows = "a\r\nb\r\n";
+        assertEquals(windows, StringUtil.unifyLineBreaks(windows, "\r\n"));
+        assertEquals("a\r\nb\r\nc", StringUtil.unifyLineBreaks("a\nb\rc", "\r\n"));
+    }
+
     @Test
     void getCorrectFileName() {
         assertEquals("aa.bib", StringUtil.getCorrectFileName("aa", "bib"));
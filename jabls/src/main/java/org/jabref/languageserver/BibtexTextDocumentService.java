@@ -7,6 +7,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import org.jabref.languageserver.util.LspDiagnosticHandler;
 import org.jabref.languageserver.util.LspLinkHandler;
+import org.jabref.languageserver.util.LspRangeUtil;
 import org.jabref.logic.remote.server.RemoteMessageHandler;
 
 import com.google.gson.JsonArray;
@@ -63,31 +64,46 @@ public class BibtexTextDocumentService implements TextDocumentService {
         LOGGER.debug("didOpen {}", textDocument.getUri());
         fileUriToLanguageId.putIfAbsent(textDocument.getUri(), textDocument.getLanguageId());
 
+        contentCache.put(textDocument.getUri(), textDocument.getText());
         if ("bibtex".equals(textDocument.getLanguageId())) {
             diagnosticHandler.computeAndPublishDiagnostics(client, textDocument.getUri(), textDocument.getText(), textDocument.getVersion());
-        } else {
-            contentCache.put(textDocument.getUri(), textDocument.getText());
         }
     }
 
     @Override
     public void didChange(DidChangeTextDocumentParams params) {
         VersionedTextDocumentIdentifier textDocument = params.getTextDocument();
-        TextDocumentContentChangeEvent contentChange = params.getContentChanges().getFirst();
         LOGGER.debug("didChange {}", textDocument.getUri());
         String languageId = fileUriToLanguageId.get(textDocument.getUri());
 
+        String content = contentCache.getOrDefault(textDocument.getUri(), "");
+        for (TextDocumentContentChangeEvent contentChange : params.getContentChanges()) {
+            content = applyChange(content, contentChange);
+        }
+        contentCache.put(textDocument.getUri(), content);
+
         if ("bibtex".equalsIgnoreCase(languageId)) {
-            diagnosticHandler.computeAndPublishDiagnostics(client, textDocument.getUri(), contentChange.getText(), textDocument.getVersion());
-        } else {
-            contentCache.put(textDocument.getUri(), contentChange.getText());
+            diagnosticHandler.computeAndPublishDiagnostics(client, textDocument.getUri(), content, textDocument.getVersion());
+        }
+    }
+
+    /// The changes are sent incrementally (see {@link LspClientHandler#initialize}). A change without range replaces the complete content.
+    private static String applyChange(String content, TextDocumentContentChangeEvent contentChange) {
+        if (contentChange.getRange() == null) {
+            return contentChange.getText();
         }
+        int start = LspRangeUtil.toOffset(content, contentChange.getRange().getStart());
+        int end = Math.max(start, LspRangeUtil.toOffset(content, contentChange.getRange().getEnd()));
+        return content.substring(0, start) + contentChange.getText() + content.substring(end);
     }
 
     @Override
     public void didClose(DidCloseTextDocumentParams params) {
-        fileUriToLanguageId.remove(params.getTextDocument().getUri());
-        contentCache.remove(params.getTextDocument().getUri());
+        String uri = params.getTextDocument().getUri();
+        LOGGER.debug("didClose {}", uri);
+        fileUriToLanguageId.remove(uri);
+        contentCache.remove(uri);
+        diagnosticHandler.closeDocument(client, uri);
     }
 
     @Override
@@ -57,7 +57,7 @@ public class LspClientHandler implements LanguageServer, LanguageClientAware {
 
         TextDocumentSyncOptions syncOptions = new TextDocumentSyncOptions();
         syncOptions.setSave(true);
-        syncOptions.setChange(TextDocumentSyncKind.Full);
+        syncOptions.setChange(TextDocumentSyncKind.Incremental);
         syncOptions.setOpenClose(true);
 
         capabilities.setTextDocumentSync(syncOptions);
@@ -1,22 +1,34 @@
 package org.jabref.languageserver.util;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import org.jabref.languageserver.ExtensionSettings;
 import org.jabref.languageserver.LspClientHandler;
-import org.jabref.logic.JabRefException;
 import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.IncrementalBibtexParser;
+import org.jabref.logic.integrity.IntegrityMessage;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
@@ -24,10 +36,16 @@ import org.eclipse.lsp4j.services.LanguageClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/// Computes the diagnostics of BibTeX documents.
+///
+/// The computation is debounced: it starts after the document did not change for {@link #DEBOUNCE_DELAY}.
+/// Only the entries changed since the previous computation are parsed and checked again, together with the entries
+/// depending on them (entries with the same citation key and entries linking to the key).
 public class LspDiagnosticHandler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LspDiagnosticHandler.class);
     private static final int NO_VERSION = -1;
+    private static final Duration DEBOUNCE_DELAY = Duration.ofMillis(300);
 
     private final LspIntegrityCheck lspIntegrityCheck;
     private final LspConsistencyCheck lspConsistencyCheck;
@@ -36,6 +54,9 @@ public class LspDiagnosticHandler {
     private final CliPreferences cliPreferences;
     private final Map<String, List<Diagnostic>> integrityDiagnosticsCache; // Maps file URIs to the corresponding list of integrity diagnostics
     private final Map<String, List<Diagnostic>> consistencyDiagnosticsCache; // Maps file URIs to the corresponding list of consistency diagnostics
+    private final Map<String, Map<BibEntry, List<IntegrityMessage>>> entryIntegrityMessages; // Maps file URIs to the integrity messages of each entry
+    private final Map<String, ScheduledFuture<?>> pendingComputations;
+    private final ScheduledExecutorService executor;
 
     public LspDiagnosticHandler(LspClientHandler clientHandler, LspParserHandler parserHandler, CliPreferences cliPreferences, JournalAbbreviationRepository abbreviationRepository) {
         this.clientHandler = clientHandler;
@@ -45,11 +66,47 @@ public class LspDiagnosticHandler {
         this.lspConsistencyCheck = new LspConsistencyCheck(clientHandler.getSettings());
         this.integrityDiagnosticsCache = new ConcurrentHashMap<>();
         this.consistencyDiagnosticsCache = new ConcurrentHashMap<>();
+        this.entryIntegrityMessages = new ConcurrentHashMap<>();
+        this.pendingComputations = new ConcurrentHashMap<>();
+        // A single thread, because the versions of a document have to be parsed one after another
+        this.executor = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("jabls-diagnostics-%d").setDaemon(true).build());
     }
 
+    /// Schedules the computation of the diagnostics. A computation scheduled earlier for the same document is cancelled.
     public void computeAndPublishDiagnostics(LanguageClient client, String uri, String content, Integer version) {
-        List<Diagnostic> diagnostics = computeDiagnostics(content, uri);
-        publishDiagnostics(client, uri, version, diagnostics);
+        ScheduledFuture<?> computation = executor.schedule(() -> {
+            try {
+                List<Diagnostic> diagnostics = computeDiagnostics(content, uri);
+                publishDiagnostics(client, uri, version, diagnostics);
+            } catch (RuntimeException e) {
+                LOGGER.error("Could not compute diagnostics for {}", uri, e);
+            }
+        }, DEBOUNCE_DELAY.toMillis(), TimeUnit.MILLISECONDS);
+        ScheduledFuture<?> previousComputation = pendingComputations.put(uri, computation);
+        if (previousComputation != null) {
+            previousComputation.cancel(false);
+        }
+    }
+
+    /// Drops all state of the given document and clears its diagnostics at the client. A pending computation is
+    /// cancelled. A running computation finishes first, because it runs on the same thread.
+    public void closeDocument(LanguageClient client, String uri) {
+        ScheduledFuture<?> pendingComputation = pendingComputations.remove(uri);
+        if (pendingComputation != null) {
+            pendingComputation.cancel(false);
+        }
+        executor.execute(() -> {
+            if (pendingComputations.containsKey(uri)) {
+                // The document was opened again in the meantime
+                return;
+            }
+            integrityDiagnosticsCache.remove(uri);
+            consistencyDiagnosticsCache.remove(uri);
+            entryIntegrityMessages.remove(uri);
+            parserHandler.removeDocument(uri);
+            publishDiagnostics(client, uri, List.of());
+        });
     }
 
     public void publishDiagnostics(LanguageClient client, String uri, Integer version, List<Diagnostic> diagnostics) {
@@ -66,16 +123,17 @@ public class LspDiagnosticHandler {
 
     private List<Diagnostic> computeDiagnostics(String content, String uri) {
         List<Diagnostic> diagnostics = new ArrayList<>();
-        ParserResult parserResult;
+        IncrementalBibtexParser.Update update;
 
         try {
-            parserResult = parserHandler.parserResultFromString(uri, content, cliPreferences.getImportFormatPreferences());
-        } catch (JabRefException | IOException e) {
+            update = parserHandler.parseIncrementally(uri, content, cliPreferences.getImportFormatPreferences());
+        } catch (IOException e) {
             Diagnostic parseDiagnostic = LspDiagnosticBuilder.create(Localization.lang(
                     "Failed to parse entries.\nThe following error was encountered:\n%0",
                     e.getMessage())).setSeverity(DiagnosticSeverity.Error).build();
             return List.of(parseDiagnostic);
         }
+        ParserResult parserResult = update.parserResult();
 
         parserResult.getWarningsMap().forEach((range, message) -> {
             Diagnostic warningDiagnostic = LspDiagnosticBuilder.create(message).setRange(range).setSeverity(DiagnosticSeverity.Error).build();
@@ -83,11 +141,15 @@ public class LspDiagnosticHandler {
         });
 
         if (clientHandler.getSettings().isIntegrityCheck()) {
-            integrityDiagnosticsCache.put(uri, lspIntegrityCheck.check(parserResult));
+            integrityDiagnosticsCache.put(uri, checkIntegrity(uri, update));
             LOGGER.debug("Cached integrity diagnostics for {}", uri);
+        } else {
+            // The messages would get outdated, they are computed for all entries once the check is enabled again
+            entryIntegrityMessages.remove(uri);
         }
 
         if (clientHandler.getSettings().isConsistencyCheck()) {
+            // The consistency of an entry depends on all entries of the same type. The check does not parse, thus it is cheap to redo.
             consistencyDiagnosticsCache.put(uri, lspConsistencyCheck.check(parserResult));
             LOGGER.debug("Cached consistency diagnostics for {}", uri);
         }
@@ -95,6 +157,45 @@ public class LspDiagnosticHandler {
         return Stream.of(getFinalDiagnosticsList(uri), diagnostics).flatMap(List::stream).toList();
     }
 
+    private List<Diagnostic> checkIntegrity(String uri, IncrementalBibtexParser.Update update) {
+        ParserResult parserResult = update.parserResult();
+        Map<BibEntry, List<IntegrityMessage>> messagesByEntry = entryIntegrityMessages.get(uri);
+        Collection<BibEntry> entriesToCheck;
+        if (update.complete() || (messagesByEntry == null)) {
+            messagesByEntry = new IdentityHashMap<>();
+            entriesToCheck = parserResult.getDatabase().getEntries();
+        } else {
+            update.removedEntries().forEach(messagesByEntry::remove);
+            entriesToCheck = getAffectedEntries(parserResult.getDatabase(), update);
+        }
+        entriesToCheck.forEach(messagesByEntry::remove);
+        for (IntegrityMessage message : lspIntegrityCheck.checkEntries(parserResult, entriesToCheck)) {
+            messagesByEntry.computeIfAbsent(message.entry(), _ -> new ArrayList<>()).add(message);
+        }
+        entryIntegrityMessages.put(uri, messagesByEntry);
+        LOGGER.debug("Checked integrity of {} entries of {}", entriesToCheck.size(), uri);
+
+        List<IntegrityMessage> messages = new ArrayList<>();
+        messagesByEntry.values().forEach(messages::addAll);
+        messages.addAll(lspIntegrityCheck.checkDatabase(parserResult));
+        return lspIntegrityCheck.toDiagnostics(parserResult, messages);
+    }
+
+    /// Returns the changed entries and the entries whose messages depend on them: entries having a changed citation key
+    /// (duplicate keys) and entries linking to a changed citation key (e.g., using crossref)
+    private static Set<BibEntry> getAffectedEntries(BibDatabase database, IncrementalBibtexParser.Update update) {
+        Set<BibEntry> affectedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        affectedEntries.addAll(update.addedEntries());
+        Stream.concat(update.addedEntries().stream(), update.removedEntries().stream())
+              .flatMap(entry -> entry.getCitationKey().stream())
+              .distinct()
+              .forEach(citationKey -> {
+                  affectedEntries.addAll(database.getEntriesByCitationKey(citationKey));
+                  affectedEntries.addAll(database.getEntriesForCitationKey(citationKey));
+              });
+        return affectedEntries;
+    }
+
     private List<Diagnostic> getFinalDiagnosticsList(String uri) {
         ExtensionSettings settings = clientHandler.getSettings();
         return Stream.concat(
@@ -1,11 +1,14 @@
 package org.jabref.languageserver.util;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.integrity.IntegrityCheck;
+import org.jabref.logic.integrity.IntegrityMessage;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.model.entry.BibEntry;
 
 import org.eclipse.lsp4j.Diagnostic;
 
@@ -21,21 +24,33 @@ public class LspIntegrityCheck {
         this.abbreviationRepository = abbreviationRepository;
     }
 
-    public List<Diagnostic> check(ParserResult parserResult) {
-        IntegrityCheck integrityCheck = new IntegrityCheck(
-                parserResult.getDatabaseContext(),
-                cliPreferences.getFilePreferences(),
-                cliPreferences.getCitationKeyPatternPreferences(),
-                abbreviationRepository,
-                ALLOW_INTEGER_EDITION
-        );
+    /// Checks the given entries only. The checks of the library as a whole are done by {@link #checkDatabase(ParserResult)}.
+    public List<IntegrityMessage> checkEntries(ParserResult parserResult, Collection<BibEntry> entries) {
+        return createIntegrityCheck(parserResult).checkEntries(entries, true);
+    }
+
+    public List<IntegrityMessage> checkDatabase(ParserResult parserResult) {
+        return createIntegrityCheck(parserResult).checkDatabase(parserResult.getDatabase());
+    }
 
-        return parserResult.getDatabaseContext().getEntries().stream().flatMap(entry -> integrityCheck.checkEntry(entry).stream().map(message -> {
+    public List<Diagnostic> toDiagnostics(ParserResult parserResult, List<IntegrityMessage> messages) {
+        return messages.stream().map(message -> {
+            BibEntry entry = message.entry();
             if (entry.getFieldOrAlias(message.field()).isPresent()) {
                 return LspDiagnosticBuilder.create(parserResult, message.message()).setField(message.field()).setEntry(entry).build();
             } else {
                 return LspDiagnosticBuilder.create(parserResult, message.message()).setEntry(entry).build();
             }
-        })).toList();
+        }).toList();
+    }
+
+    private IntegrityCheck createIntegrityCheck(ParserResult parserResult) {
+        return new IntegrityCheck(
+                parserResult.getDatabaseContext(),
+                cliPreferences.getFilePreferences(),
+                cliPreferences.getCitationKeyPatternPreferences(),
+                abbreviationRepository,
+                ALLOW_INTEGER_EDITION
+        );
     }
 }
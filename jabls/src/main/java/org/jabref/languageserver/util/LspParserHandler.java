@@ -1,31 +1,38 @@
 package org.jabref.languageserver.util;
 
 import java.io.IOException;
-import java.io.Reader;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
-import org.jabref.logic.JabRefException;
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.ParserResult;
-import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.logic.importer.fileformat.IncrementalBibtexParser;
 import org.jabref.model.entry.BibEntry;
 
 public class LspParserHandler {
 
     private final Map<String, ParserResult> parserResults;
+    private final Map<String, IncrementalBibtexParser> incrementalParsers;
 
     public LspParserHandler() {
         this.parserResults = new ConcurrentHashMap<>();
+        this.incrementalParsers = new ConcurrentHashMap<>();
     }
 
-    public ParserResult parserResultFromString(String fileUri, String content, ImportFormatPreferences importFormatPreferences) throws JabRefException, IOException {
-        BibtexParser parser = new BibtexParser(importFormatPreferences);
-        ParserResult parserResult = parser.parse(Reader.of(content));
-        parserResults.put(fileUri, parserResult);
-        return parserResult;
+    /// Parses the given version of the document. Only the entries changed since the previous version are parsed again.
+    public IncrementalBibtexParser.Update parseIncrementally(String fileUri, String content, ImportFormatPreferences importFormatPreferences) throws IOException {
+        IncrementalBibtexParser parser = incrementalParsers.computeIfAbsent(fileUri, _ -> new IncrementalBibtexParser(importFormatPreferences));
+        IncrementalBibtexParser.Update update = parser.parse(content);
+        parserResults.put(fileUri, update.parserResult());
+        return update;
+    }
+
+    /// Forgets the given document, e.g., because it was closed
+    public void removeDocument(String fileUri) {
+        incrementalParsers.remove(fileUri);
+        parserResults.remove(fileUri);
     }
 
     public Optional<ParserResult> getParserResultForUri(String fileUri) {
@@ -9,7 +9,9 @@ import java.util.concurrent.Callable;
 
 import org.jabref.architecture.AllowedToUseStandardStreams;
 import org.jabref.http.server.Server;
+import org.jabref.http.server.services.LibraryCache;
 import org.jabref.logic.preferences.JabRefCliPreferences;
+import org.jabref.model.entry.BibEntry;
 
 import org.glassfish.grizzly.http.server.HttpServer;
 import org.slf4j.Logger;
@@ -31,6 +33,9 @@ public class ServerCli implements Callable<Void> {
     @CommandLine.Option(names = {"-p", "--port"}, description = "the port")
     private Integer port = 23119;
 
+    @CommandLine.Option(names = {"--cache-size"}, description = "the maximum number of parsed libraries kept in memory")
+    private Integer cacheSize = LibraryCache.DEFAULT_MAXIMUM_SIZE;
+
     /**
      * Starts an http server serving the last files opened in JabRef<br>
      * More files can be provided as args.
@@ -39,6 +44,9 @@ public class ServerCli implements Callable<Void> {
         SLF4JBridgeHandler.removeHandlersForRootLogger();
         SLF4JBridgeHandler.install();
 
+        // The served libraries are not observed, thus their entries can be stored compactly
+        BibEntry.setCompactStorage(true);
+
         new CommandLine(new ServerCli()).execute(args);
     }
 
@@ -70,7 +78,7 @@ public class ServerCli implements Callable<Void> {
         URI uri = URI.create(url);
 
         Server server = new Server();
-        HttpServer httpServer = server.run(filesToServe, uri);
+        HttpServer httpServer = server.run(filesToServe, uri, cacheSize);
 
         // Keep the http server running until user kills the process (e.g., presses Ctrl+C)
         Thread.currentThread().join();
@@ -2,6 +2,7 @@ package org.jabref.http.dto;
 
 import java.io.IOException;
 import java.io.StringWriter;
+import java.util.Set;
 
 import org.jabref.logic.bibtex.BibEntryWriter;
 import org.jabref.logic.bibtex.FieldPreferences;
@@ -11,6 +12,7 @@ import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.entry.SharedBibEntryData;
+import org.jabref.model.entry.field.Field;
 
 import com.google.common.base.MoreObjects;
 import org.slf4j.Logger;
@@ -36,6 +38,30 @@ public record BibEntryDTO(SharedBibEntryData sharingMetadata, String userComment
         );
     }
 
+    /// Creates a DTO whose BibTeX representation only contains the given fields (and the citation key)
+    ///
+    /// @param sharingMetadata the data used for sharing. Passed separately, because the entry may be shared by several requests and must not be modified.
+    /// @param fieldsToInclude the fields to include. If empty, all fields are included.
+    public BibEntryDTO(BibEntry bibEntry, SharedBibEntryData sharingMetadata, Set<Field> fieldsToInclude, BibDatabaseMode bibDatabaseMode, FieldPreferences fieldWriterPreferences, BibEntryTypesManager bibEntryTypesManager) {
+        this(sharingMetadata,
+                bibEntry.getUserComments(),
+                bibEntry.getCitationKey().orElse(""),
+                convertToString(project(bibEntry, fieldsToInclude), bibDatabaseMode, fieldWriterPreferences, bibEntryTypesManager)
+        );
+    }
+
+    private static BibEntry project(BibEntry bibEntry, Set<Field> fieldsToInclude) {
+        if (fieldsToInclude.isEmpty()) {
+            return bibEntry;
+        }
+        BibEntry projection = new BibEntry(bibEntry.getType());
+        bibEntry.getCitationKey().ifPresent(projection::setCitationKey);
+        for (Field field : fieldsToInclude) {
+            bibEntry.getField(field).ifPresent(value -> projection.setField(field, value));
+        }
+        return projection;
+    }
+
     private static String convertToString(BibEntry entry, BibDatabaseMode bibDatabaseMode, FieldPreferences fieldWriterPreferences, BibEntryTypesManager bibEntryTypesManager) {
         StringWriter rawEntry = new StringWriter();
         BibWriter bibWriter = new BibWriter(rawEntry, "\n");
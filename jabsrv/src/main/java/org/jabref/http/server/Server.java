@@ -19,6 +19,7 @@ import org.jabref.http.server.resources.LibraryResource;
 import org.jabref.http.server.resources.MapResource;
 import org.jabref.http.server.resources.RootResource;
 import org.jabref.http.server.services.FilesToServe;
+import org.jabref.http.server.services.LibraryCache;
 import org.jabref.logic.os.OS;
 
 import net.harawata.appdirs.AppDirsFactory;
@@ -37,6 +38,13 @@ public class Server {
 
     /// Entry point for the CLI
     public HttpServer run(List<Path> files, URI uri) {
+        return run(files, uri, LibraryCache.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /// Entry point for the CLI
+    ///
+    /// @param maximumCachedLibraries the maximum number of parsed libraries kept in memory
+    public HttpServer run(List<Path> files, URI uri, int maximumCachedLibraries) {
         List<Path> filesToServeList;
         if (files == null || files.isEmpty()) {
             LOGGER.debug("No library available to serve, serving the demo library...");
@@ -52,6 +60,7 @@ public class Server {
         LOGGER.debug("Libraries to serve: {}", filesToServeList);
 
         FilesToServe filesToServe = new FilesToServe();
+        filesToServe.setMaximumCachedLibraries(maximumCachedLibraries);
         filesToServe.setFilesToServe(filesToServeList);
 
         SrvStateManager srvStateManager = new JabRefSrvStateManager();
@@ -137,13 +137,11 @@ public class CAYWResource {
 
     private List<CAYWEntry> openSearchGui(List<CAYWEntry> entries) throws InterruptedException, ExecutionException {
         /* unused until DatabaseSearcher is fixed
-        PostgreServer postgreServer = new PostgreServer();
         IndexManager.clearOldSearchIndices();
         searcher = new DatabaseSearcher(
                 databaseContext,
                 new CurrentThreadTaskExecutor(),
-                preferences,
-                postgreServer);
+                preferences);
           */
 
         CompletableFuture<List<CAYWEntry>> future = new CompletableFuture<>();
@@ -1,11 +1,18 @@
 package org.jabref.http.server.resources;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.jabref.http.JabrefMediaType;
 import org.jabref.http.SrvStateManager;
@@ -20,16 +27,24 @@ import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.SharedBibEntryData;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.strings.StringUtil;
 
 import com.airhacks.afterburner.injection.Injector;
 import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.InternalServerErrorException;
 import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.StreamingOutput;
@@ -55,21 +70,48 @@ public class LibraryResource {
 
     /**
      * At http://localhost:23119/libraries/{id}
+     * <p>
+     * The entries are written one by one to the response. Thus, the memory consumption does not depend on the size of the library.
      *
-     * @param id The specified library
+     * @param id     The specified library
+     * @param offset The number of entries to skip
+     * @param limit  The maximum number of entries to return. If not given, all remaining entries are returned.
+     * @param fields Comma-separated list of fields to include in the BibTeX of each entry. If not given, all fields are included.
      * @return specified library in JSON format
      * @throws IOException
      */
     @GET
     @Produces(MediaType.APPLICATION_JSON)
-    public String getJson(@PathParam("id") String id) throws IOException {
+    public StreamingOutput getJson(@PathParam("id") String id,
+                                   @QueryParam("offset") @DefaultValue("0") int offset,
+                                   @QueryParam("limit") @Nullable Integer limit,
+                                   @QueryParam("fields") @Nullable String fields) throws IOException {
+        if (offset < 0 || (limit != null && limit < 0)) {
+            throw new BadRequestException("offset and limit must not be negative");
+        }
         BibDatabaseContext databaseContext = getDatabaseContext(id);
         BibEntryTypesManager entryTypesManager = Injector.instantiateModelOrService(BibEntryTypesManager.class);
-        List<BibEntryDTO> list = databaseContext.getDatabase().getEntries().stream()
-                                                .peek(bibEntry -> bibEntry.getSharedBibEntryData().setSharedID(Objects.hash(bibEntry)))
-                                                .map(entry -> new BibEntryDTO(entry, databaseContext.getMode(), preferences.getFieldPreferences(), entryTypesManager))
-                                                .toList();
-        return gson.toJson(list);
+        Set<Field> fieldsToInclude = parseFields(fields);
+
+        List<BibEntry> entries = databaseContext.getDatabase().getEntries();
+        int fromIndex = Math.min(offset, entries.size());
+        int toIndex = limit == null ? entries.size() : (int) Math.min((long) fromIndex + limit, entries.size());
+        List<BibEntry> page = List.copyOf(entries.subList(fromIndex, toIndex));
+
+        return output -> {
+            JsonWriter jsonWriter = gson.newJsonWriter(new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)));
+            jsonWriter.beginArray();
+            for (BibEntry entry : page) {
+                // The entries are cached across requests, thus the id is not stored in the entry
+                SharedBibEntryData sharingMetadata = new SharedBibEntryData();
+                sharingMetadata.setSharedID(Objects.hash(entry));
+                sharingMetadata.setVersion(entry.getSharedBibEntryData().getVersion());
+                BibEntryDTO dto = new BibEntryDTO(entry, sharingMetadata, fieldsToInclude, databaseContext.getMode(), preferences.getFieldPreferences(), entryTypesManager);
+                gson.toJson(dto, BibEntryDTO.class, jsonWriter);
+            }
+            jsonWriter.endArray();
+            jsonWriter.flush();
+        };
     }
 
     @GET
@@ -151,6 +193,17 @@ public class LibraryResource {
         return BibDatabase.class.getResourceAsStream("/Chocolate.bib");
     }
 
+    private static Set<Field> parseFields(@Nullable String fields) {
+        if (fields == null) {
+            return Set.of();
+        }
+        return Arrays.stream(fields.split(","))
+                     .filter(StringUtil::isNotBlank)
+                     .map(String::trim)
+                     .map(FieldFactory::parseField)
+                     .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
     /// @param id - also "demo" for the Chocolate.bib file
     private BibDatabaseContext getDatabaseContext(String id) throws IOException {
         return ServerUtils.getBibDatabaseContext(id, filesToServe, srvStateManager, preferences.getImportFormatPreferences());
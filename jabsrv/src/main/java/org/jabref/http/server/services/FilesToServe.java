@@ -9,8 +9,11 @@ import jakarta.inject.Singleton;
 public class FilesToServe {
     private List<Path> filesToServe;
 
+    private LibraryCache libraryCache = new LibraryCache();
+
     public void setFilesToServe(List<Path> filesToServe) {
         this.filesToServe = filesToServe;
+        libraryCache.invalidateAll();
     }
 
     public List<Path> getFilesToServe() {
@@ -20,4 +23,14 @@ public class FilesToServe {
     public boolean isEmpty() {
         return filesToServe == null || filesToServe.isEmpty();
     }
+
+    /// Holds the parsed versions of the files to serve
+    public LibraryCache getLibraryCache() {
+        return libraryCache;
+    }
+
+    /// @param maximumCachedLibraries the maximum number of parsed libraries kept in memory
+    public void setMaximumCachedLibraries(int maximumCachedLibraries) {
+        this.libraryCache = new LibraryCache(maximumCachedLibraries);
+    }
 }
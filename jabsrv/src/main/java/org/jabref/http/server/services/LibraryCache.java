@@ -0,0 +1,134 @@
+package org.jabref.http.server.services;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// Caches parsed libraries served by jabsrv, so that subsequent requests do not re-parse the .bib file.
+///
+/// Entries are keyed by library id and bounded in number (least recently used ones are evicted first).
+/// A cached library is re-parsed as soon as the modification time or the size of the underlying file changes.
+public class LibraryCache {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 16;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LibraryCache.class);
+
+    private static final String DEMO_ID = "demo";
+
+    private final Cache<String, CachedLibrary> cache;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public LibraryCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /// @param maximumSize the maximum number of parsed libraries kept in memory
+    public LibraryCache(int maximumSize) {
+        this.cache = CacheBuilder.newBuilder()
+                                 .maximumSize(maximumSize)
+                                 .build();
+    }
+
+    /// Returns the parsed library stored at the given path. The file is only parsed if it was not parsed before or if it changed since then.
+    public @NonNull BibDatabaseContext getDatabaseContext(String id, Path library, ImportFormatPreferences importFormatPreferences) throws IOException {
+        FileStamp currentStamp = FileStamp.of(library);
+        CachedLibrary cachedLibrary = cache.getIfPresent(id);
+        if (cachedLibrary != null) {
+            if (cachedLibrary.stamp().equals(currentStamp)) {
+                hitCount.increment();
+                return cachedLibrary.databaseContext();
+            }
+            LOGGER.debug("Library {} changed on disk, parsing it again", library);
+            cache.invalidate(id);
+        }
+
+        try {
+            return cache.get(id, () -> {
+                missCount.increment();
+                BibtexImporter bibtexImporter = new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor());
+                return new CachedLibrary(bibtexImporter.importDatabase(library).getDatabaseContext(), currentStamp);
+            }).databaseContext();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("Could not parse library " + library, e.getCause());
+        }
+    }
+
+    /// Returns the parsed Chocolate.bib shipped with JabRef. As it is part of the classpath, it never changes and is parsed at most once.
+    public @NonNull BibDatabaseContext getDemoDatabaseContext(ImportFormatPreferences importFormatPreferences) throws IOException {
+        CachedLibrary cachedLibrary = cache.getIfPresent(DEMO_ID);
+        if (cachedLibrary != null) {
+            hitCount.increment();
+            return cachedLibrary.databaseContext();
+        }
+
+        try {
+            return cache.get(DEMO_ID, () -> {
+                missCount.increment();
+                BibtexImporter bibtexImporter = new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor());
+                try (InputStream chocolateBibInputStream = BibDatabase.class.getResourceAsStream("/Chocolate.bib")) {
+                    BufferedReader reader = new BufferedReader(new InputStreamReader(chocolateBibInputStream, StandardCharsets.UTF_8));
+                    return new CachedLibrary(bibtexImporter.importDatabase(reader).getDatabaseContext(), FileStamp.NONE);
+                }
+            }).databaseContext();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("Could not parse demo library", e.getCause());
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    private record CachedLibrary(BibDatabaseContext databaseContext, FileStamp stamp) {
+    }
+
+    private record FileStamp(FileTime lastModified, long size) {
+        static final FileStamp NONE = new FileStamp(FileTime.fromMillis(0), -1);
+
+        static FileStamp of(Path file) throws IOException {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return new FileStamp(attributes.lastModifiedTime(), attributes.size());
+        }
+    }
+}
@@ -1,19 +1,12 @@
 package org.jabref.http.server.services;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 
 import org.jabref.http.SrvStateManager;
 import org.jabref.logic.importer.ImportFormatPreferences;
-import org.jabref.logic.importer.fileformat.BibtexImporter;
 import org.jabref.logic.util.io.BackupFileUtil;
-import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
-import org.jabref.model.util.DummyFileUpdateMonitor;
 
 import jakarta.ws.rs.InternalServerErrorException;
 import jakarta.ws.rs.NotFoundException;
@@ -51,15 +44,13 @@ public class ServerUtils {
         }
     }
 
+    /// Parsed libraries are taken from the {@link LibraryCache} of filesToServe. They are re-parsed only if the file changed on disk.
+    ///
     /// @param id - also "demo" for the demo library
     /// @throws NotFoundException if no file with the given id is found in either filesToServe or contextsToServe
     public static @NonNull BibDatabaseContext getBibDatabaseContext(String id, FilesToServe filesToServe, SrvStateManager srvStateManager, ImportFormatPreferences importFormatPreferences) throws IOException {
-        BibtexImporter bibtexImporter = new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor());
         if ("demo".equals(id)) {
-            try (InputStream chocolateBibInputStream = BibDatabase.class.getResourceAsStream("/Chocolate.bib")) {
-                BufferedReader reader = new BufferedReader(new InputStreamReader(chocolateBibInputStream, StandardCharsets.UTF_8));
-                return bibtexImporter.importDatabase(reader).getDatabaseContext();
-            }
+            return filesToServe.getLibraryCache().getDemoDatabaseContext(importFormatPreferences);
         }
 
         if (filesToServe.isEmpty()) {
@@ -75,7 +66,7 @@ public class ServerUtils {
 
         Path library = getLibraryPath(id, filesToServe);
         try {
-            return bibtexImporter.importDatabase(library).getDatabaseContext();
+            return filesToServe.getLibraryCache().getDatabaseContext(id, library, importFormatPreferences);
         } catch (IOException e) {
             LOGGER.warn("Could not find open library file {}", library, e);
             throw new InternalServerErrorException("Could not parse library", e);
@@ -5,10 +5,13 @@ import org.jabref.http.server.resources.LibrariesResource;
 import org.jabref.http.server.resources.LibraryResource;
 
 import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.MediaType;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class LibraryResourceTest extends ServerTest {
 
@@ -35,6 +38,23 @@ class LibraryResourceTest extends ServerTest {
                 """, target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.BIBTEX).get(String.class));
     }
 
+    @Test
+    void getJsonWithLimitZero() {
+        assertEquals("[]", target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).queryParam("limit", 0).request(MediaType.APPLICATION_JSON).get(String.class));
+    }
+
+    @Test
+    void getJsonWithOffsetBeyondLibrary() {
+        assertEquals("[]", target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).queryParam("offset", 5).request(MediaType.APPLICATION_JSON).get(String.class));
+    }
+
+    @Test
+    void getJsonWithFieldProjection() {
+        String json = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).queryParam("fields", "title").request(MediaType.APPLICATION_JSON).get(String.class);
+        assertTrue(json.contains("title = {Demo Title}"));
+        assertFalse(json.contains("Demo Author"));
+    }
+
     @Test
     void getClsItemJson() {
         assertEquals("""
@@ -0,0 +1,71 @@
+package org.jabref.http.server.services;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.model.database.BibDatabaseContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LibraryCacheTest {
+
+    private final ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+    private LibraryCache libraryCache;
+    private Path library;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws Exception {
+        when(importFormatPreferences.bibEntryPreferences().getKeywordSeparator()).thenReturn(',');
+        libraryCache = new LibraryCache(2);
+        library = tempDir.resolve("library.bib");
+        Files.writeString(library, "@Misc{a, title = {A}}\n");
+    }
+
+    @Test
+    void unchangedLibraryIsParsedOnce() throws Exception {
+        BibDatabaseContext first = libraryCache.getDatabaseContext("library", library, importFormatPreferences);
+        BibDatabaseContext second = libraryCache.getDatabaseContext("library", library, importFormatPreferences);
+
+        assertSame(first, second);
+        assertEquals(1, libraryCache.getMissCount());
+        assertEquals(1, libraryCache.getHitCount());
+    }
+
+    @Test
+    void changedLibraryIsParsedAgain() throws Exception {
+        BibDatabaseContext first = libraryCache.getDatabaseContext("library", library, importFormatPreferences);
+
+        Files.writeString(library, "@Misc{a, title = {A}}\n@Misc{b, title = {B}}\n");
+        Files.setLastModifiedTime(library, FileTime.fromMillis(Files.getLastModifiedTime(library).toMillis() + 1000));
+        BibDatabaseContext second = libraryCache.getDatabaseContext("library", library, importFormatPreferences);
+
+        assertNotSame(first, second);
+        assertEquals(2, second.getDatabase().getEntryCount());
+        assertEquals(2, libraryCache.getMissCount());
+    }
+
+    @Test
+    void leastRecentlyUsedLibraryIsEvicted(@TempDir Path tempDir) throws Exception {
+        Path other = tempDir.resolve("other.bib");
+        Path third = tempDir.resolve("third.bib");
+        Files.writeString(other, "@Misc{b, title = {B}}\n");
+        Files.writeString(third, "@Misc{c, title = {C}}\n");
+
+        libraryCache.getDatabaseContext("library", library, importFormatPreferences);
+        libraryCache.getDatabaseContext("other", other, importFormatPreferences);
+        libraryCache.getDatabaseContext("third", third, importFormatPreferences);
+
+        assertEquals(2, libraryCache.size());
+    }
+}